@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.common.chronicle;
+
+import java.net.InetAddress;
+
+import net.openhft.chronicle.wire.ValueOut;
+
+/**
+ * Remembers the raw bytes of the last seen address, since {@link InetAddress#getAddress()} returns a new copy on each call.
+ * <p>
+ * Audit records from the same client, and all records from the same coordinator, will hit the cache.
+ * Instances must be confined to one thread.
+ */
+final class AddressBytesCache
+{
+    static final ThreadLocal<AddressBytesCache> CLIENT_ADDRESS = ThreadLocal.withInitial(AddressBytesCache::new);
+    static final ThreadLocal<AddressBytesCache> COORDINATOR_ADDRESS = ThreadLocal.withInitial(AddressBytesCache::new);
+
+    private InetAddress address;
+    private byte[] bytes;
+
+    /**
+     * Write the raw bytes of an address.
+     *
+     * @param value      the value to write to
+     * @param newAddress the address to write
+     */
+    void write(ValueOut value, InetAddress newAddress)
+    {
+        if (!newAddress.equals(address))
+        {
+            bytes = newAddress.getAddress();
+            address = newAddress;
+        }
+        value.bytes(bytes);
+    }
+}
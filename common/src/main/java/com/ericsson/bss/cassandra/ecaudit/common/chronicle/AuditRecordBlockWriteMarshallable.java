@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.common.chronicle;
+
+import net.openhft.chronicle.bytes.Bytes;
+import net.openhft.chronicle.wire.Wire;
+import net.openhft.chronicle.wire.WireOut;
+import net.openhft.chronicle.wire.WireType;
+import net.openhft.chronicle.wire.WriteMarshallable;
+
+/**
+ * Writes a block of audit records, compressed together, to a Chronicle wire as one document.
+ * <p>
+ * Compressing many records together gives a much better compression ratio than compressing each record on its own,
+ * as records share most of their content. The records are serialized by their own marshallables, so a block can
+ * hold records of any version. Use {@link AuditRecordsReadMarshallable} to read them back.
+ * <p>
+ * The buffers of a block are reused, so an instance must be confined to one thread.
+ */
+public class AuditRecordBlockWriteMarshallable implements WriteMarshallable
+{
+    private final CompressionCodec codec;
+    private final Bytes<?> records = Bytes.allocateElasticOnHeap(4096);
+    private final Bytes<?> record = Bytes.allocateElasticOnHeap(512);
+    private final Wire recordWire = WireType.BINARY_LIGHT.apply(record);
+    private final Bytes<?> compressedBlock = Bytes.allocateElasticOnHeap(4096);
+
+    private byte[] uncompressed = new byte[0];
+    private byte[] compressed = new byte[0];
+    private int recordCount;
+
+    /**
+     * @param codec the codec to compress blocks with
+     */
+    public AuditRecordBlockWriteMarshallable(CompressionCodec codec)
+    {
+        this.codec = codec;
+    }
+
+    /**
+     * Add a record to this block.
+     *
+     * @param recordMarshallable the marshallable which writes the record
+     */
+    public void add(WriteMarshallable recordMarshallable)
+    {
+        record.clear();
+        recordMarshallable.writeMarshallable(recordWire);
+        records.writeStopBit(record.readRemaining());
+        records.write(record);
+        recordCount++;
+    }
+
+    /**
+     * @return the number of records in this block
+     */
+    public int size()
+    {
+        return recordCount;
+    }
+
+    /**
+     * Remove all records from this block, so that it can be reused.
+     */
+    public void clear()
+    {
+        records.clear();
+        recordCount = 0;
+    }
+
+    @Override
+    public void writeMarshallable(WireOut wire)
+    {
+        int length = (int) records.readRemaining();
+        if (uncompressed.length < length)
+        {
+            uncompressed = new byte[length];
+            compressed = new byte[codec.maxCompressedLength(length)];
+        }
+        records.read(uncompressed, 0, length);
+        records.readPosition(0);
+        int compressedLength = codec.compress(uncompressed, length, compressed);
+        compressedBlock.clear();
+        compressedBlock.write(compressed, 0, compressedLength);
+
+        wire.write(WireTags.KEY_VERSION).int16(WireTags.VALUE_VERSION_BLOCK);
+        wire.write(WireTags.KEY_TYPE).text(WireTags.VALUE_TYPE_BLOCK);
+        wire.write(WireTags.KEY_CODEC).text(codec.name());
+        wire.write(WireTags.KEY_RECORDS).int32(recordCount);
+        wire.write(WireTags.KEY_LENGTH).int32(length);
+        wire.write(WireTags.KEY_BLOCK).bytes(compressedBlock);
+    }
+}
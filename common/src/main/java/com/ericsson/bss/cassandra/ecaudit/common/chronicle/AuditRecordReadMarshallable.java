@@ -18,6 +18,7 @@ package com.ericsson.bss.cassandra.ecaudit.common.chronicle;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import com.ericsson.bss.cassandra.ecaudit.common.chronicle.FieldSelector.Field;
 import com.ericsson.bss.cassandra.ecaudit.common.record.Status;
@@ -26,10 +27,32 @@ import net.openhft.chronicle.core.io.IORuntimeException;
 import net.openhft.chronicle.wire.ReadMarshallable;
 import net.openhft.chronicle.wire.WireIn;
 
+/**
+ * Reads an audit record of any supported version from a Chronicle wire.
+ * <p>
+ * Statements in records of {@link WireTags#VALUE_VERSION_3} and later may refer to a {@link StatementDictionary},
+ * which must then be given when creating the marshallable. Bound values stored in their serialized form in records
+ * of {@link WireTags#VALUE_VERSION_4} are rendered as CQL literals when read.
+ */
 public class AuditRecordReadMarshallable implements ReadMarshallable
 {
+    private final StatementDictionary dictionary;
+
     private StoredAuditRecord auditRecord;
 
+    public AuditRecordReadMarshallable()
+    {
+        this(null);
+    }
+
+    /**
+     * @param dictionary the dictionary to resolve statement ids with, may be {@code null} if there is no dictionary
+     */
+    public AuditRecordReadMarshallable(StatementDictionary dictionary)
+    {
+        this.dictionary = dictionary;
+    }
+
     @Override
     public void readMarshallable(WireIn wire) throws IORuntimeException
     {
@@ -38,16 +61,30 @@ public class AuditRecordReadMarshallable implements ReadMarshallable
             throw new IORuntimeException("Tried to read from wire with used marshallable");
         }
 
-        short version = wire.read(WireTags.KEY_VERSION).int16();
+        auditRecord = readRecord(wire, wire.read(WireTags.KEY_VERSION).int16());
+    }
+
+    /**
+     * Read the remaining fields of a record, after its version.
+     *
+     * @param wire    the wire to read from
+     * @param version the version of the record
+     * @return the record
+     * @throws IORuntimeException if the record could not be read
+     */
+    StoredAuditRecord readRecord(WireIn wire, short version) throws IORuntimeException
+    {
         switch (version)
         {
             case WireTags.VALUE_VERSION_0:
-                auditRecord = readV0(wire);
-                break;
+                return readV0(wire);
             case WireTags.VALUE_VERSION_1:
+            case WireTags.VALUE_VERSION_2:
+                return readBitmappedRecord(wire);
+            case WireTags.VALUE_VERSION_3:
+                return readEncodedRecord(wire, false);
             case WireTags.VALUE_VERSION_CURRENT:
-                auditRecord = readBitmappedRecord(wire);
-                break;
+                return readEncodedRecord(wire, true);
             default:
                 throw new IORuntimeException("Unsupported record version: " + version);
         }
@@ -76,6 +113,18 @@ public class AuditRecordReadMarshallable implements ReadMarshallable
     }
 
     private StoredAuditRecord readBitmappedRecord(WireIn wire)
+    {
+        return readBitmappedRecord(wire, () -> wire.read(WireTags.KEY_OPERATION).text(), () -> wire.read(WireTags.KEY_NAKED_OPERATION).text());
+    }
+
+    private StoredAuditRecord readEncodedRecord(WireIn wire, boolean rawBoundValues)
+    {
+        return readBitmappedRecord(wire,
+                                   () -> OperationCodec.readOperation(wire, dictionary, rawBoundValues),
+                                   () -> OperationCodec.readNakedOperation(wire, dictionary));
+    }
+
+    private StoredAuditRecord readBitmappedRecord(WireIn wire, Supplier<String> operationReader, Supplier<String> nakedOperationReader)
     {
         checkV1Type(wire);
         int bitmap = wire.read(WireTags.KEY_FIELDS).int32();
@@ -91,8 +140,8 @@ public class AuditRecordReadMarshallable implements ReadMarshallable
         fields.ifSelectedRun(Field.USER, () -> recordBuilder.withUser(wire.read(WireTags.KEY_USER).text()));
         fields.ifSelectedRun(Field.BATCH_ID, () -> recordBuilder.withBatchId(readBatchId(wire)));
         fields.ifSelectedRun(Field.STATUS, () -> recordBuilder.withStatus(readStatus(wire)));
-        fields.ifSelectedRun(Field.OPERATION, () -> recordBuilder.withOperation(wire.read(WireTags.KEY_OPERATION).text()));
-        fields.ifSelectedRun(Field.OPERATION_NAKED, () -> recordBuilder.withNakedOperation(wire.read(WireTags.KEY_NAKED_OPERATION).text()));
+        fields.ifSelectedRun(Field.OPERATION, () -> recordBuilder.withOperation(operationReader.get()));
+        fields.ifSelectedRun(Field.OPERATION_NAKED, () -> recordBuilder.withNakedOperation(nakedOperationReader.get()));
         fields.ifSelectedRun(Field.SUBJECT, () -> recordBuilder.withSubject(wire.read(WireTags.KEY_SUBJECT).text()));
 
         return recordBuilder.build();
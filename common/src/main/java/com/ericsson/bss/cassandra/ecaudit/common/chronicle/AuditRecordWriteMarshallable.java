@@ -15,39 +15,131 @@
  */
 package com.ericsson.bss.cassandra.ecaudit.common.chronicle;
 
-import com.ericsson.bss.cassandra.ecaudit.common.chronicle.FieldSelector.Field;
 import com.ericsson.bss.cassandra.ecaudit.common.record.AuditRecord;
 import net.openhft.chronicle.wire.WireOut;
 import net.openhft.chronicle.wire.WriteMarshallable;
 
+/**
+ * Writes an {@link AuditRecord} to a Chronicle wire.
+ * <p>
+ * The fields are written according to a precomputed plan for the field bitmap of the record, and the raw bytes of
+ * addresses are cached per thread, so writing a record does not allocate.
+ * <p>
+ * An instance created with {@link #AuditRecordWriteMarshallable(FieldSelector)} can be reused for several records with
+ * {@link #reset(AuditRecord)}, but must then be confined to one thread.
+ * <p>
+ * Records are written in the format of {@link WireTags#VALUE_VERSION_2}, or {@link WireTags#VALUE_VERSION_3} when a
+ * {@link StatementDictionary} is used to encode the statements of the operation fields. When raw bound values are
+ * enabled records are written in the format of {@link WireTags#VALUE_VERSION_4}, where the bound values of operations
+ * are stored in their serialized form and rendered when the record is read.
+ */
 public class AuditRecordWriteMarshallable implements WriteMarshallable
 {
-    private final AuditRecord auditRecord;
-    private final FieldSelector actualFields;
+    private final FieldSelector configuredFields;
+    private final StatementDictionary dictionary;
+    private final boolean rawBoundValues;
+    private final short version;
+
+    private AuditRecord auditRecord;
+    private FieldSelector actualFields;
 
     public AuditRecordWriteMarshallable(AuditRecord auditRecord, FieldSelector configuredFields)
     {
-        this.auditRecord = auditRecord;
-        this.actualFields = FieldFilterFlavorAdapter.getFieldsAvailableInRecord(auditRecord, configuredFields);
+        this(auditRecord, configuredFields, null);
+    }
+
+    /**
+     * @param auditRecord      the record to write
+     * @param configuredFields the fields to write, if available in the record
+     * @param dictionary       the dictionary to encode statements with, or {@code null} to write statements in full
+     */
+    public AuditRecordWriteMarshallable(AuditRecord auditRecord, FieldSelector configuredFields, StatementDictionary dictionary)
+    {
+        this(auditRecord, configuredFields, dictionary, false);
+    }
+
+    /**
+     * @param auditRecord      the record to write
+     * @param configuredFields the fields to write, if available in the record
+     * @param dictionary       the dictionary to encode statements with, or {@code null} to write statements in full
+     * @param rawBoundValues   {@code true} to write bound values in their serialized form
+     */
+    public AuditRecordWriteMarshallable(AuditRecord auditRecord, FieldSelector configuredFields, StatementDictionary dictionary, boolean rawBoundValues)
+    {
+        this(configuredFields, dictionary, rawBoundValues);
+        reset(auditRecord);
+    }
+
+    /**
+     * Create a reusable marshallable, {@link #reset(AuditRecord)} must be called before it is written.
+     *
+     * @param configuredFields the fields to write, if available in the record
+     */
+    public AuditRecordWriteMarshallable(FieldSelector configuredFields)
+    {
+        this(configuredFields, null);
+    }
+
+    /**
+     * Create a reusable marshallable, {@link #reset(AuditRecord)} must be called before it is written.
+     *
+     * @param configuredFields the fields to write, if available in the record
+     * @param dictionary       the dictionary to encode statements with, or {@code null} to write statements in full
+     */
+    public AuditRecordWriteMarshallable(FieldSelector configuredFields, StatementDictionary dictionary)
+    {
+        this(configuredFields, dictionary, false);
+    }
+
+    /**
+     * Create a reusable marshallable, {@link #reset(AuditRecord)} must be called before it is written.
+     *
+     * @param configuredFields the fields to write, if available in the record
+     * @param dictionary       the dictionary to encode statements with, or {@code null} to write statements in full
+     * @param rawBoundValues   {@code true} to write bound values in their serialized form
+     */
+    public AuditRecordWriteMarshallable(FieldSelector configuredFields, StatementDictionary dictionary, boolean rawBoundValues)
+    {
+        this.configuredFields = configuredFields;
+        this.dictionary = dictionary;
+        this.rawBoundValues = rawBoundValues;
+        this.version = versionOf(dictionary, rawBoundValues);
+    }
+
+    private static short versionOf(StatementDictionary dictionary, boolean rawBoundValues)
+    {
+        if (rawBoundValues)
+        {
+            return WireTags.VALUE_VERSION_4;
+        }
+
+        return dictionary == null ? WireTags.VALUE_VERSION_2 : WireTags.VALUE_VERSION_3;
+    }
+
+    /**
+     * Prepare this marshallable for writing another record.
+     *
+     * @param newAuditRecord the record to write
+     * @return this marshallable
+     */
+    public final AuditRecordWriteMarshallable reset(AuditRecord newAuditRecord)
+    {
+        this.auditRecord = newAuditRecord;
+        this.actualFields = FieldFilterFlavorAdapter.getFieldsAvailableInRecord(newAuditRecord, configuredFields);
+        return this;
     }
 
     @Override
     public void writeMarshallable(WireOut wire)
     {
         // Mandatory fields
-        wire.write(WireTags.KEY_VERSION).int16(WireTags.VALUE_VERSION_CURRENT);
+        wire.write(WireTags.KEY_VERSION).int16(version);
         wire.write(WireTags.KEY_TYPE).text(WireTags.VALUE_TYPE_AUDIT);
         wire.write(WireTags.KEY_FIELDS).int32(actualFields.getBitmap());
         // Configurable fields
-        actualFields.ifSelectedRun(Field.TIMESTAMP, () -> wire.write(WireTags.KEY_TIMESTAMP).int64(auditRecord.getTimestamp()));
-        actualFields.ifSelectedRun(Field.CLIENT_IP, () -> wire.write(WireTags.KEY_CLIENT_IP).bytes(auditRecord.getClientAddress().getAddress().getAddress()));
-        actualFields.ifSelectedRun(Field.CLIENT_PORT, () -> wire.write(WireTags.KEY_CLIENT_PORT).int32(auditRecord.getClientAddress().getPort()));
-        actualFields.ifSelectedRun(Field.COORDINATOR_IP, () -> wire.write(WireTags.KEY_COORDINATOR_IP).bytes(auditRecord.getCoordinatorAddress().getAddress()));
-        actualFields.ifSelectedRun(Field.USER, () -> wire.write(WireTags.KEY_USER).text(auditRecord.getUser()));
-        actualFields.ifSelectedRun(Field.BATCH_ID, () -> wire.write(WireTags.KEY_BATCH_ID).uuid(auditRecord.getBatchId().get()));
-        actualFields.ifSelectedRun(Field.STATUS, () -> wire.write(WireTags.KEY_STATUS).text(auditRecord.getStatus().name()));
-        actualFields.ifSelectedRun(Field.OPERATION, () -> wire.write(WireTags.KEY_OPERATION).text(auditRecord.getOperation().getOperationString()));
-        actualFields.ifSelectedRun(Field.OPERATION_NAKED, () -> wire.write(WireTags.KEY_NAKED_OPERATION).text(auditRecord.getOperation().getNakedOperationString()));
-        actualFields.ifSelectedRun(Field.SUBJECT, () -> wire.write(WireTags.KEY_SUBJECT).text(auditRecord.getSubject().get()));
+        for (FieldWriter fieldWriter : FieldWriter.planFor(actualFields))
+        {
+            fieldWriter.write(wire, auditRecord, dictionary, rawBoundValues);
+        }
     }
 }
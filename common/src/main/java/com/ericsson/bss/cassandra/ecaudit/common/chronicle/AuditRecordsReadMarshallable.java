@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.common.chronicle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.ericsson.bss.cassandra.ecaudit.common.record.StoredAuditRecord;
+import net.openhft.chronicle.bytes.Bytes;
+import net.openhft.chronicle.core.io.IORuntimeException;
+import net.openhft.chronicle.wire.ReadMarshallable;
+import net.openhft.chronicle.wire.Wire;
+import net.openhft.chronicle.wire.WireIn;
+import net.openhft.chronicle.wire.WireType;
+
+/**
+ * Reads the audit records of one Chronicle document, which is either a single record of any supported version or a
+ * compressed block of records written by {@link AuditRecordBlockWriteMarshallable}.
+ */
+public class AuditRecordsReadMarshallable implements ReadMarshallable
+{
+    private final StatementDictionary dictionary;
+
+    private List<StoredAuditRecord> auditRecords;
+
+    /**
+     * @param dictionary the dictionary to resolve statement ids with, may be {@code null} if there is no dictionary
+     */
+    public AuditRecordsReadMarshallable(StatementDictionary dictionary)
+    {
+        this.dictionary = dictionary;
+    }
+
+    @Override
+    public void readMarshallable(WireIn wire) throws IORuntimeException
+    {
+        if (auditRecords != null)
+        {
+            throw new IORuntimeException("Tried to read from wire with used marshallable");
+        }
+
+        short version = wire.read(WireTags.KEY_VERSION).int16();
+        auditRecords = version == WireTags.VALUE_VERSION_BLOCK
+                       ? readBlock(wire)
+                       : Collections.singletonList(new AuditRecordReadMarshallable(dictionary).readRecord(wire, version));
+    }
+
+    private List<StoredAuditRecord> readBlock(WireIn wire) throws IORuntimeException
+    {
+        checkBlockType(wire);
+        CompressionCodec codec = readCodec(wire);
+        int recordCount = wire.read(WireTags.KEY_RECORDS).int32();
+        int length = wire.read(WireTags.KEY_LENGTH).int32();
+        byte[] block = new byte[length];
+        codec.decompress(wire.read(WireTags.KEY_BLOCK).bytes(), block, length);
+
+        Bytes<byte[]> records = Bytes.wrapForRead(block);
+        Wire recordWire = WireType.BINARY_LIGHT.apply(records);
+        List<StoredAuditRecord> blockRecords = new ArrayList<>(recordCount);
+        for (int i = 0; i < recordCount; i++)
+        {
+            long recordEnd = records.readStopBit() + records.readPosition();
+            if (recordEnd > length)
+            {
+                throw new IORuntimeException("Corrupt record block, record " + i + " ends after the block");
+            }
+            records.readLimit(recordEnd);
+            blockRecords.add(new AuditRecordReadMarshallable(dictionary).readRecord(recordWire, recordWire.read(WireTags.KEY_VERSION).int16()));
+            records.readPosition(recordEnd);
+            records.readLimit(length);
+        }
+        return blockRecords;
+    }
+
+    private static void checkBlockType(WireIn wire) throws IORuntimeException
+    {
+        String type = wire.read(WireTags.KEY_TYPE).text();
+        if (!WireTags.VALUE_TYPE_BLOCK.equals(type))
+        {
+            throw new IORuntimeException("Unsupported record type field: " + type);
+        }
+    }
+
+    private static CompressionCodec readCodec(WireIn wire) throws IORuntimeException
+    {
+        String codec = String.valueOf(wire.read(WireTags.KEY_CODEC).text());
+        try
+        {
+            return CompressionCodec.valueOf(codec);
+        }
+        catch (IllegalArgumentException e)
+        {
+            throw new IORuntimeException("Unsupported compression codec: " + codec, e);
+        }
+    }
+
+    /**
+     * Count the records of a document without decoding them.
+     *
+     * @param wire the wire of the document
+     * @return the number of records in the document
+     * @throws IORuntimeException if the document is a block of an unsupported type
+     */
+    public static int recordCount(WireIn wire) throws IORuntimeException
+    {
+        if (wire.read(WireTags.KEY_VERSION).int16() != WireTags.VALUE_VERSION_BLOCK)
+        {
+            return 1;
+        }
+
+        checkBlockType(wire);
+        readCodec(wire);
+        return wire.read(WireTags.KEY_RECORDS).int32();
+    }
+
+    /**
+     * @return the records of the document, in the order they were written
+     */
+    public List<StoredAuditRecord> getAuditRecords()
+    {
+        if (auditRecords == null)
+        {
+            throw new IllegalStateException("No record has been read from the wire");
+        }
+
+        return auditRecords;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.common.chronicle;
+
+import com.github.luben.zstd.Zstd;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import net.openhft.chronicle.core.io.IORuntimeException;
+
+/**
+ * Codecs for compressing blocks of audit records, see {@link AuditRecordBlockWriteMarshallable}.
+ * <p>
+ * The name of the codec is stored in each block, and must never change.
+ */
+public enum CompressionCodec
+{
+    /**
+     * Records are not compressed, and written one per document.
+     */
+    NONE
+    {
+        @Override
+        int maxCompressedLength(int length)
+        {
+            return length;
+        }
+
+        @Override
+        int compress(byte[] source, int length, byte[] destination)
+        {
+            System.arraycopy(source, 0, destination, 0, length);
+            return length;
+        }
+
+        @Override
+        void decompress(byte[] source, byte[] destination, int length)
+        {
+            if (source.length != length)
+            {
+                throw new IORuntimeException("Corrupt record block, expected " + length + " bytes but got " + source.length);
+            }
+            System.arraycopy(source, 0, destination, 0, length);
+        }
+    },
+    /**
+     * LZ4, which is fast but gives a moderate compression ratio.
+     */
+    LZ4
+    {
+        @Override
+        int maxCompressedLength(int length)
+        {
+            return LZ4Holder.COMPRESSOR.maxCompressedLength(length);
+        }
+
+        @Override
+        int compress(byte[] source, int length, byte[] destination)
+        {
+            return LZ4Holder.COMPRESSOR.compress(source, 0, length, destination, 0, destination.length);
+        }
+
+        @Override
+        void decompress(byte[] source, byte[] destination, int length)
+        {
+            try
+            {
+                int decompressedLength = LZ4Holder.DECOMPRESSOR.decompress(source, 0, source.length, destination, 0, length);
+                if (decompressedLength != length)
+                {
+                    throw new IORuntimeException("Corrupt record block, expected " + length + " bytes but got " + decompressedLength);
+                }
+            }
+            catch (LZ4Exception e)
+            {
+                throw new IORuntimeException("Corrupt LZ4 record block", e);
+            }
+        }
+    },
+    /**
+     * Zstandard, which gives a higher compression ratio at a higher CPU cost.
+     */
+    ZSTD
+    {
+        @Override
+        int maxCompressedLength(int length)
+        {
+            return (int) Zstd.compressBound(length);
+        }
+
+        @Override
+        int compress(byte[] source, int length, byte[] destination)
+        {
+            long result = Zstd.compressByteArray(destination, 0, destination.length, source, 0, length, Zstd.defaultCompressionLevel());
+            if (Zstd.isError(result))
+            {
+                throw new IORuntimeException("Failed to compress record block: " + Zstd.getErrorName(result));
+            }
+            return (int) result;
+        }
+
+        @Override
+        void decompress(byte[] source, byte[] destination, int length)
+        {
+            long result = Zstd.decompressByteArray(destination, 0, length, source, 0, source.length);
+            if (Zstd.isError(result))
+            {
+                throw new IORuntimeException("Corrupt zstd record block: " + Zstd.getErrorName(result));
+            }
+            if (result != length)
+            {
+                throw new IORuntimeException("Corrupt record block, expected " + length + " bytes but got " + result);
+            }
+        }
+    };
+
+    /**
+     * @param length the length of the data to compress
+     * @return the maximum length of the compressed data
+     */
+    abstract int maxCompressedLength(int length);
+
+    /**
+     * @param source      the data to compress, from offset zero
+     * @param length      the length of the data to compress
+     * @param destination the destination of the compressed data, of at least {@link #maxCompressedLength(int)}
+     * @return the length of the compressed data
+     */
+    abstract int compress(byte[] source, int length, byte[] destination);
+
+    /**
+     * @param source      the compressed data
+     * @param destination the destination of the decompressed data
+     * @param length      the expected length of the decompressed data
+     * @throws IORuntimeException if the compressed data is corrupt
+     */
+    abstract void decompress(byte[] source, byte[] destination, int length);
+
+    /**
+     * The LZ4 codec is initialized on first use, so that the native library is not loaded unless needed.
+     */
+    private static final class LZ4Holder
+    {
+        private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+        private static final LZ4SafeDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().safeDecompressor();
+    }
+}
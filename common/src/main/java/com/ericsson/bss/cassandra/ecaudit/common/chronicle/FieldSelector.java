@@ -19,14 +19,22 @@ import java.util.List;
 
 import com.google.common.annotations.VisibleForTesting;
 
+/**
+ * An immutable selection of audit record fields.
+ * <p>
+ * There is only one instance for each bitmap, so deriving a new selection never allocates.
+ */
 public final class FieldSelector
 {
+    private static final int FIELD_COUNT = Field.values().length;
+    private static final FieldSelector[] SELECTORS = createSelectors();
+
     /**
      * Default fields selected: TIMESTAMP, CLIENT_IP, CLIENT_PORT, COORDINATOR_IP, USER, BATCH_ID, STATUS, OPERATION
      */
     public static final FieldSelector DEFAULT_FIELDS = fromBitmap(383);
     public static final FieldSelector NO_FIELDS = fromBitmap(0);
-    public static final FieldSelector ALL_FIELDS = fromBitmap((1 << FieldSelector.Field.values().length) - 1);
+    public static final FieldSelector ALL_FIELDS = fromBitmap((1 << FIELD_COUNT) - 1);
 
     public enum Field
     {
@@ -61,6 +69,16 @@ public final class FieldSelector
         this.bitmap = bitmap;
     }
 
+    private static FieldSelector[] createSelectors()
+    {
+        FieldSelector[] selectors = new FieldSelector[1 << FIELD_COUNT];
+        for (int bitmap = 0; bitmap < selectors.length; bitmap++)
+        {
+            selectors[bitmap] = new FieldSelector(bitmap);
+        }
+        return selectors;
+    }
+
     /**
      * @return the bitmap representation of this field selector
      */
@@ -100,7 +118,7 @@ public final class FieldSelector
     @VisibleForTesting
     FieldSelector withField(Field field)
     {
-        return new FieldSelector(bitmap | field.getBit());
+        return SELECTORS[bitmap | field.getBit()];
     }
 
     /**
@@ -111,7 +129,7 @@ public final class FieldSelector
      */
     public FieldSelector withoutField(Field field)
     {
-        return new FieldSelector(bitmap & ~field.getBit());
+        return SELECTORS[bitmap & ~field.getBit()];
     }
 
     /**
@@ -123,11 +141,11 @@ public final class FieldSelector
      */
     public static FieldSelector fromBitmap(int bitmap)
     {
-        if (bitmap < 0 || bitmap >= (1 << Field.values().length))
+        if (bitmap < 0 || bitmap >= SELECTORS.length)
         {
             throw new IllegalArgumentException("Bitmap value is out of bounds");
         }
-        return new FieldSelector(bitmap);
+        return SELECTORS[bitmap];
     }
 
     /**
@@ -147,6 +165,6 @@ public final class FieldSelector
                            .mapToInt(Field::getBit)
                            .distinct()
                            .sum();
-        return new FieldSelector(bitmap);
+        return SELECTORS[bitmap];
     }
 }
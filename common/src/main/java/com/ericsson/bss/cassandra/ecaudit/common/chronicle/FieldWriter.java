@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.common.chronicle;
+
+import java.util.Arrays;
+
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.FieldSelector.Field;
+import com.ericsson.bss.cassandra.ecaudit.common.record.AuditRecord;
+import net.openhft.chronicle.wire.WireOut;
+
+/**
+ * Writers for the configurable fields of an audit record, declared in the order they are written to the wire.
+ * The reader depends on this order.
+ * <p>
+ * The writers of each possible field bitmap are precomputed into a plan, see {@link #planFor(FieldSelector)}.
+ * <p>
+ * With a {@link StatementDictionary} the operation fields are written in the format of
+ * {@link WireTags#VALUE_VERSION_3}, and with raw bound values in the format of {@link WireTags#VALUE_VERSION_4},
+ * see {@link OperationCodec}.
+ */
+enum FieldWriter
+{
+    TIMESTAMP(Field.TIMESTAMP)
+    {
+        @Override
+        void write(WireOut wire, AuditRecord auditRecord, StatementDictionary dictionary, boolean rawBoundValues)
+        {
+            wire.write(WireTags.KEY_TIMESTAMP).int64(auditRecord.getTimestamp());
+        }
+    },
+    CLIENT_IP(Field.CLIENT_IP)
+    {
+        @Override
+        void write(WireOut wire, AuditRecord auditRecord, StatementDictionary dictionary, boolean rawBoundValues)
+        {
+            AddressBytesCache.CLIENT_ADDRESS.get().write(wire.write(WireTags.KEY_CLIENT_IP), auditRecord.getClientAddress().getAddress());
+        }
+    },
+    CLIENT_PORT(Field.CLIENT_PORT)
+    {
+        @Override
+        void write(WireOut wire, AuditRecord auditRecord, StatementDictionary dictionary, boolean rawBoundValues)
+        {
+            wire.write(WireTags.KEY_CLIENT_PORT).int32(auditRecord.getClientAddress().getPort());
+        }
+    },
+    COORDINATOR_IP(Field.COORDINATOR_IP)
+    {
+        @Override
+        void write(WireOut wire, AuditRecord auditRecord, StatementDictionary dictionary, boolean rawBoundValues)
+        {
+            AddressBytesCache.COORDINATOR_ADDRESS.get().write(wire.write(WireTags.KEY_COORDINATOR_IP), auditRecord.getCoordinatorAddress());
+        }
+    },
+    USER(Field.USER)
+    {
+        @Override
+        void write(WireOut wire, AuditRecord auditRecord, StatementDictionary dictionary, boolean rawBoundValues)
+        {
+            wire.write(WireTags.KEY_USER).text(auditRecord.getUser());
+        }
+    },
+    BATCH_ID(Field.BATCH_ID)
+    {
+        @Override
+        void write(WireOut wire, AuditRecord auditRecord, StatementDictionary dictionary, boolean rawBoundValues)
+        {
+            wire.write(WireTags.KEY_BATCH_ID).uuid(auditRecord.getBatchId().get());
+        }
+    },
+    STATUS(Field.STATUS)
+    {
+        @Override
+        void write(WireOut wire, AuditRecord auditRecord, StatementDictionary dictionary, boolean rawBoundValues)
+        {
+            wire.write(WireTags.KEY_STATUS).text(auditRecord.getStatus().name());
+        }
+    },
+    OPERATION(Field.OPERATION)
+    {
+        @Override
+        void write(WireOut wire, AuditRecord auditRecord, StatementDictionary dictionary, boolean rawBoundValues)
+        {
+            if (dictionary == null && !rawBoundValues)
+            {
+                wire.write(WireTags.KEY_OPERATION).text(auditRecord.getOperation().getOperationString());
+                return;
+            }
+
+            OperationCodec.ENCODER.get().writeOperation(wire, auditRecord.getOperation(), dictionary, rawBoundValues);
+        }
+    },
+    OPERATION_NAKED(Field.OPERATION_NAKED)
+    {
+        @Override
+        void write(WireOut wire, AuditRecord auditRecord, StatementDictionary dictionary, boolean rawBoundValues)
+        {
+            if (dictionary == null && !rawBoundValues)
+            {
+                wire.write(WireTags.KEY_NAKED_OPERATION).text(auditRecord.getOperation().getNakedOperationString());
+                return;
+            }
+
+            OperationCodec.ENCODER.get().writeNakedOperation(wire, auditRecord.getOperation(), dictionary);
+        }
+    },
+    SUBJECT(Field.SUBJECT)
+    {
+        @Override
+        void write(WireOut wire, AuditRecord auditRecord, StatementDictionary dictionary, boolean rawBoundValues)
+        {
+            wire.write(WireTags.KEY_SUBJECT).text(auditRecord.getSubject().get());
+        }
+    };
+
+    private static final FieldWriter[][] PLANS = createPlans();
+
+    private final Field field;
+
+    FieldWriter(Field field)
+    {
+        this.field = field;
+    }
+
+    /**
+     * Write the field of this writer.
+     *
+     * @param wire        the wire to write to
+     * @param auditRecord the record to get the field value from
+     * @param dictionary  the dictionary to encode statements with, or {@code null} to write statements in full
+     * @param rawBoundValues {@code true} to write bound values in their serialized form
+     */
+    abstract void write(WireOut wire, AuditRecord auditRecord, StatementDictionary dictionary, boolean rawBoundValues);
+
+    /**
+     * @param fields the fields to write
+     * @return the writers of the given fields, in wire order
+     */
+    static FieldWriter[] planFor(FieldSelector fields)
+    {
+        return PLANS[fields.getBitmap()];
+    }
+
+    private static FieldWriter[][] createPlans()
+    {
+        FieldWriter[][] plans = new FieldWriter[FieldSelector.ALL_FIELDS.getBitmap() + 1][];
+        for (int bitmap = 0; bitmap < plans.length; bitmap++)
+        {
+            FieldSelector fields = FieldSelector.fromBitmap(bitmap);
+            plans[bitmap] = Arrays.stream(values())
+                                  .filter(writer -> fields.isSelected(writer.field))
+                                  .toArray(FieldWriter[]::new);
+        }
+        return plans;
+    }
+}
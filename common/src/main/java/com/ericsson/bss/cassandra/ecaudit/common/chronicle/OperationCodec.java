@@ -0,0 +1,249 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.common.chronicle;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import com.ericsson.bss.cassandra.ecaudit.common.record.AuditOperation;
+import com.ericsson.bss.cassandra.ecaudit.common.record.BoundValueVisitor;
+import com.ericsson.bss.cassandra.ecaudit.common.record.BoundValuesAuditOperation;
+import com.ericsson.bss.cassandra.ecaudit.common.record.CqlType;
+import net.openhft.chronicle.bytes.Bytes;
+import net.openhft.chronicle.core.io.IORuntimeException;
+import net.openhft.chronicle.wire.WireIn;
+import net.openhft.chronicle.wire.WireOut;
+
+/**
+ * Encoding of the operation fields in records of {@link WireTags#VALUE_VERSION_3} and later.
+ * <p>
+ * The statement of a prepared operation is written as its id in the {@link StatementDictionary}, followed by the
+ * statement text only if it has no id. Other operations always have {@link StatementDictionary#NO_ID} and are written
+ * in full, so that ad-hoc statements with literal values are not stored in the dictionary. In {@link WireTags#VALUE_VERSION_3} the operation is followed by the rendered bound values
+ * after the statement. In {@link WireTags#VALUE_VERSION_4} it is instead followed by an encoded block of bound values,
+ * either serialized with their {@link CqlType} or already rendered, which are rendered when the record is read.
+ * <p>
+ * An instance holds a buffer for encoding bound values and is confined to one thread.
+ */
+final class OperationCodec implements BoundValueVisitor
+{
+    static final ThreadLocal<OperationCodec> ENCODER = ThreadLocal.withInitial(OperationCodec::new);
+
+    private static final byte KIND_SUFFIX = 0;
+    private static final byte KIND_VALUES = 1;
+    private static final byte TAG_LITERAL = 0;
+
+    private final Bytes<?> boundValues = Bytes.allocateElasticOnHeap(256);
+    private final StringBuilder suffix = new StringBuilder(); // NOPMD reused by the owning thread
+
+    private OperationCodec()
+    {
+        // Thread confined, see ENCODER
+    }
+
+    /**
+     * Write the operation with the encoding of {@link WireTags#VALUE_VERSION_3}, or {@link WireTags#VALUE_VERSION_4} if
+     * raw bound values are enabled.
+     */
+    void writeOperation(WireOut wire, AuditOperation operation, StatementDictionary dictionary, boolean rawBoundValues)
+    {
+        String statement = operation.getNakedOperationString();
+        if (rawBoundValues && operation instanceof BoundValuesAuditOperation)
+        {
+            writeStatement(wire, WireTags.KEY_OPERATION_ID, WireTags.KEY_OPERATION, statement, statementDictionary(operation, dictionary));
+            boundValues.clear();
+            boundValues.writeByte(KIND_VALUES);
+            ((BoundValuesAuditOperation) operation).visitBoundValues(this);
+            wire.write(WireTags.KEY_BOUND_VALUES).bytes(boundValues);
+            return;
+        }
+
+        writeOperationString(wire, operation.getOperationString(), statement, statementDictionary(operation, dictionary), rawBoundValues);
+    }
+
+    /**
+     * Only the statements of prepared operations are given ids, since the text of other operations includes literal
+     * values and rarely repeats.
+     */
+    private static StatementDictionary statementDictionary(AuditOperation operation, StatementDictionary dictionary)
+    {
+        return operation instanceof BoundValuesAuditOperation ? dictionary : null;
+    }
+
+    private void writeOperationString(WireOut wire, String operationString, String statement, StatementDictionary dictionary, boolean rawBoundValues)
+    {
+        // The operation of a prepared statement is the statement followed by its bound values
+        int statementEnd = operationString.startsWith(statement) ? statement.length() : 0;
+        int id = statementEnd > 0 && dictionary != null ? dictionary.idOf(statement) : StatementDictionary.NO_ID;
+        wire.write(WireTags.KEY_OPERATION_ID).int32(id);
+
+        // Without an id the whole operation is written as text, otherwise only what follows the statement
+        int suffixStart = id == StatementDictionary.NO_ID ? 0 : statementEnd;
+        if (rawBoundValues)
+        {
+            if (id == StatementDictionary.NO_ID)
+            {
+                wire.write(WireTags.KEY_OPERATION).text(operationString);
+                suffixStart = operationString.length();
+            }
+            boundValues.clear();
+            boundValues.writeByte(KIND_SUFFIX);
+            boundValues.appendUtf8(operationString, suffixStart, operationString.length() - suffixStart);
+            wire.write(WireTags.KEY_BOUND_VALUES).bytes(boundValues);
+        }
+        else
+        {
+            suffix.setLength(0);
+            suffix.append(operationString, suffixStart, operationString.length());
+            wire.write(WireTags.KEY_OPERATION).text(suffix);
+        }
+    }
+
+    /**
+     * Write the naked operation with the encoding of {@link WireTags#VALUE_VERSION_3} and later.
+     */
+    void writeNakedOperation(WireOut wire, AuditOperation operation, StatementDictionary dictionary)
+    {
+        writeStatement(wire, WireTags.KEY_NAKED_OPERATION_ID, WireTags.KEY_NAKED_OPERATION, operation.getNakedOperationString(), statementDictionary(operation, dictionary));
+    }
+
+    private static void writeStatement(WireOut wire, String idKey, String textKey, String statement, StatementDictionary dictionary)
+    {
+        int id = dictionary == null ? StatementDictionary.NO_ID : dictionary.idOf(statement);
+        wire.write(idKey).int32(id);
+        if (id == StatementDictionary.NO_ID)
+        {
+            wire.write(textKey).text(statement);
+        }
+    }
+
+    @Override
+    public void visitValue(CqlType type, ByteBuffer value)
+    {
+        boundValues.writeByte(type.getCode());
+        boundValues.writeStopBit(value.remaining());
+        if (value.hasArray())
+        {
+            boundValues.write(value.array(), value.arrayOffset() + value.position(), value.remaining());
+        }
+        else
+        {
+            for (int i = value.position(); i < value.limit(); i++)
+            {
+                boundValues.writeByte(value.get(i));
+            }
+        }
+    }
+
+    @Override
+    public void visitLiteral(String literal)
+    {
+        boundValues.writeByte(TAG_LITERAL);
+        boundValues.writeUtf8(literal);
+    }
+
+    /**
+     * Read an operation written by {@link #writeOperation(WireOut, AuditOperation, StatementDictionary, boolean)}.
+     *
+     * @param wire          the wire to read from
+     * @param dictionary    the dictionary to resolve statement ids with, may be {@code null}
+     * @param rawBoundValues {@code true} if the record is of {@link WireTags#VALUE_VERSION_4}
+     * @return the operation with rendered bound values
+     */
+    static String readOperation(WireIn wire, StatementDictionary dictionary, boolean rawBoundValues)
+    {
+        int id = wire.read(WireTags.KEY_OPERATION_ID).int32();
+        if (!rawBoundValues)
+        {
+            String operation = wire.read(WireTags.KEY_OPERATION).text();
+            return id == StatementDictionary.NO_ID ? operation : lookupStatement(id, dictionary) + operation;
+        }
+
+        String statement = id == StatementDictionary.NO_ID ? wire.read(WireTags.KEY_OPERATION).text() : lookupStatement(id, dictionary);
+        return renderBoundValues(statement, wire.read(WireTags.KEY_BOUND_VALUES).bytes());
+    }
+
+    /**
+     * Read a naked operation written by {@link #writeNakedOperation(WireOut, AuditOperation, StatementDictionary)}.
+     *
+     * @param wire       the wire to read from
+     * @param dictionary the dictionary to resolve statement ids with, may be {@code null}
+     * @return the naked operation
+     */
+    static String readNakedOperation(WireIn wire, StatementDictionary dictionary)
+    {
+        int id = wire.read(WireTags.KEY_NAKED_OPERATION_ID).int32();
+        return id == StatementDictionary.NO_ID ? wire.read(WireTags.KEY_NAKED_OPERATION).text() : lookupStatement(id, dictionary);
+    }
+
+    private static String lookupStatement(int id, StatementDictionary dictionary)
+    {
+        if (dictionary == null)
+        {
+            throw new IORuntimeException("Record refers to statement id " + id + " but no statement dictionary is available");
+        }
+
+        return dictionary.statementOf(id);
+    }
+
+    private static String renderBoundValues(String statement, byte[] encoded)
+    {
+        if (encoded.length == 0)
+        {
+            throw new IORuntimeException("Corrupt bound values field");
+        }
+
+        if (encoded[0] == KIND_SUFFIX)
+        {
+            return statement + new String(encoded, 1, encoded.length - 1, StandardCharsets.UTF_8);
+        }
+
+        Bytes<byte[]> values = Bytes.wrapForRead(encoded);
+        values.readSkip(1);
+        if (values.readRemaining() == 0)
+        {
+            return statement;
+        }
+
+        StringBuilder operation = new StringBuilder(statement).append('[');
+        while (values.readRemaining() > 0)
+        {
+            operation.append(renderBoundValue(values)).append(", ");
+        }
+        operation.setLength(operation.length() - 2);
+        return operation.append(']').toString();
+    }
+
+    private static String renderBoundValue(Bytes<byte[]> values)
+    {
+        byte tag = values.readByte();
+        if (tag == TAG_LITERAL)
+        {
+            return values.readUtf8();
+        }
+
+        byte[] value = new byte[(int) values.readStopBit()];
+        values.read(value);
+        try
+        {
+            return CqlType.fromCode(tag).toCQLLiteral(ByteBuffer.wrap(value));
+        }
+        catch (IllegalArgumentException | IndexOutOfBoundsException e)
+        {
+            throw new IORuntimeException("Corrupt bound value of type code " + tag, e);
+        }
+    }
+}
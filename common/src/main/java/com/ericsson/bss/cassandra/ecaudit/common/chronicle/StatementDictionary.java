@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.common.chronicle;
+
+import java.io.Closeable;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.openhft.chronicle.core.io.IORuntimeException;
+import net.openhft.chronicle.queue.ChronicleQueue;
+import net.openhft.chronicle.queue.ExcerptTailer;
+import net.openhft.chronicle.queue.RollCycles;
+import net.openhft.chronicle.queue.impl.single.SingleChronicleQueueBuilder;
+import net.openhft.chronicle.wire.WireIn;
+
+/**
+ * A dictionary of prepared statement texts, which lets audit records refer to a statement by a compact id.
+ * <p>
+ * Each statement is appended once to a Chronicle queue of its own in the {@code dictionary} sub-directory of the log
+ * directory, before any record refers to it. The dictionary is not subject to the retention of the audit log, so ids
+ * can be resolved regardless of which log files remain. When the dictionary is opened again it continues from the
+ * statements already stored.
+ * <p>
+ * Statements are added until the dictionary holds its maximum number of statements, after which new statements have
+ * no id and are written in full in the audit records.
+ */
+public final class StatementDictionary implements Closeable
+{
+    /**
+     * The id of statements which are not in the dictionary.
+     */
+    public static final int NO_ID = -1;
+
+    private static final String DICTIONARY_DIR = "dictionary";
+
+    private final ChronicleQueue chronicle;
+    private final int maxStatements;
+    private final ExcerptTailer tailer;
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final List<String> statements = new ArrayList<>();
+
+    private volatile boolean full;
+
+    StatementDictionary(ChronicleQueue chronicle, int maxStatements)
+    {
+        this.chronicle = chronicle;
+        this.maxStatements = maxStatements;
+        this.tailer = chronicle.createTailer();
+        readNewStatements();
+    }
+
+    /**
+     * Open the dictionary of a log directory for writing, it is created if it does not exist.
+     *
+     * @param logDir        the log directory
+     * @param maxStatements the maximum number of statements in the dictionary
+     * @return the dictionary
+     */
+    public static StatementDictionary open(Path logDir, int maxStatements)
+    {
+        ChronicleQueue chronicle = SingleChronicleQueueBuilder.single(dictionaryPath(logDir).toFile())
+                                                              .rollCycle(RollCycles.DAILY)
+                                                              .build();
+        return new StatementDictionary(chronicle, maxStatements);
+    }
+
+    /**
+     * Open the dictionary of a log directory for reading.
+     *
+     * @param logDir the log directory
+     * @return the dictionary
+     */
+    public static StatementDictionary openReadOnly(Path logDir)
+    {
+        ChronicleQueue chronicle = SingleChronicleQueueBuilder.single(dictionaryPath(logDir).toFile())
+                                                              .rollCycle(RollCycles.DAILY)
+                                                              .readOnly(true)
+                                                              .build();
+        return new StatementDictionary(chronicle, 0);
+    }
+
+    /**
+     * @param logDir the log directory
+     * @return the directory of the dictionary in the given log directory
+     */
+    public static Path dictionaryPath(Path logDir)
+    {
+        return logDir.resolve(DICTIONARY_DIR);
+    }
+
+    /**
+     * Get the id of a statement, adding it to the dictionary if needed.
+     * <p>
+     * This method is thread-safe, and does not allocate once the statement is in the dictionary.
+     *
+     * @param statement the statement text
+     * @return the id of the statement, or {@link #NO_ID} if the dictionary is full
+     */
+    public int idOf(String statement)
+    {
+        Integer id = ids.get(statement);
+        if (id != null)
+        {
+            return id;
+        }
+
+        return full ? NO_ID : addStatement(statement);
+    }
+
+    private synchronized int addStatement(String statement)
+    {
+        Integer existingId = ids.get(statement);
+        if (existingId != null)
+        {
+            return existingId;
+        }
+
+        if (statements.size() >= maxStatements)
+        {
+            full = true;
+            return NO_ID;
+        }
+
+        int id = statements.size();
+        chronicle.acquireAppender().writeDocument(wire -> {
+            wire.write(WireTags.KEY_STATEMENT_ID).int32(id);
+            wire.write(WireTags.KEY_STATEMENT).text(statement);
+        });
+        register(id, statement);
+        return id;
+    }
+
+    /**
+     * Get the statement of an id, reading statements added by the writer of the dictionary if needed.
+     *
+     * @param id the id of the statement
+     * @return the statement text
+     * @throws IORuntimeException if the id is not in the dictionary
+     */
+    public synchronized String statementOf(int id)
+    {
+        if (id >= statements.size())
+        {
+            readNewStatements();
+        }
+
+        if (id < 0 || id >= statements.size())
+        {
+            throw new IORuntimeException("Unknown statement id: " + id);
+        }
+
+        return statements.get(id);
+    }
+
+    private synchronized void readNewStatements()
+    {
+        boolean statementRead;
+        do
+        {
+            statementRead = tailer.readDocument(this::readStatement);
+        }
+        while (statementRead);
+    }
+
+    private void readStatement(WireIn wire)
+    {
+        int id = wire.read(WireTags.KEY_STATEMENT_ID).int32();
+        String statement = wire.read(WireTags.KEY_STATEMENT).text();
+        if (id != statements.size())
+        {
+            throw new IORuntimeException("Corrupt statement dictionary, expected id " + statements.size() + " but found " + id);
+        }
+        register(id, statement);
+    }
+
+    private void register(int id, String statement)
+    {
+        statements.add(statement);
+        ids.put(statement, id);
+    }
+
+    @Override
+    public void close()
+    {
+        chronicle.close();
+    }
+}
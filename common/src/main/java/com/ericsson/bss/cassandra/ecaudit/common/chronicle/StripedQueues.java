@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.common.chronicle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Naming and discovery of striped Chronicle queues.
+ * <p>
+ * A striped audit log consists of one Chronicle queue per writer, each stored in a sub-directory of the log directory
+ * named {@code stripe-<n>}.
+ */
+public final class StripedQueues
+{
+    private static final String STRIPE_DIR_PREFIX = "stripe-";
+    private static final Pattern STRIPE_DIR_PATTERN = Pattern.compile(STRIPE_DIR_PREFIX + "(\\d+)");
+    private static final String QUEUE_FILE_SUFFIX = ".cq4";
+
+    private StripedQueues()
+    {
+        // Utility class
+    }
+
+    /**
+     * @param logDir the log directory
+     * @param stripe the stripe number
+     * @return the directory of the given stripe
+     */
+    public static Path stripePath(Path logDir, int stripe)
+    {
+        return logDir.resolve(STRIPE_DIR_PREFIX + stripe);
+    }
+
+    /**
+     * Find the Chronicle queue directories which make up the audit log in the given log directory.
+     * <p>
+     * If there are no stripe sub-directories the log directory itself is the only queue. Otherwise the stripes are
+     * returned in stripe order, preceded by the log directory itself if it holds queue files from a time when
+     * striping was not in use.
+     *
+     * @param logDir the log directory
+     * @return the queue directories
+     */
+    public static List<Path> queuePaths(Path logDir)
+    {
+        if (!Files.isDirectory(logDir))
+        {
+            return Collections.singletonList(logDir);
+        }
+
+        List<Path> stripePaths;
+        try (Stream<Path> paths = Files.list(logDir))
+        {
+            stripePaths = paths.filter(Files::isDirectory)
+                               .filter(path -> STRIPE_DIR_PATTERN.matcher(path.getFileName().toString()).matches())
+                               .sorted(Comparator.comparingInt(StripedQueues::stripeOf))
+                               .collect(Collectors.toList());
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Failed to list log directory " + logDir, e);
+        }
+
+        if (stripePaths.isEmpty())
+        {
+            return Collections.singletonList(logDir);
+        }
+
+        List<Path> queuePaths = new ArrayList<>(stripePaths.size() + 1);
+        if (containsQueueFiles(logDir))
+        {
+            queuePaths.add(logDir);
+        }
+        queuePaths.addAll(stripePaths);
+        return queuePaths;
+    }
+
+    private static int stripeOf(Path stripePath)
+    {
+        Matcher matcher = STRIPE_DIR_PATTERN.matcher(stripePath.getFileName().toString());
+        return matcher.matches() ? Integer.parseInt(matcher.group(1)) : Integer.MAX_VALUE;
+    }
+
+    private static boolean containsQueueFiles(Path dir)
+    {
+        try (Stream<Path> paths = Files.list(dir))
+        {
+            return paths.anyMatch(path -> Files.isRegularFile(path) && path.getFileName().toString().endsWith(QUEUE_FILE_SUFFIX));
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Failed to list log directory " + dir, e);
+        }
+    }
+}
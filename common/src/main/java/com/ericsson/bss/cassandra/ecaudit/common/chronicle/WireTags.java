@@ -30,12 +30,25 @@ class WireTags
     static final String KEY_OPERATION = "operation";
     static final String KEY_NAKED_OPERATION = "naked_operation";
     static final String KEY_SUBJECT = "subject";
+    static final String KEY_OPERATION_ID = "operation_id";
+    static final String KEY_NAKED_OPERATION_ID = "naked_operation_id";
+    static final String KEY_STATEMENT_ID = "id";
+    static final String KEY_STATEMENT = "statement";
+    static final String KEY_BOUND_VALUES = "bound_values";
+    static final String KEY_CODEC = "codec";
+    static final String KEY_RECORDS = "records";
+    static final String KEY_LENGTH = "length";
+    static final String KEY_BLOCK = "block";
 
     static final short VALUE_VERSION_0 = 0;
     static final short VALUE_VERSION_1 = 1;
     static final short VALUE_VERSION_2 = 2;
-    static final short VALUE_VERSION_CURRENT = VALUE_VERSION_2;
+    static final short VALUE_VERSION_3 = 3;
+    static final short VALUE_VERSION_4 = 4;
+    static final short VALUE_VERSION_CURRENT = VALUE_VERSION_4;
+    static final short VALUE_VERSION_BLOCK = 5;
     static final String VALUE_TYPE_BATCH_ENTRY = "ecaudit-batch";
     static final String VALUE_TYPE_SINGLE_ENTRY = "ecaudit-single";
     static final String VALUE_TYPE_AUDIT = "ecaudit";
+    static final String VALUE_TYPE_BLOCK = "ecaudit-block";
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.common.formatter;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Formats epoch millisecond timestamps with a {@link DateTimeFormatter}, rendering each second only once.
+ * <p>
+ * Zone offsets and their transitions are whole seconds, so only the sub-second fields of a timestamp can change within
+ * an epoch second. The first time a second is seen it is formatted at millisecond 0 and at millisecond 987:
+ * <ul>
+ * <li>If the two renderings are equal the pattern has no sub-second field and the rendering is reused as is.</li>
+ * <li>If they differ in a single run of up to three characters reading as the leading digits of 000 and 987, the run
+ * holds the millisecond, as for the S, A and N pattern letters, and only those digits are patched.</li>
+ * <li>Otherwise, for instance for nano-of-second which changes length, each timestamp in the second is formatted in
+ * full.</li>
+ * </ul>
+ * The most recent second is cached, and the formatter is safe to share between threads.
+ */
+public final class CachingTimestampFormatter
+{
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final int PROBE_MILLIS = 987;
+    private static final String PROBE_DIGITS = "987";
+    private static final String ZERO_DIGITS = "000";
+
+    private final DateTimeFormatter formatter;
+    private volatile RenderedSecond renderedSecond = new RenderedSecond(Long.MIN_VALUE, "", RenderedSecond.NOT_CACHEABLE, 0);
+
+    /**
+     * @param formatter the formatter to render timestamps with, must have a zone if the pattern has date or time fields
+     */
+    public CachingTimestampFormatter(DateTimeFormatter formatter)
+    {
+        this.formatter = formatter;
+    }
+
+    /**
+     * @param epochMillis the timestamp in milliseconds since epoch
+     * @return the timestamp formatted exactly as by the underlying {@link DateTimeFormatter}
+     */
+    public String format(long epochMillis)
+    {
+        long epochSecond = Math.floorDiv(epochMillis, 1000);
+        RenderedSecond second = renderedSecond;
+        if (second.epochSecond != epochSecond)
+        {
+            second = renderSecond(epochSecond);
+            renderedSecond = second;
+        }
+
+        if (second.millisOffset == RenderedSecond.NOT_CACHEABLE)
+        {
+            return formatter.format(Instant.ofEpochMilli(epochMillis));
+        }
+
+        return second.withMillis(Math.floorMod(epochMillis, 1000));
+    }
+
+    private RenderedSecond renderSecond(long epochSecond)
+    {
+        String atZero = formatter.format(Instant.ofEpochSecond(epochSecond));
+        String atProbe = formatter.format(Instant.ofEpochSecond(epochSecond, PROBE_MILLIS * NANOS_PER_MILLI));
+        if (atZero.equals(atProbe))
+        {
+            return new RenderedSecond(epochSecond, atZero, 0, 0);
+        }
+
+        if (atZero.length() == atProbe.length())
+        {
+            int start = 0;
+            while (atZero.charAt(start) == atProbe.charAt(start))
+            {
+                start++;
+            }
+            int end = atZero.length();
+            while (atZero.charAt(end - 1) == atProbe.charAt(end - 1))
+            {
+                end--;
+            }
+
+            int width = end - start;
+            if (width <= PROBE_DIGITS.length()
+                && atZero.regionMatches(start, ZERO_DIGITS, 0, width)
+                && atProbe.regionMatches(start, PROBE_DIGITS, 0, width))
+            {
+                return new RenderedSecond(epochSecond, atZero, start, width);
+            }
+        }
+
+        return new RenderedSecond(epochSecond, atZero, RenderedSecond.NOT_CACHEABLE, 0);
+    }
+
+    private static final class RenderedSecond
+    {
+        private static final int NOT_CACHEABLE = -1;
+
+        private final long epochSecond;
+        private final String text;
+        private final int millisOffset;
+        private final int millisWidth;
+
+        private RenderedSecond(long epochSecond, String text, int millisOffset, int millisWidth)
+        {
+            this.epochSecond = epochSecond;
+            this.text = text;
+            this.millisOffset = millisOffset;
+            this.millisWidth = millisWidth;
+        }
+
+        /**
+         * The millisecond is written with as many leading digits as the pattern shows, S shows tenths and SS
+         * hundredths, while longer fractions have trailing zeros at millisecond precision.
+         */
+        private String withMillis(int millis)
+        {
+            if (millisWidth == 0)
+            {
+                return text;
+            }
+
+            char[] chars = text.toCharArray();
+            int divisor = 100;
+            for (int i = 0; i < millisWidth; i++)
+            {
+                chars[millisOffset + i] = (char) ('0' + millis / divisor % 10);
+                divisor /= 10;
+            }
+            return new String(chars);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.common.formatter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A log message format compiled into a sequence of segments, each appending literal text or the value of a field.
+ *
+ * @param <T> The type of log entries to render.
+ */
+final class CompiledLogMessage<T>
+{
+    private static final int MAX_RETAINED_BUFFER_SIZE = 8192;
+
+    private final List<Segment<T>> segments;
+    private final ThreadLocal<StringBuilder> threadBuffer = ThreadLocal.withInitial(StringBuilder::new);
+
+    private CompiledLogMessage(List<Segment<T>> segments)
+    {
+        this.segments = segments;
+    }
+
+    /**
+     * @param format         the formatting string
+     * @param fieldPattern   the pattern matching fields, with the name of a normal field as group 1, and the left
+     *                       description, name and right description of an optional field as group 2, 3 and 4
+     * @param fieldFunctions the value function of a field name
+     * @param <T>            The type of log entries to render.
+     * @return the compiled log message
+     */
+    static <T> CompiledLogMessage<T> compile(String format, Pattern fieldPattern, Function<String, Function<T, Object>> fieldFunctions)
+    {
+        List<Segment<T>> compiled = new ArrayList<>();
+        Matcher matcher = fieldPattern.matcher(format);
+        int literalStart = 0;
+        while (matcher.find())
+        {
+            addLiteral(compiled, format.substring(literalStart, matcher.start()));
+            String normalField = matcher.group(1);
+            if (normalField == null) // Optional field
+            {
+                compiled.add(optionalField(matcher.group(2), fieldFunctions.apply(matcher.group(3)), matcher.group(4)));
+            }
+            else // Normal field
+            {
+                Function<T, Object> fieldFunction = fieldFunctions.apply(normalField);
+                compiled.add((logEntry, buffer) -> buffer.append(fieldFunction.apply(logEntry)));
+            }
+            literalStart = matcher.end();
+        }
+        addLiteral(compiled, format.substring(literalStart));
+        return new CompiledLogMessage<>(compiled);
+    }
+
+    private static <T> void addLiteral(List<Segment<T>> compiled, String literal)
+    {
+        if (!literal.isEmpty())
+        {
+            compiled.add((logEntry, buffer) -> buffer.append(literal));
+        }
+    }
+
+    private static <T> Segment<T> optionalField(String descriptionLeft, Function<T, Object> fieldFunction, String descriptionRight)
+    {
+        return (logEntry, buffer) -> {
+            Object value = fieldFunction.apply(logEntry);
+            if (value != null)
+            {
+                buffer.append(descriptionLeft).append(value).append(descriptionRight);
+            }
+        };
+    }
+
+    /**
+     * Render into a buffer owned by the calling thread, which is dropped if it has grown large.
+     */
+    String format(T logEntry)
+    {
+        StringBuilder buffer = threadBuffer.get();
+        buffer.setLength(0);
+        formatTo(logEntry, buffer);
+        String message = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE)
+        {
+            threadBuffer.remove();
+        }
+        return message;
+    }
+
+    void formatTo(T logEntry, StringBuilder buffer)
+    {
+        for (Segment<T> segment : segments)
+        {
+            segment.appendTo(logEntry, buffer);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Segment<T>
+    {
+        void appendTo(T logEntry, StringBuilder buffer);
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.common.formatter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.FieldSelector;
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.FieldSelector.Field;
+
+/**
+ * Renders audit records as single line JSON objects, streaming each value straight into the output buffer.
+ * <p>
+ * The selected fields are written in {@link Field} order with the lower case field name as key, for instance
+ * {@code {"client_ip":"127.0.0.1","user":"cassandra","timestamp":1551362294089}}. Fields without a value in a record
+ * are left out. Integral values are written as JSON numbers and all other values as JSON strings.
+ *
+ * @param <T> The type of records to render.
+ */
+public final class JsonRecordFormatter<T>
+{
+    private static final int MAX_RETAINED_BUFFER_SIZE = 8192;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final List<JsonField<T>> fields;
+    private final ThreadLocal<StringBuilder> threadBuffer = ThreadLocal.withInitial(StringBuilder::new);
+
+    private JsonRecordFormatter(List<JsonField<T>> fields)
+    {
+        this.fields = fields;
+    }
+
+    /**
+     * @param selectedFields the fields to render
+     * @param fieldFunctions the value function of each field name, the value is {@code null} if the field is missing
+     * @param <T>            The type of records to render.
+     * @return the JSON record formatter
+     * @throws IllegalArgumentException if there is no value function for a selected field
+     */
+    public static <T> JsonRecordFormatter<T> create(FieldSelector selectedFields, Map<String, Function<T, Object>> fieldFunctions)
+    {
+        List<JsonField<T>> fields = new ArrayList<>();
+        for (Field field : Field.values())
+        {
+            if (selectedFields.isSelected(field))
+            {
+                Function<T, Object> fieldFunction = fieldFunctions.get(field.name());
+                if (fieldFunction == null)
+                {
+                    throw new IllegalArgumentException("Unknown JSON field: " + field.name());
+                }
+                fields.add(new JsonField<>(field.name().toLowerCase(Locale.ENGLISH), fieldFunction));
+            }
+        }
+        return new JsonRecordFormatter<>(fields);
+    }
+
+    /**
+     * Render into a buffer owned by the calling thread, which is dropped if it has grown large.
+     *
+     * @param record the record to render
+     * @return the JSON object
+     */
+    public String format(T record)
+    {
+        StringBuilder buffer = threadBuffer.get();
+        buffer.setLength(0);
+        formatTo(record, buffer);
+        String json = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE)
+        {
+            threadBuffer.remove();
+        }
+        return json;
+    }
+
+    /**
+     * @param record the record to render
+     * @param buffer the buffer to append the JSON object to
+     */
+    public void formatTo(T record, StringBuilder buffer)
+    {
+        buffer.append('{');
+        boolean first = true;
+        for (JsonField<T> field : fields)
+        {
+            Object value = field.function.apply(record);
+            if (value == null)
+            {
+                continue;
+            }
+
+            if (!first)
+            {
+                buffer.append(',');
+            }
+            first = false;
+            buffer.append(field.quotedKey);
+            appendValue(value, buffer);
+        }
+        buffer.append('}');
+    }
+
+    private static void appendValue(Object value, StringBuilder buffer)
+    {
+        if (value instanceof Long || value instanceof Integer)
+        {
+            buffer.append(((Number) value).longValue());
+        }
+        else
+        {
+            appendQuoted(value.toString(), buffer);
+        }
+    }
+
+    /**
+     * Append a JSON string, escaping quotation marks, reverse solidus and control characters as required by RFC 8259.
+     * Runs of characters which need no escaping are appended in bulk.
+     */
+    static void appendQuoted(String value, StringBuilder buffer)
+    {
+        buffer.append('"');
+        int runStart = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++)
+        {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20)
+            {
+                buffer.append(value, runStart, i);
+                appendEscaped(c, buffer);
+                runStart = i + 1;
+            }
+        }
+        buffer.append(value, runStart, length).append('"');
+    }
+
+    private static void appendEscaped(char c, StringBuilder buffer)
+    {
+        switch (c)
+        {
+            case '"':
+                buffer.append("\\\"");
+                break;
+            case '\\':
+                buffer.append("\\\\");
+                break;
+            case '\n':
+                buffer.append("\\n");
+                break;
+            case '\r':
+                buffer.append("\\r");
+                break;
+            case '\t':
+                buffer.append("\\t");
+                break;
+            default:
+                buffer.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+                break;
+        }
+    }
+
+    private static final class JsonField<T>
+    {
+        private final String quotedKey;
+        private final Function<T, Object> function;
+
+        private JsonField(String key, Function<T, Object> function)
+        {
+            this.quotedKey = '"' + key + "\":";
+            this.function = function;
+        }
+    }
+}
@@ -23,7 +23,8 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
- * Log message formatter that transforms parameterized log message into a formatting string and its corresponding arguments.
+ * Log message formatter that transforms parameterized log message into a formatting string and its corresponding arguments,
+ * or renders the log message directly.
  * <p>
  * The format for a field is {@code ${<Field Name>}}. With a formatting string like this: {@code "${USER} executed '${OPERATION}' from ${CLIENT_IP}"}
  * and the anchor string {@code "{}"}. {@link #getLogTemplate()} will generated a log template like this:
@@ -43,6 +44,10 @@ import java.util.regex.Pattern;
  * <li>"user:Duke, client:1.2.3.4, executed from batch:e501f872-9aab-4f6b-9a52-8ed2f67b1320"</li>
  * <li>"user:Duke, client:1.2.3.4"</li>
  * </ul>
+ * <p>
+ * The formatting string is also compiled into a list of literal text and field segments, which {@link #format(Object)}
+ * renders in a single pass into a reusable buffer. This gives the same log message as the template and arguments,
+ * without the anchor and escape handling of a logger or {@link String#format(String, Object...)}.
  *
  * @param <T> The type of log entries the log message formatter should operate on.
  */
@@ -55,17 +60,27 @@ public final class LogMessageFormatter<T>
 
     private final String logTemplate;
     private final List<Function<T, String>> configuredFieldFunctions;
+    private final CompiledLogMessage<T> compiledMessage;
 
     private LogMessageFormatter(Builder<T> builder)
     {
         logTemplate = getTemplateFromFormatString(builder);
         configuredFieldFunctions = getConfiguredFieldFunctions(builder);
+        compiledMessage = CompiledLogMessage.compile(builder.format, FIELD_PATTERN, field -> getFieldFunctionOrThrow(field, builder));
     }
 
+    /**
+     * @return the log template, or {@code null} if no anchor is configured
+     */
     private static String getTemplateFromFormatString(Builder builder)
     {
-        return builder.format.replaceAll(builder.escapeExpr, builder.escapeWith)
-                             .replaceAll(COMBINED_FIELDS_EXP, builder.anchor);
+        if (builder.anchor == null)
+        {
+            return null;
+        }
+
+        String format = builder.escapeExpr == null ? builder.format : builder.format.replaceAll(builder.escapeExpr, builder.escapeWith);
+        return format.replaceAll(COMBINED_FIELDS_EXP, builder.anchor);
     }
 
     private static <T> List<Function<T, String>> getConfiguredFieldFunctions(Builder<T> builder)
@@ -106,8 +121,16 @@ public final class LogMessageFormatter<T>
         return value -> value == null ? "" : descriptionLeft + value + descriptionRight;
     }
 
+    /**
+     * @return the log template, with the configured anchor in place of each field
+     * @throws IllegalStateException if the formatter was built without an anchor
+     */
     public String getLogTemplate()
     {
+        if (logTemplate == null)
+        {
+            throw new IllegalStateException("Log message formatter built without anchor");
+        }
         return logTemplate;
     }
 
@@ -118,6 +141,30 @@ public final class LogMessageFormatter<T>
                                        .toArray(Object[]::new);
     }
 
+    /**
+     * Render the log message of an entry.
+     * <p>
+     * The message is rendered into a buffer owned by the calling thread, so that only the resulting string is allocated.
+     *
+     * @param logEntry the entry to render
+     * @return the log message
+     */
+    public String format(T logEntry)
+    {
+        return compiledMessage.format(logEntry);
+    }
+
+    /**
+     * Render the log message of an entry, appending it to the given buffer.
+     *
+     * @param logEntry the entry to render
+     * @param buffer   the buffer to append to
+     */
+    public void formatTo(T logEntry, StringBuilder buffer)
+    {
+        compiledMessage.formatTo(logEntry, buffer);
+    }
+
     public static <T> Builder<T> builder()
     {
         return new Builder<>();
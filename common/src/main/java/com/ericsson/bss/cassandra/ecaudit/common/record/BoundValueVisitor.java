@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.common.record;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Receives the bound values of a prepared statement, in the order they are bound.
+ */
+public interface BoundValueVisitor
+{
+    /**
+     * A bound value in serialized form.
+     *
+     * @param type  the type of the value
+     * @param value the serialized value, which must not be modified
+     */
+    void visitValue(CqlType type, ByteBuffer value);
+
+    /**
+     * A bound value which is already rendered, e.g. because it is suppressed or has a type without a {@link CqlType}.
+     *
+     * @param literal the rendered value
+     */
+    void visitLiteral(String literal);
+}
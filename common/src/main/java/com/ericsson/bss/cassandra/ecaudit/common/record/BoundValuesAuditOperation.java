@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.common.record;
+
+/**
+ * An audit operation of a prepared statement which can provide its bound values in serialized form.
+ * <p>
+ * This lets the values be stored without rendering them to CQL literals. The operation string of such an operation
+ * is the naked operation string followed by the rendered values within brackets, separated by comma, or just the naked
+ * operation string if there are no bound values.
+ */
+public interface BoundValuesAuditOperation extends AuditOperation
+{
+    /**
+     * Provide each bound value of this operation to a visitor.
+     *
+     * @param visitor the visitor to receive the values
+     */
+    void visitBoundValues(BoundValueVisitor visitor);
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.common.record;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Compact descriptors of the native CQL types of which bound values can be stored in serialized form.
+ * <p>
+ * Each type renders its serialized values to the same CQL literal as Cassandra does, so that rendering can be
+ * deferred until the audit record is read. The code of each type is stored in audit records and must never change.
+ */
+public enum CqlType
+{
+    ASCII(1, 0)
+    {
+        @Override
+        String toCQLLiteralNonEmpty(ByteBuffer value)
+        {
+            return quote(StandardCharsets.US_ASCII.decode(value.duplicate()).toString());
+        }
+    },
+    BIGINT(2, Long.BYTES)
+    {
+        @Override
+        String toCQLLiteralNonEmpty(ByteBuffer value)
+        {
+            return Long.toString(value.getLong(value.position()));
+        }
+    },
+    BLOB(3, 0)
+    {
+        @Override
+        String toCQLLiteralNonEmpty(ByteBuffer value)
+        {
+            StringBuilder builder = new StringBuilder(2 + value.remaining() * 2).append("0x");
+            for (int i = value.position(); i < value.limit(); i++)
+            {
+                builder.append(HEX_DIGITS[(value.get(i) >> 4) & 0xf]).append(HEX_DIGITS[value.get(i) & 0xf]);
+            }
+            return builder.toString();
+        }
+    },
+    BOOLEAN(4, 1)
+    {
+        @Override
+        String toCQLLiteralNonEmpty(ByteBuffer value)
+        {
+            return Boolean.toString(value.get(value.position()) != 0);
+        }
+    },
+    COUNTER(5, Long.BYTES)
+    {
+        @Override
+        String toCQLLiteralNonEmpty(ByteBuffer value)
+        {
+            return Long.toString(value.getLong(value.position()));
+        }
+    },
+    DATE(6, Integer.BYTES)
+    {
+        @Override
+        String toCQLLiteralNonEmpty(ByteBuffer value)
+        {
+            // Dates are stored as unsigned days with the epoch at 2^31
+            int days = value.getInt(value.position()) ^ Integer.MIN_VALUE;
+            return "'" + LocalDate.ofEpochDay(days) + "'";
+        }
+    },
+    DECIMAL(7, 0)
+    {
+        @Override
+        String toCQLLiteralNonEmpty(ByteBuffer value)
+        {
+            int scale = value.getInt(value.position());
+            byte[] unscaled = new byte[value.remaining() - Integer.BYTES];
+            value.duplicate().position(value.position() + Integer.BYTES).get(unscaled);
+            return new BigDecimal(new BigInteger(unscaled), scale).toString();
+        }
+    },
+    DOUBLE(8, Double.BYTES)
+    {
+        @Override
+        String toCQLLiteralNonEmpty(ByteBuffer value)
+        {
+            return Double.toString(value.getDouble(value.position()));
+        }
+    },
+    FLOAT(9, Float.BYTES)
+    {
+        @Override
+        String toCQLLiteralNonEmpty(ByteBuffer value)
+        {
+            return Float.toString(value.getFloat(value.position()));
+        }
+    },
+    INET(10, 0)
+    {
+        @Override
+        String toCQLLiteralNonEmpty(ByteBuffer value)
+        {
+            byte[] address = new byte[value.remaining()];
+            value.duplicate().get(address);
+            try
+            {
+                return quote(InetAddress.getByAddress(address).getHostAddress());
+            }
+            catch (UnknownHostException e)
+            {
+                throw new IllegalArgumentException("Invalid inet value of " + address.length + " bytes", e);
+            }
+        }
+    },
+    INT(11, Integer.BYTES)
+    {
+        @Override
+        String toCQLLiteralNonEmpty(ByteBuffer value)
+        {
+            return Integer.toString(value.getInt(value.position()));
+        }
+    },
+    SMALLINT(12, Short.BYTES)
+    {
+        @Override
+        String toCQLLiteralNonEmpty(ByteBuffer value)
+        {
+            return Short.toString(value.getShort(value.position()));
+        }
+    },
+    TEXT(13, 0)
+    {
+        @Override
+        String toCQLLiteralNonEmpty(ByteBuffer value)
+        {
+            return quote(StandardCharsets.UTF_8.decode(value.duplicate()).toString());
+        }
+    },
+    TIME(14, Long.BYTES)
+    {
+        @Override
+        String toCQLLiteralNonEmpty(ByteBuffer value)
+        {
+            long nanos = value.getLong(value.position());
+            return String.format(Locale.ROOT, "'%02d:%02d:%02d.%09d'",
+                                 nanos / NANOS_PER_HOUR,
+                                 nanos % NANOS_PER_HOUR / NANOS_PER_MINUTE,
+                                 nanos % NANOS_PER_MINUTE / NANOS_PER_SECOND,
+                                 nanos % NANOS_PER_SECOND);
+        }
+    },
+    TIMESTAMP(15, Long.BYTES)
+    {
+        @Override
+        String toCQLLiteralNonEmpty(ByteBuffer value)
+        {
+            return "'" + TIMESTAMP_FORMATTER.format(Instant.ofEpochMilli(value.getLong(value.position()))) + "'";
+        }
+    },
+    TIMEUUID(16, Long.BYTES * 2)
+    {
+        @Override
+        String toCQLLiteralNonEmpty(ByteBuffer value)
+        {
+            return new UUID(value.getLong(value.position()), value.getLong(value.position() + Long.BYTES)).toString();
+        }
+    },
+    TINYINT(17, Byte.BYTES)
+    {
+        @Override
+        String toCQLLiteralNonEmpty(ByteBuffer value)
+        {
+            return Byte.toString(value.get(value.position()));
+        }
+    },
+    UUID(18, Long.BYTES * 2)
+    {
+        @Override
+        String toCQLLiteralNonEmpty(ByteBuffer value)
+        {
+            return new UUID(value.getLong(value.position()), value.getLong(value.position() + Long.BYTES)).toString();
+        }
+    },
+    VARINT(19, 0)
+    {
+        @Override
+        String toCQLLiteralNonEmpty(ByteBuffer value)
+        {
+            byte[] bytes = new byte[value.remaining()];
+            value.duplicate().get(bytes);
+            return new BigInteger(bytes).toString();
+        }
+    };
+
+    private static final int MIN_DECIMAL_SIZE = Integer.BYTES;
+    private static final int IPV4_SIZE = 4;
+    private static final int IPV6_SIZE = 16;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NANOS_PER_MINUTE = 60L * NANOS_PER_SECOND;
+    private static final long NANOS_PER_HOUR = 60L * NANOS_PER_MINUTE;
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSSX")
+                                                                                  .withZone(ZoneOffset.UTC);
+    private static final CqlType[] BY_CODE = createCodeLookup();
+
+    private final byte code;
+    private final int size; // Zero for types of variable size
+
+    CqlType(int code, int size)
+    {
+        this.code = (byte) code;
+        this.size = size;
+    }
+
+    /**
+     * @return the code of this type as stored in audit records
+     */
+    public byte getCode()
+    {
+        return code;
+    }
+
+    /**
+     * @param code the code of a type
+     * @return the type with the given code
+     * @throws IllegalArgumentException if there is no type with the given code
+     */
+    public static CqlType fromCode(byte code)
+    {
+        if (code <= 0 || code >= BY_CODE.length || BY_CODE[code] == null)
+        {
+            throw new IllegalArgumentException("Unknown CQL type code: " + code);
+        }
+        return BY_CODE[code];
+    }
+
+    /**
+     * Check that a serialized value has a valid size for this type, and thus can be rendered.
+     *
+     * @param value the serialized value
+     * @return {@code true} if the value has a valid size
+     */
+    public boolean hasValidSize(ByteBuffer value)
+    {
+        int valueSize = value.remaining();
+        if (valueSize == 0)
+        {
+            return true;
+        }
+
+        switch (this)
+        {
+            case DECIMAL:
+                return valueSize >= MIN_DECIMAL_SIZE;
+            case INET:
+                return valueSize == IPV4_SIZE || valueSize == IPV6_SIZE;
+            default:
+                return size == 0 || valueSize == size;
+        }
+    }
+
+    /**
+     * Render a serialized value of this type as a CQL literal.
+     *
+     * @param value the serialized value, the position of the buffer is not changed
+     * @return the value as a CQL literal
+     */
+    public String toCQLLiteral(ByteBuffer value)
+    {
+        if (value == null)
+        {
+            return "null";
+        }
+
+        if (!value.hasRemaining())
+        {
+            return emptyLiteral();
+        }
+
+        return toCQLLiteralNonEmpty(value);
+    }
+
+    abstract String toCQLLiteralNonEmpty(ByteBuffer value);
+
+    private String emptyLiteral()
+    {
+        switch (this)
+        {
+            case ASCII:
+            case TEXT:
+                return "''";
+            case BLOB:
+                return "0x";
+            default:
+                return "null";
+        }
+    }
+
+    private static String quote(String text)
+    {
+        return "'" + text.replace("'", "''") + "'";
+    }
+
+    private static CqlType[] createCodeLookup()
+    {
+        CqlType[] types = values();
+        CqlType[] lookup = new CqlType[types.length + 1];
+        for (CqlType type : types)
+        {
+            lookup[type.code] = type;
+        }
+        return lookup;
+    }
+}
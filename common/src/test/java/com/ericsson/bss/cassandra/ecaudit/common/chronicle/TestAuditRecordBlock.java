@@ -0,0 +1,221 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.common.chronicle;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.ericsson.bss.cassandra.ecaudit.common.record.AuditRecord;
+import com.ericsson.bss.cassandra.ecaudit.common.record.SimpleAuditOperation;
+import com.ericsson.bss.cassandra.ecaudit.common.record.SimpleAuditRecord;
+import com.ericsson.bss.cassandra.ecaudit.common.record.Status;
+import com.ericsson.bss.cassandra.ecaudit.common.record.StoredAuditRecord;
+import net.openhft.chronicle.core.io.IORuntimeException;
+import net.openhft.chronicle.queue.ChronicleQueue;
+import net.openhft.chronicle.queue.ExcerptTailer;
+import net.openhft.chronicle.queue.impl.single.SingleChronicleQueueBuilder;
+import net.openhft.chronicle.wire.DocumentContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Test writing and reading compressed blocks of records.
+ */
+public class TestAuditRecordBlock
+{
+    private static final FieldSelector OPERATION_FIELDS = FieldSelector.fromFields(Arrays.asList("USER", "OPERATION"));
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private ChronicleQueue chronicleQueue;
+    private ExcerptTailer tailer;
+
+    @Before
+    public void before()
+    {
+        chronicleQueue = SingleChronicleQueueBuilder.single(temporaryFolder.getRoot().toPath().resolve("audit").toFile()).blockSize(1024).build();
+        tailer = chronicleQueue.createTailer();
+    }
+
+    @After
+    public void after()
+    {
+        chronicleQueue.close();
+    }
+
+    @Test
+    public void writeReadUncompressedBlock() throws Exception
+    {
+        assertWriteReadBlock(CompressionCodec.NONE);
+    }
+
+    @Test
+    public void writeReadLz4Block() throws Exception
+    {
+        assertWriteReadBlock(CompressionCodec.LZ4);
+    }
+
+    @Test
+    public void writeReadZstdBlock() throws Exception
+    {
+        assertWriteReadBlock(CompressionCodec.ZSTD);
+    }
+
+    @Test
+    public void reuseBlock() throws Exception
+    {
+        AuditRecordBlockWriteMarshallable block = new AuditRecordBlockWriteMarshallable(CompressionCodec.LZ4);
+        block.add(new AuditRecordWriteMarshallable(likeGenericRecord("SELECT 1"), FieldSelector.ALL_FIELDS));
+        block.add(new AuditRecordWriteMarshallable(likeGenericRecord("SELECT 2"), FieldSelector.ALL_FIELDS));
+        chronicleQueue.acquireAppender().writeDocument(block);
+        block.clear();
+        assertThat(block.size()).isEqualTo(0);
+
+        block.add(new AuditRecordWriteMarshallable(likeGenericRecord("SELECT 3"), FieldSelector.ALL_FIELDS));
+        chronicleQueue.acquireAppender().writeDocument(block);
+
+        assertThat(operationsOf(readAuditRecords())).containsExactly("SELECT 1", "SELECT 2");
+        assertThat(operationsOf(readAuditRecords())).containsExactly("SELECT 3");
+    }
+
+    @Test
+    public void readSingleRecords() throws Exception
+    {
+        chronicleQueue.acquireAppender().writeDocument(new AuditRecordWriteMarshallable(likeGenericRecord("SELECT 1"), OPERATION_FIELDS));
+        writeBlock(CompressionCodec.LZ4, "SELECT 2", "SELECT 3");
+        chronicleQueue.acquireAppender().writeDocument(new AuditRecordWriteMarshallable(likeGenericRecord("SELECT 4"), OPERATION_FIELDS));
+
+        assertThat(operationsOf(readAuditRecords())).containsExactly("SELECT 1");
+        assertThat(operationsOf(readAuditRecords())).containsExactly("SELECT 2", "SELECT 3");
+        assertThat(operationsOf(readAuditRecords())).containsExactly("SELECT 4");
+    }
+
+    @Test
+    public void countBlockRecords() throws Exception
+    {
+        chronicleQueue.acquireAppender().writeDocument(new AuditRecordWriteMarshallable(likeGenericRecord("SELECT 1"), OPERATION_FIELDS));
+        writeBlock(CompressionCodec.ZSTD, "SELECT 2", "SELECT 3", "SELECT 4");
+
+        assertThat(recordCount()).isEqualTo(1);
+        assertThat(recordCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void readUnsupportedCodec()
+    {
+        chronicleQueue.acquireAppender().writeDocument(wire -> {
+            wire.write("version").int16((short) 5);
+            wire.write("type").text("ecaudit-block");
+            wire.write("codec").text("SNAPPY");
+        });
+
+        assertThatExceptionOfType(IORuntimeException.class)
+        .isThrownBy(this::readAuditRecords)
+        .withMessage("Unsupported compression codec: SNAPPY");
+    }
+
+    @Test
+    public void readCorruptBlock()
+    {
+        chronicleQueue.acquireAppender().writeDocument(wire -> {
+            wire.write("version").int16((short) 5);
+            wire.write("type").text("ecaudit-block");
+            wire.write("codec").text("LZ4");
+            wire.write("records").int32(1);
+            wire.write("length").int32(100);
+            wire.write("block").bytes(new byte[]{ 1, 2, 3 });
+        });
+
+        assertThatExceptionOfType(IORuntimeException.class)
+        .isThrownBy(this::readAuditRecords)
+        .withMessageStartingWith("Corrupt");
+    }
+
+    private void assertWriteReadBlock(CompressionCodec codec) throws UnknownHostException
+    {
+        List<String> operations = new ArrayList<>();
+        for (int i = 0; i < 100; i++)
+        {
+            operations.add("SELECT * FROM ks.tbl WHERE key = " + i);
+        }
+        writeBlock(codec, operations.toArray(new String[0]));
+
+        List<StoredAuditRecord> auditRecords = readAuditRecords();
+        assertThat(operationsOf(auditRecords)).isEqualTo(operations);
+        assertThat(auditRecords.get(0).getUser()).contains("bob");
+        assertThat(auditRecords.get(0).getClientAddress()).isEmpty();
+    }
+
+    private void writeBlock(CompressionCodec codec, String... operations) throws UnknownHostException
+    {
+        AuditRecordBlockWriteMarshallable block = new AuditRecordBlockWriteMarshallable(codec);
+        for (String operation : operations)
+        {
+            block.add(new AuditRecordWriteMarshallable(likeGenericRecord(operation), OPERATION_FIELDS));
+        }
+        assertThat(block.size()).isEqualTo(operations.length);
+        chronicleQueue.acquireAppender().writeDocument(block);
+    }
+
+    private static AuditRecord likeGenericRecord(String operation) throws UnknownHostException
+    {
+        return SimpleAuditRecord
+        .builder()
+        .withClientAddress(new InetSocketAddress(InetAddress.getByName("0.1.2.3"), 876))
+        .withCoordinatorAddress(InetAddress.getByName("4.5.6.7"))
+        .withStatus(Status.ATTEMPT)
+        .withOperation(new SimpleAuditOperation(operation))
+        .withUser("bob")
+        .withTimestamp(System.currentTimeMillis())
+        .build();
+    }
+
+    private List<StoredAuditRecord> readAuditRecords()
+    {
+        AuditRecordsReadMarshallable readMarshallable = new AuditRecordsReadMarshallable(null);
+        assertThat(tailer.readDocument(readMarshallable)).isTrue();
+        return readMarshallable.getAuditRecords();
+    }
+
+    private int recordCount()
+    {
+        try (DocumentContext context = tailer.readingDocument())
+        {
+            assertThat(context.isPresent()).isTrue();
+            return AuditRecordsReadMarshallable.recordCount(context.wire());
+        }
+    }
+
+    private static List<String> operationsOf(List<StoredAuditRecord> auditRecords)
+    {
+        return auditRecords.stream()
+                           .map(auditRecord -> auditRecord.getOperation().orElse(null))
+                           .collect(Collectors.toList());
+    }
+}
@@ -114,6 +114,16 @@ public class TestFieldSelector
         assertThat(fields.getBitmap()).isEqualTo(1);
     }
 
+    @Test
+    public void testSelectorsAreShared()
+    {
+        FieldSelector fields = FieldSelector.fromFields(asList("CLIENT_IP", "STATUS"));
+
+        assertThat(FieldSelector.fromBitmap(33)).isSameAs(fields);
+        assertThat(fields.withoutField(Field.STATUS).withField(Field.STATUS)).isSameAs(fields);
+        assertThat(FieldSelector.DEFAULT_FIELDS.withoutField(Field.BATCH_ID).withField(Field.BATCH_ID)).isSameAs(FieldSelector.DEFAULT_FIELDS);
+    }
+
     @Test
     public void testWithoutField()
     {
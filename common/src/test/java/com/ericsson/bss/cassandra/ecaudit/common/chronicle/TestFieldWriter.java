@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.common.chronicle;
+
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestFieldWriter
+{
+    @Test
+    public void testPlanForNoFields()
+    {
+        assertThat(FieldWriter.planFor(FieldSelector.NO_FIELDS)).isEmpty();
+    }
+
+    @Test
+    public void testPlanForAllFieldsInWireOrder()
+    {
+        assertThat(FieldWriter.planFor(FieldSelector.ALL_FIELDS)).containsExactly(FieldWriter.TIMESTAMP,
+                                                                                  FieldWriter.CLIENT_IP,
+                                                                                  FieldWriter.CLIENT_PORT,
+                                                                                  FieldWriter.COORDINATOR_IP,
+                                                                                  FieldWriter.USER,
+                                                                                  FieldWriter.BATCH_ID,
+                                                                                  FieldWriter.STATUS,
+                                                                                  FieldWriter.OPERATION,
+                                                                                  FieldWriter.OPERATION_NAKED,
+                                                                                  FieldWriter.SUBJECT);
+    }
+
+    @Test
+    public void testPlanForSomeFields()
+    {
+        FieldSelector fields = FieldSelector.fromFields(asList("SUBJECT", "USER", "TIMESTAMP"));
+
+        assertThat(FieldWriter.planFor(fields)).containsExactly(FieldWriter.TIMESTAMP, FieldWriter.USER, FieldWriter.SUBJECT);
+        assertThat(FieldWriter.planFor(fields)).isSameAs(FieldWriter.planFor(fields));
+    }
+}
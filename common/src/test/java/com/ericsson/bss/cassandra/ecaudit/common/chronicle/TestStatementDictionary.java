@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.common.chronicle;
+
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import net.openhft.chronicle.core.io.IORuntimeException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class TestStatementDictionary
+{
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path logDir;
+
+    @Before
+    public void before()
+    {
+        logDir = temporaryFolder.getRoot().toPath();
+    }
+
+    @Test
+    public void testDictionaryPath()
+    {
+        assertThat(StatementDictionary.dictionaryPath(logDir)).isEqualTo(logDir.resolve("dictionary"));
+    }
+
+    @Test
+    public void testSameIdForSameStatement()
+    {
+        try (StatementDictionary dictionary = StatementDictionary.open(logDir, 10))
+        {
+            assertThat(dictionary.idOf("SELECT a FROM ks.tbl")).isEqualTo(0);
+            assertThat(dictionary.idOf("SELECT b FROM ks.tbl")).isEqualTo(1);
+            assertThat(dictionary.idOf(new String("SELECT a FROM ks.tbl"))).isEqualTo(0);
+            assertThat(dictionary.statementOf(1)).isEqualTo("SELECT b FROM ks.tbl");
+        }
+    }
+
+    @Test
+    public void testNoIdWhenFull()
+    {
+        try (StatementDictionary dictionary = StatementDictionary.open(logDir, 1))
+        {
+            assertThat(dictionary.idOf("SELECT a FROM ks.tbl")).isEqualTo(0);
+            assertThat(dictionary.idOf("SELECT b FROM ks.tbl")).isEqualTo(StatementDictionary.NO_ID);
+            assertThat(dictionary.idOf("SELECT a FROM ks.tbl")).isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void testReopenContinuesWithStoredStatements()
+    {
+        try (StatementDictionary dictionary = StatementDictionary.open(logDir, 10))
+        {
+            dictionary.idOf("SELECT a FROM ks.tbl");
+        }
+
+        try (StatementDictionary dictionary = StatementDictionary.open(logDir, 10))
+        {
+            assertThat(dictionary.idOf("SELECT b FROM ks.tbl")).isEqualTo(1);
+            assertThat(dictionary.idOf("SELECT a FROM ks.tbl")).isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void testReaderSeesStatementsAddedLater()
+    {
+        try (StatementDictionary writeDictionary = StatementDictionary.open(logDir, 10))
+        {
+            writeDictionary.idOf("SELECT a FROM ks.tbl");
+
+            try (StatementDictionary readDictionary = StatementDictionary.openReadOnly(logDir))
+            {
+                assertThat(readDictionary.statementOf(0)).isEqualTo("SELECT a FROM ks.tbl");
+
+                writeDictionary.idOf("SELECT b FROM ks.tbl");
+                assertThat(readDictionary.statementOf(1)).isEqualTo("SELECT b FROM ks.tbl");
+            }
+        }
+    }
+
+    @Test
+    public void testUnknownId()
+    {
+        try (StatementDictionary dictionary = StatementDictionary.open(logDir, 10))
+        {
+            assertThatExceptionOfType(IORuntimeException.class)
+            .isThrownBy(() -> dictionary.statementOf(0))
+            .withMessage("Unknown statement id: 0");
+        }
+    }
+}
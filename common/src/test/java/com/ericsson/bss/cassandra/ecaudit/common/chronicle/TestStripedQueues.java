@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.common.chronicle;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestStripedQueues
+{
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path logDir;
+
+    @Before
+    public void before()
+    {
+        logDir = temporaryFolder.getRoot().toPath();
+    }
+
+    @Test
+    public void testStripePath()
+    {
+        assertThat(StripedQueues.stripePath(Paths.get("/var/audit"), 3)).isEqualTo(Paths.get("/var/audit/stripe-3"));
+    }
+
+    @Test
+    public void testMissingDirectory()
+    {
+        Path missing = logDir.resolve("missing");
+
+        assertThat(StripedQueues.queuePaths(missing)).containsExactly(missing);
+    }
+
+    @Test
+    public void testNotStriped() throws IOException
+    {
+        Files.createFile(logDir.resolve("20260101-00.cq4"));
+        Files.createDirectory(logDir.resolve("overflow"));
+
+        assertThat(StripedQueues.queuePaths(logDir)).containsExactly(logDir);
+    }
+
+    @Test
+    public void testStripesInOrder() throws IOException
+    {
+        Files.createDirectory(logDir.resolve("stripe-10"));
+        Files.createDirectory(logDir.resolve("stripe-2"));
+        Files.createDirectory(logDir.resolve("stripe-0"));
+        Files.createDirectory(logDir.resolve("stripe-x"));
+        Files.createFile(logDir.resolve("stripe-1"));
+
+        assertThat(StripedQueues.queuePaths(logDir)).containsExactly(logDir.resolve("stripe-0"),
+                                                                     logDir.resolve("stripe-2"),
+                                                                     logDir.resolve("stripe-10"));
+    }
+
+    @Test
+    public void testStripesAndQueueFiles() throws IOException
+    {
+        Files.createFile(logDir.resolve("20260101-00.cq4"));
+        Files.createDirectory(logDir.resolve("stripe-0"));
+        Files.createDirectory(logDir.resolve("stripe-1"));
+
+        assertThat(StripedQueues.queuePaths(logDir)).containsExactly(logDir,
+                                                                     logDir.resolve("stripe-0"),
+                                                                     logDir.resolve("stripe-1"));
+    }
+}
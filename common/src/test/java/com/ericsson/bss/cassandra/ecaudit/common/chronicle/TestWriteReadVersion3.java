@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.common.chronicle;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.ericsson.bss.cassandra.ecaudit.common.record.AuditOperation;
+import com.ericsson.bss.cassandra.ecaudit.common.record.AuditRecord;
+import com.ericsson.bss.cassandra.ecaudit.common.record.BoundValuesAuditOperation;
+import com.ericsson.bss.cassandra.ecaudit.common.record.SimpleAuditOperation;
+import com.ericsson.bss.cassandra.ecaudit.common.record.SimpleAuditRecord;
+import com.ericsson.bss.cassandra.ecaudit.common.record.Status;
+import com.ericsson.bss.cassandra.ecaudit.common.record.StoredAuditRecord;
+import net.openhft.chronicle.core.io.IORuntimeException;
+import net.openhft.chronicle.queue.ChronicleQueue;
+import net.openhft.chronicle.queue.ExcerptTailer;
+import net.openhft.chronicle.queue.impl.single.SingleChronicleQueueBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test writing and reading records with statements encoded by a {@link StatementDictionary}.
+ */
+public class TestWriteReadVersion3
+{
+    private static final String STATEMENT = "INSERT INTO ks.tbl (key, value) VALUES (?, ?)";
+    private static final FieldSelector OPERATION_FIELDS = FieldSelector.fromFields(Arrays.asList("USER", "OPERATION", "OPERATION_NAKED"));
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private ChronicleQueue chronicleQueue;
+    private StatementDictionary writeDictionary;
+    private StatementDictionary readDictionary;
+    private ExcerptTailer tailer;
+
+    @Before
+    public void before()
+    {
+        chronicleQueue = SingleChronicleQueueBuilder.single(temporaryFolder.getRoot().toPath().resolve("audit").toFile()).blockSize(1024).build();
+        writeDictionary = StatementDictionary.open(temporaryFolder.getRoot().toPath(), 1);
+        readDictionary = StatementDictionary.openReadOnly(temporaryFolder.getRoot().toPath());
+        tailer = chronicleQueue.createTailer();
+    }
+
+    @After
+    public void after()
+    {
+        readDictionary.close();
+        writeDictionary.close();
+        chronicleQueue.close();
+    }
+
+    @Test
+    public void writeReadPreparedStatements() throws Exception
+    {
+        writeAuditRecord(likeGenericRecord(preparedOperation("[1, 'one']")).build(), FieldSelector.ALL_FIELDS);
+        writeAuditRecord(likeGenericRecord(preparedOperation("[2, 'two']")).build(), FieldSelector.ALL_FIELDS);
+
+        StoredAuditRecord firstAuditRecord = readAuditRecord(readDictionary);
+        assertThat(firstAuditRecord.getOperation()).contains(STATEMENT + "[1, 'one']");
+        assertThat(firstAuditRecord.getNakedOperation()).contains(STATEMENT);
+        assertThat(firstAuditRecord.getUser()).contains("bob");
+        assertThat(firstAuditRecord.getStatus()).contains(Status.ATTEMPT);
+        assertThat(firstAuditRecord.getClientPort()).contains(876);
+
+        StoredAuditRecord secondAuditRecord = readAuditRecord(readDictionary);
+        assertThat(secondAuditRecord.getOperation()).contains(STATEMENT + "[2, 'two']");
+        assertThat(secondAuditRecord.getNakedOperation()).contains(STATEMENT);
+    }
+
+    @Test
+    public void writeReadStatementWithoutValues() throws Exception
+    {
+        writeAuditRecord(likeGenericRecord(new SimpleAuditOperation(STATEMENT)).build(), OPERATION_FIELDS);
+
+        StoredAuditRecord auditRecord = readAuditRecord(readDictionary);
+        assertThat(auditRecord.getOperation()).contains(STATEMENT);
+        assertThat(auditRecord.getNakedOperation()).contains(STATEMENT);
+    }
+
+    @Test
+    public void writeReadWithFullDictionary() throws Exception
+    {
+        writeAuditRecord(likeGenericRecord(preparedOperation("[1, 'one']")).build(), OPERATION_FIELDS);
+        writeAuditRecord(likeGenericRecord(new SimpleAuditOperation("SELECT SOMETHING")).build(), OPERATION_FIELDS);
+        writeAuditRecord(likeGenericRecord(preparedOperation("SELECT * FROM t WHERE a = ?", "[42]")).build(), OPERATION_FIELDS);
+
+        readAuditRecord(readDictionary);
+        StoredAuditRecord auditRecord = readAuditRecord(readDictionary);
+        assertThat(auditRecord.getOperation()).contains("SELECT SOMETHING");
+        assertThat(auditRecord.getNakedOperation()).contains("SELECT SOMETHING");
+
+        StoredAuditRecord preparedAuditRecord = readAuditRecord(readDictionary);
+        assertThat(preparedAuditRecord.getOperation()).contains("SELECT * FROM t WHERE a = ?[42]");
+        assertThat(preparedAuditRecord.getNakedOperation()).contains("SELECT * FROM t WHERE a = ?");
+    }
+
+    @Test
+    public void adHocStatementsDoNotGrowDictionary() throws Exception
+    {
+        writeAuditRecord(likeGenericRecord(new SimpleAuditOperation("SELECT * FROM t WHERE a = 1")).build(), OPERATION_FIELDS);
+        writeAuditRecord(likeGenericRecord(new SimpleAuditOperation("SELECT * FROM t WHERE a = 2")).build(), OPERATION_FIELDS);
+        writeAuditRecord(likeGenericRecord(preparedOperation("[1, 'one']")).build(), OPERATION_FIELDS);
+
+        assertThat(readAuditRecord(null).getOperation()).contains("SELECT * FROM t WHERE a = 1");
+        assertThat(readAuditRecord(null).getOperation()).contains("SELECT * FROM t WHERE a = 2");
+        assertThat(readAuditRecord(readDictionary).getOperation()).contains(STATEMENT + "[1, 'one']");
+        assertThat(readDictionary.statementOf(0)).isEqualTo(STATEMENT);
+    }
+
+    @Test
+    public void readWithoutDictionary() throws Exception
+    {
+        writeAuditRecord(likeGenericRecord(preparedOperation("[1, 'one']")).build(), OPERATION_FIELDS);
+
+        assertThatExceptionOfType(IORuntimeException.class)
+        .isThrownBy(() -> readAuditRecord(null))
+        .withMessage("Record refers to statement id 0 but no statement dictionary is available");
+    }
+
+    private static AuditOperation preparedOperation(String boundValues)
+    {
+        return preparedOperation(STATEMENT, boundValues);
+    }
+
+    private static AuditOperation preparedOperation(String statement, String boundValues)
+    {
+        AuditOperation operation = mock(BoundValuesAuditOperation.class);
+        when(operation.getOperationString()).thenReturn(statement + boundValues);
+        when(operation.getNakedOperationString()).thenReturn(statement);
+        return operation;
+    }
+
+    private SimpleAuditRecord.Builder likeGenericRecord(AuditOperation operation) throws UnknownHostException
+    {
+        return SimpleAuditRecord
+        .builder()
+        .withClientAddress(new InetSocketAddress(InetAddress.getByName("0.1.2.3"), 876))
+        .withCoordinatorAddress(InetAddress.getByName("4.5.6.7"))
+        .withStatus(Status.ATTEMPT)
+        .withOperation(operation)
+        .withUser("bob")
+        .withTimestamp(System.currentTimeMillis());
+    }
+
+    private void writeAuditRecord(AuditRecord auditRecord, FieldSelector fields)
+    {
+        chronicleQueue.acquireAppender().writeDocument(new AuditRecordWriteMarshallable(auditRecord, fields, writeDictionary));
+    }
+
+    private StoredAuditRecord readAuditRecord(StatementDictionary dictionary)
+    {
+        AuditRecordReadMarshallable readMarshallable = new AuditRecordReadMarshallable(dictionary);
+        tailer.readDocument(readMarshallable);
+        return readMarshallable.getAuditRecord();
+    }
+}
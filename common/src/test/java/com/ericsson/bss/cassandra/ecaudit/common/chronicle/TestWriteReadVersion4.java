@@ -0,0 +1,209 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.common.chronicle;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.ericsson.bss.cassandra.ecaudit.common.record.AuditOperation;
+import com.ericsson.bss.cassandra.ecaudit.common.record.AuditRecord;
+import com.ericsson.bss.cassandra.ecaudit.common.record.BoundValueVisitor;
+import com.ericsson.bss.cassandra.ecaudit.common.record.BoundValuesAuditOperation;
+import com.ericsson.bss.cassandra.ecaudit.common.record.CqlType;
+import com.ericsson.bss.cassandra.ecaudit.common.record.SimpleAuditOperation;
+import com.ericsson.bss.cassandra.ecaudit.common.record.SimpleAuditRecord;
+import com.ericsson.bss.cassandra.ecaudit.common.record.Status;
+import com.ericsson.bss.cassandra.ecaudit.common.record.StoredAuditRecord;
+import net.openhft.chronicle.queue.ChronicleQueue;
+import net.openhft.chronicle.queue.ExcerptTailer;
+import net.openhft.chronicle.queue.impl.single.SingleChronicleQueueBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test writing and reading records with bound values in serialized form.
+ */
+public class TestWriteReadVersion4
+{
+    private static final String STATEMENT = "INSERT INTO ks.tbl (key, value, data) VALUES (?, ?, ?)";
+    private static final FieldSelector OPERATION_FIELDS = FieldSelector.fromFields(Arrays.asList("USER", "OPERATION", "OPERATION_NAKED"));
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private ChronicleQueue chronicleQueue;
+    private StatementDictionary writeDictionary;
+    private StatementDictionary readDictionary;
+    private ExcerptTailer tailer;
+
+    @Before
+    public void before()
+    {
+        chronicleQueue = SingleChronicleQueueBuilder.single(temporaryFolder.getRoot().toPath().resolve("audit").toFile()).blockSize(1024).build();
+        writeDictionary = StatementDictionary.open(temporaryFolder.getRoot().toPath(), 10);
+        readDictionary = StatementDictionary.openReadOnly(temporaryFolder.getRoot().toPath());
+        tailer = chronicleQueue.createTailer();
+    }
+
+    @After
+    public void after()
+    {
+        readDictionary.close();
+        writeDictionary.close();
+        chronicleQueue.close();
+    }
+
+    @Test
+    public void writeReadBoundValues() throws Exception
+    {
+        ByteBuffer blob = ByteBuffer.allocateDirect(2).put((byte) 0x01).put((byte) 0xab);
+        blob.flip();
+        writeAuditRecord(likeGenericRecord(boundValuesOperation(visitor -> {
+            visitor.visitValue(CqlType.INT, ByteBuffer.allocate(4).putInt(0, 42));
+            visitor.visitValue(CqlType.TEXT, ByteBuffer.wrap("it's".getBytes(StandardCharsets.UTF_8)));
+            visitor.visitValue(CqlType.BLOB, blob);
+        })).build(), FieldSelector.ALL_FIELDS, null);
+
+        StoredAuditRecord auditRecord = readAuditRecord(null);
+        assertThat(auditRecord.getOperation()).contains(STATEMENT + "[42, 'it''s', 0x01ab]");
+        assertThat(auditRecord.getNakedOperation()).contains(STATEMENT);
+        assertThat(auditRecord.getUser()).contains("bob");
+        assertThat(auditRecord.getStatus()).contains(Status.ATTEMPT);
+        assertThat(auditRecord.getClientPort()).contains(876);
+        assertThat(blob.position()).isEqualTo(0);
+    }
+
+    @Test
+    public void writeReadRenderedBoundValues() throws Exception
+    {
+        writeAuditRecord(likeGenericRecord(boundValuesOperation(visitor -> {
+            visitor.visitLiteral("<suppressed>");
+            visitor.visitValue(CqlType.BIGINT, ByteBuffer.allocate(0));
+            visitor.visitLiteral("1mo2d");
+        })).build(), OPERATION_FIELDS, null);
+
+        StoredAuditRecord auditRecord = readAuditRecord(null);
+        assertThat(auditRecord.getOperation()).contains(STATEMENT + "[<suppressed>, null, 1mo2d]");
+    }
+
+    @Test
+    public void writeReadWithoutBoundValues() throws Exception
+    {
+        writeAuditRecord(likeGenericRecord(boundValuesOperation(visitor -> {})).build(), OPERATION_FIELDS, null);
+
+        StoredAuditRecord auditRecord = readAuditRecord(null);
+        assertThat(auditRecord.getOperation()).contains(STATEMENT);
+    }
+
+    @Test
+    public void writeReadBoundValuesWithDictionary() throws Exception
+    {
+        writeAuditRecord(likeGenericRecord(boundValuesOperation(visitor -> visitor.visitValue(CqlType.BOOLEAN, ByteBuffer.wrap(new byte[]{ 1 })))).build(), OPERATION_FIELDS, writeDictionary);
+        writeAuditRecord(likeGenericRecord(boundValuesOperation(visitor -> visitor.visitValue(CqlType.BOOLEAN, ByteBuffer.wrap(new byte[]{ 0 })))).build(), OPERATION_FIELDS, writeDictionary);
+
+        assertThat(readAuditRecord(readDictionary).getOperation()).contains(STATEMENT + "[true]");
+        StoredAuditRecord auditRecord = readAuditRecord(readDictionary);
+        assertThat(auditRecord.getOperation()).contains(STATEMENT + "[false]");
+        assertThat(auditRecord.getNakedOperation()).contains(STATEMENT);
+    }
+
+    @Test
+    public void writeReadOtherOperations() throws Exception
+    {
+        AuditOperation preparedOperation = mock(AuditOperation.class);
+        when(preparedOperation.getOperationString()).thenReturn(STATEMENT + "[1, 'one', 0x00]");
+        when(preparedOperation.getNakedOperationString()).thenReturn(STATEMENT);
+
+        writeAuditRecord(likeGenericRecord(preparedOperation).build(), OPERATION_FIELDS, writeDictionary);
+        writeAuditRecord(likeGenericRecord(new SimpleAuditOperation("SELECT SOMETHING")).build(), OPERATION_FIELDS, null);
+
+        assertThat(readAuditRecord(readDictionary).getOperation()).contains(STATEMENT + "[1, 'one', 0x00]");
+        assertThat(readAuditRecord(readDictionary).getOperation()).contains("SELECT SOMETHING");
+    }
+
+    @Test
+    public void writeReadOperationNotStartingWithStatement() throws Exception
+    {
+        AuditOperation operation = mock(AuditOperation.class);
+        when(operation.getOperationString()).thenReturn("Batch of " + STATEMENT);
+        when(operation.getNakedOperationString()).thenReturn(STATEMENT);
+
+        writeAuditRecord(likeGenericRecord(operation).build(), OPERATION_FIELDS, writeDictionary);
+
+        assertThat(readAuditRecord(readDictionary).getOperation()).contains("Batch of " + STATEMENT);
+    }
+
+    private static AuditOperation boundValuesOperation(Consumer<BoundValueVisitor> boundValues)
+    {
+        return new BoundValuesAuditOperation()
+        {
+            @Override
+            public void visitBoundValues(BoundValueVisitor visitor)
+            {
+                boundValues.accept(visitor);
+            }
+
+            @Override
+            public String getOperationString()
+            {
+                throw new AssertionError("Bound values should not be rendered when written");
+            }
+
+            @Override
+            public String getNakedOperationString()
+            {
+                return STATEMENT;
+            }
+        };
+    }
+
+    private SimpleAuditRecord.Builder likeGenericRecord(AuditOperation operation) throws UnknownHostException
+    {
+        return SimpleAuditRecord
+        .builder()
+        .withClientAddress(new InetSocketAddress(InetAddress.getByName("0.1.2.3"), 876))
+        .withCoordinatorAddress(InetAddress.getByName("4.5.6.7"))
+        .withStatus(Status.ATTEMPT)
+        .withOperation(operation)
+        .withUser("bob")
+        .withTimestamp(System.currentTimeMillis());
+    }
+
+    private void writeAuditRecord(AuditRecord auditRecord, FieldSelector fields, StatementDictionary dictionary)
+    {
+        chronicleQueue.acquireAppender().writeDocument(new AuditRecordWriteMarshallable(auditRecord, fields, dictionary, true));
+    }
+
+    private StoredAuditRecord readAuditRecord(StatementDictionary dictionary)
+    {
+        AuditRecordReadMarshallable readMarshallable = new AuditRecordReadMarshallable(dictionary);
+        tailer.readDocument(readMarshallable);
+        return readMarshallable.getAuditRecord();
+    }
+}
@@ -98,6 +98,29 @@ public class TestWriteReadVersionCurrent
         assertThatRecordsMatch(actualAuditRecord, expectedAuditRecord);
     }
 
+    @Test
+    public void writeReadReusedMarshallable() throws Exception
+    {
+        AuditRecord firstAuditRecord = likeGenericRecord().withBatchId(UUID.randomUUID()).build();
+        AuditRecord secondAuditRecord = likeGenericRecord().withUser("alice")
+                                                           .withClientAddress(new InetSocketAddress(InetAddress.getByName("8.9.10.11"), 543))
+                                                           .build();
+
+        AuditRecordWriteMarshallable writeMarshallable = new AuditRecordWriteMarshallable(FieldSelector.DEFAULT_FIELDS);
+        ExcerptAppender appender = chronicleQueue.acquireAppender();
+        appender.writeDocument(writeMarshallable.reset(firstAuditRecord));
+        appender.writeDocument(writeMarshallable.reset(secondAuditRecord));
+
+        ExcerptTailer tailer = chronicleQueue.createTailer();
+        AuditRecordReadMarshallable firstReadMarshallable = new AuditRecordReadMarshallable();
+        tailer.readDocument(firstReadMarshallable);
+        AuditRecordReadMarshallable secondReadMarshallable = new AuditRecordReadMarshallable();
+        tailer.readDocument(secondReadMarshallable);
+
+        assertThatRecordsMatch(firstReadMarshallable.getAuditRecord(), firstAuditRecord);
+        assertThatRecordsMatch(secondReadMarshallable.getAuditRecord(), secondAuditRecord);
+    }
+
     @Test
     public void tryReuseOnRead() throws Exception
     {
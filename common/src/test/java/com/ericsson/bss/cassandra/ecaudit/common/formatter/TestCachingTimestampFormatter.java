@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.common.formatter;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the {@link CachingTimestampFormatter} class.
+ */
+public class TestCachingTimestampFormatter
+{
+    private static final List<String> PATTERNS = Arrays.asList("yyyy-MM-dd HH:mm:ss.SSS",
+                                                               "yyyy-MM-dd'T'HH:mm:ss.SSSXXX",
+                                                               "EEEE d MMMM yyyy h:mm:ss a z",
+                                                               "HH:mm:ss",
+                                                               "ss.S",
+                                                               "ss.SS",
+                                                               "ss.SSSSSS",
+                                                               "SSS'|'SSS",
+                                                               "A",
+                                                               "N",
+                                                               "n",
+                                                               "ss.SSS VV");
+
+    private static final List<String> ZONES = Arrays.asList("UTC",
+                                                            "Europe/Stockholm",
+                                                            "Asia/Kolkata",
+                                                            "Asia/Kathmandu",
+                                                            "Europe/Amsterdam", // Offset of +00:19:32 before 1937
+                                                            "America/St_Johns");
+
+    private static final long DST_START_STOCKHOLM = Instant.parse("2026-03-29T01:00:00Z").toEpochMilli();
+
+    @Test
+    public void testSameAsDateTimeFormatterForConsecutiveTimestamps()
+    {
+        for (DateTimeFormatter formatter : formatters())
+        {
+            CachingTimestampFormatter cachingFormatter = new CachingTimestampFormatter(formatter);
+            for (long timestamp = DST_START_STOCKHOLM - 2500; timestamp < DST_START_STOCKHOLM + 2500; timestamp += 7)
+            {
+                assertSameAsDateTimeFormatter(cachingFormatter, formatter, timestamp);
+            }
+        }
+    }
+
+    @Test
+    public void testSameAsDateTimeFormatterForRandomTimestamps()
+    {
+        Random random = new Random(4711);
+        for (DateTimeFormatter formatter : formatters())
+        {
+            CachingTimestampFormatter cachingFormatter = new CachingTimestampFormatter(formatter);
+            for (int i = 0; i < 2000; i++)
+            {
+                long timestamp = random.nextLong() % 4_000_000_000_000L;
+                assertSameAsDateTimeFormatter(cachingFormatter, formatter, timestamp);
+                assertSameAsDateTimeFormatter(cachingFormatter, formatter, timestamp + random.nextInt(1000));
+            }
+        }
+    }
+
+    @Test
+    public void testMillisecondDigitsArePatched()
+    {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.of("UTC"));
+        CachingTimestampFormatter cachingFormatter = new CachingTimestampFormatter(formatter);
+
+        assertThat(cachingFormatter.format(1000)).isEqualTo("00:00:01.000");
+        assertThat(cachingFormatter.format(1001)).isEqualTo("00:00:01.001");
+        assertThat(cachingFormatter.format(1090)).isEqualTo("00:00:01.090");
+        assertThat(cachingFormatter.format(1999)).isEqualTo("00:00:01.999");
+        assertThat(cachingFormatter.format(2000)).isEqualTo("00:00:02.000");
+        assertThat(cachingFormatter.format(-1)).isEqualTo("23:59:59.999");
+    }
+
+    private static List<DateTimeFormatter> formatters()
+    {
+        return PATTERNS.stream()
+                       .flatMap(pattern -> ZONES.stream().map(zone -> DateTimeFormatter.ofPattern(pattern).withZone(ZoneId.of(zone))))
+                       .collect(Collectors.toList());
+    }
+
+    private static void assertSameAsDateTimeFormatter(CachingTimestampFormatter cachingFormatter, DateTimeFormatter formatter, long timestamp)
+    {
+        assertThat(cachingFormatter.format(timestamp))
+        .as("%s at %d", formatter, timestamp)
+        .isEqualTo(formatter.format(Instant.ofEpochMilli(timestamp)));
+    }
+}
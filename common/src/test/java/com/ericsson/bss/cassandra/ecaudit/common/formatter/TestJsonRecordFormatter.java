@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.common.formatter;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.FieldSelector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests the {@link JsonRecordFormatter} class.
+ */
+public class TestJsonRecordFormatter
+{
+    private static final UUID BATCH_ID = UUID.fromString("12345678-aaaa-bbbb-cccc-123456789abc");
+
+    private static final Map<String, Function<String, Object>> TEST_FIELDS = ImmutableMap.<String, Function<String, Object>>builder()
+                                                                             .put("CLIENT_IP", s -> "127.0.0.1")
+                                                                             .put("CLIENT_PORT", s -> 4711)
+                                                                             .put("COORDINATOR_IP", s -> null) // Always missing value
+                                                                             .put("USER", s -> "cassandra")
+                                                                             .put("BATCH_ID", s -> BATCH_ID)
+                                                                             .put("STATUS", s -> "ATTEMPT")
+                                                                             .put("OPERATION", s -> s)
+                                                                             .put("OPERATION_NAKED", s -> s)
+                                                                             .put("TIMESTAMP", s -> 1551362294089L)
+                                                                             .put("SUBJECT", s -> null)
+                                                                             .build();
+
+    @Test
+    public void testDefaultFieldsInFieldOrder()
+    {
+        JsonRecordFormatter<String> formatter = JsonRecordFormatter.create(FieldSelector.DEFAULT_FIELDS, TEST_FIELDS);
+
+        assertThat(formatter.format("SELECT * FROM ks.tbl"))
+        .isEqualTo("{\"client_ip\":\"127.0.0.1\",\"client_port\":4711,\"user\":\"cassandra\","
+                   + "\"batch_id\":\"12345678-aaaa-bbbb-cccc-123456789abc\",\"status\":\"ATTEMPT\","
+                   + "\"operation\":\"SELECT * FROM ks.tbl\",\"timestamp\":1551362294089}");
+    }
+
+    @Test
+    public void testSelectedFields()
+    {
+        FieldSelector fields = FieldSelector.fromFields(Arrays.asList("TIMESTAMP", "OPERATION_NAKED", "USER"));
+        JsonRecordFormatter<String> formatter = JsonRecordFormatter.create(fields, TEST_FIELDS);
+
+        assertThat(formatter.format("SELECT * FROM ks.tbl"))
+        .isEqualTo("{\"user\":\"cassandra\",\"operation_naked\":\"SELECT * FROM ks.tbl\",\"timestamp\":1551362294089}");
+    }
+
+    @Test
+    public void testNoValues()
+    {
+        FieldSelector fields = FieldSelector.fromFields(Arrays.asList("COORDINATOR_IP", "SUBJECT"));
+        JsonRecordFormatter<String> formatter = JsonRecordFormatter.create(fields, TEST_FIELDS);
+
+        assertThat(formatter.format("SELECT * FROM ks.tbl")).isEqualTo("{}");
+    }
+
+    @Test
+    public void testStringsAreEscaped()
+    {
+        FieldSelector fields = FieldSelector.fromFields(Arrays.asList("OPERATION"));
+        JsonRecordFormatter<String> formatter = JsonRecordFormatter.create(fields, TEST_FIELDS);
+
+        assertThat(formatter.format("INSERT INTO ks.tbl (k, v) VALUES (1, '\"a\\b\"\n\r\t\u0001') // \u00e5\u00e4\u00f6"))
+        .isEqualTo("{\"operation\":\"INSERT INTO ks.tbl (k, v) VALUES (1, '\\\"a\\\\b\\\"\\n\\r\\t\\u0001') // \u00e5\u00e4\u00f6\"}");
+    }
+
+    @Test
+    public void testFormatToAppends()
+    {
+        FieldSelector fields = FieldSelector.fromFields(Arrays.asList("USER"));
+        JsonRecordFormatter<String> formatter = JsonRecordFormatter.create(fields, TEST_FIELDS);
+        StringBuilder buffer = new StringBuilder("[");
+
+        formatter.formatTo("ignored", buffer);
+
+        assertThat(buffer.toString()).isEqualTo("[{\"user\":\"cassandra\"}");
+    }
+
+    @Test
+    public void testMissingFieldFunction()
+    {
+        Map<String, Function<String, Object>> fields = ImmutableMap.of("USER", s -> s);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> JsonRecordFormatter.create(FieldSelector.DEFAULT_FIELDS, fields))
+        .withMessage("Unknown JSON field: CLIENT_IP");
+    }
+}
@@ -97,6 +97,77 @@ public class TestLogMessageFormatter
         assertThat(logText).isEqualTo("%Value=42%ValuePlus2=44%");
     }
 
+    @Test
+    public void testFormat()
+    {
+        // Given
+        LogMessageFormatter<Integer> formatter = LogMessageFormatter.<Integer>builder()
+                                                 .format("%Value=${EQUAL}{?:ValuePlus1=${PLUS1}?}{?:Empty=${EMPTY}?}{}Value=${EMPTY}")
+                                                 .availableFields(TEST_FIELDS)
+                                                 .build();
+        // When
+        String logText = formatter.format(99);
+        // Then
+        assertThat(logText).isEqualTo("%Value=99:ValuePlus1=100{}Value=null");
+        assertThat(formatter.format(1)).isEqualTo("%Value=1:ValuePlus1=2{}Value=null");
+    }
+
+    @Test
+    public void testFormatSameAsTemplate()
+    {
+        // Given
+        LogMessageFormatter<Integer> formatter = LogMessageFormatter.<Integer>builder()
+                                                 .format("${PLUS3}%Value=${EQUAL}{?:ValuePlus1=${PLUS1}?}{?:Empty=${EMPTY}?}%")
+                                                 .anchor("%s")
+                                                 .escape("%", "%%")
+                                                 .availableFields(TEST_FIELDS)
+                                                 .build();
+        // When
+        String logText = formatter.format(42);
+        // Then
+        assertThat(logText).isEqualTo(String.format(formatter.getLogTemplate(), formatter.getArgumentsForEntry(42)));
+    }
+
+    @Test
+    public void testFormatTo()
+    {
+        // Given
+        LogMessageFormatter<Integer> formatter = LogMessageFormatter.<Integer>builder()
+                                                 .format("Value=${EQUAL}")
+                                                 .availableFields(TEST_FIELDS)
+                                                 .build();
+        StringBuilder buffer = new StringBuilder("Prefix:");
+        // When
+        formatter.formatTo(7, buffer);
+        // Then
+        assertThat(buffer.toString()).isEqualTo("Prefix:Value=7");
+    }
+
+    @Test
+    public void testFormatWithoutFields()
+    {
+        // Given
+        LogMessageFormatter<Integer> formatter = LogMessageFormatter.<Integer>builder()
+                                                 .format("")
+                                                 .availableFields(TEST_FIELDS)
+                                                 .build();
+        // Then
+        assertThat(formatter.format(7)).isEmpty();
+    }
+
+    @Test
+    public void testTemplateWithoutAnchor()
+    {
+        // Given
+        LogMessageFormatter<Integer> formatter = LogMessageFormatter.<Integer>builder()
+                                                 .format("Value=${EQUAL}")
+                                                 .availableFields(TEST_FIELDS)
+                                                 .build();
+        // Then
+        assertThatExceptionOfType(IllegalStateException.class)
+        .isThrownBy(formatter::getLogTemplate);
+    }
+
     @Test
     public void testGetFieldFunctionOrThrow()
     {
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.common.record;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class TestCqlType
+{
+    @Test
+    public void testFromCode()
+    {
+        for (CqlType type : CqlType.values())
+        {
+            assertThat(CqlType.fromCode(type.getCode())).isSameAs(type);
+        }
+    }
+
+    @Test
+    public void testStableCodes()
+    {
+        assertThat(CqlType.ASCII.getCode()).isEqualTo((byte) 1);
+        assertThat(CqlType.TEXT.getCode()).isEqualTo((byte) 13);
+        assertThat(CqlType.VARINT.getCode()).isEqualTo((byte) 19);
+    }
+
+    @Test
+    public void testUnknownCode()
+    {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> CqlType.fromCode((byte) 0))
+        .withMessage("Unknown CQL type code: 0");
+        assertThatExceptionOfType(IllegalArgumentException.class)
+        .isThrownBy(() -> CqlType.fromCode((byte) 100))
+        .withMessage("Unknown CQL type code: 100");
+    }
+
+    @Test
+    public void testNullAndEmptyValues()
+    {
+        assertThat(CqlType.INT.toCQLLiteral(null)).isEqualTo("null");
+        assertThat(CqlType.INT.toCQLLiteral(ByteBuffer.allocate(0))).isEqualTo("null");
+        assertThat(CqlType.TEXT.toCQLLiteral(ByteBuffer.allocate(0))).isEqualTo("''");
+        assertThat(CqlType.BLOB.toCQLLiteral(ByteBuffer.allocate(0))).isEqualTo("0x");
+    }
+
+    @Test
+    public void testRenderingKeepsPosition()
+    {
+        ByteBuffer value = ByteBuffer.allocate(6).putShort((short) 7).putInt(42);
+        value.position(2);
+
+        assertThat(CqlType.INT.toCQLLiteral(value)).isEqualTo("42");
+        assertThat(value.position()).isEqualTo(2);
+    }
+
+    @Test
+    public void testHasValidSize()
+    {
+        assertThat(CqlType.INT.hasValidSize(ByteBuffer.allocate(4))).isTrue();
+        assertThat(CqlType.INT.hasValidSize(ByteBuffer.allocate(0))).isTrue();
+        assertThat(CqlType.INT.hasValidSize(ByteBuffer.allocate(2))).isFalse();
+        assertThat(CqlType.UUID.hasValidSize(ByteBuffer.allocate(16))).isTrue();
+        assertThat(CqlType.INET.hasValidSize(ByteBuffer.allocate(16))).isTrue();
+        assertThat(CqlType.INET.hasValidSize(ByteBuffer.allocate(5))).isFalse();
+        assertThat(CqlType.DECIMAL.hasValidSize(ByteBuffer.allocate(3))).isFalse();
+        assertThat(CqlType.TEXT.hasValidSize(ByteBuffer.allocate(3))).isTrue();
+    }
+}
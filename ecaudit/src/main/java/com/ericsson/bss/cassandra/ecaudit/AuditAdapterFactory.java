@@ -76,7 +76,14 @@ final class AuditAdapterFactory
         PasswordObfuscator obfuscator = new PasswordObfuscator();
         LogTimingStrategy logStrategy = getLogTimingStrategy(auditConfig);
 
-        Auditor auditor = new DefaultAuditor(logger, filter, obfuscator, logStrategy);
+        int loggerQueueCapacity = auditConfig.getLoggerQueueCapacity();
+        if (loggerQueueCapacity < 0)
+        {
+            throw new ConfigurationException("Invalid logger queue capacity: " + loggerQueueCapacity);
+        }
+
+        Auditor auditor = new DefaultAuditor(logger, filter, obfuscator, logStrategy,
+                                             loggerQueueCapacity, auditConfig.getLoggerOverflowPolicy());
         AuditEntryBuilderFactory entryBuilderFactory = new AuditEntryBuilderFactory();
 
         BoundValueSuppressor boundValueSuppressor = createBoundValueSuppressor(auditConfig);
@@ -43,6 +43,21 @@ final class AuditAuthKeyspace
             .gcGraceSeconds(WHITELIST_TABLE_GC_GRACE_SECONDS)
             .build();
 
+    static final String WHITELIST_VERSIONS_TABLE_NAME = "role_audit_whitelist_versions";
+    static final int WHITELIST_VERSIONS_BUCKET = 0;
+    private static final String WHITELIST_VERSIONS_TABLE_SCHEMA = "CREATE TABLE " + WHITELIST_VERSIONS_TABLE_NAME + " ("
+                                                                  + "bucket int,"
+                                                                  + "role text,"
+                                                                  + "version timeuuid,"
+                                                                  + "PRIMARY KEY(bucket, role))";
+    private static final String WHITELIST_VERSIONS_TABLE_DESCRIPTION = "version of the audit whitelist of each db role, in a single partition";
+    private static final TableMetadata CREATE_ROLE_AUDIT_WHITELIST_VERSIONS =
+            CreateTableStatement.parse(WHITELIST_VERSIONS_TABLE_SCHEMA, SchemaConstants.AUTH_KEYSPACE_NAME)
+            .id(TableId.forSystemTable(SchemaConstants.AUTH_KEYSPACE_NAME, WHITELIST_VERSIONS_TABLE_NAME))
+            .comment(WHITELIST_VERSIONS_TABLE_DESCRIPTION)
+            .gcGraceSeconds(WHITELIST_TABLE_GC_GRACE_SECONDS)
+            .build();
+
     private AuditAuthKeyspace()
     {
         // Utility class
@@ -50,6 +65,6 @@ final class AuditAuthKeyspace
 
     static KeyspaceMetadata metadata()
     {
-        return KeyspaceMetadata.create(SchemaConstants.AUTH_KEYSPACE_NAME, KeyspaceParams.simple(1), Tables.of(CREATE_ROLE_AUDIT_WHITELISTS));
+        return KeyspaceMetadata.create(SchemaConstants.AUTH_KEYSPACE_NAME, KeyspaceParams.simple(1), Tables.of(CREATE_ROLE_AUDIT_WHITELISTS, CREATE_ROLE_AUDIT_WHITELIST_VERSIONS));
     }
 }
@@ -18,9 +18,11 @@ package com.ericsson.bss.cassandra.ecaudit.auth;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -34,9 +36,8 @@ import org.apache.cassandra.cql3.CQLStatement;
 import org.apache.cassandra.cql3.QueryOptions;
 import org.apache.cassandra.cql3.QueryProcessor;
 import org.apache.cassandra.cql3.UntypedResultSet;
-import org.apache.cassandra.cql3.statements.DeleteStatement;
+import org.apache.cassandra.cql3.statements.BatchStatement;
 import org.apache.cassandra.cql3.statements.SelectStatement;
-import org.apache.cassandra.cql3.statements.UpdateStatement;
 import org.apache.cassandra.db.ConsistencyLevel;
 import org.apache.cassandra.db.marshal.SetType;
 import org.apache.cassandra.db.marshal.UTF8Type;
@@ -51,12 +52,15 @@ import org.apache.cassandra.serializers.SetSerializer;
 import org.apache.cassandra.service.ClientState;
 import org.apache.cassandra.service.QueryState;
 import org.apache.cassandra.transport.Dispatcher;
+import org.apache.cassandra.transport.ProtocolVersion;
 import org.apache.cassandra.transport.messages.ResultMessage;
 import org.apache.cassandra.utils.ByteBufferUtil;
+import org.apache.cassandra.utils.FBUtilities;
 
 /**
  * This DAO provides an interface for updating and retrieving role specific audit white-lists.
  */
+@SuppressWarnings({ "PMD.CouplingBetweenObjects", "PMD.GodClass" })
 public final class WhitelistDataAccess
 {
     private static final Logger LOG = LoggerFactory.getLogger(WhitelistDataAccess.class);
@@ -65,16 +69,23 @@ public final class WhitelistDataAccess
     private static final SetSerializer<String> SET_SERIALIZER = SetType.getInstance(UTF8Type.instance, true).getSerializer();
 
     private boolean setupCompleted = false;
+    private volatile boolean changeDetection = false;
 
     private static final String DEFAULT_SUPERUSER_NAME = "cassandra";
+    private static final int LOAD_ALL_PROGRESS_INTERVAL = 10_000;
+    private static final String ROLE_COLUMN = "role";
 
     // Step the schema version if schema is updated
-    private static final long ECAUDIT_SCHEMA_VERSION = 1;
+    private static final long ECAUDIT_SCHEMA_VERSION = 2;
 
-    private DeleteStatement deleteWhitelistStatement;
+    private static final String BUMP_WHITELIST_VERSION_TEMPLATE = "UPDATE %s.%s SET version = now() WHERE bucket = " + AuditAuthKeyspace.WHITELIST_VERSIONS_BUCKET + " AND role = ?";
+
+    private BatchStatement deleteWhitelistStatement;
     private SelectStatement loadWhitelistStatement;
-    private UpdateStatement addToWhitelistStatement;
-    private UpdateStatement removeFromWhitelistStatement;
+    private SelectStatement loadAllWhitelistsStatement;
+    private BatchStatement addToWhitelistStatement;
+    private BatchStatement removeFromWhitelistStatement;
+    private SelectStatement loadWhitelistVersionsStatement;
 
     private WhitelistDataAccess()
     {
@@ -104,32 +115,44 @@ public final class WhitelistDataAccess
                 SchemaConstants.AUTH_KEYSPACE_NAME,
                 AuditAuthKeyspace.WHITELIST_TABLE_NAME_V2);
 
-        deleteWhitelistStatement = (DeleteStatement) prepare(
-                "DELETE FROM %s.%s WHERE role = ?",
+        loadAllWhitelistsStatement = (SelectStatement) prepare(
+                "SELECT role, resource, operations from %s.%s",
                 SchemaConstants.AUTH_KEYSPACE_NAME,
                 AuditAuthKeyspace.WHITELIST_TABLE_NAME_V2);
 
-        addToWhitelistStatement = (UpdateStatement) prepare(
-                "UPDATE %s.%s SET operations = operations + ? WHERE role = ? AND resource = ?",
-                SchemaConstants.AUTH_KEYSPACE_NAME,
-                AuditAuthKeyspace.WHITELIST_TABLE_NAME_V2);
+        deleteWhitelistStatement = prepareWithVersionBump(
+                "DELETE FROM %s.%s WHERE role = ?");
+
+        addToWhitelistStatement = prepareWithVersionBump(
+                "UPDATE %s.%s SET operations = operations + ? WHERE role = ? AND resource = ?");
 
-        removeFromWhitelistStatement = (UpdateStatement) prepare(
-                "UPDATE %s.%s SET operations = operations - ? WHERE role = ? AND resource = ?",
+        removeFromWhitelistStatement = prepareWithVersionBump(
+                "UPDATE %s.%s SET operations = operations - ? WHERE role = ? AND resource = ?");
+
+        loadWhitelistVersionsStatement = (SelectStatement) prepare(
+                "SELECT role, version from %s.%s WHERE bucket = " + AuditAuthKeyspace.WHITELIST_VERSIONS_BUCKET,
                 SchemaConstants.AUTH_KEYSPACE_NAME,
-                AuditAuthKeyspace.WHITELIST_TABLE_NAME_V2);
+                AuditAuthKeyspace.WHITELIST_VERSIONS_TABLE_NAME);
 
         setupCompleted = true;
     }
 
+    /**
+     * Write white-lists and their versions at LOCAL_QUORUM, so that a node which detects a new version with
+     * {@link #getWhitelistVersions()} also reads the change with {@link #getChangedWhitelist(RoleResource)}.
+     * <p>
+     * Otherwise white-lists are written and read at LOCAL_ONE, or QUORUM for the default superuser.
+     */
+    public void enableChangeDetection()
+    {
+        changeDetection = true;
+    }
+
     void addToWhitelist(RoleResource role, IResource whitelistResource, Set<Permission> whitelistOperations)
     {
         List<ByteBuffer> values = getSerializedUpdateValues(role.getRoleName(), whitelistResource.getName(), whitelistOperations);
 
-        addToWhitelistStatement.execute(QueryState.forInternalCalls(),
-                                        QueryOptions.forInternalCalls(consistencyForRole(role),
-                                                                      values),
-                                        Dispatcher.RequestTime.forImmediateExecution());
+        executeWithVersionBump(addToWhitelistStatement, role, values);
     }
 
     static List<ByteBuffer> getSerializedUpdateValues(String role, String resource, Set<Permission> whitelistOperations)
@@ -149,18 +172,31 @@ public final class WhitelistDataAccess
     {
         List<ByteBuffer> values = getSerializedUpdateValues(role.getRoleName(), whitelistResource.getName(), whitelistOperations);
 
-        removeFromWhitelistStatement.execute(QueryState.forInternalCalls(),
-                                             QueryOptions.forInternalCalls(consistencyForRole(role),
-                                                                           values),
-                                             Dispatcher.RequestTime.forImmediateExecution());
+        executeWithVersionBump(removeFromWhitelistStatement, role, values);
     }
 
     public Map<IResource, Set<Permission>> getWhitelist(RoleResource role)
+    {
+        return getWhitelist(role, consistencyForRole(role));
+    }
+
+    /**
+     * Read the white-list of a role which has a new version, at the same consistency level as the version was read.
+     *
+     * @param role the role whose white-list has changed
+     * @return the white-list of the role
+     */
+    public Map<IResource, Set<Permission>> getChangedWhitelist(RoleResource role)
+    {
+        return getWhitelist(role, quorumConsistencyForRole(role));
+    }
+
+    private Map<IResource, Set<Permission>> getWhitelist(RoleResource role, ConsistencyLevel consistencyLevel)
     {
         ResultMessage.Rows rows = loadWhitelistStatement.execute(
                 QueryState.forInternalCalls(),
                 QueryOptions.forInternalCalls(
-                        consistencyForRole(role),
+                        consistencyLevel,
                         Collections.singletonList(ByteBufferUtil.bytes(role.getRoleName()))),
                 Dispatcher.RequestTime.forImmediateExecution());
 
@@ -176,6 +212,48 @@ public final class WhitelistDataAccess
                                          this::extractOperationSet));
     }
 
+    /**
+     * Read the white-lists of all roles in one scan of the white-list table, fetching the given number of rows per page.
+     * <p>
+     * The white-list of the default superuser is not included since it is always read at QUORUM on demand.
+     * Invalid entries are skipped as in {@link #getWhitelist(RoleResource)}.
+     *
+     * @param pageSize the number of rows to fetch per page
+     * @return the white-list of each role which has one
+     */
+    public Map<RoleResource, Map<IResource, Set<Permission>>> getAllWhitelists(int pageSize)
+    {
+        UntypedResultSet rows = UntypedResultSet.create(loadAllWhitelistsStatement,
+                                                        ConsistencyLevel.LOCAL_ONE,
+                                                        ClientState.forInternalCalls(),
+                                                        loadAllWhitelistsStatement.getQuery(QueryOptions.forInternalCalls(ConsistencyLevel.LOCAL_ONE, Collections.emptyList()),
+                                                                                            FBUtilities.nowInSeconds())
+                                                                                  .getPager(null, ProtocolVersion.CURRENT),
+                                                        pageSize);
+
+        Map<RoleResource, Map<IResource, Set<Permission>>> whitelists = new HashMap<>();
+        int rowCount = 0;
+        for (UntypedResultSet.Row row : rows)
+        {
+            rowCount++;
+            if (rowCount % LOAD_ALL_PROGRESS_INTERVAL == 0 && LOG.isInfoEnabled())
+            {
+                LOG.info("Read {} audit whitelist entries for {} roles", rowCount, whitelists.size());
+            }
+
+            String roleName = row.getString(ROLE_COLUMN);
+            if (DEFAULT_SUPERUSER_NAME.equals(roleName) || !isValidEntry(row))
+            {
+                continue;
+            }
+
+            whitelists.computeIfAbsent(RoleResource.role(roleName), role -> new HashMap<>())
+                      .put(extractResource(row), extractOperationSet(row));
+        }
+
+        return whitelists;
+    }
+
     private boolean isValidEntry(UntypedResultSet.Row untypedRow)
     {
         try
@@ -213,12 +291,56 @@ public final class WhitelistDataAccess
 
     void deleteWhitelist(RoleResource role)
     {
-        deleteWhitelistStatement.execute(
+        List<ByteBuffer> values = new ArrayList<>(1);
+        values.add(ByteBufferUtil.bytes(role.getRoleName()));
+
+        executeWithVersionBump(deleteWhitelistStatement, role, values);
+    }
+
+    /**
+     * Apply a white-list update together with a new version of the white-list of the role in one logged batch, so that
+     * nodes polling the versions never see the new version without the update.
+     */
+    private void executeWithVersionBump(BatchStatement statement, RoleResource role, List<ByteBuffer> values)
+    {
+        statement.execute(QueryState.forInternalCalls(),
+                          QueryOptions.forInternalCalls(changeDetection ? quorumConsistencyForRole(role) : consistencyForRole(role),
+                                                        withVersionBumpValues(values, role.getRoleName())),
+                          Dispatcher.RequestTime.forImmediateExecution());
+    }
+
+    static List<ByteBuffer> withVersionBumpValues(List<ByteBuffer> values, String role)
+    {
+        List<ByteBuffer> batchValues = new ArrayList<>(values.size() + 1);
+        batchValues.addAll(values);
+        batchValues.add(ByteBufferUtil.bytes(role));
+        return batchValues;
+    }
+
+    /**
+     * Read the current version of the white-list of each role which has been changed.
+     * <p>
+     * All versions are stored in one small partition, so this is a cheap single partition read. The versions are read
+     * at LOCAL_QUORUM, see {@link #enableChangeDetection()}.
+     *
+     * @return the white-list version of each role
+     */
+    public Map<RoleResource, UUID> getWhitelistVersions()
+    {
+        ResultMessage.Rows rows = loadWhitelistVersionsStatement.execute(
                 QueryState.forInternalCalls(),
-                QueryOptions.forInternalCalls(
-                        consistencyForRole(role),
-                        Collections.singletonList(ByteBufferUtil.bytes(role.getRoleName()))),
+                QueryOptions.forInternalCalls(ConsistencyLevel.LOCAL_QUORUM, Collections.emptyList()),
                 Dispatcher.RequestTime.forImmediateExecution());
+
+        Map<RoleResource, UUID> versions = new HashMap<>();
+        for (UntypedResultSet.Row row : UntypedResultSet.create(rows.result))
+        {
+            if (row.has("version"))
+            {
+                versions.put(RoleResource.role(row.getString(ROLE_COLUMN)), row.getUUID("version"));
+            }
+        }
+        return versions;
     }
 
     private synchronized void maybeCreateTable()
@@ -273,7 +395,7 @@ public final class WhitelistDataAccess
             String insertWhiteList = "INSERT INTO " + EcauditKeyspace.ECAUDIT_KEYSPACE_NAME + "." + EcauditKeyspace.WHITELIST_TABLE_NAME_V2 + " (operations, role, resource) VALUES ( ?, ?, ?)";
             for (UntypedResultSet.Row row : whitelists)
             {
-                List<ByteBuffer> values = getSerializedUpdateValues(row.getString("role"), row.getString("resource"), OperationFactory.toOperationSet(row.getSet("operations", UTF8Type.instance)));
+                List<ByteBuffer> values = getSerializedUpdateValues(row.getString(ROLE_COLUMN), row.getString("resource"), OperationFactory.toOperationSet(row.getSet("operations", UTF8Type.instance)));
                 QueryProcessor.process(insertWhiteList, ConsistencyLevel.LOCAL_QUORUM, values);
             }
 
@@ -300,7 +422,7 @@ public final class WhitelistDataAccess
             String insertWhiteList = "INSERT INTO " + SchemaConstants.AUTH_KEYSPACE_NAME + "." + AuditAuthKeyspace.WHITELIST_TABLE_NAME_V2 + " (operations, role, resource) VALUES ( ?, ?, ?)";
             for (UntypedResultSet.Row row : whitelists)
             {
-                List<ByteBuffer> values = getSerializedUpdateValues(row.getString("role"), row.getString("resource"), OperationFactory.toOperationSet(row.getSet("operations", UTF8Type.instance)));
+                List<ByteBuffer> values = getSerializedUpdateValues(row.getString(ROLE_COLUMN), row.getString("resource"), OperationFactory.toOperationSet(row.getSet("operations", UTF8Type.instance)));
                 QueryProcessor.process(insertWhiteList, ConsistencyLevel.LOCAL_QUORUM, values);
             }
 
@@ -313,11 +435,25 @@ public final class WhitelistDataAccess
         }
     }
 
+    private BatchStatement prepareWithVersionBump(String whitelistTemplate)
+    {
+        String query = "BEGIN BATCH "
+                       + String.format(whitelistTemplate, SchemaConstants.AUTH_KEYSPACE_NAME, AuditAuthKeyspace.WHITELIST_TABLE_NAME_V2) + "; "
+                       + String.format(BUMP_WHITELIST_VERSION_TEMPLATE, SchemaConstants.AUTH_KEYSPACE_NAME, AuditAuthKeyspace.WHITELIST_VERSIONS_TABLE_NAME) + "; "
+                       + "APPLY BATCH";
+        return (BatchStatement) prepare(query);
+    }
+
     private CQLStatement prepare(String template, String keyspace, String table)
+    {
+        return prepare(String.format(template, keyspace, table));
+    }
+
+    private CQLStatement prepare(String query)
     {
         try
         {
-            return QueryProcessor.parseStatement(String.format(template, keyspace, table)).prepare(ClientState.forInternalCalls());
+            return QueryProcessor.parseStatement(query).prepare(ClientState.forInternalCalls());
         }
         catch (RequestValidationException e)
         {
@@ -337,4 +473,9 @@ public final class WhitelistDataAccess
             return ConsistencyLevel.LOCAL_ONE;
         }
     }
+
+    private ConsistencyLevel quorumConsistencyForRole(RoleResource role)
+    {
+        return DEFAULT_SUPERUSER_NAME.equals(role.getRoleName()) ? ConsistencyLevel.QUORUM : ConsistencyLevel.LOCAL_QUORUM;
+    }
 }
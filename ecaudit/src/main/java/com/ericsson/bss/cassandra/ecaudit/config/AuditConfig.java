@@ -132,12 +132,45 @@ public class AuditConfig
         yamlConfig.setWhitelistCacheActiveUpdate(whitelistCacheActiveUpdate);
     }
 
+    public boolean isWhitelistCacheWarmUp()
+    {
+        loadConfigIfNeeded();
+        return yamlConfig.isWhitelistCacheWarmUp();
+    }
+
+    public int getWhitelistCacheChangePollInterval()
+    {
+        loadConfigIfNeeded();
+        return yamlConfig.getWhitelistCacheChangePollInterval();
+    }
+
+    public void setWhitelistCacheChangePollInterval(int whitelistCacheChangePollIntervalInMs)
+    {
+        loadConfigIfNeeded();
+        yamlConfig.setWhitelistCacheChangePollInterval(whitelistCacheChangePollIntervalInMs);
+    }
+
     public boolean isSuppressPrepareStatements()
     {
         loadConfigIfNeeded();
         return yamlConfig.isSuppressPrepareStatements();
     }
 
+    /**
+     * @return the capacity of the queue of each logger backend, zero if loggers are called on the request thread
+     */
+    public int getLoggerQueueCapacity()
+    {
+        loadConfigIfNeeded();
+        return yamlConfig.getLoggerQueueCapacity();
+    }
+
+    public LoggerOverflowPolicy getLoggerOverflowPolicy()
+    {
+        loadConfigIfNeeded();
+        return yamlConfig.getLoggerOverflowPolicy();
+    }
+
     private synchronized void loadConfigIfNeeded()
     {
         if (yamlConfig == null)
@@ -30,7 +30,7 @@ import org.apache.cassandra.config.ParameterizedClass;
 /**
  * Data class for configuration
  */
-@SuppressWarnings("PMD.FieldNamingConventions")
+@SuppressWarnings({ "PMD.FieldNamingConventions", "PMD.TooManyFields" })
 public final class AuditYamlConfig
 {
     private static final List<String> DEFAULT_WHITELIST = Collections.emptyList();
@@ -53,7 +53,11 @@ public final class AuditYamlConfig
     public Integer whitelist_cache_update_interval_in_ms;
     public Integer whitelist_cache_max_entries;
     public Boolean whitelist_cache_active_update;
+    public Boolean whitelist_cache_warm_up;
+    public Integer whitelist_cache_change_poll_interval_in_ms;
     public Boolean suppress_prepare_statements;
+    public Integer logger_queue_capacity;
+    public LoggerOverflowPolicy logger_overflow_policy;
 
     static AuditYamlConfig createWithoutFile()
     {
@@ -172,10 +176,42 @@ public final class AuditYamlConfig
         this.whitelist_cache_active_update = whitelistCacheActiveUpdate;
     }
 
+    public Boolean isWhitelistCacheWarmUp()
+    {
+        return whitelist_cache_warm_up == null
+               ? Boolean.FALSE
+               : whitelist_cache_warm_up;
+    }
+
+    public void setWhitelistCacheWarmUp(Boolean whitelistCacheWarmUp)
+    {
+        this.whitelist_cache_warm_up = whitelistCacheWarmUp;
+    }
+
+    public Integer getWhitelistCacheChangePollInterval()
+    {
+        return whitelist_cache_change_poll_interval_in_ms == null ? 0 : whitelist_cache_change_poll_interval_in_ms;
+    }
+
+    public void setWhitelistCacheChangePollInterval(Integer whitelistCacheChangePollIntervalInMs)
+    {
+        this.whitelist_cache_change_poll_interval_in_ms = whitelistCacheChangePollIntervalInMs;
+    }
+
     public Boolean isSuppressPrepareStatements()
     {
         return suppress_prepare_statements == null
                ? Boolean.TRUE
                : suppress_prepare_statements;
     }
+
+    int getLoggerQueueCapacity()
+    {
+        return logger_queue_capacity == null ? 0 : logger_queue_capacity;
+    }
+
+    LoggerOverflowPolicy getLoggerOverflowPolicy()
+    {
+        return logger_overflow_policy == null ? LoggerOverflowPolicy.block : logger_overflow_policy;
+    }
 }
@@ -31,6 +31,7 @@ import org.apache.cassandra.auth.Permission;
  * The domain object which contains audit record information to be logged.
  *
  * Instances are immutable an may only be created using the {@link AuditEntry.Builder}.
+ * The {@link RenderedAuditEntry rendered view} of an instance is created on first use and shared by all loggers.
  */
 public final class AuditEntry implements AuditRecord
 {
@@ -47,6 +48,7 @@ public final class AuditEntry implements AuditRecord
     private final Long timestamp;
     private final String subject;
     private final boolean hasKnownOperation;
+    private volatile RenderedAuditEntry rendered; // lazy initialization
 
     /**
      * @see #newBuilder()
@@ -155,6 +157,31 @@ public final class AuditEntry implements AuditRecord
         return hasKnownOperation;
     }
 
+    /**
+     * Gets the rendered view of this value object.
+     *
+     * The view is created on the first call and the same instance is returned to all callers, also on other threads.
+     *
+     * @return the rendered view
+     */
+    public RenderedAuditEntry getRendered()
+    {
+        RenderedAuditEntry view = rendered;
+        if (view == null)
+        {
+            synchronized (this)
+            {
+                view = rendered;
+                if (view == null)
+                {
+                    view = new RenderedAuditEntry(this);
+                    rendered = view;
+                }
+            }
+        }
+        return view;
+    }
+
     /**
      * Create a new {@link Builder} instance.
      *
@@ -16,7 +16,12 @@
 package com.ericsson.bss.cassandra.ecaudit.entry;
 
 import java.nio.ByteBuffer;
+import java.util.EnumMap;
+import java.util.Map;
 
+import com.ericsson.bss.cassandra.ecaudit.common.record.CqlType;
+
+import org.apache.cassandra.cql3.CQL3Type;
 import org.apache.cassandra.cql3.ColumnSpecification;
 
 /**
@@ -27,6 +32,8 @@ import org.apache.cassandra.cql3.ColumnSpecification;
  */
 final class CqlLiteralFlavorAdapter
 {
+    private static final Map<CQL3Type.Native, CqlType> NATIVE_TYPES = createNativeTypes();
+
     private CqlLiteralFlavorAdapter()
     {
         // Utility class
@@ -36,4 +43,25 @@ final class CqlLiteralFlavorAdapter
     {
         return column.type.asCQL3Type().toCQLLiteral(serializedValue);
     }
+
+    /**
+     * @param column the column of a bound value
+     * @return the type to store serialized values of the column with, or {@code null} if they must be rendered
+     */
+    static CqlType cqlTypeOf(ColumnSpecification column)
+    {
+        CQL3Type type = column.type.asCQL3Type();
+        return type instanceof CQL3Type.Native ? NATIVE_TYPES.get((CQL3Type.Native) type) : null;
+    }
+
+    private static Map<CQL3Type.Native, CqlType> createNativeTypes()
+    {
+        Map<CQL3Type.Native, CqlType> nativeTypes = new EnumMap<>(CQL3Type.Native.class);
+        for (CqlType type : CqlType.values())
+        {
+            nativeTypes.put(CQL3Type.Native.valueOf(type.name()), type);
+        }
+        nativeTypes.put(CQL3Type.Native.VARCHAR, CqlType.TEXT);
+        return nativeTypes;
+    }
 }
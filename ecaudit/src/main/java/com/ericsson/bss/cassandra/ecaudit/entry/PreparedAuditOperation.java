@@ -16,10 +16,14 @@
 package com.ericsson.bss.cassandra.ecaudit.entry;
 
 import java.nio.ByteBuffer;
+import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.Optional;
 import java.util.Queue;
 
-import com.ericsson.bss.cassandra.ecaudit.common.record.AuditOperation;
+import com.ericsson.bss.cassandra.ecaudit.common.record.BoundValueVisitor;
+import com.ericsson.bss.cassandra.ecaudit.common.record.BoundValuesAuditOperation;
+import com.ericsson.bss.cassandra.ecaudit.common.record.CqlType;
 import com.ericsson.bss.cassandra.ecaudit.entry.suppressor.BoundValueSuppressor;
 
 import org.apache.cassandra.cql3.ColumnSpecification;
@@ -32,13 +36,17 @@ import org.apache.cassandra.cql3.QueryOptions;
  * the first time. The effective operation/statement will be cached and used on subsequent calls to
  * {@link #getOperationString()}.
  *
- * This implementation is not thread safe.
+ * The bound values can also be provided in serialized form with {@link #visitBoundValues(BoundValueVisitor)}, which
+ * lets them be stored without being rendered.
+ *
+ * This implementation is thread safe. The operation string is bound at most once, also when it is requested by
+ * several loggers on different threads.
  */
-public class PreparedAuditOperation implements AuditOperation
+public class PreparedAuditOperation implements BoundValuesAuditOperation
 {
     private final String preparedStatement;
     private final QueryOptions options;
-    private String effectiveStatement; // lazy initialization
+    private volatile String effectiveStatement; // lazy initialization
     private final BoundValueSuppressor boundValueSuppressor;
 
     /**
@@ -61,12 +69,21 @@ public class PreparedAuditOperation implements AuditOperation
     @Override
     public String getOperationString()
     {
-        if (effectiveStatement == null)
+        String statement = effectiveStatement;
+        if (statement == null)
         {
-            effectiveStatement = bindValues();
+            synchronized (this)
+            {
+                statement = effectiveStatement;
+                if (statement == null)
+                {
+                    statement = bindValues();
+                    effectiveStatement = statement;
+                }
+            }
         }
 
-        return effectiveStatement;
+        return statement;
     }
 
     /**
@@ -113,6 +130,43 @@ public class PreparedAuditOperation implements AuditOperation
         return fullStatement.toString();
     }
 
+    @Override
+    public void visitBoundValues(BoundValueVisitor visitor)
+    {
+        if (!options.hasColumnSpecifications())
+        {
+            return;
+        }
+
+        Iterator<ByteBuffer> values = options.getValues().iterator();
+        for (ColumnSpecification column : options.getColumnSpecifications())
+        {
+            ByteBuffer value = values.next();
+            CqlType type = CqlLiteralFlavorAdapter.cqlTypeOf(column);
+            Optional<String> suppressed = boundValueSuppressor.suppress(column, value);
+            if (!suppressed.isPresent() && value != null && type != null && type.hasValidSize(value))
+            {
+                visitor.visitValue(type, value);
+            }
+            else
+            {
+                visitor.visitLiteral(suppressed.orElseGet(() -> toCQLLiteral(value, column)));
+            }
+        }
+    }
+
+    private static String toCQLLiteral(ByteBuffer value, ColumnSpecification column)
+    {
+        try
+        {
+            return CqlLiteralFlavorAdapter.toCQLLiteral(value, column);
+        }
+        catch (IndexOutOfBoundsException e)
+        {
+            return "null";
+        }
+    }
+
     @Override
     public String getNakedOperationString()
     {
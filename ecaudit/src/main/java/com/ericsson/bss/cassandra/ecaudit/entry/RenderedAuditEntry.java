@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.entry;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+
+/**
+ * A rendered view of the fields of an {@link AuditEntry} which all text based loggers render the same way.
+ * <p>
+ * The view is created once per entry by {@link AuditEntry#getRendered()} and shared by all loggers which the entry is
+ * delivered to, instead of each logger rendering the addresses again. The operation string is rendered on first use
+ * and cached by the operation itself, since it may be expensive to produce and is not used by all log formats.
+ * <p>
+ * Instances are immutable and may be shared between threads.
+ */
+public final class RenderedAuditEntry
+{
+    private final String clientIp;
+    private final Integer clientPort;
+    private final String coordinatorIp;
+
+    RenderedAuditEntry(AuditEntry entry)
+    {
+        this.clientIp = clientIpOf(entry.getClientAddress());
+        this.clientPort = clientPortOf(entry.getClientAddress());
+        this.coordinatorIp = hostAddressOf(entry.getCoordinatorAddress());
+    }
+
+    private static String clientIpOf(InetSocketAddress clientAddress)
+    {
+        return clientAddress == null ? null : hostAddressOf(clientAddress.getAddress());
+    }
+
+    private static Integer clientPortOf(InetSocketAddress clientAddress)
+    {
+        if (clientAddress == null || clientAddress.getPort() == AuditEntry.UNKNOWN_PORT)
+        {
+            return null;
+        }
+        return clientAddress.getPort();
+    }
+
+    private static String hostAddressOf(InetAddress address)
+    {
+        return address == null ? null : address.getHostAddress();
+    }
+
+    /**
+     * @return the IP address of the client, or {@code null} if unknown
+     */
+    public String getClientIp()
+    {
+        return clientIp;
+    }
+
+    /**
+     * @return the port of the client, or {@code null} if unknown
+     */
+    public Integer getClientPort()
+    {
+        return clientPort;
+    }
+
+    /**
+     * @return the IP address of the coordinator, or {@code null} if unknown
+     */
+    public String getCoordinatorIp()
+    {
+        return coordinatorIp;
+    }
+}
@@ -15,8 +15,8 @@
  */
 package com.ericsson.bss.cassandra.ecaudit.facade;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
@@ -24,6 +24,7 @@ import org.slf4j.LoggerFactory;
 
 import com.ericsson.bss.cassandra.ecaudit.LogTimingStrategy;
 import com.ericsson.bss.cassandra.ecaudit.common.record.Status;
+import com.ericsson.bss.cassandra.ecaudit.config.LoggerOverflowPolicy;
 import com.ericsson.bss.cassandra.ecaudit.entry.AuditEntry;
 import com.ericsson.bss.cassandra.ecaudit.filter.AuditFilter;
 import com.ericsson.bss.cassandra.ecaudit.logger.AuditLogger;
@@ -36,29 +37,50 @@ import com.ericsson.bss.cassandra.ecaudit.obfuscator.AuditObfuscator;
  * - Filtering populated {@link AuditEntry} instance using {@link AuditFilter}
  * - Obfuscation on filtered using {@link AuditObfuscator}
  * - Write log entry using {@link AuditLogger}
+ * <p>
+ * Each registered {@link AuditLogger} is fed through its own {@link LoggerPipeline}. Loggers may be added and removed
+ * while requests are audited, the list of pipelines is copied on write so that request threads never see it modified.
  */
 public class DefaultAuditor implements Auditor
 {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultAuditor.class);
 
-    private final List<AuditLogger> loggers = new ArrayList<>();
+    private final List<LoggerPipeline> pipelines = new CopyOnWriteArrayList<>();
     private final AuditFilter filter;
     private final AuditObfuscator obfuscator;
     private final AuditMetrics auditMetrics;
+    private final LoggerPipelineFactory pipelineFactory;
     private LogTimingStrategy logTimingStrategy;
 
     public DefaultAuditor(AuditLogger logger, AuditFilter filter, AuditObfuscator obfuscator, LogTimingStrategy logTimingStrategy)
     {
-        this(logger, filter, obfuscator, new AuditMetrics(), logTimingStrategy);
+        this(logger, filter, obfuscator, logTimingStrategy, 0, LoggerOverflowPolicy.block);
+    }
+
+    /**
+     * @param loggerQueueCapacity the queue capacity of each logger, or zero to call the loggers on the request thread
+     * @param loggerOverflowPolicy what to do when the queue of a logger is full
+     */
+    public DefaultAuditor(AuditLogger logger, AuditFilter filter, AuditObfuscator obfuscator, LogTimingStrategy logTimingStrategy,
+                          int loggerQueueCapacity, LoggerOverflowPolicy loggerOverflowPolicy)
+    {
+        this(logger, filter, obfuscator, new AuditMetrics(), logTimingStrategy, loggerQueueCapacity, loggerOverflowPolicy);
     }
 
     DefaultAuditor(AuditLogger logger, AuditFilter filter, AuditObfuscator obfuscator, AuditMetrics auditMetrics, LogTimingStrategy logTimingStrategy)
     {
-        loggers.add(logger);
+        this(logger, filter, obfuscator, auditMetrics, logTimingStrategy, 0, LoggerOverflowPolicy.block);
+    }
+
+    DefaultAuditor(AuditLogger logger, AuditFilter filter, AuditObfuscator obfuscator, AuditMetrics auditMetrics, LogTimingStrategy logTimingStrategy,
+                   int loggerQueueCapacity, LoggerOverflowPolicy loggerOverflowPolicy)
+    {
         this.filter = filter;
         this.obfuscator = obfuscator;
         this.auditMetrics = auditMetrics;
         this.logTimingStrategy = logTimingStrategy;
+        this.pipelineFactory = new LoggerPipelineFactory(loggerQueueCapacity, loggerOverflowPolicy, auditMetrics);
+        pipelines.add(pipelineFactory.create(logger));
     }
 
     @Override
@@ -101,7 +123,10 @@ public class DefaultAuditor implements Auditor
         long start = System.nanoTime();
         try
         {
-            loggers.forEach(logger -> logger.log(logEntry));
+            for (LoggerPipeline pipeline : pipelines)
+            {
+                pipeline.log(logEntry);
+            }
         }
         finally
         {
@@ -137,12 +162,25 @@ public class DefaultAuditor implements Auditor
     @Override
     public void addLogger(AuditLogger logger)
     {
-        loggers.add(logger);
+        pipelines.add(pipelineFactory.create(logger));
     }
 
+    /**
+     * Remove a logger, close its pipeline and remove its metrics. Requests audited concurrently with the removal may or
+     * may not be delivered to the logger.
+     *
+     * @param logger the logger to remove
+     */
     @Override
     public void removeLogger(AuditLogger logger)
     {
-        loggers.remove(logger);
+        for (LoggerPipeline pipeline : pipelines)
+        {
+            if (pipeline.getLogger().equals(logger) && pipelines.remove(pipeline))
+            {
+                pipelineFactory.close(pipeline);
+                return;
+            }
+        }
     }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.facade;
+
+import java.util.concurrent.TimeUnit;
+
+import com.ericsson.bss.cassandra.ecaudit.entry.AuditEntry;
+import com.ericsson.bss.cassandra.ecaudit.logger.AuditLogger;
+import com.ericsson.bss.cassandra.ecaudit.metrics.LoggerMetrics;
+
+/**
+ * Calls the logger backend on the request thread.
+ */
+class DirectLoggerPipeline implements LoggerPipeline
+{
+    private final AuditLogger logger;
+    private final String name;
+    private final LoggerMetrics loggerMetrics;
+
+    DirectLoggerPipeline(AuditLogger logger, String name, LoggerMetrics loggerMetrics)
+    {
+        this.logger = logger;
+        this.name = name;
+        this.loggerMetrics = loggerMetrics;
+    }
+
+    @Override
+    public String getName()
+    {
+        return name;
+    }
+
+    @Override
+    public AuditLogger getLogger()
+    {
+        return logger;
+    }
+
+    @Override
+    public void log(AuditEntry logEntry)
+    {
+        long start = System.nanoTime();
+        try
+        {
+            logger.log(logEntry);
+        }
+        finally
+        {
+            loggerMetrics.logLatency(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void close()
+    {
+        // Nothing to stop
+    }
+}
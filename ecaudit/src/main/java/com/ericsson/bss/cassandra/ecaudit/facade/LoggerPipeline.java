@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.facade;
+
+import com.ericsson.bss.cassandra.ecaudit.entry.AuditEntry;
+import com.ericsson.bss.cassandra.ecaudit.logger.AuditLogger;
+
+/**
+ * Delivers audit entries to one logger backend registered with the {@link DefaultAuditor}.
+ */
+interface LoggerPipeline
+{
+    /**
+     * @return the name of this pipeline, unique among the pipelines of the auditor
+     */
+    String getName();
+
+    /**
+     * @return the logger backend of this pipeline
+     */
+    AuditLogger getLogger();
+
+    /**
+     * Deliver an entry to the logger backend.
+     *
+     * @param logEntry the entry to log
+     */
+    void log(AuditEntry logEntry);
+
+    /**
+     * Stop delivering entries to the logger backend, once the entries already accepted have been delivered.
+     */
+    void close();
+}
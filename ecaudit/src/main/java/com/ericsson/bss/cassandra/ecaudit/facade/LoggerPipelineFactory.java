@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.facade;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import com.ericsson.bss.cassandra.ecaudit.config.LoggerOverflowPolicy;
+import com.ericsson.bss.cassandra.ecaudit.logger.AuditLogger;
+import com.ericsson.bss.cassandra.ecaudit.metrics.AuditMetrics;
+import com.ericsson.bss.cassandra.ecaudit.metrics.LoggerMetrics;
+
+/**
+ * Creates the {@link LoggerPipeline} of each logger backend registered with the {@link DefaultAuditor}.
+ * <p>
+ * With a queue capacity of zero the logger backends are called on the request thread, one after the other. Otherwise
+ * each logger backend gets its own bounded queue and consumer thread. The metrics of each logger backend are scoped
+ * by the name of its pipeline, which is the simple class name of the logger, followed by an index if another
+ * pipeline of the auditor already has that name.
+ */
+class LoggerPipelineFactory
+{
+    private static final Pattern INVALID_SCOPE_CHARACTERS = Pattern.compile("[^A-Za-z0-9_-]");
+
+    private final int queueCapacity;
+    private final LoggerOverflowPolicy overflowPolicy;
+    private final AuditMetrics auditMetrics;
+    private final Set<String> pipelineNames = new HashSet<>();
+
+    LoggerPipelineFactory(int queueCapacity, LoggerOverflowPolicy overflowPolicy, AuditMetrics auditMetrics)
+    {
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+        this.auditMetrics = auditMetrics;
+    }
+
+    synchronized LoggerPipeline create(AuditLogger logger)
+    {
+        String pipelineName = uniquePipelineName(loggerName(logger));
+        LoggerMetrics loggerMetrics = auditMetrics.createLoggerMetrics(pipelineName);
+        if (queueCapacity > 0)
+        {
+            return new QueuedLoggerPipeline(logger, pipelineName, queueCapacity, overflowPolicy, loggerMetrics);
+        }
+        return new DirectLoggerPipeline(logger, pipelineName, loggerMetrics);
+    }
+
+    /**
+     * Close a pipeline created by this factory, remove its metrics and make its name available to later pipelines.
+     *
+     * @param pipeline the pipeline to close
+     */
+    synchronized void close(LoggerPipeline pipeline)
+    {
+        pipeline.close();
+        auditMetrics.removeLoggerMetrics(pipeline.getName());
+        pipelineNames.remove(pipeline.getName());
+    }
+
+    private String uniquePipelineName(String loggerName)
+    {
+        String pipelineName = loggerName;
+        for (int index = 2; !pipelineNames.add(pipelineName); index++)
+        {
+            pipelineName = loggerName + "-" + index;
+        }
+        return pipelineName;
+    }
+
+    static String loggerName(AuditLogger logger)
+    {
+        // Not the simple name, which is empty for anonymous classes
+        String className = logger.getClass().getName();
+        String name = className.substring(className.lastIndexOf('.') + 1);
+        return INVALID_SCOPE_CHARACTERS.matcher(name).replaceAll("_");
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.facade;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ericsson.bss.cassandra.ecaudit.config.LoggerOverflowPolicy;
+import com.ericsson.bss.cassandra.ecaudit.entry.AuditEntry;
+import com.ericsson.bss.cassandra.ecaudit.logger.AuditLogger;
+import com.ericsson.bss.cassandra.ecaudit.metrics.LoggerMetrics;
+import org.apache.cassandra.concurrent.NamedThreadFactory;
+
+/**
+ * Hands over audit entries to a bounded queue, which is consumed by a dedicated thread that calls the logger backend.
+ * <p>
+ * A slow logger backend delays neither the request threads nor the other logger backends until its queue is full.
+ * Then the {@link LoggerOverflowPolicy} decides if request threads wait for room in the queue or drop the entry.
+ * Failures in the logger backend are logged and counted, since there is no request to fail. This includes logger
+ * backends which are configured to fail the request, such as the Chronicle logger with the {@code BLOCK_WITH_TIMEOUT}
+ * overflow policy.
+ */
+class QueuedLoggerPipeline implements LoggerPipeline
+{
+    private static final Logger LOG = LoggerFactory.getLogger(QueuedLoggerPipeline.class);
+    private static final long POLL_TIMEOUT_MS = 100;
+    private static final long CLOSE_TIMEOUT_MS = 5000;
+
+    private final AuditLogger logger;
+    private final String loggerName;
+    private final BlockingQueue<AuditEntry> queue;
+    private final LoggerOverflowPolicy overflowPolicy;
+    private final LoggerMetrics loggerMetrics;
+    private final Thread consumerThread;
+    private volatile boolean active = true;
+
+    QueuedLoggerPipeline(AuditLogger logger, String loggerName, int capacity, LoggerOverflowPolicy overflowPolicy, LoggerMetrics loggerMetrics)
+    {
+        this.logger = logger;
+        this.loggerName = loggerName;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.loggerMetrics = loggerMetrics;
+        consumerThread = new NamedThreadFactory("Audit Logger " + loggerName).newThread(this::consumerLoop);
+        consumerThread.start();
+    }
+
+    @Override
+    public String getName()
+    {
+        return loggerName;
+    }
+
+    @Override
+    public AuditLogger getLogger()
+    {
+        return logger;
+    }
+
+    /**
+     * Hand over an entry to the consumer thread. Entries handed over after the pipeline is closed are discarded.
+     *
+     * @param logEntry the entry to log
+     */
+    @Override
+    public void log(AuditEntry logEntry)
+    {
+        if (!active || queue.offer(logEntry))
+        {
+            return;
+        }
+
+        if (overflowPolicy == LoggerOverflowPolicy.drop)
+        {
+            loggerMetrics.dropped();
+            return;
+        }
+
+        try
+        {
+            queue.put(logEntry);
+        }
+        catch (InterruptedException e)
+        {
+            LOG.warn("Interrupted while waiting for room in the queue of audit logger {}", loggerName);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void consumerLoop()
+    {
+        try
+        {
+            while (active)
+            {
+                AuditEntry logEntry = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (logEntry != null)
+                {
+                    logToBackend(logEntry);
+                }
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        for (AuditEntry logEntry = queue.poll(); logEntry != null; logEntry = queue.poll())
+        {
+            logToBackend(logEntry);
+        }
+    }
+
+    private void logToBackend(AuditEntry logEntry)
+    {
+        long start = System.nanoTime();
+        try
+        {
+            logger.log(logEntry);
+        }
+        catch (RuntimeException e)
+        {
+            loggerMetrics.failed();
+            LOG.error("Audit logger {} failed to log entry", loggerName, e);
+        }
+        finally
+        {
+            loggerMetrics.logLatency(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void close()
+    {
+        active = false;
+        try
+        {
+            consumerThread.join(CLOSE_TIMEOUT_MS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -15,9 +15,14 @@
  */
 package com.ericsson.bss.cassandra.ecaudit.filter.role;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.UncheckedExecutionException;
@@ -25,6 +30,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.ericsson.bss.cassandra.ecaudit.auth.WhitelistDataAccess;
+import com.ericsson.bss.cassandra.ecaudit.config.AuditConfig;
 import com.ericsson.bss.cassandra.ecaudit.entry.AuditEntry;
 import com.ericsson.bss.cassandra.ecaudit.filter.AuditFilter;
 import com.ericsson.bss.cassandra.ecaudit.utils.Exceptions;
@@ -33,6 +39,7 @@ import org.apache.cassandra.auth.Permission;
 import org.apache.cassandra.auth.Resources;
 import org.apache.cassandra.auth.RoleResource;
 import org.apache.cassandra.auth.Roles;
+import org.apache.cassandra.concurrent.ScheduledExecutors;
 import org.apache.cassandra.exceptions.UnavailableException;
 
 /**
@@ -49,21 +56,28 @@ public class RoleAuditFilter implements AuditFilter
 {
     private static final Logger LOG = LoggerFactory.getLogger(RoleAuditFilter.class);
 
+    private static final int WARM_UP_PAGE_SIZE = 1000;
+
+    private final AuditConfig auditConfig;
     private final Function<RoleResource, Set<RoleResource>> getRolesFunction;
     private final RoleAuditFilterCache filterCache;
+    private final RoleWhitelistCache whitelistCache;
     private final WhitelistDataAccess whitelistDataAccess;
     private final AuditFilterAuthorizer auditFilterAuthorizer;
+    private final Set<RoleResource> changedRoles = ConcurrentHashMap.newKeySet();
 
     public RoleAuditFilter()
     {
-        this(Roles::getRoles, WhitelistDataAccess.getInstance(), new AuditFilterAuthorizer());
+        this(AuditConfig.getInstance(), Roles::getRoles, WhitelistDataAccess.getInstance(), new AuditFilterAuthorizer());
     }
 
     @VisibleForTesting
-    RoleAuditFilter(Function<RoleResource, Set<RoleResource>> getRolesFunction, WhitelistDataAccess whitelistDataAccess, AuditFilterAuthorizer auditFilterAuthorizer)
+    RoleAuditFilter(AuditConfig auditConfig, Function<RoleResource, Set<RoleResource>> getRolesFunction, WhitelistDataAccess whitelistDataAccess, AuditFilterAuthorizer auditFilterAuthorizer)
     {
+        this.auditConfig = auditConfig;
         this.getRolesFunction = getRolesFunction;
-        this.filterCache = new RoleAuditFilterCache(this::isWhitelistedUnchecked);
+        this.filterCache = new RoleAuditFilterCache(this::isWhitelistedUnchecked, auditConfig);
+        this.whitelistCache = new RoleWhitelistCache(this::loadWhitelist, this::loadAllWhitelists, auditConfig);
         this.whitelistDataAccess = whitelistDataAccess;
         this.auditFilterAuthorizer = auditFilterAuthorizer;
     }
@@ -72,6 +86,78 @@ public class RoleAuditFilter implements AuditFilter
     public void setup()
     {
         whitelistDataAccess.setup();
+
+        int changePollInterval = auditConfig.getWhitelistCacheChangePollInterval();
+        if (changePollInterval > 0)
+        {
+            startChangeDetection(changePollInterval);
+        }
+
+        if (auditConfig.isWhitelistCacheWarmUp())
+        {
+            warmUpWhitelistCache();
+        }
+    }
+
+    /**
+     * Poll the white-list versions once now, to know the versions that the caches are loaded with, and then
+     * periodically to invalidate cached data of roles whose white-list has changed.
+     */
+    private void startChangeDetection(int pollInterval)
+    {
+        whitelistDataAccess.enableChangeDetection();
+        WhitelistChangeDetector changeDetector = new WhitelistChangeDetector(whitelistDataAccess::getWhitelistVersions, this::invalidateRole);
+        changeDetector.run();
+        ScheduledExecutors.optionalTasks.scheduleWithFixedDelay(changeDetector, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+        LOG.info("Polling audit whitelist versions every {} ms", pollInterval);
+    }
+
+    /**
+     * Discard the cached white-list of the role, and the cached outcome of checks by all users who have the role.
+     * If the roles of a user can't be resolved its cached outcomes are discarded as well.
+     *
+     * @param role the role whose white-list has changed
+     */
+    @VisibleForTesting
+    void invalidateRole(RoleResource role)
+    {
+        changedRoles.add(role);
+        whitelistCache.invalidate(role);
+
+        Map<String, Boolean> affectedUsers = new HashMap<>();
+        Predicate<RoleAuditFilterCacheKey> affected = cacheKey -> affectedUsers.computeIfAbsent(cacheKey.getUser(), user -> hasRole(user, role));
+        filterCache.invalidateIf(affected);
+    }
+
+    private boolean hasRole(String user, RoleResource role)
+    {
+        try
+        {
+            return getRoles(user).contains(role);
+        }
+        catch (RuntimeException e)
+        {
+            return true;
+        }
+    }
+
+    /**
+     * Populate the white-list cache with the white-lists of all roles before the node starts to serve clients.
+     * Failures are logged by the cache, roles which are not loaded will be read on demand.
+     */
+    private void warmUpWhitelistCache()
+    {
+        LOG.info("Warming up audit whitelist cache");
+        long startNanos = System.nanoTime();
+
+        whitelistCache.warm();
+
+        if (LOG.isInfoEnabled())
+        {
+            LOG.info("Audit whitelist cache holds {} roles after warm-up in {} ms",
+                     whitelistCache.getEstimatedSize(),
+                     TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        }
     }
 
     @Override
@@ -145,10 +231,39 @@ public class RoleAuditFilter implements AuditFilter
 
     private boolean isOperationWhitelistedOnResourceByRole(Permission operation, List<? extends IResource> operationResourceChain, RoleResource role, String user)
     {
-        RoleWhitelistChecker whitelistChecker = new RoleWhitelistChecker(operation, operationResourceChain, whitelistDataAccess.getWhitelist(role));
+        RoleWhitelist.Match match = whitelistCache.getWhitelist(role).match(operation, operationResourceChain);
 
-        return whitelistChecker.isWhitelisted()
-               || whitelistChecker.isGrantWhitelisted()
+        return match == RoleWhitelist.Match.WHITELISTED
+               || match == RoleWhitelist.Match.GRANT_WHITELISTED
                   && auditFilterAuthorizer.isOperationAuthorizedForUser(operation, user, operationResourceChain);
     }
+
+    /**
+     * Load the white-list of a role, at the consistency level of the version poll if the role has a new version.
+     */
+    private RoleWhitelist loadWhitelist(RoleResource role)
+    {
+        if (!changedRoles.remove(role))
+        {
+            return RoleWhitelist.compile(whitelistDataAccess.getWhitelist(role));
+        }
+
+        try
+        {
+            return RoleWhitelist.compile(whitelistDataAccess.getChangedWhitelist(role));
+        }
+        catch (RuntimeException e)
+        {
+            changedRoles.add(role);
+            throw e;
+        }
+    }
+
+    private Map<RoleResource, RoleWhitelist> loadAllWhitelists()
+    {
+        Map<RoleResource, RoleWhitelist> whitelists = new HashMap<>();
+        whitelistDataAccess.getAllWhitelists(WARM_UP_PAGE_SIZE)
+                           .forEach((role, whitelist) -> whitelists.put(role, RoleWhitelist.compile(whitelist)));
+        return whitelists;
+    }
 }
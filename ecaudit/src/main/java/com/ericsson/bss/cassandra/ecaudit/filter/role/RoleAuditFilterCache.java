@@ -15,53 +15,255 @@
  */
 package com.ericsson.bss.cassandra.ecaudit.filter.role;
 
-import java.util.Collections;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.UncheckedExecutionException;
-import com.ericsson.bss.cassandra.ecaudit.config.AuditConfig;
 
+import com.ericsson.bss.cassandra.ecaudit.config.AuditConfig;
+import com.ericsson.bss.cassandra.ecaudit.metrics.AuditMetrics;
 import org.apache.cassandra.auth.AuthCache;
+import org.apache.cassandra.concurrent.ExecutorFactory;
+import org.apache.cassandra.concurrent.ScheduledExecutors;
+import org.apache.cassandra.utils.MBeanWrapper;
 
-public class RoleAuditFilterCache extends AuthCache<RoleAuditFilterCacheKey, Boolean>
+/**
+ * Caches the outcome of white-list checks per user, resource and operations.
+ * <p>
+ * Entries are refreshed ahead of expiry. The first read of an entry after the update interval, or after
+ * {@link #REFRESH_AHEAD_RATIO} of the validity if the update interval is not shorter than the validity, schedules one
+ * asynchronous reload and returns the old value until the reload completes. Concurrent reads of a missing or expired
+ * entry wait for a single load. The cache is bounded by a total weight, where each entry weighs the number of
+ * operations it covers, and the maximum weight is given by the max entries setting.
+ * <p>
+ * With active update the entries never expire, instead all entries are reloaded once per update interval.
+ * <p>
+ * The cache is managed through a {@link RoleAuditFilterCacheMBean}, like the caches of Cassandra. Changing a setting rebuilds
+ * the cache with the entries it holds.
+ */
+public class RoleAuditFilterCache implements RoleAuditFilterCacheMBean
 {
+    static final double REFRESH_AHEAD_RATIO = 0.75;
+
+    private static final Executor REFRESH_EXECUTOR = ExecutorFactory.Global.executorFactory().sequential("AuditFilterCacheRefresh");
     private static final AtomicInteger UNIQUE_ID = new AtomicInteger();
 
-    RoleAuditFilterCache(Function<RoleAuditFilterCacheKey, Boolean> loadFunction)
+    private final String name;
+    private final Function<RoleAuditFilterCacheKey, Boolean> loadFunction;
+    private final AuditConfig auditConfig;
+    private final Executor refreshExecutor;
+    private volatile LoadingCache<RoleAuditFilterCacheKey, Boolean> cache;
+    private ScheduledFuture<?> activeUpdateTask;
+
+    RoleAuditFilterCache(Function<RoleAuditFilterCacheKey, Boolean> loadFunction, AuditConfig auditConfig)
     {
-        this(loadFunction, AuditConfig.getInstance());
+        this(loadFunction, auditConfig, new AuditMetrics(), REFRESH_EXECUTOR);
     }
 
     @VisibleForTesting
-    RoleAuditFilterCache(Function<RoleAuditFilterCacheKey, Boolean> loadFunction, AuditConfig auditConfig)
+    RoleAuditFilterCache(Function<RoleAuditFilterCacheKey, Boolean> loadFunction, AuditConfig auditConfig, AuditMetrics auditMetrics, Executor refreshExecutor)
+    {
+        this.name = "RoleAuditFilterCache" + UNIQUE_ID.incrementAndGet(); // Unique name is needed for unit tests to work
+        this.loadFunction = loadFunction;
+        this.auditConfig = auditConfig;
+        this.refreshExecutor = refreshExecutor;
+        init();
+        MBeanWrapper.instance.registerMBean(this, getObjectName());
+        auditMetrics.registerFilterCacheStats(this::stats);
+    }
+
+    @VisibleForTesting
+    final String getObjectName()
+    {
+        return AuthCache.MBEAN_NAME_BASE + name;
+    }
+
+    /**
+     * (Re)build the cache from the current settings, keeping the cached entries, and (re)schedule the active update.
+     */
+    private synchronized void init()
+    {
+        if (activeUpdateTask != null)
+        {
+            activeUpdateTask.cancel(false);
+            activeUpdateTask = null; // NOPMD no active update until rescheduled
+        }
+
+        LoadingCache<RoleAuditFilterCacheKey, Boolean> newCache = createCache(loadFunction, auditConfig, refreshExecutor);
+        if (newCache != null && cache != null)
+        {
+            newCache.putAll(cache.asMap());
+        }
+        cache = newCache;
+
+        if (newCache != null && auditConfig.isWhitelistCacheActiveUpdate())
+        {
+            activeUpdateTask = scheduleActiveUpdate(newCache, auditConfig.getWhitelistCacheUpdateInterval());
+        }
+    }
+
+    private static LoadingCache<RoleAuditFilterCacheKey, Boolean> createCache(Function<RoleAuditFilterCacheKey, Boolean> loadFunction, AuditConfig auditConfig, Executor refreshExecutor)
+    {
+        int validity = auditConfig.getWhitelistCacheValidity();
+        if (validity <= 0)
+        {
+            return null;
+        }
+
+        Caffeine<RoleAuditFilterCacheKey, Boolean> builder = Caffeine.newBuilder()
+                                                                     .maximumWeight(auditConfig.getWhitelistCacheMaxEntries())
+                                                                     .weigher((RoleAuditFilterCacheKey cacheKey, Boolean whitelisted) -> Math.max(1, cacheKey.getPermissions().size()))
+                                                                     .executor(refreshExecutor)
+                                                                     .recordStats();
+        if (auditConfig.isWhitelistCacheActiveUpdate())
+        {
+            return builder.build(loadFunction::apply);
+        }
+
+        return builder.refreshAfterWrite(rebuildInterval(auditConfig), TimeUnit.MILLISECONDS)
+                      .expireAfterWrite(validity, TimeUnit.MILLISECONDS)
+                      .build(loadFunction::apply);
+    }
+
+    /**
+     * @param auditConfig the audit configuration
+     * @return the time after which an entry in use is rebuilt, by an active update or by a refresh ahead of expiry
+     */
+    static long rebuildInterval(AuditConfig auditConfig)
+    {
+        int validity = auditConfig.getWhitelistCacheValidity();
+        int updateInterval = auditConfig.getWhitelistCacheUpdateInterval();
+        if (auditConfig.isWhitelistCacheActiveUpdate() || updateInterval > 0 && updateInterval < validity)
+        {
+            return updateInterval;
+        }
+
+        return Math.max(1L, (long) (validity * REFRESH_AHEAD_RATIO));
+    }
+
+    private static ScheduledFuture<?> scheduleActiveUpdate(LoadingCache<RoleAuditFilterCacheKey, Boolean> cache, int updateInterval)
     {
-        super("RoleAuditFilterCache" + UNIQUE_ID.incrementAndGet(), // Unique name is needed for unit tests to work
-              auditConfig::setWhitelistCacheValidity,
-              auditConfig::getWhitelistCacheValidity,
-              auditConfig::setWhitelistCacheUpdateInterval,
-              auditConfig::getWhitelistCacheUpdateInterval,
-              auditConfig::setWhitelistCacheMaxEntries,
-              auditConfig::getWhitelistCacheMaxEntries,
-              auditConfig::setWhitelistCacheActiveUpdate,
-              auditConfig::isWhitelistCacheActiveUpdate,
-              loadFunction,
-              Collections::emptyMap,
-              () -> true);
+        long interval = Math.max(1, updateInterval);
+        return ScheduledExecutors.optionalTasks.scheduleWithFixedDelay(() -> cache.refreshAll(cache.asMap().keySet()),
+                                                                       interval, interval, TimeUnit.MILLISECONDS);
     }
 
     public boolean isWhitelisted(RoleAuditFilterCacheKey cacheKey)
     {
+        LoadingCache<RoleAuditFilterCacheKey, Boolean> currentCache = cache;
         try
         {
-            return get(cacheKey);
+            return currentCache == null
+                   ? loadFunction.apply(cacheKey)
+                   : currentCache.get(cacheKey);
         }
         catch (Exception e)
         {
-            // The call to get() may throw ExecutionException in version 3.11.4 and older
-            // We're catching Exception here to remain compatible with those older versions
             throw new UncheckedExecutionException(e);
         }
     }
+
+    /**
+     * Discard the cached entries which match the given predicate.
+     *
+     * @param predicate the predicate of the entries to discard
+     */
+    public void invalidateIf(Predicate<RoleAuditFilterCacheKey> predicate)
+    {
+        LoadingCache<RoleAuditFilterCacheKey, Boolean> currentCache = cache;
+        if (currentCache != null)
+        {
+            currentCache.asMap().keySet().removeIf(predicate);
+        }
+    }
+
+    /**
+     * @return the hit, miss, load and eviction statistics of the cache
+     */
+    public CacheStats stats()
+    {
+        LoadingCache<RoleAuditFilterCacheKey, Boolean> currentCache = cache;
+        return currentCache == null
+               ? CacheStats.empty()
+               : currentCache.stats();
+    }
+
+    @Override
+    public void invalidate()
+    {
+        LoadingCache<RoleAuditFilterCacheKey, Boolean> currentCache = cache;
+        if (currentCache != null)
+        {
+            currentCache.invalidateAll();
+        }
+    }
+
+    @Override
+    public synchronized void setValidity(int validityPeriod)
+    {
+        auditConfig.setWhitelistCacheValidity(validityPeriod);
+        init();
+    }
+
+    @Override
+    public int getValidity()
+    {
+        return auditConfig.getWhitelistCacheValidity();
+    }
+
+    @Override
+    public synchronized void setUpdateInterval(int updateInterval)
+    {
+        auditConfig.setWhitelistCacheUpdateInterval(updateInterval);
+        init();
+    }
+
+    @Override
+    public int getUpdateInterval()
+    {
+        return auditConfig.getWhitelistCacheUpdateInterval();
+    }
+
+    @Override
+    public synchronized void setMaxEntries(int maxEntries)
+    {
+        auditConfig.setWhitelistCacheMaxEntries(maxEntries);
+        init();
+    }
+
+    @Override
+    public int getMaxEntries()
+    {
+        return auditConfig.getWhitelistCacheMaxEntries();
+    }
+
+    @Override
+    public boolean getActiveUpdate()
+    {
+        return auditConfig.isWhitelistCacheActiveUpdate();
+    }
+
+    @Override
+    public synchronized void setActiveUpdate(boolean update)
+    {
+        auditConfig.setWhitelistCacheActiveUpdate(update);
+        init();
+    }
+
+    @Override
+    public long getEstimatedSize()
+    {
+        LoadingCache<RoleAuditFilterCacheKey, Boolean> currentCache = cache;
+        return currentCache == null
+               ? 0
+               : currentCache.estimatedSize();
+    }
 }
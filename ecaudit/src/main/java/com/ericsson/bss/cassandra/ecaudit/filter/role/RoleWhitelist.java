@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.filter.role;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.ericsson.bss.cassandra.ecaudit.auth.GrantResource;
+import org.apache.cassandra.auth.IResource;
+import org.apache.cassandra.auth.Permission;
+import org.apache.cassandra.auth.Resources;
+
+/**
+ * The white-list of one role, compiled into a trie over the resource hierarchy.
+ * <p>
+ * Each node of the trie is a resource, e.g. {@code data}, {@code data/ks} and {@code data/ks/tbl}, below a common
+ * root, and holds the operations white-listed directly on the resource and the operations grant white-listed on it.
+ * The root-level grant is held by the common root. A resource chain is matched by one walk from the common root
+ * towards the resource, which ends as soon as the chain leaves the trie, so that the cost of a match depends on the
+ * depth of the resource rather than on the size of the white-list. Instances are immutable once compiled.
+ */
+final class RoleWhitelist
+{
+    /**
+     * The outcome of matching an operation on a resource against the white-list.
+     */
+    enum Match
+    {
+        /**
+         * Neither white-listed nor grant white-listed.
+         */
+        NONE,
+
+        /**
+         * Grant white-listed on the resource, any of its parents or at the root-level, but not white-listed.
+         */
+        GRANT_WHITELISTED,
+
+        /**
+         * White-listed on the resource or any of its parents.
+         */
+        WHITELISTED
+    }
+
+    static final RoleWhitelist EMPTY = new RoleWhitelist(new ResourceNode());
+
+    private final ResourceNode root;
+
+    private RoleWhitelist(ResourceNode root)
+    {
+        this.root = root;
+    }
+
+    /**
+     * @param whitelist the white-listed operations per resource, as stored for the role
+     * @return the compiled white-list
+     */
+    static RoleWhitelist compile(Map<IResource, Set<Permission>> whitelist)
+    {
+        if (whitelist.isEmpty())
+        {
+            return EMPTY;
+        }
+
+        ResourceNode root = new ResourceNode();
+        for (Map.Entry<IResource, Set<Permission>> entry : whitelist.entrySet())
+        {
+            if (entry.getValue().isEmpty())
+            {
+                continue;
+            }
+
+            if (entry.getKey() instanceof GrantResource)
+            {
+                IResource wrappedResource = ((GrantResource) entry.getKey()).getWrappedResource();
+                ResourceNode node = wrappedResource == null ? root : nodeOf(root, wrappedResource);
+                node.grantOperations.addAll(entry.getValue());
+            }
+            else
+            {
+                nodeOf(root, entry.getKey()).operations.addAll(entry.getValue());
+            }
+        }
+        return new RoleWhitelist(root);
+    }
+
+    private static ResourceNode nodeOf(ResourceNode root, IResource resource)
+    {
+        List<? extends IResource> resourceChain = Resources.chain(resource);
+        ResourceNode node = root;
+        for (int i = resourceChain.size() - 1; i >= 0; i--)
+        {
+            node = node.child(resourceChain.get(i));
+        }
+        return node;
+    }
+
+    /**
+     * Match an operation on a resource against the white-list, without allocating.
+     *
+     * @param operation     the operation to check
+     * @param resourceChain the resource and its parents, as returned by {@link Resources#chain(IResource)}
+     * @return how the operation is white-listed on the resource
+     */
+    Match match(Permission operation, List<? extends IResource> resourceChain)
+    {
+        ResourceNode node = root;
+        boolean grantWhitelisted = node.grantOperations.contains(operation);
+        for (int i = resourceChain.size() - 1; i >= 0 && !node.children.isEmpty(); i--)
+        {
+            node = node.children.get(resourceChain.get(i));
+            if (node == null)
+            {
+                break;
+            }
+            if (node.operations.contains(operation))
+            {
+                return Match.WHITELISTED;
+            }
+            grantWhitelisted = grantWhitelisted || node.grantOperations.contains(operation);
+        }
+        return grantWhitelisted ? Match.GRANT_WHITELISTED : Match.NONE;
+    }
+
+    private static final class ResourceNode
+    {
+        private final Set<Permission> operations = EnumSet.noneOf(Permission.class);
+        private final Set<Permission> grantOperations = EnumSet.noneOf(Permission.class);
+        // Most nodes are leafs, which share the empty map
+        private Map<IResource, ResourceNode> children = Collections.emptyMap();
+
+        private ResourceNode child(IResource resource)
+        {
+            if (children.isEmpty())
+            {
+                children = new HashMap<>();
+            }
+            return children.computeIfAbsent(resource, r -> new ResourceNode());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.filter.role;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import com.ericsson.bss.cassandra.ecaudit.config.AuditConfig;
+import org.apache.cassandra.auth.AuthCache;
+import org.apache.cassandra.auth.RoleResource;
+
+/**
+ * Caches the compiled white-list of each role beneath the {@link RoleAuditFilterCache}.
+ * <p>
+ * A miss in the filter cache is resolved against this cache, so that the white-list of a role is read once for all
+ * users, resources and operations instead of once per filter cache entry. A filter cache entry in use is rebuilt from
+ * this cache once its {@link RoleAuditFilterCache#rebuildInterval(AuditConfig) rebuild interval} has passed, so the
+ * white-lists in this cache are only valid for the rest of the configured validity. That way a white-list change takes
+ * effect within the validity through both caches. The cache is disabled if nothing is left of the validity. Changing
+ * the validity or update interval through the MBean of this cache changes them for the filter cache as well.
+ * <p>
+ * The cache can be warmed up with the white-lists of all roles, read by the bulk load function in one go.
+ */
+public class RoleWhitelistCache extends AuthCache<RoleResource, RoleWhitelist>
+{
+    private static final AtomicInteger UNIQUE_ID = new AtomicInteger();
+
+    RoleWhitelistCache(Function<RoleResource, RoleWhitelist> loadFunction,
+                       Supplier<Map<RoleResource, RoleWhitelist>> bulkLoadFunction)
+    {
+        this(loadFunction, bulkLoadFunction, AuditConfig.getInstance());
+    }
+
+    @VisibleForTesting
+    RoleWhitelistCache(Function<RoleResource, RoleWhitelist> loadFunction,
+                       Supplier<Map<RoleResource, RoleWhitelist>> bulkLoadFunction,
+                       AuditConfig auditConfig)
+    {
+        super("RoleWhitelistCache" + UNIQUE_ID.incrementAndGet(), // Unique name is needed for unit tests to work
+              auditConfig::setWhitelistCacheValidity,
+              () -> validity(auditConfig),
+              auditConfig::setWhitelistCacheUpdateInterval,
+              () -> Math.min(auditConfig.getWhitelistCacheUpdateInterval(), validity(auditConfig)),
+              auditConfig::setWhitelistCacheMaxEntries,
+              auditConfig::getWhitelistCacheMaxEntries,
+              auditConfig::setWhitelistCacheActiveUpdate,
+              auditConfig::isWhitelistCacheActiveUpdate,
+              loadFunction,
+              bulkLoadFunction,
+              () -> true);
+    }
+
+    /**
+     * @param auditConfig the audit configuration
+     * @return the part of the white-list cache validity which is left after the rebuild interval of the filter cache
+     */
+    @VisibleForTesting
+    static int validity(AuditConfig auditConfig)
+    {
+        return (int) Math.max(0L, auditConfig.getWhitelistCacheValidity() - RoleAuditFilterCache.rebuildInterval(auditConfig));
+    }
+
+    /**
+     * @param role the role
+     * @return the compiled white-list of the role, loaded if not cached
+     */
+    RoleWhitelist getWhitelist(RoleResource role)
+    {
+        return get(role);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.filter.role;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.apache.cassandra.auth.RoleResource;
+
+/**
+ * Polls the white-list version of each role and reports the roles whose white-list has changed since the last poll.
+ * <p>
+ * The first poll only records the current versions. After that, a role is reported when its version differs from the
+ * recorded one, or when it has a version for the first time. If a poll fails the recorded versions are kept, so that
+ * changes are reported by the next successful poll.
+ */
+class WhitelistChangeDetector implements Runnable
+{
+    private static final Logger LOG = LoggerFactory.getLogger(WhitelistChangeDetector.class);
+
+    private final Supplier<Map<RoleResource, UUID>> versionsFunction;
+    private final Consumer<RoleResource> changedRoleConsumer;
+
+    private Map<RoleResource, UUID> knownVersions;
+
+    WhitelistChangeDetector(Supplier<Map<RoleResource, UUID>> versionsFunction, Consumer<RoleResource> changedRoleConsumer)
+    {
+        this.versionsFunction = versionsFunction;
+        this.changedRoleConsumer = changedRoleConsumer;
+    }
+
+    @Override
+    public void run()
+    {
+        Map<RoleResource, UUID> versions;
+        try
+        {
+            versions = versionsFunction.get();
+        }
+        catch (RuntimeException e)
+        {
+            LOG.warn("Failed to poll audit whitelist versions, will retry", e);
+            return;
+        }
+
+        Map<RoleResource, UUID> previousVersions = knownVersions;
+        knownVersions = versions;
+        if (previousVersions == null)
+        {
+            return;
+        }
+
+        versions.forEach((role, version) -> {
+            if (!version.equals(previousVersions.get(role)))
+            {
+                LOG.debug("Audit whitelist of {} changed", role);
+                changedRoleConsumer.accept(role);
+            }
+        });
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.util.Collection;
+
+/**
+ * Escapes a set of characters with a backslash.
+ * <p>
+ * The characters are compiled into a lookup table, so that a string is escaped in a single scan.
+ * A string without any character to escape is returned as it is, without allocating anything.
+ */
+final class CharacterEscaper
+{
+    private static final char ESCAPE = '\\';
+
+    private final boolean[] escaped;
+
+    private CharacterEscaper(boolean... escaped)
+    {
+        this.escaped = escaped;
+    }
+
+    /**
+     * @param characters the characters to escape, each given as a string of length one
+     * @return an escaper of the given characters
+     * @throws IllegalArgumentException if one of the strings is not a single character
+     */
+    static CharacterEscaper forCharacters(Collection<String> characters)
+    {
+        int maxCharacter = -1;
+        for (String character : characters)
+        {
+            if (character.length() != 1)
+            {
+                throw new IllegalArgumentException("Escape character must be a single character: " + character);
+            }
+            maxCharacter = Math.max(maxCharacter, character.charAt(0));
+        }
+
+        boolean[] escaped = new boolean[maxCharacter + 1];
+        for (String character : characters)
+        {
+            escaped[character.charAt(0)] = true;
+        }
+        return new CharacterEscaper(escaped);
+    }
+
+    private boolean isEmpty()
+    {
+        return escaped.length == 0;
+    }
+
+    /**
+     * @param input the string to escape
+     * @return the escaped string, which is the input itself if there was nothing to escape
+     */
+    String escape(String input)
+    {
+        int first = indexOfEscaped(input);
+        if (first < 0)
+        {
+            return input;
+        }
+
+        StringBuilder builder = new StringBuilder(input.length() + 16);
+        int runStart = 0;
+        for (int i = first; i < input.length(); i++)
+        {
+            if (isEscaped(input.charAt(i)))
+            {
+                builder.append(input, runStart, i).append(ESCAPE);
+                runStart = i;
+            }
+        }
+        return builder.append(input, runStart, input.length()).toString();
+    }
+
+    private int indexOfEscaped(String input)
+    {
+        if (isEmpty())
+        {
+            return -1;
+        }
+
+        for (int i = 0; i < input.length(); i++)
+        {
+            if (isEscaped(input.charAt(i)))
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isEscaped(char c)
+    {
+        return c < escaped.length && escaped[c];
+    }
+}
@@ -15,7 +15,13 @@
  */
 package com.ericsson.bss.cassandra.ecaudit.logger;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.google.common.annotations.VisibleForTesting;
 import org.slf4j.Logger;
@@ -23,41 +29,104 @@ import org.slf4j.LoggerFactory;
 
 import com.ericsson.bss.cassandra.ecaudit.common.chronicle.AuditRecordWriteMarshallable;
 import com.ericsson.bss.cassandra.ecaudit.common.chronicle.FieldSelector;
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.StatementDictionary;
 import com.ericsson.bss.cassandra.ecaudit.entry.AuditEntry;
+import com.ericsson.bss.cassandra.ecaudit.facade.CassandraAuditException;
 
 public class ChronicleAuditLogger implements AuditLogger
 {
     private static final Logger LOG = LoggerFactory.getLogger(ChronicleAuditLogger.class);
 
-    private final ChronicleWriter writer;
+    private final List<ChronicleWriter> writers;
     private final FieldSelector configuredFields;
+    private final boolean synchronous;
+    private final StatementDictionary dictionary;
+    private final boolean rawBoundValues;
+    private final AtomicInteger nextStripe = new AtomicInteger();
+    private final ThreadLocal<ChronicleWriter> threadWriter = ThreadLocal.withInitial(this::assignWriter);
+    private final ThreadLocal<AuditRecordWriteMarshallable> threadMarshallable;
 
     public ChronicleAuditLogger(Map<String, String> parameters)
     {
         ChronicleAuditLoggerConfig config = new ChronicleAuditLoggerConfig(parameters);
-        writer = new ChronicleWriter(config);
+        writers = IntStream.range(0, config.getWriterStripes())
+                           .mapToObj(stripe -> new ChronicleWriter(config, stripe))
+                           .collect(Collectors.toList());
         configuredFields = config.getFields();
+        synchronous = config.getWriteMode() == WriteMode.SYNC;
+        dictionary = createDictionary(config);
+        rawBoundValues = config.isRawBoundValues();
+        threadMarshallable = ThreadLocal.withInitial(() -> new AuditRecordWriteMarshallable(configuredFields, dictionary, rawBoundValues));
     }
 
     @VisibleForTesting
     ChronicleAuditLogger(ChronicleWriter writer, FieldSelector configuredFields)
     {
-        this.writer = writer;
+        this(Collections.singletonList(writer), configuredFields, WriteMode.ASYNC, null, false);
+    }
+
+    @VisibleForTesting
+    ChronicleAuditLogger(List<ChronicleWriter> writers, FieldSelector configuredFields, WriteMode writeMode, StatementDictionary dictionary, boolean rawBoundValues)
+    {
+        this.writers = writers;
         this.configuredFields = configuredFields;
+        this.synchronous = writeMode == WriteMode.SYNC;
+        this.dictionary = dictionary;
+        this.rawBoundValues = rawBoundValues;
+        this.threadMarshallable = ThreadLocal.withInitial(() -> new AuditRecordWriteMarshallable(configuredFields, dictionary, rawBoundValues));
+    }
+
+    /**
+     * The dictionary is shared by all stripes and lives in the log directory, so that spilled records and records in
+     * any log file can be resolved.
+     */
+    private static StatementDictionary createDictionary(ChronicleAuditLoggerConfig config)
+    {
+        int dictionarySize = config.getStatementDictionarySize();
+        return dictionarySize > 0 ? StatementDictionary.open(config.getLogPath(), dictionarySize) : null;
     }
 
     @Override
     public void log(AuditEntry logEntry)
     {
-        AuditRecordWriteMarshallable auditRecordWriteMarshallable = new AuditRecordWriteMarshallable(logEntry, configuredFields);
+        AuditRecordWriteMarshallable auditRecordWriteMarshallable = createMarshallable(logEntry);
         try
         {
-            writer.put(auditRecordWriteMarshallable);
+            writerForCurrentThread().put(auditRecordWriteMarshallable);
         }
         catch (InterruptedException e)
         {
             LOG.warn("Interrupted while sending message to Chronicle writer");
             Thread.currentThread().interrupt();
         }
+        catch (TimeoutException e)
+        {
+            throw new CassandraAuditException("Failed to write audit record: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * In synchronous mode the record is written before the writer returns, so each request thread can reuse one
+     * marshallable for all its records. Otherwise the marshallable is handed over to the writer thread.
+     */
+    private AuditRecordWriteMarshallable createMarshallable(AuditEntry logEntry)
+    {
+        return synchronous
+               ? threadMarshallable.get().reset(logEntry)
+               : new AuditRecordWriteMarshallable(logEntry, configuredFields, dictionary, rawBoundValues);
+    }
+
+    /**
+     * Each request thread sticks to one writer stripe, so that request threads only contend with the other threads
+     * of the same stripe and the records of a thread are kept in order.
+     */
+    private ChronicleWriter writerForCurrentThread()
+    {
+        return writers.size() == 1 ? writers.get(0) : threadWriter.get();
+    }
+
+    private ChronicleWriter assignWriter()
+    {
+        return writers.get(Math.floorMod(nextStripe.getAndIncrement(), writers.size()));
     }
 }
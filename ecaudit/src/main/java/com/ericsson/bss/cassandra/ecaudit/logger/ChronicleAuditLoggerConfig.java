@@ -24,7 +24,9 @@ import java.util.Optional;
 
 import com.google.common.base.Splitter;
 
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.CompressionCodec;
 import com.ericsson.bss.cassandra.ecaudit.common.chronicle.FieldSelector;
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.StripedQueues;
 import com.ericsson.bss.cassandra.ecaudit.utils.Exceptions;
 import net.openhft.chronicle.queue.RollCycle;
 import net.openhft.chronicle.queue.RollCycles;
@@ -36,20 +38,73 @@ class ChronicleAuditLoggerConfig
     private static final String CONFIG_ROLL_CYCLE = "roll_cycle";
     private static final String CONFIG_MAX_LOG_SIZE = "max_log_size";
     private static final String CONFIG_FIELDS = "fields";
+    private static final String CONFIG_BATCH_SIZE = "batch_size";
+    private static final String CONFIG_BATCH_LINGER_MS = "batch_linger_ms";
+    private static final String CONFIG_QUEUE_CAPACITY = "queue_capacity";
+    private static final String CONFIG_WAIT_STRATEGY = "wait_strategy";
+    private static final String CONFIG_OVERFLOW_POLICY = "overflow_policy";
+    private static final String CONFIG_OVERFLOW_TIMEOUT_MS = "overflow_timeout_ms";
+    private static final String CONFIG_OVERFLOW_DIR = "overflow_dir";
+    private static final String CONFIG_WRITER_STRIPES = "writer_stripes";
+    private static final String CONFIG_WRITE_MODE = "write_mode";
+    private static final String CONFIG_STATEMENT_DICTIONARY_SIZE = "statement_dictionary_size";
+    private static final String CONFIG_RAW_BOUND_VALUES = "raw_bound_values";
+    private static final String CONFIG_COMPRESSION = "compression";
+    private static final String CONFIG_SYNC_POLICY = "sync_policy";
+    private static final String CONFIG_SYNC_INTERVAL_MS = "sync_interval_ms";
+    private static final String CONFIG_WRITER_AFFINITY = "writer_affinity";
+    private static final String INVALID_OPTION = "Invalid chronicle logger ";
+    private static final String DEFAULT_OVERFLOW_DIR_SUFFIX = "-overflow";
     private static final long DEFAULT_MAX_LOG_SIZE = 16L * 1024L * 1024L * 1024L; // 16 GB
+    private static final int DEFAULT_BATCH_SIZE = 1;
+    private static final long DEFAULT_BATCH_LINGER_MS = 0L;
+    private static final int DEFAULT_QUEUE_CAPACITY = 256;
+    private static final long DEFAULT_OVERFLOW_TIMEOUT_MS = 1000L;
+    private static final int DEFAULT_WRITER_STRIPES = 1;
+    private static final int DEFAULT_STATEMENT_DICTIONARY_SIZE = 0;
+    private static final int DEFAULT_SYNC_INTERVAL_MS = 1000;
 
     private final Path logPath;
     private final RollCycle rollCycle;
     private final long maxLogSize;
     private final FieldSelector fieldSelector;
-
+    private final int batchSize;
+    private final long batchLingerMs;
+    private final int queueCapacity;
+    private final WaitStrategy waitStrategy;
+    private final OverflowPolicy overflowPolicy;
+    private final long overflowTimeoutMs;
+    private final Path overflowPath;
+    private final int writerStripes;
+    private final WriteMode writeMode;
+    private final int statementDictionarySize;
+    private final boolean rawBoundValues;
+    private final CompressionCodec compression;
+    private final SyncPolicy syncPolicy;
+    private final int syncIntervalMs;
+    private final WriterAffinity writerAffinity;
 
     ChronicleAuditLoggerConfig(Map<String, String> parameters)
     {
         logPath = resolveLogPath(parameters);
         rollCycle = resolveRollCycle(parameters);
-        maxLogSize = resolveMaxLogSize(parameters);
+        maxLogSize = resolveLong(parameters, CONFIG_MAX_LOG_SIZE, DEFAULT_MAX_LOG_SIZE, 1L, "max log size");
         fieldSelector = resolveFields(parameters);
+        batchSize = resolveInt(parameters, CONFIG_BATCH_SIZE, DEFAULT_BATCH_SIZE, 1, "batch size");
+        batchLingerMs = resolveLong(parameters, CONFIG_BATCH_LINGER_MS, DEFAULT_BATCH_LINGER_MS, 0L, "batch linger");
+        queueCapacity = resolveQueueCapacity(parameters);
+        waitStrategy = resolveEnum(parameters, CONFIG_WAIT_STRATEGY, WaitStrategy.class, WaitStrategy.BLOCKING, "wait strategy");
+        overflowPolicy = resolveEnum(parameters, CONFIG_OVERFLOW_POLICY, OverflowPolicy.class, OverflowPolicy.BLOCK, "overflow policy");
+        overflowTimeoutMs = resolveLong(parameters, CONFIG_OVERFLOW_TIMEOUT_MS, DEFAULT_OVERFLOW_TIMEOUT_MS, 1L, "overflow timeout");
+        overflowPath = resolveOverflowPath(parameters, logPath);
+        writerStripes = resolveInt(parameters, CONFIG_WRITER_STRIPES, DEFAULT_WRITER_STRIPES, 1, "writer stripes");
+        writeMode = resolveEnum(parameters, CONFIG_WRITE_MODE, WriteMode.class, WriteMode.ASYNC, "write mode");
+        statementDictionarySize = resolveInt(parameters, CONFIG_STATEMENT_DICTIONARY_SIZE, DEFAULT_STATEMENT_DICTIONARY_SIZE, 0, "statement dictionary size");
+        rawBoundValues = resolveBoolean(parameters, CONFIG_RAW_BOUND_VALUES, false, "raw bound values");
+        compression = resolveEnum(parameters, CONFIG_COMPRESSION, CompressionCodec.class, CompressionCodec.NONE, "compression");
+        syncPolicy = resolveSyncPolicy(parameters, writeMode);
+        syncIntervalMs = resolveInt(parameters, CONFIG_SYNC_INTERVAL_MS, DEFAULT_SYNC_INTERVAL_MS, 1, "sync interval");
+        writerAffinity = resolveWriterAffinity(parameters, writerStripes);
     }
 
     private static Path resolveLogPath(Map<String, String> parameters)
@@ -79,26 +134,142 @@ class ChronicleAuditLoggerConfig
         }
     }
 
-    private long resolveMaxLogSize(Map<String, String> parameters)
+    private static int resolveQueueCapacity(Map<String, String> parameters)
+    {
+        int capacity = resolveInt(parameters, CONFIG_QUEUE_CAPACITY, DEFAULT_QUEUE_CAPACITY, 2, "queue capacity");
+        if (Integer.bitCount(capacity) != 1)
+        {
+            throw new ConfigurationException(INVALID_OPTION + "queue capacity, must be a power of two: " + parameters.get(CONFIG_QUEUE_CAPACITY));
+        }
+
+        return capacity;
+    }
+
+    private static Path resolveOverflowPath(Map<String, String> parameters, Path logPath)
+    {
+        if (!parameters.containsKey(CONFIG_OVERFLOW_DIR))
+        {
+            return Paths.get(logPath + DEFAULT_OVERFLOW_DIR_SUFFIX);
+        }
+
+        try
+        {
+            return Paths.get(parameters.get(CONFIG_OVERFLOW_DIR));
+        }
+        catch (InvalidPathException e)
+        {
+            throw new ConfigurationException("Invalid chronicle logger overflow directory path: " + parameters.get(CONFIG_OVERFLOW_DIR), e);
+        }
+    }
+
+    private static WriterAffinity resolveWriterAffinity(Map<String, String> parameters, int writerStripes)
+    {
+        WriterAffinity affinity;
+        try
+        {
+            affinity = Optional.ofNullable(parameters.get(CONFIG_WRITER_AFFINITY))
+                               .map(WriterAffinity::parse)
+                               .orElse(WriterAffinity.NONE);
+        }
+        catch (IllegalArgumentException e)
+        {
+            throw new ConfigurationException(INVALID_OPTION + "writer affinity: " + parameters.get(CONFIG_WRITER_AFFINITY), e);
+        }
+
+        if (affinity.cpuCount() > 0 && affinity.cpuCount() < writerStripes)
+        {
+            throw new ConfigurationException(INVALID_OPTION + "writer affinity, must list one CPU per writer stripe: " + parameters.get(CONFIG_WRITER_AFFINITY));
+        }
+
+        return affinity;
+    }
+
+    private static SyncPolicy resolveSyncPolicy(Map<String, String> parameters, WriteMode writeMode)
+    {
+        SyncPolicy policy = resolveEnum(parameters, CONFIG_SYNC_POLICY, SyncPolicy.class, SyncPolicy.NONE, "sync policy");
+
+        // There is no writer thread to sync when the logger becomes idle, records are appended by the request threads
+        if (writeMode == WriteMode.SYNC && policy == SyncPolicy.PERIODIC)
+        {
+            throw new ConfigurationException(INVALID_OPTION + "sync policy, must be NONE, PER_BATCH or PER_RECORD in SYNC write mode: " + parameters.get(CONFIG_SYNC_POLICY));
+        }
+
+        return policy;
+    }
+
+    private static <E extends Enum<E>> E resolveEnum(Map<String, String> parameters, String option, Class<E> enumType, E defaultValue, String description)
     {
-        long size;
         try
         {
-            size = Optional.ofNullable(parameters.get(CONFIG_MAX_LOG_SIZE))
-                           .map(Long::valueOf)
-                           .orElse(DEFAULT_MAX_LOG_SIZE);
+            return Optional.ofNullable(parameters.get(option))
+                           .map(String::toUpperCase)
+                           .map(value -> Enum.valueOf(enumType, value))
+                           .orElse(defaultValue);
+        }
+        catch (IllegalArgumentException e)
+        {
+            throw new ConfigurationException(INVALID_OPTION + description + ": " + parameters.get(option), e);
+        }
+    }
+
+    private static int resolveInt(Map<String, String> parameters, String option, int defaultValue, int minValue, String description)
+    {
+        int value;
+        try
+        {
+            value = Optional.ofNullable(parameters.get(option))
+                            .map(Integer::valueOf)
+                            .orElse(defaultValue);
         }
         catch (NumberFormatException e)
         {
-            throw Exceptions.appendCause(new ConfigurationException("Invalid chronicle logger max log size: " + parameters.get(CONFIG_MAX_LOG_SIZE)), e);
+            throw Exceptions.appendCause(new ConfigurationException(INVALID_OPTION + description + ": " + parameters.get(option)), e);
+        }
+
+        if (value < minValue)
+        {
+            throw new ConfigurationException(INVALID_OPTION + description + ": " + parameters.get(option));
+        }
+
+        return value;
+    }
+
+    private static long resolveLong(Map<String, String> parameters, String option, long defaultValue, long minValue, String description)
+    {
+        long value;
+        try
+        {
+            value = Optional.ofNullable(parameters.get(option))
+                            .map(Long::valueOf)
+                            .orElse(defaultValue);
+        }
+        catch (NumberFormatException e)
+        {
+            throw Exceptions.appendCause(new ConfigurationException(INVALID_OPTION + description + ": " + parameters.get(option)), e);
+        }
+
+        if (value < minValue)
+        {
+            throw new ConfigurationException(INVALID_OPTION + description + ": " + parameters.get(option));
+        }
+
+        return value;
+    }
+
+    private static boolean resolveBoolean(Map<String, String> parameters, String option, boolean defaultValue, String description)
+    {
+        String value = parameters.get(option);
+        if (value == null)
+        {
+            return defaultValue;
         }
 
-        if (size <= 0)
+        if (!"true".equalsIgnoreCase(value) && !"false".equalsIgnoreCase(value))
         {
-            throw new ConfigurationException("Invalid chronicle logger max log size: " + parameters.get(CONFIG_MAX_LOG_SIZE));
+            throw new ConfigurationException(INVALID_OPTION + description + ": " + value);
         }
 
-        return size;
+        return Boolean.parseBoolean(value);
     }
 
     private static void mandatoryConfig(String option, Map<String, String> parameters)
@@ -150,4 +321,120 @@ class ChronicleAuditLoggerConfig
     {
         return fieldSelector;
     }
+
+    int getBatchSize()
+    {
+        return batchSize;
+    }
+
+    long getBatchLingerMs()
+    {
+        return batchLingerMs;
+    }
+
+    int getQueueCapacity()
+    {
+        return queueCapacity;
+    }
+
+    WaitStrategy getWaitStrategy()
+    {
+        return waitStrategy;
+    }
+
+    OverflowPolicy getOverflowPolicy()
+    {
+        return overflowPolicy;
+    }
+
+    long getOverflowTimeoutMs()
+    {
+        return overflowTimeoutMs;
+    }
+
+    Path getOverflowPath()
+    {
+        return overflowPath;
+    }
+
+    int getWriterStripes()
+    {
+        return writerStripes;
+    }
+
+    WriteMode getWriteMode()
+    {
+        return writeMode;
+    }
+
+    /**
+     * @return the maximum number of statements in the statement dictionary, zero if statements are written in full
+     */
+    int getStatementDictionarySize()
+    {
+        return statementDictionarySize;
+    }
+
+    /**
+     * @return {@code true} if bound values are written in serialized form and rendered when read
+     */
+    boolean isRawBoundValues()
+    {
+        return rawBoundValues;
+    }
+
+    /**
+     * @return the codec to compress blocks of records with, {@link CompressionCodec#NONE} if records are not compressed
+     */
+    CompressionCodec getCompression()
+    {
+        return compression;
+    }
+
+    SyncPolicy getSyncPolicy()
+    {
+        return syncPolicy;
+    }
+
+    /**
+     * @return the minimum time between syncs with the {@link SyncPolicy#PERIODIC} policy
+     */
+    int getSyncIntervalMs()
+    {
+        return syncIntervalMs;
+    }
+
+    /**
+     * @return the CPU affinity of the writer threads, {@link WriterAffinity#NONE} if they are not pinned
+     */
+    WriterAffinity getWriterAffinity()
+    {
+        return writerAffinity;
+    }
+
+    /**
+     * @param stripe the stripe number
+     * @return the log directory of the given stripe, which is the log directory itself unless striping is enabled
+     */
+    Path getLogPath(int stripe)
+    {
+        return writerStripes == 1 ? logPath : StripedQueues.stripePath(logPath, stripe);
+    }
+
+    /**
+     * @param stripe the stripe number
+     * @return the overflow directory of the given stripe, which is the overflow directory itself unless striping is enabled
+     */
+    Path getOverflowPath(int stripe)
+    {
+        return writerStripes == 1 ? overflowPath : StripedQueues.stripePath(overflowPath, stripe);
+    }
+
+    /**
+     * @return the maximum size of the log files of each stripe, the configured maximum is shared evenly between the stripes
+     */
+    long getStripeMaxLogSize()
+    {
+        return maxLogSize / writerStripes;
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.ericsson.bss.cassandra.ecaudit.metrics.AuditMetrics;
+import net.openhft.chronicle.queue.ExcerptAppender;
+
+/**
+ * Syncs records appended to a Chronicle queue to stable storage according to the configured {@link SyncPolicy}.
+ * <p>
+ * The appending threads call this class after each record and after each batch, and the policy decides if the
+ * appender should sync. Each sync is timed by the {@code ChronicleSync} metric.
+ */
+class ChronicleSyncer
+{
+    private final SyncPolicy syncPolicy;
+    private final long syncIntervalNanos;
+    private final AuditMetrics auditMetrics;
+    private final AtomicLong nextSyncNanos = new AtomicLong(System.nanoTime());
+
+    ChronicleSyncer(ChronicleAuditLoggerConfig config, AuditMetrics auditMetrics)
+    {
+        this.syncPolicy = config.getSyncPolicy();
+        this.syncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(config.getSyncIntervalMs());
+        this.auditMetrics = auditMetrics;
+    }
+
+    boolean isEnabled()
+    {
+        return syncPolicy != SyncPolicy.NONE;
+    }
+
+    boolean isPeriodic()
+    {
+        return syncPolicy == SyncPolicy.PERIODIC;
+    }
+
+    /**
+     * @param appender the appender which just appended a record
+     * @return {@code true} if the appender was synced
+     */
+    boolean afterRecord(ExcerptAppender appender)
+    {
+        return syncPolicy == SyncPolicy.PER_RECORD && sync(appender);
+    }
+
+    /**
+     * Sync with the {@link SyncPolicy#PER_BATCH} policy, and also with the {@link SyncPolicy#PER_RECORD} policy for
+     * batches whose records were not synced one by one.
+     *
+     * @param appender the appender which just appended a batch of records
+     * @return {@code true} if the appender was synced
+     */
+    boolean afterBatch(ExcerptAppender appender)
+    {
+        return (syncPolicy == SyncPolicy.PER_BATCH || syncPolicy == SyncPolicy.PER_RECORD) && sync(appender);
+    }
+
+    /**
+     * Sync with the {@link SyncPolicy#PERIODIC} policy if the sync interval has elapsed since the last periodic sync.
+     * Only one of the threads which call this concurrently will sync each period.
+     *
+     * @param appender the appender which has appended records since it was last synced
+     * @return {@code true} if the appender was synced
+     */
+    boolean periodically(ExcerptAppender appender)
+    {
+        if (syncPolicy != SyncPolicy.PERIODIC)
+        {
+            return false;
+        }
+
+        long now = System.nanoTime();
+        long next = nextSyncNanos.get();
+        return now - next >= 0 && nextSyncNanos.compareAndSet(next, now + syncIntervalNanos) && sync(appender);
+    }
+
+    /**
+     * @return the time until the next periodic sync is due, zero or negative if it is already due
+     */
+    long nanosToNextSync()
+    {
+        return nextSyncNanos.get() - System.nanoTime();
+    }
+
+    /**
+     * @param appender the appender to sync
+     * @return always {@code true}
+     */
+    boolean sync(ExcerptAppender appender)
+    {
+        long start = System.nanoTime();
+        appender.sync();
+        auditMetrics.chronicleSync(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return true;
+    }
+}
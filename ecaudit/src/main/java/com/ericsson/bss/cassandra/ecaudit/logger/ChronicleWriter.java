@@ -15,11 +15,19 @@
  */
 package com.ericsson.bss.cassandra.ecaudit.logger;
 
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 
 import com.google.common.annotations.VisibleForTesting;
 
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.AuditRecordBlockWriteMarshallable;
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.CompressionCodec;
+import com.ericsson.bss.cassandra.ecaudit.metrics.AuditMetrics;
+import net.openhft.chronicle.bytes.SyncMode;
 import net.openhft.chronicle.queue.ChronicleQueue;
 import net.openhft.chronicle.queue.ExcerptAppender;
 import net.openhft.chronicle.queue.impl.single.SingleChronicleQueueBuilder;
@@ -29,54 +37,328 @@ import org.apache.cassandra.concurrent.NamedThreadFactory;
 
 class ChronicleWriter implements AutoCloseable
 {
-    private static final int BUFFER_SIZE = 256;
+    private static final long OVERFLOW_DRAIN_INTERVAL_MS = 10;
+    private static final long IN_FLIGHT_POLL_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
 
-    private final Thread writerThread = new NamedThreadFactory("Chronicle Writer").newThread(this::writerLoop);
-    private final BlockingQueue<WriteMarshallable> queue;
+    private final Thread writerThread; // Only used in ASYNC mode
+    private final MpscRingBuffer<WriteMarshallable> queue; // Only used in ASYNC mode
     private final ChronicleQueue chronicle;
     private final ExcerptAppender appender;
+    private final int maxBatchSize;
+    private final long batchLingerNanos;
+    private final OverflowPolicy overflowPolicy;
+    private final long overflowTimeoutMs;
+    private final OverflowQueue overflowQueue;
+    private final boolean synchronous;
+    private final AuditMetrics auditMetrics;
+    private final AuditRecordBlockWriteMarshallable block; // Only used by the writer thread
+    private final ChronicleSyncer syncer;
+    private final LongAdder inFlightWrites = new LongAdder(); // Only used in SYNC mode
 
     private volatile boolean active = true;
+    private boolean unsynced; // Only used by the writer thread
 
-    ChronicleWriter(ChronicleAuditLoggerConfig config)
+    /**
+     * @param stripe the stripe this writer owns, see {@link ChronicleAuditLoggerConfig#getWriterStripes()}
+     */
+    ChronicleWriter(ChronicleAuditLoggerConfig config, int stripe)
     {
-        chronicle = SingleChronicleQueueBuilder.single(config.getLogPath().toFile())
-                             .rollCycle(config.getRollCycle())
-                             .storeFileListener(new SizeRotatingStoreFileListener(config.getLogPath(), config.getMaxLogSize()))
-                             .build();
-
-        appender = chronicle.acquireAppender();
-        queue = new ArrayBlockingQueue<>(BUFFER_SIZE);
-        writerThread.start();
+        this(createChronicle(config, stripe), createOverflowQueue(config, stripe), config, new AuditMetrics(), stripe);
     }
 
+    /**
+     * @param overflowQueue the queue to spill records to, only used with the {@link OverflowPolicy#SPILL} policy
+     * @param stripe        the stripe this writer owns, decides the CPU of the writer thread with an explicit {@link WriterAffinity}
+     */
     @VisibleForTesting
-    ChronicleWriter(ChronicleQueue chronicle)
+    ChronicleWriter(ChronicleQueue chronicle, OverflowQueue overflowQueue, ChronicleAuditLoggerConfig config, AuditMetrics auditMetrics, int stripe)
     {
         this.chronicle = chronicle;
+        this.overflowQueue = overflowQueue;
+        this.maxBatchSize = config.getBatchSize();
+        this.batchLingerNanos = TimeUnit.MILLISECONDS.toNanos(config.getBatchLingerMs());
+        this.overflowPolicy = config.getOverflowPolicy();
+        this.overflowTimeoutMs = config.getOverflowTimeoutMs();
+        this.synchronous = config.getWriteMode() == WriteMode.SYNC;
+        this.auditMetrics = auditMetrics;
+        this.block = createBlock(config.getCompression());
+        this.syncer = new ChronicleSyncer(config, auditMetrics);
         appender = chronicle.acquireAppender();
-        queue = new ArrayBlockingQueue<>(BUFFER_SIZE);
-        writerThread.start();
+        if (synchronous)
+        {
+            queue = null;
+            writerThread = null;
+        }
+        else
+        {
+            queue = new MpscRingBuffer<>(config.getQueueCapacity(), config.getWaitStrategy(),
+                                         nanos -> auditMetrics.chronicleWriterWakeup(nanos, TimeUnit.NANOSECONDS));
+            writerThread = new NamedThreadFactory("Chronicle Writer").newThread(config.getWriterAffinity().pinned(stripe, this::writerLoop));
+            writerThread.start();
+        }
+    }
+
+    /**
+     * The Chronicle appenders will only sync the queue files to storage when asked to if the queue has a sync mode.
+     */
+    private static ChronicleQueue createChronicle(ChronicleAuditLoggerConfig config, int stripe)
+    {
+        SingleChronicleQueueBuilder builder = SingleChronicleQueueBuilder.single(config.getLogPath(stripe).toFile())
+                                                                         .rollCycle(config.getRollCycle())
+                                                                         .storeFileListener(new SizeRotatingStoreFileListener(config.getLogPath(stripe), config.getStripeMaxLogSize()));
+        if (config.getSyncPolicy() != SyncPolicy.NONE)
+        {
+            builder.syncMode(SyncMode.SYNC);
+        }
+        return builder.build();
+    }
+
+    private static OverflowQueue createOverflowQueue(ChronicleAuditLoggerConfig config, int stripe)
+    {
+        boolean spill = config.getWriteMode() == WriteMode.ASYNC && config.getOverflowPolicy() == OverflowPolicy.SPILL;
+        return spill ? new OverflowQueue(config, stripe) : null;
     }
 
-    void put(WriteMarshallable marshallable) throws InterruptedException
+    private static AuditRecordBlockWriteMarshallable createBlock(CompressionCodec compression)
+    {
+        return compression == CompressionCodec.NONE ? null : new AuditRecordBlockWriteMarshallable(compression);
+    }
+
+    /**
+     * Hand over a record to the writer thread, the configured {@link OverflowPolicy} decides what happens if the queue is full.
+     * <p>
+     * In {@link WriteMode#SYNC} mode the record is instead appended to the Chronicle queue by the calling thread,
+     * using the thread-local appender of the queue, and synced according to the {@link SyncPolicy} by the calling thread.
+     *
+     * @param marshallable the record to write
+     * @throws InterruptedException if interrupted while waiting for room in the queue
+     * @throws TimeoutException if there was no room in the queue within the overflow timeout
+     */
+    void put(WriteMarshallable marshallable) throws InterruptedException, TimeoutException
     {
         if (!active)
         {
             throw new IllegalStateException("Chronicle audit writer has been deactivated");
         }
 
-        queue.put(marshallable);
+        if (synchronous)
+        {
+            putSynchronously(marshallable);
+            return;
+        }
+
+        if (queue.offer(marshallable))
+        {
+            return;
+        }
+
+        switch (overflowPolicy)
+        {
+            case BLOCK_WITH_TIMEOUT:
+                putWithTimeout(marshallable);
+                break;
+            case SPILL:
+                overflowQueue.spill(marshallable);
+                auditMetrics.chronicleOverflowSpill();
+                break;
+            default:
+                putBlocking(marshallable);
+                break;
+        }
+    }
+
+    /**
+     * The write is registered as in flight before checking that the writer is still active, so that {@link #close()}
+     * either sees the write and waits for it, or the write sees that the writer has been deactivated.
+     */
+    private void putSynchronously(WriteMarshallable marshallable)
+    {
+        inFlightWrites.increment();
+        try
+        {
+            if (!active)
+            {
+                throw new IllegalStateException("Chronicle audit writer has been deactivated");
+            }
+
+            ExcerptAppender threadAppender = chronicle.acquireAppender(); // NOPMD owned by the queue
+            threadAppender.writeDocument(marshallable);
+            syncer.afterBatch(threadAppender);
+        }
+        finally
+        {
+            inFlightWrites.decrement();
+        }
+    }
+
+    private void putBlocking(WriteMarshallable marshallable) throws InterruptedException
+    {
+        long start = System.nanoTime();
+        try
+        {
+            queue.put(marshallable);
+        }
+        finally
+        {
+            auditMetrics.chronicleOverflowBlocked(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void putWithTimeout(WriteMarshallable marshallable) throws InterruptedException, TimeoutException
+    {
+        long start = System.nanoTime();
+        boolean queued;
+        try
+        {
+            queued = queue.offer(marshallable, overflowTimeoutMs, TimeUnit.MILLISECONDS);
+        }
+        finally
+        {
+            auditMetrics.chronicleOverflowBlocked(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        if (!queued)
+        {
+            auditMetrics.chronicleOverflowTimeout();
+            throw new TimeoutException("Chronicle audit writer queue is full, timed out after " + overflowTimeoutMs + " ms");
+        }
     }
 
     private void writerLoop()
     {
+        List<WriteMarshallable> batch = new ArrayList<>(maxBatchSize);
         try
         {
             while (active)
             {
-                WriteMarshallable marshallable = queue.take();
-                appender.writeDocument(marshallable);
+                WriteMarshallable first = takeFirst();
+                if (first != null)
+                {
+                    batch.add(first);
+                    writeBatch(batch);
+                }
+                maybeDrainOverflow();
+                if (unsynced && syncer.periodically(appender))
+                {
+                    unsynced = false;
+                }
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        if (unsynced && syncer.isEnabled())
+        {
+            syncer.sync(appender);
+        }
+    }
+
+    /**
+     * Wait for the first record of the next batch, but not longer than until it is time to drain the overflow queue
+     * or to sync records with the {@link SyncPolicy#PERIODIC} policy.
+     */
+    private WriteMarshallable takeFirst() throws InterruptedException
+    {
+        long timeoutNanos = hasPendingOverflow() ? TimeUnit.MILLISECONDS.toNanos(OVERFLOW_DRAIN_INTERVAL_MS) : Long.MAX_VALUE;
+        if (unsynced && syncer.isPeriodic())
+        {
+            timeoutNanos = Math.min(timeoutNanos, syncer.nanosToNextSync());
+        }
+        return timeoutNanos == Long.MAX_VALUE ? queue.take() : queue.poll(timeoutNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void writeBatch(List<WriteMarshallable> batch)
+    {
+        auditMetrics.chronicleQueueDepth(queue.size() + 1);
+        fillBatch(batch);
+        auditMetrics.chronicleBatchSize(batch.size());
+
+        append(batch);
+        batch.clear();
+        if (unsynced && syncer.afterBatch(appender))
+        {
+            unsynced = false;
+        }
+    }
+
+    /**
+     * Append records one document each, or as one compressed block if compression is enabled.
+     * A single record is always appended as it is, since a block of one record is larger than the record itself.
+     */
+    private void append(List<WriteMarshallable> records)
+    {
+        if (block == null || records.size() == 1)
+        {
+            for (WriteMarshallable marshallable : records)
+            {
+                appendDocument(marshallable);
+            }
+            return;
+        }
+
+        try
+        {
+            for (WriteMarshallable marshallable : records)
+            {
+                block.add(marshallable);
+            }
+            appendDocument(block);
+        }
+        finally
+        {
+            block.clear();
+        }
+    }
+
+    private void appendDocument(WriteMarshallable marshallable)
+    {
+        appender.writeDocument(marshallable);
+        unsynced = !syncer.afterRecord(appender);
+    }
+
+    private boolean hasPendingOverflow()
+    {
+        return overflowQueue != null && overflowQueue.hasPending();
+    }
+
+    /**
+     * Copy spilled records into the audit log, but only while the writer queue is at most half full.
+     * This way the writer thread will not fall further behind while it is under pressure.
+     * The copied records are synced as one batch, also with the {@link SyncPolicy#PER_RECORD} policy.
+     */
+    private void maybeDrainOverflow()
+    {
+        if (hasPendingOverflow() && queue.size() <= queue.capacity() / 2 && overflowQueue.drainTo(appender, queue.capacity()) > 0)
+        {
+            unsynced = !syncer.afterBatch(appender);
+        }
+    }
+
+    /**
+     * Drain records that are ready in the queue into the batch, up to the configured maximum batch size.
+     * If a batch linger is configured, wait up to that long for more records until the batch is full.
+     * <p>
+     * Records already in the batch are kept if interrupted while lingering, the interrupt is preserved
+     * and will end the writer loop once the batch has been appended.
+     */
+    private void fillBatch(List<WriteMarshallable> batch)
+    {
+        queue.drainTo(batch, maxBatchSize - batch.size());
+
+        long deadline = System.nanoTime() + batchLingerNanos;
+        try
+        {
+            while (batch.size() < maxBatchSize && batchLingerNanos > 0)
+            {
+                WriteMarshallable marshallable = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (marshallable == null)
+                {
+                    return;
+                }
+                batch.add(marshallable);
+                queue.drainTo(batch, maxBatchSize - batch.size());
             }
         }
         catch (InterruptedException e)
@@ -94,16 +376,31 @@ class ChronicleWriter implements AutoCloseable
         }
 
         active = false;
-        try
+        if (synchronous)
         {
-            writerThread.interrupt();
-            writerThread.join(500);
+            // Wait for request threads that passed the active check before the queue is closed underneath them
+            while (inFlightWrites.sum() > 0)
+            {
+                LockSupport.parkNanos(IN_FLIGHT_POLL_NANOS);
+            }
         }
-        catch (InterruptedException e)
+        else
         {
-            Thread.currentThread().interrupt();
+            try
+            {
+                writerThread.interrupt();
+                writerThread.join(500);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
         }
 
         chronicle.close();
+        if (overflowQueue != null)
+        {
+            overflowQueue.close();
+        }
     }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import com.ericsson.bss.cassandra.ecaudit.entry.AuditEntry;
+import com.ericsson.bss.cassandra.ecaudit.metrics.AuditMetrics;
+
+/**
+ * Implements an {@link AuditLogger} that writes {@link AuditEntry} instances as lines of text into memory mapped log
+ * files, without going through SLF4J and its appenders.
+ * <br>
+ * The log message is configured in the same way as for the {@link Slf4jAuditLogger}. Log files are rolled by size and
+ * roll cycle, and the oldest files are deleted when the accumulated size of the log files exceeds the max log size.
+ */
+public class FileAuditLogger implements AuditLogger
+{
+    private final Function<AuditEntry, String> formatter;
+    private final MappedFileWriter writer;
+
+    /**
+     * Constructor, creates the log directory if it doesn't exist.
+     *
+     * @param parameters the custom strategy parameters
+     */
+    public FileAuditLogger(Map<String, String> parameters)
+    {
+        this(new FileAuditLoggerConfig(parameters), new AuditMetrics());
+    }
+
+    @VisibleForTesting
+    FileAuditLogger(FileAuditLoggerConfig auditConfig, AuditMetrics auditMetrics)
+    {
+        this(Slf4jAuditLogger.createLogMessageFormatter(auditConfig)::format, new MappedFileWriter(auditConfig, auditMetrics));
+    }
+
+    @VisibleForTesting
+    FileAuditLogger(Function<AuditEntry, String> formatter, MappedFileWriter writer)
+    {
+        this.formatter = formatter;
+        this.writer = writer;
+    }
+
+    @Override
+    public void log(AuditEntry logEntry)
+    {
+        writer.write(formatter.apply(logEntry).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Close the current log file.
+     */
+    @VisibleForTesting
+    void close()
+    {
+        writer.close();
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+
+import net.openhft.chronicle.queue.RollCycle;
+import net.openhft.chronicle.queue.RollCycles;
+import org.apache.cassandra.exceptions.ConfigurationException;
+
+/**
+ * The file logger accepts the log format options of the SLF4J logger, and the options of the log files.
+ */
+class FileAuditLoggerConfig extends Slf4jAuditLoggerConfig
+{
+    private static final String CONFIG_WRITE_MODE = "write_mode";
+    private static final String CONFIG_LOG_DIR = "log_dir";
+    private static final String CONFIG_ROLL_CYCLE = "roll_cycle";
+    private static final String CONFIG_MAX_FILE_SIZE = "max_file_size";
+    private static final String CONFIG_MAX_LOG_SIZE = "max_log_size";
+    private static final String CONFIG_SYNC_POLICY = "sync_policy";
+    private static final String CONFIG_SYNC_INTERVAL_MS = "sync_interval_ms";
+    private static final String INVALID_OPTION = "Invalid file logger ";
+    private static final long DEFAULT_MAX_FILE_SIZE = 64L * 1024L * 1024L; // 64 MB
+    private static final long DEFAULT_MAX_LOG_SIZE = 16L * 1024L * 1024L * 1024L; // 16 GB
+    private static final long MAX_MAX_FILE_SIZE = Integer.MAX_VALUE;
+    private static final int DEFAULT_SYNC_INTERVAL_MS = 1000;
+
+    private final Path logPath;
+    private final RollCycle rollCycle;
+    private final long maxFileSize;
+    private final long maxLogSize;
+    private final SyncPolicy syncPolicy;
+    private final int syncIntervalMs;
+
+    FileAuditLoggerConfig(Map<String, String> parameters)
+    {
+        super(parameters);
+        requireSyncWriteMode(parameters);
+        logPath = resolveLogPath(parameters);
+        rollCycle = resolveRollCycle(parameters);
+        maxFileSize = resolveNumber(parameters, CONFIG_MAX_FILE_SIZE, Long::valueOf, DEFAULT_MAX_FILE_SIZE, 1L, INVALID_OPTION + "max file size");
+        maxLogSize = resolveNumber(parameters, CONFIG_MAX_LOG_SIZE, Long::valueOf, DEFAULT_MAX_LOG_SIZE, 1L, INVALID_OPTION + "max log size");
+        syncPolicy = resolveSyncPolicy(parameters);
+        syncIntervalMs = resolveNumber(parameters, CONFIG_SYNC_INTERVAL_MS, Integer::valueOf, DEFAULT_SYNC_INTERVAL_MS, 1, INVALID_OPTION + "sync interval");
+
+        if (maxFileSize > MAX_MAX_FILE_SIZE)
+        {
+            throw new ConfigurationException(INVALID_OPTION + "max file size, must be at most " + MAX_MAX_FILE_SIZE + ": " + maxFileSize);
+        }
+    }
+
+    private static void requireSyncWriteMode(Map<String, String> parameters)
+    {
+        String writeMode = parameters.get(CONFIG_WRITE_MODE);
+        if (writeMode != null && !WriteMode.SYNC.name().equalsIgnoreCase(writeMode))
+        {
+            throw new ConfigurationException(INVALID_OPTION + "write mode, only SYNC is supported: " + writeMode);
+        }
+    }
+
+    private static Path resolveLogPath(Map<String, String> parameters)
+    {
+        if (!parameters.containsKey(CONFIG_LOG_DIR))
+        {
+            throw new ConfigurationException("File logger backend require '" + CONFIG_LOG_DIR + "' parameter option");
+        }
+
+        try
+        {
+            return Paths.get(parameters.get(CONFIG_LOG_DIR));
+        }
+        catch (InvalidPathException e)
+        {
+            throw new ConfigurationException(INVALID_OPTION + "log directory path: " + parameters.get(CONFIG_LOG_DIR), e);
+        }
+    }
+
+    private static RollCycle resolveRollCycle(Map<String, String> parameters)
+    {
+        try
+        {
+            return Optional.ofNullable(parameters.get(CONFIG_ROLL_CYCLE))
+                           .map(RollCycles::valueOf)
+                           .orElse(RollCycles.HOURLY);
+        }
+        catch (IllegalArgumentException e)
+        {
+            throw new ConfigurationException(INVALID_OPTION + "roll cycle: " + parameters.get(CONFIG_ROLL_CYCLE), e);
+        }
+    }
+
+    private static SyncPolicy resolveSyncPolicy(Map<String, String> parameters)
+    {
+        SyncPolicy policy;
+        try
+        {
+            policy = Optional.ofNullable(parameters.get(CONFIG_SYNC_POLICY))
+                             .map(String::toUpperCase)
+                             .map(SyncPolicy::valueOf)
+                             .orElse(SyncPolicy.NONE);
+        }
+        catch (IllegalArgumentException e)
+        {
+            throw new ConfigurationException(INVALID_OPTION + "sync policy: " + parameters.get(CONFIG_SYNC_POLICY), e);
+        }
+
+        // There are no batches, records are appended by the request threads
+        if (policy == SyncPolicy.PER_BATCH)
+        {
+            throw new ConfigurationException(INVALID_OPTION + "sync policy, must be NONE, PERIODIC or PER_RECORD: " + parameters.get(CONFIG_SYNC_POLICY));
+        }
+
+        return policy;
+    }
+
+    Path getLogPath()
+    {
+        return logPath;
+    }
+
+    RollCycle getRollCycle()
+    {
+        return rollCycle;
+    }
+
+    /**
+     * @return the size at which a log file is rolled, and the size each log file is mapped with
+     */
+    long getMaxFileSize()
+    {
+        return maxFileSize;
+    }
+
+    /**
+     * @return the accumulated size of the log files at which the oldest files are deleted
+     */
+    long getMaxLogSize()
+    {
+        return maxLogSize;
+    }
+
+    SyncPolicy getSyncPolicy()
+    {
+        return syncPolicy;
+    }
+
+    int getSyncIntervalMs()
+    {
+        return syncIntervalMs;
+    }
+}
@@ -33,11 +33,18 @@ class FileQueueBootstrapper
     private static final Logger LOG = LoggerFactory.getLogger(FileQueueBootstrapper.class);
 
     private final Path path;
+    private final String fileSuffix;
     private List<File> discoveredFiles;
 
     FileQueueBootstrapper(Path path)
+    {
+        this(path, SingleChronicleQueue.SUFFIX);
+    }
+
+    FileQueueBootstrapper(Path path, String fileSuffix)
     {
         this.path = path;
+        this.fileSuffix = fileSuffix;
     }
 
     boolean isBootstrapping()
@@ -49,18 +56,18 @@ class FileQueueBootstrapper
     {
         try
         {
-            // Chronicle use filenames which allow sorting in chronological order
+            // Chronicle and the file logger use filenames which allow sorting in chronological order
             // Example filename for MINUTELY rolling policy: 20190327-1231.cq4
             discoveredFiles = Files.list(path)
                                    .filter(Files::isRegularFile)
                                    .map(Path::toFile)
-                                   .filter(file -> file.getPath().endsWith(SingleChronicleQueue.SUFFIX))
+                                   .filter(file -> file.getPath().endsWith(fileSuffix))
                                    .sorted()
                                    .collect(Collectors.toList());
         }
         catch (IOException e)
         {
-            LOG.warn("Failed to list existing Chronicle files");
+            LOG.warn("Failed to list existing audit log files");
             discoveredFiles = Collections.emptyList();
         }
 
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.util.Map;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ericsson.bss.cassandra.ecaudit.common.formatter.JsonRecordFormatter;
+import com.ericsson.bss.cassandra.ecaudit.entry.AuditEntry;
+import com.ericsson.bss.cassandra.ecaudit.metrics.AuditMetrics;
+
+/**
+ * Implements an {@link AuditLogger} that writes each {@link AuditEntry} as a single line JSON object using {@link Logger}.
+ * <br>
+ * The JSON objects are logged with the {@value #JSON_AUDIT_LOGGER_NAME} logger, so that Logback can write them to
+ * rolling files of their own. The time format, time zone, escape characters and write mode options are the same as
+ * for the {@link Slf4jAuditLogger}.
+ */
+public class JsonAuditLogger extends Slf4jAuditLogger
+{
+    public static final String JSON_AUDIT_LOGGER_NAME = "ECAUDIT_JSON";
+
+    /**
+     * Constructor, injects logger from {@link LoggerFactory}.
+     *
+     * @param parameters the custom strategy parameters
+     */
+    public JsonAuditLogger(Map<String, String> parameters)
+    {
+        this(new JsonAuditLoggerConfig(parameters), LoggerFactory.getLogger(JSON_AUDIT_LOGGER_NAME), new AuditMetrics());
+    }
+
+    /**
+     * Test constructor.
+     *
+     * @param auditConfig  the audit configuration which provide the fields and write mode
+     * @param logger       the logger backend to use for audit logs
+     * @param auditMetrics the metrics to report the asynchronous queue and formatting time to
+     */
+    @VisibleForTesting
+    JsonAuditLogger(JsonAuditLoggerConfig auditConfig, Logger logger, AuditMetrics auditMetrics)
+    {
+        super(auditConfig, logger, auditMetrics, createJsonFormatter(auditConfig)::format);
+    }
+
+    private static JsonRecordFormatter<AuditEntry> createJsonFormatter(JsonAuditLoggerConfig auditConfig)
+    {
+        return JsonRecordFormatter.create(auditConfig.getFields(), getAvailableFieldFunctionMap(auditConfig));
+    }
+}
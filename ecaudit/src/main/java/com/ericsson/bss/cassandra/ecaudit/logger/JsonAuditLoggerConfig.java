@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.base.Splitter;
+
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.FieldSelector;
+import org.apache.cassandra.exceptions.ConfigurationException;
+
+/**
+ * The JSON logger accepts the options of the SLF4J logger, except for the log format, and the fields to write.
+ */
+class JsonAuditLoggerConfig extends Slf4jAuditLoggerConfig
+{
+    private static final String CONFIG_FIELDS = "fields";
+
+    private final FieldSelector fields;
+
+    JsonAuditLoggerConfig(Map<String, String> parameters)
+    {
+        super(parameters);
+        fields = resolveFields(parameters);
+    }
+
+    private static FieldSelector resolveFields(Map<String, String> parameters)
+    {
+        String fieldsString = parameters.getOrDefault(CONFIG_FIELDS, "");
+
+        List<String> fieldNames = Splitter.on(",")
+                                          .trimResults()
+                                          .omitEmptyStrings()
+                                          .splitToList(fieldsString);
+        if (fieldNames.isEmpty())
+        {
+            return FieldSelector.DEFAULT_FIELDS;
+        }
+        try
+        {
+            return FieldSelector.fromFields(fieldNames);
+        }
+        catch (IllegalArgumentException e)
+        {
+            throw new ConfigurationException("Invalid JSON logger fields: " + fieldsString, e);
+        }
+    }
+
+    FieldSelector getFields()
+    {
+        return fields;
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ericsson.bss.cassandra.ecaudit.metrics.AuditMetrics;
+import net.openhft.chronicle.queue.RollCycle;
+
+/**
+ * Appends lines to memory mapped log files, rolling to a new file when the current file is full and when a new roll
+ * cycle starts.
+ * <p>
+ * Log files are named after their roll cycle and a sequence number within the cycle, so that they sort in
+ * chronological order, like {@code 20260312-09-00000.log}. The oldest files are deleted by a
+ * {@link SizeRotatingStoreFileListener} when the accumulated size of the log files exceeds the max log size.
+ * <p>
+ * Lines are appended by the calling threads. With the {@link SyncPolicy#PER_RECORD} policy each call returns when its
+ * line has been synced, and one sync covers all lines which were appended when it started, so concurrent calls share
+ * the syncs (group commit). With the {@link SyncPolicy#PERIODIC} policy a calling thread syncs at most once per sync
+ * interval. Each sync is timed by the {@code FileSync} metric.
+ * <p>
+ * Log files which were left with zero padding by a crash are truncated to their lines when the writer is created.
+ */
+class MappedFileWriter implements AutoCloseable
+{
+    private static final Logger LOG = LoggerFactory.getLogger(MappedFileWriter.class);
+
+    static final String FILE_SUFFIX = ".log";
+
+    private final Object appendLock = new Object();
+    private final Object syncLock = new Object();
+
+    private final Path logPath;
+    private final RollCycle rollCycle;
+    private final DateTimeFormatter cycleFormatter;
+    private final long maxFileSize;
+    private final SyncPolicy syncPolicy;
+    private final long syncIntervalNanos;
+    private final AuditMetrics auditMetrics;
+    private final LongSupplier clock;
+    private final SizeRotatingStoreFileListener fileListener;
+    private final AtomicLong nextSyncNanos = new AtomicLong(System.nanoTime());
+
+    // Guarded by appendLock, and also by syncLock when the current file is changed
+    private MappedLogFile currentFile;
+    private int currentCycle = -1;
+    private int nextSequence;
+    private long appendedBytes;
+    private boolean closed;
+
+    private volatile long syncedBytes;
+
+    MappedFileWriter(FileAuditLoggerConfig config, AuditMetrics auditMetrics)
+    {
+        this(config, auditMetrics, System::currentTimeMillis);
+    }
+
+    @VisibleForTesting
+    MappedFileWriter(FileAuditLoggerConfig config, AuditMetrics auditMetrics, LongSupplier clock)
+    {
+        this.logPath = config.getLogPath();
+        this.rollCycle = config.getRollCycle();
+        this.cycleFormatter = DateTimeFormatter.ofPattern(rollCycle.format()).withZone(ZoneOffset.UTC);
+        this.maxFileSize = config.getMaxFileSize();
+        this.syncPolicy = config.getSyncPolicy();
+        this.syncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(config.getSyncIntervalMs());
+        this.auditMetrics = auditMetrics;
+        this.clock = clock;
+
+        try
+        {
+            Files.createDirectories(logPath);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Failed to create audit log directory " + logPath, e);
+        }
+        truncatePaddedFiles();
+        this.fileListener = new SizeRotatingStoreFileListener(logPath, config.getMaxLogSize(), FILE_SUFFIX);
+    }
+
+    /**
+     * Truncate the zero padding of log files which were not closed, since a crash, so that they end with their lines.
+     */
+    private void truncatePaddedFiles()
+    {
+        try (Stream<Path> paths = Files.list(logPath))
+        {
+            for (Path path : paths.filter(path -> path.getFileName().toString().endsWith(FILE_SUFFIX)).collect(Collectors.toList()))
+            {
+                if (MappedLogFile.truncatePadding(path))
+                {
+                    LOG.info("Truncated audit log file {} which was not closed", path);
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Failed to truncate audit log files in " + logPath, e);
+        }
+    }
+
+    /**
+     * Append a line to the current log file, and sync it according to the sync policy.
+     *
+     * @param line the encoded line, without line separator
+     */
+    void write(byte[] line)
+    {
+        long position = append(line);
+
+        if (syncPolicy == SyncPolicy.PER_RECORD || syncPolicy == SyncPolicy.PERIODIC && isPeriodicSyncDue())
+        {
+            syncUpTo(position);
+        }
+    }
+
+    private long append(byte[] line)
+    {
+        int cycle = (int) (clock.getAsLong() / rollCycle.lengthInMillis());
+
+        synchronized (appendLock)
+        {
+            if (isCurrentFileAvailable(cycle, line.length))
+            {
+                return appendToCurrentFile(line);
+            }
+        }
+
+        // Rolling closes the current file, which must not happen while it is being synced
+        synchronized (syncLock)
+        {
+            synchronized (appendLock)
+            {
+                if (!isCurrentFileAvailable(cycle, line.length))
+                {
+                    roll(cycle, line.length);
+                }
+                return appendToCurrentFile(line);
+            }
+        }
+    }
+
+    private boolean isCurrentFileAvailable(int cycle, int lineLength)
+    {
+        return currentFile != null && cycle == currentCycle && currentFile.hasRoomFor(lineLength);
+    }
+
+    private long appendToCurrentFile(byte[] line)
+    {
+        currentFile.appendLine(line);
+        appendedBytes += line.length + 1;
+        return appendedBytes;
+    }
+
+    private void roll(int cycle, int lineLength)
+    {
+        if (closed)
+        {
+            throw new IllegalStateException("Audit log file writer is closed");
+        }
+
+        if (currentFile != null)
+        {
+            closeCurrentFile();
+        }
+
+        String cycleName = cycleFormatter.format(Instant.ofEpochMilli((long) cycle * rollCycle.lengthInMillis()));
+        if (cycle != currentCycle)
+        {
+            currentCycle = cycle;
+            nextSequence = findNextSequence(cycleName);
+        }
+
+        Path path = logPath.resolve(String.format("%s-%05d%s", cycleName, nextSequence, FILE_SUFFIX));
+        nextSequence++;
+        try
+        {
+            currentFile = new MappedLogFile(path, Math.max(maxFileSize, lineLength + 1L));
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Failed to create audit log file " + path, e);
+        }
+        fileListener.onAcquired(cycle, currentFile.getFile());
+    }
+
+    /**
+     * Find the sequence number to use for the next file of a roll cycle, following any files of the cycle which were
+     * written before a restart.
+     */
+    private int findNextSequence(String cycleName)
+    {
+        String prefix = cycleName + "-";
+        try (Stream<Path> paths = Files.list(logPath))
+        {
+            return paths.map(path -> path.getFileName().toString())
+                        .filter(name -> name.startsWith(prefix) && name.endsWith(FILE_SUFFIX))
+                        .map(name -> name.substring(prefix.length(), name.length() - FILE_SUFFIX.length()))
+                        .filter(sequence -> !sequence.isEmpty() && sequence.chars().allMatch(Character::isDigit))
+                        .mapToInt(sequence -> Integer.parseInt(sequence) + 1)
+                        .max()
+                        .orElse(0);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Failed to list audit log directory " + logPath, e);
+        }
+    }
+
+    private void closeCurrentFile()
+    {
+        MappedLogFile toClose = currentFile;
+        currentFile = null; // NOPMD
+        boolean sync = syncPolicy != SyncPolicy.NONE;
+        try
+        {
+            toClose.close(sync);
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Failed to close audit log file " + toClose.getFile(), e);
+        }
+        finally
+        {
+            fileListener.onReleased(currentCycle, toClose.getFile());
+        }
+
+        if (sync)
+        {
+            syncedBytes = appendedBytes;
+        }
+    }
+
+    private boolean isPeriodicSyncDue()
+    {
+        long now = System.nanoTime();
+        long next = nextSyncNanos.get();
+        return now - next >= 0 && nextSyncNanos.compareAndSet(next, now + syncIntervalNanos);
+    }
+
+    /**
+     * Sync the current log file, unless a sync which started after the given position was appended has already
+     * completed.
+     *
+     * @param position the position, in bytes appended since start, which must be synced
+     */
+    private void syncUpTo(long position)
+    {
+        if (syncedBytes >= position)
+        {
+            return;
+        }
+
+        synchronized (syncLock)
+        {
+            if (syncedBytes >= position)
+            {
+                return;
+            }
+
+            MappedLogFile toSync;
+            long appended;
+            synchronized (appendLock)
+            {
+                toSync = currentFile;
+                appended = appendedBytes;
+            }
+
+            if (toSync != null)
+            {
+                long start = System.nanoTime();
+                toSync.force();
+                auditMetrics.fileSync(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            syncedBytes = appended;
+        }
+    }
+
+    /**
+     * Close the current log file, after syncing it unless the sync policy is {@link SyncPolicy#NONE}.
+     */
+    @Override
+    public void close()
+    {
+        synchronized (syncLock)
+        {
+            synchronized (appendLock)
+            {
+                closed = true;
+                if (currentFile != null)
+                {
+                    closeCurrentFile();
+                }
+            }
+        }
+    }
+}
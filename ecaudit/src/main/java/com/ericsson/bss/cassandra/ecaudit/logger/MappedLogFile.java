@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.cassandra.io.util.FileUtils;
+
+/**
+ * A log file which is mapped into memory with a fixed size when created, and truncated to the appended lines when
+ * closed.
+ * <p>
+ * A log file which was never closed, because the process crashed, keeps its mapped size with zero bytes after the
+ * appended lines, until it is truncated by {@link #truncatePadding(Path)}.
+ * <p>
+ * This class is not thread safe.
+ */
+class MappedLogFile
+{
+    private static final byte LINE_SEPARATOR = '\n';
+    private static final int PADDING_SCAN_SIZE = 64 * 1024;
+
+    private final File file;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    /**
+     * Create and map a new log file.
+     *
+     * @param path the path of the log file, which must not exist
+     * @param size the number of bytes to map
+     * @throws IOException if the file exists or can't be created and mapped
+     */
+    MappedLogFile(Path path, long size) throws IOException
+    {
+        file = path.toFile();
+        channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try
+        {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+        catch (IOException | RuntimeException e)
+        {
+            channel.close();
+            throw e;
+        }
+    }
+
+    File getFile()
+    {
+        return file;
+    }
+
+    /**
+     * @param lineLength the length of a line, not counting the line separator
+     * @return {@code true} if the line and its separator fits in the file
+     */
+    boolean hasRoomFor(int lineLength)
+    {
+        return buffer.remaining() > lineLength;
+    }
+
+    /**
+     * Append a line, and a line separator, to the file.
+     *
+     * @param line the encoded line
+     */
+    void appendLine(byte[] line)
+    {
+        buffer.put(line).put(LINE_SEPARATOR);
+    }
+
+    /**
+     * Force the appended lines to storage.
+     */
+    void force()
+    {
+        buffer.force();
+    }
+
+    /**
+     * Unmap the file, truncate it to the appended lines and close it.
+     * <p>
+     * The file must not be used after it has been closed, since the mapping is released right away.
+     *
+     * @param sync {@code true} to force the appended lines to storage before the file is truncated
+     * @throws IOException if the file can't be truncated or closed
+     */
+    void close(boolean sync) throws IOException
+    {
+        if (sync)
+        {
+            buffer.force();
+        }
+
+        int size = buffer.position();
+        FileUtils.clean(buffer);
+        try (FileChannel toClose = channel)
+        {
+            toClose.truncate(size);
+        }
+    }
+
+    /**
+     * Truncate the zero bytes after the appended lines of a log file which was never closed.
+     *
+     * @param path the path of the log file
+     * @return {@code true} if the file was truncated
+     * @throws IOException if the file can't be read or truncated
+     */
+    static boolean truncatePadding(Path path) throws IOException
+    {
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE))
+        {
+            long size = fileChannel.size();
+            long end = findEndOfLines(fileChannel, size);
+            if (end == size)
+            {
+                return false;
+            }
+
+            fileChannel.truncate(end);
+            return true;
+        }
+    }
+
+    private static long findEndOfLines(FileChannel fileChannel, long size) throws IOException
+    {
+        ByteBuffer chunk = ByteBuffer.allocate(PADDING_SCAN_SIZE);
+        long end = size;
+        while (end > 0)
+        {
+            int length = (int) Math.min(PADDING_SCAN_SIZE, end);
+            long start = end - length;
+            chunk.clear().limit(length);
+            int read = 0;
+            while (chunk.hasRemaining() && read >= 0)
+            {
+                read = fileChannel.read(chunk, start + chunk.position());
+            }
+
+            for (int i = length - 1; i >= 0; i--)
+            {
+                if (chunk.get(i) != 0)
+                {
+                    return start + i + 1;
+                }
+            }
+            end = start;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,387 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongConsumer;
+
+/**
+ * A bounded, lock-free, multi-producer/single-consumer ring buffer with preallocated slots.
+ * <p>
+ * Each slot carries a sequence number which tells whether the slot is free for the producer of a given position, or
+ * holds a published element for the consumer of that position. Producers claim positions with a CAS on the tail
+ * cursor, while the head cursor is only ever updated by the single consumer thread.
+ * <p>
+ * What the consumer does while the buffer is empty is decided by the configured {@link WaitStrategy}.
+ * Producers waiting for free capacity will spin briefly, then yield and finally park for short periods.
+ * <p>
+ * The first producer publishing to the buffer while the consumer waits notes the time, so that the wake-up delay of
+ * the consumer can be reported once it takes the element. This includes the time the consumer thread waited to be
+ * scheduled, which is what pinning it to a CPU of its own will reduce.
+ *
+ * @param <E> the type of elements held in the buffer
+ */
+class MpscRingBuffer<E>
+{
+    private static final int PRODUCER_SPIN_TRIES = 100;
+    private static final int PRODUCER_YIELD_TRIES = PRODUCER_SPIN_TRIES + 100;
+    private static final long PRODUCER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    private final WaitStrategy waitStrategy;
+    private final LongConsumer wakeupListener;
+
+    private volatile Thread consumer;
+    private volatile boolean consumerWaiting;
+    private volatile long signalNanos;
+
+    /**
+     * Create a new ring buffer.
+     *
+     * @param capacity     the number of slots, must be a power of two of at least 2
+     * @param waitStrategy the strategy used by the consumer while the buffer is empty
+     * @throws IllegalArgumentException if the capacity is not a power of two of at least 2
+     */
+    MpscRingBuffer(int capacity, WaitStrategy waitStrategy)
+    {
+        this(capacity, waitStrategy, nanos -> {});
+    }
+
+    /**
+     * Create a new ring buffer which reports the wake-up delay of the consumer.
+     *
+     * @param capacity       the number of slots, must be a power of two of at least 2
+     * @param waitStrategy   the strategy used by the consumer while the buffer is empty
+     * @param wakeupListener called by the consumer with the nanoseconds from a producer publishing to the buffer while
+     *                       the consumer waited, until the consumer took an element
+     * @throws IllegalArgumentException if the capacity is not a power of two of at least 2
+     */
+    MpscRingBuffer(int capacity, WaitStrategy waitStrategy, LongConsumer wakeupListener)
+    {
+        // With a single slot the published and the free sequence of a slot would be the same
+        if (capacity < 2 || Integer.bitCount(capacity) != 1)
+        {
+            throw new IllegalArgumentException("Ring buffer capacity must be a power of two of at least 2: " + capacity);
+        }
+
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++)
+        {
+            sequences.set(i, i);
+        }
+        this.waitStrategy = waitStrategy;
+        this.wakeupListener = wakeupListener;
+    }
+
+    /**
+     * Insert an element if there is free capacity.
+     *
+     * @param element the element to insert, must not be {@code null}
+     * @return {@code true} if the element was inserted, {@code false} if the buffer is full
+     */
+    boolean offer(E element)
+    {
+        long position = tail.get();
+        while (true)
+        {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0)
+            {
+                if (tail.compareAndSet(position, position + 1))
+                {
+                    elements.lazySet(index, element);
+                    // Full fence, makes the element visible before we check for a waiting consumer
+                    sequences.set(index, position + 1);
+                    signalConsumer();
+                    return true;
+                }
+                position = tail.get();
+            }
+            else if (difference < 0)
+            {
+                return false;
+            }
+            else
+            {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Insert an element, waiting for free capacity if necessary.
+     *
+     * @param element the element to insert, must not be {@code null}
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void put(E element) throws InterruptedException
+    {
+        int tries = 0;
+        while (!offer(element))
+        {
+            tries = backOff(tries);
+        }
+    }
+
+    /**
+     * Insert an element, waiting up to the specified time for free capacity if necessary.
+     *
+     * @param element the element to insert, must not be {@code null}
+     * @param timeout the maximum time to wait
+     * @param unit    the time unit of the timeout
+     * @return {@code true} if the element was inserted, {@code false} if the timeout elapsed before capacity was available
+     * @throws InterruptedException if interrupted while waiting
+     */
+    boolean offer(E element, long timeout, TimeUnit unit) throws InterruptedException
+    {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int tries = 0;
+        while (!offer(element))
+        {
+            if (deadline - System.nanoTime() <= 0)
+            {
+                return false;
+            }
+            tries = backOff(tries);
+        }
+        return true;
+    }
+
+    private static int backOff(int tries) throws InterruptedException
+    {
+        if (Thread.interrupted())
+        {
+            throw new InterruptedException();
+        }
+
+        if (tries < PRODUCER_SPIN_TRIES)
+        {
+            Thread.onSpinWait();
+            return tries + 1;
+        }
+
+        if (tries < PRODUCER_YIELD_TRIES)
+        {
+            Thread.yield();
+            return tries + 1;
+        }
+
+        LockSupport.parkNanos(PRODUCER_PARK_NANOS);
+        return tries;
+    }
+
+    /**
+     * Remove the next element if available. Must only be called by the consumer thread.
+     *
+     * @return the next element, or {@code null} if the buffer is empty
+     */
+    E poll()
+    {
+        long position = head.get();
+        int index = (int) position & mask;
+        if (sequences.get(index) != position + 1)
+        {
+            return null;
+        }
+
+        E element = elements.get(index);
+        elements.lazySet(index, null);
+        sequences.lazySet(index, position + capacity);
+        head.lazySet(position + 1);
+        return element;
+    }
+
+    /**
+     * Remove the next element, waiting according to the wait strategy until one is available.
+     * Must only be called by the consumer thread.
+     *
+     * @return the next element
+     * @throws InterruptedException if interrupted while waiting
+     */
+    E take() throws InterruptedException
+    {
+        E element = poll();
+        if (element != null)
+        {
+            return element;
+        }
+
+        beginWait();
+        try
+        {
+            while (element == null)
+            {
+                idle(Long.MAX_VALUE);
+                element = poll();
+            }
+        }
+        finally
+        {
+            endWait(element != null);
+        }
+        return element;
+    }
+
+    /**
+     * Remove the next element, waiting according to the wait strategy up to the specified time for one to be available.
+     * Must only be called by the consumer thread.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the time unit of the timeout
+     * @return the next element, or {@code null} if the timeout elapsed before an element was available
+     * @throws InterruptedException if interrupted while waiting
+     */
+    E poll(long timeout, TimeUnit unit) throws InterruptedException
+    {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        E element = poll();
+        if (element != null)
+        {
+            return element;
+        }
+
+        beginWait();
+        try
+        {
+            while (element == null)
+            {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0)
+                {
+                    return null;
+                }
+                idle(remaining);
+                element = poll();
+            }
+        }
+        finally
+        {
+            endWait(element != null);
+        }
+        return element;
+    }
+
+    /**
+     * Remove available elements and add them to the given collection. Must only be called by the consumer thread.
+     *
+     * @param collection  the collection to transfer elements into
+     * @param maxElements the maximum number of elements to transfer
+     * @return the number of elements transferred
+     */
+    int drainTo(Collection<? super E> collection, int maxElements)
+    {
+        int drained = 0;
+        while (drained < maxElements)
+        {
+            E element = poll();
+            if (element == null)
+            {
+                break;
+            }
+            collection.add(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * @return an estimate of the number of elements in the buffer
+     */
+    int size()
+    {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    /**
+     * @return the number of slots in the buffer
+     */
+    int capacity()
+    {
+        return capacity;
+    }
+
+    private boolean isEmpty()
+    {
+        long position = head.get();
+        return sequences.get((int) position & mask) != position + 1;
+    }
+
+    private void beginWait()
+    {
+        signalNanos = 0;
+        consumer = Thread.currentThread();
+        consumerWaiting = true;
+    }
+
+    /**
+     * Report the wake-up delay if a producer published while we waited and we took an element.
+     * A producer which saw us waiting just before we stopped may note the time late, during our next wait, so the
+     * reported delay is an estimate which now and then includes some of the time spent waiting.
+     */
+    private void endWait(boolean taken)
+    {
+        consumerWaiting = false;
+        long signalled = signalNanos;
+        if (taken && signalled != 0)
+        {
+            wakeupListener.accept(System.nanoTime() - signalled);
+        }
+    }
+
+    private void idle(long maxNanos) throws InterruptedException
+    {
+        if (Thread.interrupted())
+        {
+            throw new InterruptedException();
+        }
+
+        // Re-check after announcing that we are waiting, a producer may have published in between
+        if (isEmpty())
+        {
+            waitStrategy.idle(maxNanos);
+        }
+    }
+
+    private void signalConsumer()
+    {
+        if (consumerWaiting)
+        {
+            if (signalNanos == 0)
+            {
+                signalNanos = System.nanoTime();
+            }
+            if (waitStrategy.requiresSignal())
+            {
+                LockSupport.unpark(consumer);
+            }
+        }
+    }
+}
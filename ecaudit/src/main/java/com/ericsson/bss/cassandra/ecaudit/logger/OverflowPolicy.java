@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+/**
+ * The overflow policy decides what happens to a request thread when the Chronicle writer queue is full.
+ */
+enum OverflowPolicy
+{
+    /**
+     * Block the request thread until there is room in the queue.
+     */
+    BLOCK,
+    /**
+     * Block the request thread until there is room in the queue, or fail the request if a timeout elapses.
+     */
+    BLOCK_WITH_TIMEOUT,
+    /**
+     * Spill the record to a secondary on-disk queue, which is drained by the writer thread later on.
+     */
+    SPILL
+}
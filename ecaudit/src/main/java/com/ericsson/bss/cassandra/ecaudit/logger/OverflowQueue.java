@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import net.openhft.chronicle.queue.ChronicleQueue;
+import net.openhft.chronicle.queue.ExcerptAppender;
+import net.openhft.chronicle.queue.ExcerptTailer;
+import net.openhft.chronicle.queue.impl.single.SingleChronicleQueueBuilder;
+import net.openhft.chronicle.wire.DocumentContext;
+import net.openhft.chronicle.wire.WriteMarshallable;
+
+/**
+ * A secondary on-disk queue where request threads spill audit records when the Chronicle writer queue is full.
+ * <p>
+ * Spilled records are appended directly to a separate Chronicle queue by the request thread. The writer thread will
+ * later copy them into the audit log as-is, using a named tailer so that records left from a previous run are drained
+ * on the next start.
+ */
+class OverflowQueue implements AutoCloseable
+{
+    private static final String TAILER_NAME = "overflow-drain";
+
+    private final ChronicleQueue chronicle;
+    private final ExcerptTailer tailer;
+    private final AtomicLong spilledRecords = new AtomicLong();
+
+    private long drainedRecords;
+    private boolean backlog = true;
+
+    OverflowQueue(ChronicleAuditLoggerConfig config, int stripe)
+    {
+        this(SingleChronicleQueueBuilder.single(config.getOverflowPath(stripe).toFile())
+                                        .rollCycle(config.getRollCycle())
+                                        .storeFileListener(new SizeRotatingStoreFileListener(config.getOverflowPath(stripe), config.getStripeMaxLogSize()))
+                                        .build());
+    }
+
+    @VisibleForTesting
+    OverflowQueue(ChronicleQueue chronicle)
+    {
+        this.chronicle = chronicle;
+        this.tailer = chronicle.createTailer(TAILER_NAME);
+    }
+
+    /**
+     * Append a record to the overflow queue. May be called by any thread.
+     *
+     * @param marshallable the record to spill
+     */
+    void spill(WriteMarshallable marshallable)
+    {
+        chronicle.acquireAppender().writeDocument(marshallable);
+        spilledRecords.incrementAndGet();
+    }
+
+    /**
+     * Must only be called by the writer thread.
+     *
+     * @return {@code true} if there may be records waiting to be drained, {@code false} otherwise
+     */
+    boolean hasPending()
+    {
+        return backlog || spilledRecords.get() > drainedRecords;
+    }
+
+    /**
+     * Copy spilled records into the audit log. Must only be called by the writer thread.
+     *
+     * @param appender   the appender of the audit log
+     * @param maxRecords the maximum number of records to copy
+     * @return the number of records copied
+     */
+    int drainTo(ExcerptAppender appender, int maxRecords)
+    {
+        // Everything spilled before this point is visible to the tailer
+        long spilledSnapshot = spilledRecords.get();
+        int drained = 0;
+        while (drained < maxRecords)
+        {
+            try (DocumentContext context = tailer.readingDocument())
+            {
+                if (!context.isPresent())
+                {
+                    drainedRecords = spilledSnapshot;
+                    backlog = false;
+                    return drained;
+                }
+                appender.writeBytes(context.wire().bytes());
+            }
+            drained++;
+        }
+        return drained;
+    }
+
+    @Override
+    public void close()
+    {
+        chronicle.close();
+    }
+}
@@ -22,6 +22,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import net.openhft.chronicle.queue.impl.StoreFileListener;
+import net.openhft.chronicle.queue.impl.single.SingleChronicleQueue;
 
 class SizeRotatingStoreFileListener implements StoreFileListener
 {
@@ -33,8 +34,18 @@ class SizeRotatingStoreFileListener implements StoreFileListener
 
     SizeRotatingStoreFileListener(Path path, long maxLogSize)
     {
-        LOG.debug("Rotating Chronicle audit logs at threshold {} bytes", maxLogSize);
-        bootstrapper = new FileQueueBootstrapper(path);
+        this(path, maxLogSize, SingleChronicleQueue.SUFFIX);
+    }
+
+    /**
+     * @param path       the directory of the audit log files
+     * @param maxLogSize the accumulated size of the audit log files at which the oldest files are deleted
+     * @param fileSuffix the suffix of the audit log files, files with other suffixes are left alone
+     */
+    SizeRotatingStoreFileListener(Path path, long maxLogSize, String fileSuffix)
+    {
+        LOG.debug("Rotating audit logs at threshold {} bytes", maxLogSize);
+        bootstrapper = new FileQueueBootstrapper(path, fileSuffix);
         this.maxLogSize = maxLogSize;
         reset();
     }
@@ -50,7 +61,7 @@ class SizeRotatingStoreFileListener implements StoreFileListener
     {
         if(LOG.isDebugEnabled())
         {
-            LOG.debug("Chronicle acquired [{}] {} at {} bytes", cycle, file.getPath(), file.length());
+            LOG.debug("Acquired [{}] {} at {} bytes", cycle, file.getPath(), file.length());
         }
 
         if (bootstrapper.isBootstrapping())
@@ -67,7 +78,7 @@ class SizeRotatingStoreFileListener implements StoreFileListener
     {
         if(LOG.isDebugEnabled())
         {
-            LOG.debug("Chronicle released [{}] {} at {} bytes", cycle, file.getPath(), file.length());
+            LOG.debug("Released [{}] {} at {} bytes", cycle, file.getPath(), file.length());
         }
 
         releasedFileQueue.offer(file);
@@ -91,19 +102,19 @@ class SizeRotatingStoreFileListener implements StoreFileListener
         File toDelete = releasedFileQueue.poll();
         if (toDelete == null)
         {
-            LOG.error("Above audit file threshold but no Chronicle file to delete");
+            LOG.error("Above audit file threshold but no audit log file to delete");
             return false;
         }
 
         if(LOG.isDebugEnabled())
         {
-            LOG.debug("Deleting Chronicle file {} at {} bytes", toDelete.getPath(), toDelete.getPath().length());
+            LOG.debug("Deleting audit log file {} at {} bytes", toDelete.getPath(), toDelete.getPath().length());
         }
         if (!toDelete.delete())
         {
             if(LOG.isErrorEnabled())
             {
-                LOG.error("Failed to delete Chronicle file {}", toDelete.getPath());
+                LOG.error("Failed to delete audit log file {}", toDelete.getPath());
             }
             return false;
         }
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ericsson.bss.cassandra.ecaudit.entry.AuditEntry;
+import com.ericsson.bss.cassandra.ecaudit.metrics.AuditMetrics;
+
+import org.apache.cassandra.concurrent.NamedThreadFactory;
+
+/**
+ * Hands over audit entries from request threads to a dedicated thread which formats and logs them.
+ * <p>
+ * Entries still in the queue when the writer is closed are logged before the thread ends.
+ * A failure to log one entry does not stop the writer thread. Only the first failure is reported until an entry
+ * is logged successfully again, every failed entry is counted in the {@code Slf4jFailed} metric.
+ */
+class Slf4jAsyncWriter implements AutoCloseable
+{
+    private static final Logger LOG = LoggerFactory.getLogger(Slf4jAsyncWriter.class);
+
+    private final Thread writerThread;
+    private final MpscRingBuffer<AuditEntry> queue;
+    private final Slf4jOverflowPolicy overflowPolicy;
+    private final Consumer<AuditEntry> entryLogger;
+    private final AuditMetrics auditMetrics;
+
+    private volatile boolean active = true;
+    private boolean failing; // Only used by the writer thread
+
+    /**
+     * @param capacity       the capacity of the queue, must be a power of two of at least 2
+     * @param overflowPolicy what to do when the queue is full
+     * @param entryLogger    formats and logs an entry, called by the writer thread
+     * @param auditMetrics   the metrics to report queue depth, dropped and failed entries to
+     */
+    Slf4jAsyncWriter(int capacity, Slf4jOverflowPolicy overflowPolicy, Consumer<AuditEntry> entryLogger, AuditMetrics auditMetrics)
+    {
+        this.queue = new MpscRingBuffer<>(capacity, WaitStrategy.BLOCKING);
+        this.overflowPolicy = overflowPolicy;
+        this.entryLogger = entryLogger;
+        this.auditMetrics = auditMetrics;
+        writerThread = new NamedThreadFactory("Audit SLF4J Writer").newThread(this::writerLoop);
+        writerThread.start();
+    }
+
+    /**
+     * Hand over an entry to the writer thread, the configured {@link Slf4jOverflowPolicy} decides what happens if the queue is full.
+     *
+     * @param logEntry the entry to log
+     */
+    void put(AuditEntry logEntry)
+    {
+        if (!active)
+        {
+            throw new IllegalStateException("SLF4J audit writer has been deactivated");
+        }
+
+        if (queue.offer(logEntry))
+        {
+            return;
+        }
+
+        if (overflowPolicy == Slf4jOverflowPolicy.DROP)
+        {
+            auditMetrics.slf4jDropped();
+            return;
+        }
+
+        try
+        {
+            queue.put(logEntry);
+        }
+        catch (InterruptedException e)
+        {
+            LOG.warn("Interrupted while sending message to SLF4J writer");
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writerLoop()
+    {
+        List<AuditEntry> batch = new ArrayList<>();
+        try
+        {
+            while (active)
+            {
+                batch.add(queue.take());
+                auditMetrics.slf4jQueueDepth(queue.size() + 1);
+                queue.drainTo(batch, queue.capacity());
+                logAll(batch);
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        queue.drainTo(batch, queue.capacity());
+        logAll(batch);
+    }
+
+    private void logAll(List<AuditEntry> batch)
+    {
+        for (AuditEntry logEntry : batch)
+        {
+            try
+            {
+                entryLogger.accept(logEntry);
+                if (failing)
+                {
+                    LOG.info("Logging audit entries again");
+                    failing = false;
+                }
+            }
+            catch (RuntimeException e)
+            {
+                auditMetrics.slf4jFailed();
+                // Report the first failure only, until an entry is logged again
+                if (!failing)
+                {
+                    LOG.error("Failed to log audit entry, further failures are only counted until logging recovers", e);
+                    failing = true;
+                }
+            }
+        }
+        batch.clear();
+    }
+
+    @Override
+    public synchronized void close()
+    {
+        if (!active)
+        {
+            return;
+        }
+
+        active = false;
+        try
+        {
+            writerThread.interrupt();
+            writerThread.join(500);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
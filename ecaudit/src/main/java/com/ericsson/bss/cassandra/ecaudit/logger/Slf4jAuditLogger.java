@@ -15,10 +15,9 @@
  */
 package com.ericsson.bss.cassandra.ecaudit.logger;
 
-import java.net.InetSocketAddress;
-import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -26,21 +25,27 @@ import com.google.common.collect.ImmutableMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.ericsson.bss.cassandra.ecaudit.common.formatter.CachingTimestampFormatter;
 import com.ericsson.bss.cassandra.ecaudit.common.formatter.LogMessageFormatter;
 import com.ericsson.bss.cassandra.ecaudit.entry.AuditEntry;
+import com.ericsson.bss.cassandra.ecaudit.metrics.AuditMetrics;
 import org.apache.cassandra.exceptions.ConfigurationException;
 
 /**
  * Implements an {@link AuditLogger} that writes {@link AuditEntry} instance into file using {@link Logger}.
  * <br>
  * It is possible to configure a parameterized log message by providing a formatting string {@link Slf4jAuditLoggerConfig#getLogFormat()}.
+ * <br>
+ * In {@link WriteMode#ASYNC} mode entries are handed over to a dedicated thread which formats and logs them.
  */
 public class Slf4jAuditLogger implements AuditLogger
 {
     public static final String AUDIT_LOGGER_NAME = "ECAUDIT";
 
     private final Logger auditLogger;
-    private final LogMessageFormatter<AuditEntry> formatter;
+    private final Function<AuditEntry, String> formatter;
+    private final AuditMetrics auditMetrics;
+    private final Slf4jAsyncWriter asyncWriter;
 
     /**
      * Constructor, injects logger from {@link LoggerFactory}.
@@ -66,19 +71,55 @@ public class Slf4jAuditLogger implements AuditLogger
      */
     @VisibleForTesting
     Slf4jAuditLogger(Slf4jAuditLoggerConfig auditConfig, Logger logger)
+    {
+        this(auditConfig, logger, new AuditMetrics());
+    }
+
+    /**
+     * Test constructor.
+     *
+     * @param auditConfig  the audit configuration which provide the log format and write mode
+     * @param logger       the logger backend to use for audit logs
+     * @param auditMetrics the metrics to report the asynchronous queue and formatting time to
+     */
+    @VisibleForTesting
+    Slf4jAuditLogger(Slf4jAuditLoggerConfig auditConfig, Logger logger, AuditMetrics auditMetrics)
+    {
+        this(auditConfig, logger, auditMetrics, createLogMessageFormatter(auditConfig)::format);
+    }
+
+    /**
+     * Constructor for loggers which render audit entries in another way than by a log format.
+     *
+     * @param auditConfig  the audit configuration which provide the write mode
+     * @param logger       the logger backend to use for audit logs
+     * @param auditMetrics the metrics to report the asynchronous queue and formatting time to
+     * @param formatter    renders the log message of an audit entry
+     */
+    Slf4jAuditLogger(Slf4jAuditLoggerConfig auditConfig, Logger logger, AuditMetrics auditMetrics, Function<AuditEntry, String> formatter)
     {
         auditLogger = logger;
-        formatter = createLogMessageFormatter(auditConfig);
+        this.formatter = formatter;
+        this.auditMetrics = auditMetrics;
+        asyncWriter = createAsyncWriter(auditConfig);
     }
 
-    private LogMessageFormatter<AuditEntry> createLogMessageFormatter(Slf4jAuditLoggerConfig auditConfig)
+    private Slf4jAsyncWriter createAsyncWriter(Slf4jAuditLoggerConfig auditConfig)
+    {
+        if (auditConfig.getWriteMode() != WriteMode.ASYNC)
+        {
+            return null;
+        }
+
+        return new Slf4jAsyncWriter(auditConfig.getQueueCapacity(), auditConfig.getOverflowPolicy(), this::formatAndLog, auditMetrics);
+    }
+
+    static LogMessageFormatter<AuditEntry> createLogMessageFormatter(Slf4jAuditLoggerConfig auditConfig)
     {
         try
         {
             return LogMessageFormatter.<AuditEntry>builder()
                    .format(auditConfig.getLogFormat())
-                   .anchor("{}")
-                   .escape("\\{\\}", "\\\\{}")
                    .availableFields(getAvailableFieldFunctionMap(auditConfig))
                    .build();
         }
@@ -90,35 +131,21 @@ public class Slf4jAuditLogger implements AuditLogger
 
     static Map<String, Function<AuditEntry, Object>> getAvailableFieldFunctionMap(Slf4jAuditLoggerConfig auditConfig)
     {
+        CharacterEscaper escaper = CharacterEscaper.forCharacters(auditConfig.getEscapeCharacters());
         return ImmutableMap.<String, Function<AuditEntry, Object>>builder()
-               .put("CLIENT_IP", entry -> entry.getClientAddress().getAddress().getHostAddress())
-               .put("CLIENT_PORT", entry -> getPortOrNull(entry.getClientAddress()))
-               .put("COORDINATOR_IP", entry -> entry.getCoordinatorAddress().getHostAddress())
-               .put("USER", entry -> sanitize(entry.getUser(), auditConfig))
+               .put("CLIENT_IP", entry -> entry.getRendered().getClientIp())
+               .put("CLIENT_PORT", entry -> entry.getRendered().getClientPort())
+               .put("COORDINATOR_IP", entry -> entry.getRendered().getCoordinatorIp())
+               .put("USER", entry -> escaper.escape(entry.getUser()))
                .put("BATCH_ID", entry -> entry.getBatchId().orElse(null))
                .put("STATUS", AuditEntry::getStatus)
-               .put("OPERATION", entry -> sanitize(entry.getOperation().getOperationString(), auditConfig))
-               .put("OPERATION_NAKED", entry -> sanitize(entry.getOperation().getNakedOperationString(), auditConfig))
+               .put("OPERATION", entry -> escaper.escape(entry.getOperation().getOperationString()))
+               .put("OPERATION_NAKED", entry -> escaper.escape(entry.getOperation().getNakedOperationString()))
                .put("TIMESTAMP", getTimeFunction(auditConfig))
-               .put("SUBJECT", entry -> entry.getSubject().map(s -> sanitize(s, auditConfig)).orElse(null))
+               .put("SUBJECT", entry -> entry.getSubject().map(escaper::escape).orElse(null))
                .build();
     }
 
-    private static String sanitize(String input, Slf4jAuditLoggerConfig auditConfig)
-    {
-        String sanitized = input;
-        for (String escapeCharacter : auditConfig.getEscapeCharacters())
-        {
-            sanitized = sanitized.replaceAll(escapeCharacter, "\\\\" + escapeCharacter);
-        }
-        return sanitized;
-    }
-
-    private static Integer getPortOrNull(InetSocketAddress address)
-    {
-        return address.getPort() == AuditEntry.UNKNOWN_PORT ? null : address.getPort();
-    }
-
     static Function<AuditEntry, Object> getTimeFunction(Slf4jAuditLoggerConfig auditConfig)
     {
         return auditConfig.getTimeFormatter()
@@ -128,15 +155,43 @@ public class Slf4jAuditLogger implements AuditLogger
 
     private static Function<AuditEntry, Object> getFormattedTimestamp(DateTimeFormatter formatter)
     {
-        return auditEntry -> formatter.format(Instant.ofEpochMilli(auditEntry.getTimestamp()));
+        CachingTimestampFormatter cachingFormatter = new CachingTimestampFormatter(formatter);
+        return auditEntry -> cachingFormatter.format(auditEntry.getTimestamp());
     }
 
     @Override
     public void log(AuditEntry logEntry)
     {
-        if(auditLogger.isInfoEnabled())
+        if (asyncWriter != null)
+        {
+            asyncWriter.put(logEntry);
+        }
+        else if (auditLogger.isInfoEnabled())
+        {
+            auditLogger.info(formatter.apply(logEntry));
+        }
+    }
+
+    private void formatAndLog(AuditEntry logEntry)
+    {
+        if (auditLogger.isInfoEnabled())
+        {
+            long start = System.nanoTime();
+            String message = formatter.apply(logEntry);
+            auditMetrics.slf4jFormat(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            auditLogger.info(message);
+        }
+    }
+
+    /**
+     * Stop the writer thread of the asynchronous mode, after logging the entries still in the queue.
+     */
+    @VisibleForTesting
+    void close()
+    {
+        if (asyncWriter != null)
         {
-            auditLogger.info(formatter.getLogTemplate(), formatter.getArgumentsForEntry(logEntry));
+            asyncWriter.close();
         }
     }
 }
@@ -23,27 +23,46 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ericsson.bss.cassandra.ecaudit.utils.Exceptions;
 import org.apache.cassandra.exceptions.ConfigurationException;
 
 class Slf4jAuditLoggerConfig
 {
+    private static final Logger LOG = LoggerFactory.getLogger(Slf4jAuditLoggerConfig.class);
+
     private static final String CONFIG_LOG_FORMAT = "log_format";
     private static final String CONFIG_TIME_FORMAT = "time_format";
     private static final String CONFIG_TIME_ZONE = "time_zone";
     private static final String CONFIG_ESCAPE_CHARACTERS = "escape_characters";
+    private static final String CONFIG_WRITE_MODE = "write_mode";
+    private static final String CONFIG_QUEUE_CAPACITY = "queue_capacity";
+    private static final String CONFIG_OVERFLOW_POLICY = "overflow_policy";
 
     private static final String DEFAULT_LOG_FORMAT = "client:'${CLIENT_IP}'|user:'${USER}'{?|batchId:'${BATCH_ID}'?}|status:'${STATUS}'|operation:'${OPERATION}'";
+    private static final WriteMode DEFAULT_WRITE_MODE = WriteMode.SYNC;
+    private static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    private static final Slf4jOverflowPolicy DEFAULT_OVERFLOW_POLICY = Slf4jOverflowPolicy.BLOCK;
 
     private final String logFormat;
     private final DateTimeFormatter timeFormatter;
     private final Set<String> escapeCharacters;
+    private final WriteMode writeMode;
+    private final int queueCapacity;
+    private final Slf4jOverflowPolicy overflowPolicy;
 
     Slf4jAuditLoggerConfig(Map<String, String> parameters)
     {
         logFormat = resolveLogFormat(parameters);
         timeFormatter = resolveTimeFormatter(parameters);
         escapeCharacters = resolveEscapeCharacters(parameters);
+        writeMode = resolveEnum(parameters, CONFIG_WRITE_MODE, WriteMode.class, DEFAULT_WRITE_MODE, "write mode");
+        queueCapacity = resolveQueueCapacity(parameters);
+        overflowPolicy = resolveEnum(parameters, CONFIG_OVERFLOW_POLICY, Slf4jOverflowPolicy.class, DEFAULT_OVERFLOW_POLICY, "overflow policy");
     }
 
     private static String resolveLogFormat(Map<String, String> parameters) throws ConfigurationException
@@ -92,7 +111,11 @@ class Slf4jAuditLoggerConfig
         for (String escapeChar : escape.split(","))
         {
             String trimmed = escapeChar.trim();
-            if (!trimmed.isEmpty())
+            if (trimmed.length() > 1)
+            {
+                LOG.warn("Ignoring SLF4J logger escape character parameter '{}' which is not a single character", trimmed);
+            }
+            else if (!trimmed.isEmpty())
             {
                 escapeChars.add(trimmed);
             }
@@ -100,6 +123,78 @@ class Slf4jAuditLoggerConfig
         return escapeChars;
     }
 
+    private static <E extends Enum<E>> E resolveEnum(Map<String, String> parameters, String option, Class<E> enumType, E defaultValue, String description)
+    {
+        try
+        {
+            return Optional.ofNullable(parameters.get(option))
+                           .map(String::toUpperCase)
+                           .map(value -> Enum.valueOf(enumType, value))
+                           .orElse(defaultValue);
+        }
+        catch (IllegalArgumentException e)
+        {
+            throw new ConfigurationException("Invalid SLF4J logger " + description + " parameter: " + parameters.get(option), e);
+        }
+    }
+
+    private static int resolveQueueCapacity(Map<String, String> parameters)
+    {
+        int capacity;
+        try
+        {
+            capacity = Optional.ofNullable(parameters.get(CONFIG_QUEUE_CAPACITY))
+                               .map(Integer::parseInt)
+                               .orElse(DEFAULT_QUEUE_CAPACITY);
+        }
+        catch (NumberFormatException e)
+        {
+            throw new ConfigurationException("Invalid SLF4J logger queue capacity parameter: " + parameters.get(CONFIG_QUEUE_CAPACITY), e);
+        }
+
+        if (capacity < 2 || Integer.bitCount(capacity) != 1)
+        {
+            throw new ConfigurationException("Invalid SLF4J logger queue capacity parameter, must be a power of two: " + capacity);
+        }
+
+        return capacity;
+    }
+
+    /**
+     * Resolve a numeric option of a logger which extends the options of the SLF4J logger.
+     *
+     * @param parameters     the logger parameters
+     * @param option         the name of the option
+     * @param parser         parses the value of the option
+     * @param defaultValue   the value if the option is not set
+     * @param minValue       the smallest valid value
+     * @param invalidMessage the message of the exception if the value is invalid, followed by the value
+     * @param <T>            the type of the value
+     * @return the value of the option
+     */
+    static <T extends Comparable<T>> T resolveNumber(Map<String, String> parameters, String option, Function<String, T> parser,
+                                                     T defaultValue, T minValue, String invalidMessage)
+    {
+        T value;
+        try
+        {
+            value = Optional.ofNullable(parameters.get(option))
+                            .map(parser)
+                            .orElse(defaultValue);
+        }
+        catch (NumberFormatException e)
+        {
+            throw Exceptions.appendCause(new ConfigurationException(invalidMessage + ": " + parameters.get(option)), e);
+        }
+
+        if (value.compareTo(minValue) < 0)
+        {
+            throw new ConfigurationException(invalidMessage + ": " + parameters.get(option));
+        }
+
+        return value;
+    }
+
     String getLogFormat()
     {
         return logFormat;
@@ -114,4 +209,19 @@ class Slf4jAuditLoggerConfig
     {
         return escapeCharacters;
     }
+
+    WriteMode getWriteMode()
+    {
+        return writeMode;
+    }
+
+    int getQueueCapacity()
+    {
+        return queueCapacity;
+    }
+
+    Slf4jOverflowPolicy getOverflowPolicy()
+    {
+        return overflowPolicy;
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.util.Map;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import com.ericsson.bss.cassandra.ecaudit.entry.AuditEntry;
+import com.ericsson.bss.cassandra.ecaudit.metrics.AuditMetrics;
+
+/**
+ * Implements an {@link AuditLogger} that streams {@link AuditEntry} instances as RFC 5424 syslog messages to a central
+ * collector, over TCP or UDP.
+ * <br>
+ * The log message is configured in the same way as for the {@link Slf4jAuditLogger}. Entries are handed over to a
+ * writer thread which sends them in batches, and which spools them to a local Chronicle queue while the collector is
+ * unreachable.
+ */
+public class SocketAuditLogger implements AuditLogger
+{
+    private final SocketWriter writer;
+
+    /**
+     * Constructor, creates the spool directory if it doesn't exist.
+     *
+     * @param parameters the custom strategy parameters
+     */
+    public SocketAuditLogger(Map<String, String> parameters)
+    {
+        this(new SocketAuditLoggerConfig(parameters), new AuditMetrics());
+    }
+
+    @VisibleForTesting
+    SocketAuditLogger(SocketAuditLoggerConfig auditConfig, AuditMetrics auditMetrics)
+    {
+        this(new SocketWriter(auditConfig, createSyslogFormatter(auditConfig), auditMetrics));
+    }
+
+    @VisibleForTesting
+    SocketAuditLogger(SocketWriter writer)
+    {
+        this.writer = writer;
+    }
+
+    private static SyslogMessageFormatter createSyslogFormatter(SocketAuditLoggerConfig auditConfig)
+    {
+        return new SyslogMessageFormatter(auditConfig.getFacility(),
+                                          auditConfig.getAppName(),
+                                          Slf4jAuditLogger.createLogMessageFormatter(auditConfig)::format);
+    }
+
+    @Override
+    public void log(AuditEntry logEntry)
+    {
+        writer.put(logEntry);
+    }
+
+    /**
+     * Stop the writer thread, after sending or spooling the entries still in the queue.
+     */
+    @VisibleForTesting
+    void close()
+    {
+        writer.close();
+    }
+}
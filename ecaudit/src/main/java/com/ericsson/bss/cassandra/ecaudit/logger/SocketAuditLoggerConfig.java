@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.net.InetSocketAddress;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.apache.cassandra.exceptions.ConfigurationException;
+
+/**
+ * The socket logger accepts the log format and queue options of the SLF4J logger, and the options of the collector
+ * connection and the local spool.
+ */
+class SocketAuditLoggerConfig extends Slf4jAuditLoggerConfig
+{
+    private static final String CONFIG_WRITE_MODE = "write_mode";
+    private static final String CONFIG_HOST = "host";
+    private static final String CONFIG_PORT = "port";
+    private static final String CONFIG_PROTOCOL = "protocol";
+    private static final String CONFIG_BATCH_SIZE = "batch_size";
+    private static final String CONFIG_TIMEOUT_MS = "timeout_ms";
+    private static final String CONFIG_MIN_RECONNECT_DELAY_MS = "min_reconnect_delay_ms";
+    private static final String CONFIG_MAX_RECONNECT_DELAY_MS = "max_reconnect_delay_ms";
+    private static final String CONFIG_SPOOL_DIR = "spool_dir";
+    private static final String CONFIG_MAX_SPOOL_SIZE = "max_spool_size";
+    private static final String CONFIG_APP_NAME = "app_name";
+    private static final String CONFIG_FACILITY = "facility";
+    private static final String INVALID_OPTION = "Invalid socket logger ";
+    private static final int MAX_PORT = 65_535;
+    private static final int DEFAULT_BATCH_SIZE = 64;
+    private static final int DEFAULT_TIMEOUT_MS = 5000;
+    private static final int DEFAULT_MIN_RECONNECT_DELAY_MS = 100;
+    private static final int DEFAULT_MAX_RECONNECT_DELAY_MS = 30_000;
+    private static final long DEFAULT_MAX_SPOOL_SIZE = 1024L * 1024L * 1024L; // 1 GB
+    private static final String DEFAULT_APP_NAME = "ecaudit";
+    private static final int DEFAULT_FACILITY = 13; // log audit
+    private static final int MAX_FACILITY = 23;
+    // RFC 5424 APP-NAME, 1 to 48 printable US-ASCII characters
+    private static final Pattern APP_NAME_PATTERN = Pattern.compile("[\\x21-\\x7e]{1,48}");
+
+    private final InetSocketAddress address;
+    private final SocketProtocol protocol;
+    private final int batchSize;
+    private final int timeoutMs;
+    private final int minReconnectDelayMs;
+    private final int maxReconnectDelayMs;
+    private final Path spoolPath;
+    private final long maxSpoolSize;
+    private final String appName;
+    private final int facility;
+
+    SocketAuditLoggerConfig(Map<String, String> parameters)
+    {
+        super(parameters);
+        requireAsyncWriteMode(parameters);
+        address = resolveAddress(parameters);
+        protocol = resolveProtocol(parameters);
+        batchSize = resolveNumber(parameters, CONFIG_BATCH_SIZE, Integer::valueOf, DEFAULT_BATCH_SIZE, 1, INVALID_OPTION + "batch size");
+        timeoutMs = resolveNumber(parameters, CONFIG_TIMEOUT_MS, Integer::valueOf, DEFAULT_TIMEOUT_MS, 1, INVALID_OPTION + "timeout");
+        minReconnectDelayMs = resolveNumber(parameters, CONFIG_MIN_RECONNECT_DELAY_MS, Integer::valueOf, DEFAULT_MIN_RECONNECT_DELAY_MS, 1,
+                                            INVALID_OPTION + "min reconnect delay");
+        maxReconnectDelayMs = resolveNumber(parameters, CONFIG_MAX_RECONNECT_DELAY_MS, Integer::valueOf, Math.max(DEFAULT_MAX_RECONNECT_DELAY_MS, minReconnectDelayMs),
+                                            minReconnectDelayMs, INVALID_OPTION + "max reconnect delay, must be at least the min reconnect delay");
+        spoolPath = resolveSpoolPath(parameters);
+        maxSpoolSize = resolveNumber(parameters, CONFIG_MAX_SPOOL_SIZE, Long::valueOf, DEFAULT_MAX_SPOOL_SIZE, 1L, INVALID_OPTION + "max spool size");
+        appName = resolveAppName(parameters);
+        facility = resolveNumber(parameters, CONFIG_FACILITY, Integer::valueOf, DEFAULT_FACILITY, 0, INVALID_OPTION + "facility");
+
+        if (facility > MAX_FACILITY)
+        {
+            throw new ConfigurationException(INVALID_OPTION + "facility, must be at most " + MAX_FACILITY + ": " + facility);
+        }
+    }
+
+    // The writer thread batches and sends the records, it is not possible to send from the request thread
+    private static void requireAsyncWriteMode(Map<String, String> parameters)
+    {
+        String writeMode = parameters.get(CONFIG_WRITE_MODE);
+        if (writeMode != null && !WriteMode.ASYNC.name().equalsIgnoreCase(writeMode))
+        {
+            throw new ConfigurationException(INVALID_OPTION + "write mode, only ASYNC is supported: " + writeMode);
+        }
+    }
+
+    private static InetSocketAddress resolveAddress(Map<String, String> parameters)
+    {
+        String host = parameters.get(CONFIG_HOST);
+        if (host == null || host.isEmpty())
+        {
+            throw new ConfigurationException("Socket logger backend require '" + CONFIG_HOST + "' parameter option");
+        }
+        if (!parameters.containsKey(CONFIG_PORT))
+        {
+            throw new ConfigurationException("Socket logger backend require '" + CONFIG_PORT + "' parameter option");
+        }
+
+        int port = resolveNumber(parameters, CONFIG_PORT, Integer::valueOf, 0, 1, INVALID_OPTION + "port");
+        if (port > MAX_PORT)
+        {
+            throw new ConfigurationException(INVALID_OPTION + "port: " + port);
+        }
+
+        // Resolved on each connect, so that the collector may move
+        return InetSocketAddress.createUnresolved(host, port);
+    }
+
+    private static SocketProtocol resolveProtocol(Map<String, String> parameters)
+    {
+        try
+        {
+            return Optional.ofNullable(parameters.get(CONFIG_PROTOCOL))
+                           .map(String::toUpperCase)
+                           .map(SocketProtocol::valueOf)
+                           .orElse(SocketProtocol.TCP);
+        }
+        catch (IllegalArgumentException e)
+        {
+            throw new ConfigurationException(INVALID_OPTION + "protocol: " + parameters.get(CONFIG_PROTOCOL), e);
+        }
+    }
+
+    private static Path resolveSpoolPath(Map<String, String> parameters)
+    {
+        String spoolDir = parameters.get(CONFIG_SPOOL_DIR);
+        if (spoolDir == null)
+        {
+            throw new ConfigurationException("Socket logger backend require '" + CONFIG_SPOOL_DIR + "' parameter option");
+        }
+
+        try
+        {
+            return Paths.get(spoolDir);
+        }
+        catch (InvalidPathException e)
+        {
+            throw new ConfigurationException(INVALID_OPTION + "spool directory path: " + spoolDir, e);
+        }
+    }
+
+    private static String resolveAppName(Map<String, String> parameters)
+    {
+        String name = parameters.getOrDefault(CONFIG_APP_NAME, DEFAULT_APP_NAME);
+        if (!APP_NAME_PATTERN.matcher(name).matches())
+        {
+            throw new ConfigurationException(INVALID_OPTION + "app name, must be 1 to 48 printable US-ASCII characters: " + name);
+        }
+        return name;
+    }
+
+    /**
+     * @return the unresolved address of the collector
+     */
+    InetSocketAddress getAddress()
+    {
+        return address;
+    }
+
+    SocketProtocol getProtocol()
+    {
+        return protocol;
+    }
+
+    /**
+     * @return the maximum number of records sent in one write
+     */
+    int getBatchSize()
+    {
+        return batchSize;
+    }
+
+    /**
+     * @return the time to wait for a connection to be established, or for the collector to accept more data
+     */
+    int getTimeoutMs()
+    {
+        return timeoutMs;
+    }
+
+    int getMinReconnectDelayMs()
+    {
+        return minReconnectDelayMs;
+    }
+
+    int getMaxReconnectDelayMs()
+    {
+        return maxReconnectDelayMs;
+    }
+
+    Path getSpoolPath()
+    {
+        return spoolPath;
+    }
+
+    /**
+     * @return the accumulated size of the spool files at which the oldest files are deleted
+     */
+    long getMaxSpoolSize()
+    {
+        return maxSpoolSize;
+    }
+
+    String getAppName()
+    {
+        return appName;
+    }
+
+    int getFacility()
+    {
+        return facility;
+    }
+}
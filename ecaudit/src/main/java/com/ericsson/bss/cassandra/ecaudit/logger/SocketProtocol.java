@@ -0,0 +1,31 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+/**
+ * The transport used by the socket logger to send syslog messages to the collector.
+ */
+enum SocketProtocol
+{
+    /**
+     * Send batches of messages over a TCP connection, each message framed by its length in octets as in RFC 6587.
+     */
+    TCP,
+    /**
+     * Send each message in its own UDP datagram as in RFC 5426.
+     */
+    UDP
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends batches of syslog messages to the collector over a non-blocking channel.
+ * <p>
+ * Each wait for the channel, to connect or to accept more data, is bounded by the timeout, so that a collector which
+ * stops reading is detected as a failure rather than blocking the writer thread. Instances are used by the writer
+ * thread only.
+ */
+abstract class SocketSender implements AutoCloseable
+{
+    private static final Logger LOG = LoggerFactory.getLogger(SocketSender.class);
+
+    private final InetSocketAddress unresolvedAddress;
+    private final long timeoutNanos;
+
+    private Selector selector;
+    private SelectableChannel channel;
+    private SelectionKey key;
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+
+    /**
+     * @param address   the unresolved address of the collector
+     * @param timeoutMs the time to wait for the channel to become ready
+     */
+    SocketSender(InetSocketAddress address, int timeoutMs)
+    {
+        this.unresolvedAddress = address;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+    }
+
+    static SocketSender create(SocketAuditLoggerConfig config)
+    {
+        if (config.getProtocol() == SocketProtocol.UDP)
+        {
+            return new UdpSocketSender(config.getAddress(), config.getTimeoutMs());
+        }
+        return new TcpSocketSender(config.getAddress(), config.getTimeoutMs());
+    }
+
+    /**
+     * Resolve the address of the collector and open a new channel to it.
+     *
+     * @throws IOException if the channel could not be opened
+     */
+    void connect() throws IOException
+    {
+        close();
+        InetSocketAddress address = new InetSocketAddress(unresolvedAddress.getHostString(), unresolvedAddress.getPort());
+        if (address.isUnresolved())
+        {
+            throw new UnknownHostException(unresolvedAddress.getHostString());
+        }
+
+        try
+        {
+            selector = Selector.open();
+            channel = openChannel(address);
+            key = channel.register(selector, 0);
+            finishConnect();
+        }
+        catch (IOException e)
+        {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Open a non-blocking channel and start to connect it to the collector.
+     *
+     * @param address the resolved address of the collector
+     * @return the channel, closed by this sender if anything fails later on
+     * @throws IOException if the channel could not be opened
+     */
+    abstract SelectableChannel openChannel(InetSocketAddress address) throws IOException;
+
+    /**
+     * Wait for the channel to be connected, if needed.
+     *
+     * @throws IOException if the channel could not be connected
+     */
+    abstract void finishConnect() throws IOException;
+
+    /**
+     * @return the channel opened by the last successful {@link #connect()}
+     */
+    SelectableChannel channel()
+    {
+        return channel;
+    }
+
+    /**
+     * Send a batch of messages to the collector.
+     *
+     * @param messages the messages to send
+     * @throws IOException if the messages could not be sent, some of them may have reached the collector
+     */
+    abstract void send(List<String> messages) throws IOException;
+
+    /**
+     * Wait until the channel is ready for the given operations.
+     *
+     * @param ops the operations of {@link SelectionKey} to wait for
+     * @throws IOException if the channel is not ready within the timeout
+     */
+    void awaitReady(int ops) throws IOException
+    {
+        key.interestOps(ops);
+        try
+        {
+            long deadline = System.nanoTime() + timeoutNanos;
+            while (selector.select(Math.max(1L, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()))) == 0)
+            {
+                if (deadline - System.nanoTime() <= 0)
+                {
+                    throw new SocketTimeoutException("Timed out waiting for audit collector " + unresolvedAddress);
+                }
+            }
+            selector.selectedKeys().clear();
+        }
+        finally
+        {
+            key.interestOps(0);
+        }
+    }
+
+    /**
+     * @param capacity the minimum capacity of the buffer
+     * @return an empty buffer owned by this sender
+     */
+    ByteBuffer buffer(int capacity)
+    {
+        if (buffer.capacity() < capacity)
+        {
+            buffer = ByteBuffer.allocateDirect(Integer.highestOneBit(capacity - 1) << 1);
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Close the channel, if open.
+     */
+    @Override
+    public void close()
+    {
+        if (selector == null)
+        {
+            return;
+        }
+
+        try
+        {
+            if (channel != null)
+            {
+                channel.close();
+            }
+            selector.close();
+        }
+        catch (IOException e)
+        {
+            LOG.debug("Failed to close channel to audit collector {}", unresolvedAddress, e);
+        }
+        selector = null; // NOPMD
+        channel = null; // NOPMD
+        key = null; // NOPMD
+    }
+}
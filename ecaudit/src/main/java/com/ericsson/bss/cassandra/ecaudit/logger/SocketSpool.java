@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.util.List;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import net.openhft.chronicle.queue.ChronicleQueue;
+import net.openhft.chronicle.queue.ExcerptTailer;
+import net.openhft.chronicle.queue.RollCycles;
+import net.openhft.chronicle.queue.impl.single.SingleChronicleQueueBuilder;
+
+/**
+ * A local Chronicle queue where the socket logger spools syslog messages while the collector is unreachable.
+ * <p>
+ * Spooled messages are read back in order once the collector is reachable again, using a named tailer so that
+ * messages left from a previous run are sent on the next start. Instances are used by the writer thread only.
+ */
+class SocketSpool implements AutoCloseable
+{
+    private static final String TAILER_NAME = "socket-drain";
+
+    private final ChronicleQueue chronicle;
+    private final ExcerptTailer tailer;
+
+    private boolean pending = true;
+    private long readStartIndex;
+
+    SocketSpool(SocketAuditLoggerConfig config)
+    {
+        this(SingleChronicleQueueBuilder.single(config.getSpoolPath().toFile())
+                                        .rollCycle(RollCycles.HOURLY)
+                                        .storeFileListener(new SizeRotatingStoreFileListener(config.getSpoolPath(), config.getMaxSpoolSize()))
+                                        .build());
+    }
+
+    @VisibleForTesting
+    SocketSpool(ChronicleQueue chronicle)
+    {
+        this.chronicle = chronicle;
+        this.tailer = chronicle.createTailer(TAILER_NAME);
+    }
+
+    /**
+     * @param message the message to append to the spool
+     */
+    void spool(String message)
+    {
+        chronicle.acquireAppender().writeText(message);
+        pending = true;
+    }
+
+    /**
+     * @return {@code true} if there may be spooled messages which have not been read, {@code false} otherwise
+     */
+    boolean hasPending()
+    {
+        return pending;
+    }
+
+    /**
+     * Read the next spooled messages.
+     *
+     * @param messages    the list to add the messages to
+     * @param maxMessages the maximum number of messages to read
+     */
+    void read(List<String> messages, int maxMessages)
+    {
+        readStartIndex = tailer.index();
+        for (int i = 0; i < maxMessages; i++)
+        {
+            String message = tailer.readText();
+            if (message == null)
+            {
+                pending = false;
+                return;
+            }
+            messages.add(message);
+        }
+    }
+
+    /**
+     * Move back to the first message of the last read, so that the messages are read again.
+     */
+    void rewind()
+    {
+        if (readStartIndex == 0)
+        {
+            tailer.toStart();
+        }
+        else
+        {
+            tailer.moveToIndex(readStartIndex);
+        }
+        pending = true;
+    }
+
+    @Override
+    public void close()
+    {
+        chronicle.close();
+    }
+}
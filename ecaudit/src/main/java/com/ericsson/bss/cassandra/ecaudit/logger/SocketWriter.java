@@ -0,0 +1,298 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ericsson.bss.cassandra.ecaudit.entry.AuditEntry;
+import com.ericsson.bss.cassandra.ecaudit.metrics.AuditMetrics;
+import org.apache.cassandra.concurrent.NamedThreadFactory;
+
+/**
+ * Hands over audit entries from request threads to a dedicated thread which formats them and sends them in batches to
+ * the collector.
+ * <p>
+ * While the collector is unreachable the messages are spooled to disk, and the writer reconnects with an exponential
+ * back-off between the min and max reconnect delay. Once connected, the spooled messages are sent before any new
+ * messages so that the collector receives them in order. A batch which fails is spooled as a whole, so the collector
+ * may receive a message twice but no message is lost unless the spool itself is rotated away.
+ */
+class SocketWriter implements AutoCloseable
+{
+    private static final Logger LOG = LoggerFactory.getLogger(SocketWriter.class);
+    private static final long IDLE_POLL_MS = 100;
+    private static final long CLOSE_TIMEOUT_MS = 10_000;
+
+    private final MpscRingBuffer<AuditEntry> queue;
+    private final Slf4jOverflowPolicy overflowPolicy;
+    private final Function<AuditEntry, String> formatter;
+    private final SocketSender sender;
+    private final SocketSpool spool;
+    private final int batchSize;
+    private final long minReconnectDelayNanos;
+    private final long maxReconnectDelayNanos;
+    private final AuditMetrics auditMetrics;
+    private final LongSupplier clock;
+    private final Thread writerThread;
+
+    private volatile boolean active = true;
+
+    // Only accessed by the writer thread
+    private final List<AuditEntry> entries = new ArrayList<>();
+    private final List<String> messages = new ArrayList<>();
+    private boolean connected;
+    private boolean unreachable;
+    private long reconnectDelayNanos;
+    private long nextConnectNanos;
+
+    SocketWriter(SocketAuditLoggerConfig config, Function<AuditEntry, String> formatter, AuditMetrics auditMetrics)
+    {
+        this(config, formatter, SocketSender.create(config), new SocketSpool(config), auditMetrics, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    SocketWriter(SocketAuditLoggerConfig config, Function<AuditEntry, String> formatter, SocketSender sender, SocketSpool spool,
+                 AuditMetrics auditMetrics, LongSupplier clock)
+    {
+        this.queue = new MpscRingBuffer<>(config.getQueueCapacity(), WaitStrategy.BLOCKING);
+        this.overflowPolicy = config.getOverflowPolicy();
+        this.formatter = formatter;
+        this.sender = sender;
+        this.spool = spool;
+        this.batchSize = config.getBatchSize();
+        this.minReconnectDelayNanos = TimeUnit.MILLISECONDS.toNanos(config.getMinReconnectDelayMs());
+        this.maxReconnectDelayNanos = TimeUnit.MILLISECONDS.toNanos(config.getMaxReconnectDelayMs());
+        this.auditMetrics = auditMetrics;
+        this.clock = clock;
+        this.nextConnectNanos = clock.getAsLong();
+        writerThread = new NamedThreadFactory("Audit Socket Writer").newThread(this::writerLoop);
+        writerThread.start();
+    }
+
+    /**
+     * Hand over an entry to the writer thread, the configured {@link Slf4jOverflowPolicy} decides what happens if the
+     * queue is full.
+     *
+     * @param logEntry the entry to send
+     */
+    void put(AuditEntry logEntry)
+    {
+        if (!active)
+        {
+            throw new IllegalStateException("Socket audit writer has been deactivated");
+        }
+
+        boolean queued = queue.offer(logEntry);
+        if (!queued && overflowPolicy == Slf4jOverflowPolicy.BLOCK)
+        {
+            try
+            {
+                queue.put(logEntry);
+                queued = true;
+            }
+            catch (InterruptedException e)
+            {
+                LOG.warn("Interrupted while sending message to socket writer");
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (!queued)
+        {
+            auditMetrics.socketDropped();
+        }
+    }
+
+    private void writerLoop()
+    {
+        try
+        {
+            while (active)
+            {
+                AuditEntry logEntry = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+                if (logEntry != null)
+                {
+                    entries.add(logEntry);
+                    queue.drainTo(entries, batchSize - 1);
+                    writeEntries();
+                }
+                drainSpool();
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        while (queue.drainTo(entries, batchSize) > 0)
+        {
+            writeEntries();
+        }
+        sender.close();
+        spool.close();
+    }
+
+    private void writeEntries()
+    {
+        for (AuditEntry logEntry : entries)
+        {
+            try
+            {
+                messages.add(formatter.apply(logEntry));
+            }
+            catch (RuntimeException e)
+            {
+                LOG.error("Failed to format audit entry", e);
+            }
+        }
+        entries.clear();
+
+        // Spooled messages go first, new messages are queued behind them in the spool
+        if (spool.hasPending() || !ensureConnected() || !trySend())
+        {
+            spoolMessages();
+        }
+        messages.clear();
+    }
+
+    private void drainSpool()
+    {
+        while (spool.hasPending() && ensureConnected())
+        {
+            spool.read(messages, batchSize);
+            if (messages.isEmpty())
+            {
+                return;
+            }
+
+            boolean sent = trySend();
+            messages.clear();
+            if (!sent)
+            {
+                spool.rewind();
+                return;
+            }
+
+            // Keep the request threads going while there is a backlog
+            if (queue.drainTo(entries, batchSize) > 0)
+            {
+                writeEntries();
+            }
+        }
+    }
+
+    private boolean ensureConnected()
+    {
+        if (connected)
+        {
+            return true;
+        }
+
+        if (clock.getAsLong() - nextConnectNanos < 0)
+        {
+            return false;
+        }
+
+        try
+        {
+            sender.connect();
+            connected = true;
+            reconnectDelayNanos = 0;
+            if (unreachable && LOG.isInfoEnabled())
+            {
+                LOG.info("Reconnected to audit collector");
+            }
+            unreachable = false;
+        }
+        catch (IOException e)
+        {
+            backOff("Failed to connect to audit collector", e);
+        }
+        return connected;
+    }
+
+    private boolean trySend()
+    {
+        if (messages.isEmpty())
+        {
+            return true;
+        }
+
+        try
+        {
+            sender.send(messages);
+            return true;
+        }
+        catch (IOException e)
+        {
+            sender.close();
+            connected = false;
+            backOff("Failed to send audit records to collector", e);
+            return false;
+        }
+    }
+
+    private void backOff(String reason, IOException e)
+    {
+        reconnectDelayNanos = reconnectDelayNanos == 0
+                              ? minReconnectDelayNanos
+                              : Math.min(reconnectDelayNanos * 2, maxReconnectDelayNanos);
+        nextConnectNanos = clock.getAsLong() + reconnectDelayNanos;
+        // Report the first failure only, until the collector is reachable again
+        if (!unreachable && LOG.isWarnEnabled())
+        {
+            LOG.warn("{}, spooling audit records until reconnected: {}", reason, e.getMessage());
+        }
+        unreachable = true;
+    }
+
+    private void spoolMessages()
+    {
+        for (String message : messages)
+        {
+            spool.spool(message);
+        }
+        auditMetrics.socketSpooled(messages.size());
+    }
+
+    @Override
+    public synchronized void close()
+    {
+        if (!active)
+        {
+            return;
+        }
+
+        active = false;
+        try
+        {
+            writerThread.join(CLOSE_TIMEOUT_MS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
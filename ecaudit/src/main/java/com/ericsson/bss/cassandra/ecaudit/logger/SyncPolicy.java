@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+/**
+ * The sync policy decides when records appended to the Chronicle queue are forced to stable storage.
+ */
+enum SyncPolicy
+{
+    /**
+     * Leave it to the operating system to write the memory mapped queue files to storage.
+     */
+    NONE,
+    /**
+     * Sync at most once per sync interval, while there are records which have not been synced.
+     */
+    PERIODIC,
+    /**
+     * Sync once after each batch of records appended by the writer thread.
+     */
+    PER_BATCH,
+    /**
+     * Sync after each record, or each compressed block of records, appended to the queue.
+     */
+    PER_RECORD
+}
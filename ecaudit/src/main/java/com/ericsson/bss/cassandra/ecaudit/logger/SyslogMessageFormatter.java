@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
+
+import com.ericsson.bss.cassandra.ecaudit.common.formatter.CachingTimestampFormatter;
+import com.ericsson.bss.cassandra.ecaudit.entry.AuditEntry;
+
+/**
+ * Renders audit entries as RFC 5424 syslog messages.
+ * <p>
+ * The header holds the facility and informational severity, the timestamp of the entry in UTC with millisecond
+ * precision, the coordinator IP as host name and the configured app name. Process id, message id and structured data
+ * are left out. The message is the log message of the entry, for instance
+ * {@code <110>1 2019-02-28T14:18:14.089Z 127.0.0.1 ecaudit - - - client:'127.0.0.1'|user:'cassandra'|status:'ATTEMPT'|operation:'SELECT ...'}.
+ */
+class SyslogMessageFormatter implements Function<AuditEntry, String>
+{
+    private static final int SEVERITY_INFORMATIONAL = 6;
+    private static final String NILVALUE = "-";
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSSXXX")
+                                                                                  .withZone(ZoneOffset.UTC);
+
+    private final String priorityAndVersion;
+    private final String appNameAndNilFields;
+    private final CachingTimestampFormatter timestampFormatter = new CachingTimestampFormatter(TIMESTAMP_FORMATTER);
+    private final Function<AuditEntry, String> messageFormatter;
+
+    /**
+     * @param facility         the syslog facility code
+     * @param appName          the app name of the messages
+     * @param messageFormatter renders the log message of an audit entry
+     */
+    SyslogMessageFormatter(int facility, String appName, Function<AuditEntry, String> messageFormatter)
+    {
+        this.priorityAndVersion = "<" + (facility * 8 + SEVERITY_INFORMATIONAL) + ">1 ";
+        this.appNameAndNilFields = ' ' + appName + " - - - ";
+        this.messageFormatter = messageFormatter;
+    }
+
+    @Override
+    public String apply(AuditEntry logEntry)
+    {
+        String message = messageFormatter.apply(logEntry);
+        String coordinatorIp = logEntry.getRendered().getCoordinatorIp();
+        return new StringBuilder(priorityAndVersion.length() + appNameAndNilFields.length() + message.length() + 48)
+               .append(priorityAndVersion)
+               .append(logEntry.getTimestamp() == null ? NILVALUE : timestampFormatter.format(logEntry.getTimestamp()))
+               .append(' ')
+               .append(coordinatorIp == null ? NILVALUE : coordinatorIp)
+               .append(appNameAndNilFields)
+               .append(message)
+               .toString();
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends batches of syslog messages over a TCP connection, with octet counting framing as in RFC 6587.
+ * <p>
+ * All messages of a batch are framed into one buffer and written to the channel together.
+ */
+class TcpSocketSender extends SocketSender
+{
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(256);
+    private final List<byte[]> encodedMessages = new ArrayList<>();
+
+    TcpSocketSender(InetSocketAddress address, int timeoutMs)
+    {
+        super(address, timeoutMs);
+    }
+
+    @Override
+    SelectableChannel openChannel(InetSocketAddress address) throws IOException
+    {
+        SocketChannel channel = SocketChannel.open();
+        try
+        {
+            channel.configureBlocking(false);
+            // Messages are already batched, don't hold back the last segment of a batch
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            channel.connect(address);
+            return channel;
+        }
+        catch (IOException e)
+        {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    void finishConnect() throws IOException
+    {
+        SocketChannel channel = (SocketChannel) channel(); // NOPMD closed by the sender
+        while (!channel.finishConnect())
+        {
+            awaitReady(SelectionKey.OP_CONNECT);
+        }
+    }
+
+    @Override
+    void send(List<String> messages) throws IOException
+    {
+        SocketChannel channel = (SocketChannel) channel(); // NOPMD closed by the sender
+        requireOpenByPeer(channel);
+
+        int size = 0;
+        for (String message : messages)
+        {
+            byte[] encoded = message.getBytes(StandardCharsets.UTF_8);
+            encodedMessages.add(encoded);
+            size += encoded.length + 11; // Octet count and space
+        }
+
+        ByteBuffer buffer = buffer(size);
+        for (byte[] encoded : encodedMessages)
+        {
+            buffer.put(Integer.toString(encoded.length).getBytes(StandardCharsets.US_ASCII))
+                  .put((byte) ' ')
+                  .put(encoded);
+        }
+        encodedMessages.clear();
+        buffer.flip();
+
+        while (buffer.hasRemaining())
+        {
+            if (channel.write(buffer) == 0)
+            {
+                awaitReady(SelectionKey.OP_WRITE);
+            }
+        }
+    }
+
+    /**
+     * The collector is not expected to send anything, so a readable channel means that the collector has closed the
+     * connection, or that it sent data which is discarded. Checking this before each write avoids writing a batch into
+     * a connection which can no longer deliver it.
+     */
+    private void requireOpenByPeer(SocketChannel channel) throws IOException
+    {
+        int read;
+        do
+        {
+            readBuffer.clear();
+            read = channel.read(readBuffer);
+        }
+        while (read > 0);
+
+        if (read < 0)
+        {
+            throw new ClosedChannelException();
+        }
+    }
+}
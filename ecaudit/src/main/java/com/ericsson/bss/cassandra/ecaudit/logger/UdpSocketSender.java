@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Sends syslog messages over UDP, one message per datagram as in RFC 5426.
+ * <p>
+ * Messages longer than the largest possible datagram are truncated. There is no acknowledgement of the datagrams,
+ * so only local errors, such as an ICMP port unreachable reported for the collector, are detected.
+ */
+class UdpSocketSender extends SocketSender
+{
+    // The maximum payload of an IPv4 UDP datagram
+    static final int MAX_DATAGRAM_SIZE = 65_507;
+
+    UdpSocketSender(InetSocketAddress address, int timeoutMs)
+    {
+        super(address, timeoutMs);
+    }
+
+    @Override
+    SelectableChannel openChannel(InetSocketAddress address) throws IOException
+    {
+        DatagramChannel channel = DatagramChannel.open();
+        try
+        {
+            channel.configureBlocking(false);
+            channel.connect(address);
+            return channel;
+        }
+        catch (IOException e)
+        {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    void finishConnect()
+    {
+        // A datagram channel is connected when opened
+    }
+
+    @Override
+    void send(List<String> messages) throws IOException
+    {
+        DatagramChannel channel = (DatagramChannel) channel(); // NOPMD closed by the sender
+        for (String message : messages)
+        {
+            byte[] encoded = message.getBytes(StandardCharsets.UTF_8);
+            int length = Math.min(encoded.length, MAX_DATAGRAM_SIZE);
+            ByteBuffer buffer = buffer(length);
+            buffer.put(encoded, 0, length).flip();
+            while (channel.write(buffer) == 0)
+            {
+                awaitReady(SelectionKey.OP_WRITE);
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The wait strategy decides what the consumer of a {@link MpscRingBuffer} does while the buffer is empty.
+ * <ul>
+ * <li>{@link #BUSY_SPIN} - spin on the CPU, lowest latency but occupies a core.
+ * <li>{@link #YIELD} - yield to other threads between checks.
+ * <li>{@link #PARK_NANOS} - park for a short, fixed period between checks.
+ * <li>{@link #BLOCKING} - park until a producer signals that a new element is available.
+ * </ul>
+ */
+enum WaitStrategy
+{
+    BUSY_SPIN
+    {
+        @Override
+        void idle(long maxNanos)
+        {
+            Thread.onSpinWait();
+        }
+    },
+    YIELD
+    {
+        @Override
+        void idle(long maxNanos)
+        {
+            Thread.yield();
+        }
+    },
+    PARK_NANOS
+    {
+        @Override
+        void idle(long maxNanos)
+        {
+            LockSupport.parkNanos(Math.min(maxNanos, PARK_PERIOD_NANOS));
+        }
+    },
+    BLOCKING
+    {
+        @Override
+        void idle(long maxNanos)
+        {
+            LockSupport.parkNanos(maxNanos);
+        }
+
+        @Override
+        boolean requiresSignal()
+        {
+            return true;
+        }
+    };
+
+    private static final long PARK_PERIOD_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /**
+     * Idle the calling consumer thread once.
+     * <p>
+     * Implementations may return early, the caller is expected to re-check the buffer and the deadline.
+     *
+     * @param maxNanos the maximum time to idle
+     */
+    abstract void idle(long maxNanos);
+
+    /**
+     * @return {@code true} if producers must wake up the consumer when an element is published, {@code false} otherwise.
+     */
+    boolean requiresSignal()
+    {
+        return false;
+    }
+}
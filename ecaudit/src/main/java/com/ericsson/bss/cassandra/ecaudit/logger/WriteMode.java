@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+/**
+ * The write mode decides which thread writes audit records, the request thread or a dedicated writer thread.
+ * <p>
+ * The Chronicle logger defaults to {@link #ASYNC} and the SLF4J logger defaults to {@link #SYNC}.
+ */
+enum WriteMode
+{
+    /**
+     * Records are handed over to a dedicated writer thread through a ring buffer.
+     * The SLF4J logger formats the log message on the writer thread as well.
+     */
+    ASYNC,
+    /**
+     * Records are written by the request thread itself, before the request continues.
+     * The Chronicle logger uses a thread-local Chronicle appender.
+     */
+    SYNC
+}
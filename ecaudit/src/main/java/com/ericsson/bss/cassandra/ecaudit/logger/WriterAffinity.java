@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import com.google.common.base.Splitter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.openhft.affinity.AffinityLock;
+
+/**
+ * The CPU affinity of the Chronicle writer threads.
+ * <ul>
+ * <li>{@code none} - the writer threads are scheduled like any other thread.
+ * <li>{@code any} - each writer thread is pinned to a free CPU of its own.
+ * <li>{@code core} - each writer thread is pinned to a free core of its own, leaving its hyper-threading siblings idle.
+ * <li>a comma separated list of CPU ids - the writer thread of stripe {@code n} is pinned to the {@code n}:th CPU in the list.
+ * </ul>
+ * CPUs are allocated with OpenHFT affinity, which only hands out CPUs reserved with the {@code affinity.reserved}
+ * system property, by default all CPUs but the first. Pinning is best effort, if the requested CPU can not be
+ * allocated a warning is logged and the writer thread runs unpinned or on another CPU.
+ */
+final class WriterAffinity
+{
+    static final WriterAffinity NONE = new WriterAffinity(Mode.NONE);
+
+    private static final Logger LOG = LoggerFactory.getLogger(WriterAffinity.class);
+
+    private enum Mode
+    {
+        NONE, ANY, CORE, CPUS
+    }
+
+    private final Mode mode;
+    private final int[] cpus;
+
+    private WriterAffinity(Mode mode, int... cpus)
+    {
+        this.mode = mode;
+        this.cpus = cpus;
+    }
+
+    /**
+     * @param value {@code none}, {@code any}, {@code core} or a comma separated list of CPU ids
+     * @return the parsed affinity
+     * @throws IllegalArgumentException if the value is not a valid affinity
+     */
+    static WriterAffinity parse(String value)
+    {
+        String trimmed = value.trim();
+        switch (trimmed.toLowerCase(Locale.ROOT))
+        {
+            case "none":
+                return NONE;
+            case "any":
+                return new WriterAffinity(Mode.ANY);
+            case "core":
+                return new WriterAffinity(Mode.CORE);
+            default:
+                return new WriterAffinity(Mode.CPUS, parseCpus(trimmed));
+        }
+    }
+
+    private static int[] parseCpus(String value)
+    {
+        List<String> ids = Splitter.on(',').trimResults().splitToList(value);
+        int[] cpus = new int[ids.size()];
+        for (int i = 0; i < cpus.length; i++)
+        {
+            cpus[i] = Integer.parseInt(ids.get(i));
+            if (cpus[i] < 0)
+            {
+                throw new IllegalArgumentException("Negative CPU id: " + cpus[i]);
+            }
+        }
+
+        if (Arrays.stream(cpus).distinct().count() != cpus.length)
+        {
+            throw new IllegalArgumentException("Duplicate CPU ids: " + value);
+        }
+        return cpus;
+    }
+
+    boolean isEnabled()
+    {
+        return mode != Mode.NONE;
+    }
+
+    /**
+     * @return the number of explicitly listed CPUs, zero unless pinned to a list of CPU ids
+     */
+    int cpuCount()
+    {
+        return cpus.length;
+    }
+
+    /**
+     * Wrap a task so that the thread running it is pinned according to this affinity until the task is done.
+     *
+     * @param stripe the stripe of the writer thread running the task
+     * @param task   the task to run pinned
+     * @return the wrapped task, or the task itself if no affinity is configured
+     */
+    Runnable pinned(int stripe, Runnable task)
+    {
+        if (mode == Mode.NONE)
+        {
+            return task;
+        }
+
+        return () -> {
+            AffinityLock lock = tryAcquire(stripe);
+            try
+            {
+                task.run();
+            }
+            finally
+            {
+                if (lock != null)
+                {
+                    lock.release();
+                }
+            }
+        };
+    }
+
+    private AffinityLock tryAcquire(int stripe)
+    {
+        try
+        {
+            AffinityLock lock = acquire(stripe);
+            logAcquired(stripe, lock);
+            return lock;
+        }
+        catch (RuntimeException | LinkageError e)
+        {
+            LOG.warn("Failed to pin Chronicle writer thread of stripe {} to a CPU", stripe, e);
+            return null;
+        }
+    }
+
+    private void logAcquired(int stripe, AffinityLock lock)
+    {
+        if (!lock.isAllocated())
+        {
+            LOG.warn("Chronicle writer thread of stripe {} could not be pinned to a CPU", stripe);
+            return;
+        }
+
+        int cpu = lock.cpuId();
+        boolean requestedCpu = mode != Mode.CPUS || cpu == cpus[stripe];
+        if (requestedCpu)
+        {
+            LOG.info("Chronicle writer thread of stripe {} pinned to CPU {}", stripe, cpu);
+        }
+        else
+        {
+            int requested = cpus[stripe];
+            LOG.warn("Chronicle writer thread of stripe {} pinned to CPU {} since CPU {} is not available", stripe, cpu, requested);
+        }
+    }
+
+    private AffinityLock acquire(int stripe)
+    {
+        switch (mode)
+        {
+            case CORE:
+                return AffinityLock.acquireCore();
+            case CPUS:
+                return AffinityLock.acquireLock(cpus[stripe]);
+            default:
+                return AffinityLock.acquireLock();
+        }
+    }
+}
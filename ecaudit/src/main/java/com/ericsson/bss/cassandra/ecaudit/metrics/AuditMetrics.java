@@ -16,9 +16,16 @@
 package com.ericsson.bss.cassandra.ecaudit.metrics;
 
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
 import com.codahale.metrics.Timer;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.apache.cassandra.metrics.CassandraMetricsRegistry;
 
 /**
@@ -30,20 +37,92 @@ public class AuditMetrics
     private static final String METRIC_TYPE = "Audit";
     private static final String METRIC_NAME_FILTER = "Filter";
     private static final String METRIC_NAME_LOG = "Log";
+    private static final String METRIC_NAME_CHRONICLE_QUEUE_DEPTH = "ChronicleQueueDepth";
+    private static final String METRIC_NAME_CHRONICLE_BATCH_SIZE = "ChronicleBatchSize";
+    private static final String METRIC_NAME_CHRONICLE_OVERFLOW_BLOCKED = "ChronicleOverflowBlocked";
+    private static final String METRIC_NAME_CHRONICLE_OVERFLOW_TIMEOUT = "ChronicleOverflowTimeout";
+    private static final String METRIC_NAME_CHRONICLE_OVERFLOW_SPILL = "ChronicleOverflowSpill";
+    private static final String METRIC_NAME_CHRONICLE_SYNC = "ChronicleSync";
+    private static final String METRIC_NAME_CHRONICLE_WRITER_WAKEUP = "ChronicleWriterWakeup";
+    private static final String METRIC_NAME_SLF4J_QUEUE_DEPTH = "Slf4jQueueDepth";
+    private static final String METRIC_NAME_SLF4J_DROPPED = "Slf4jDropped";
+    private static final String METRIC_NAME_SLF4J_FAILED = "Slf4jFailed";
+    private static final String METRIC_NAME_SLF4J_FORMAT = "Slf4jFormat";
+    private static final String METRIC_NAME_FILE_SYNC = "FileSync";
+    private static final String METRIC_NAME_SOCKET_SPOOLED = "SocketSpooled";
+    private static final String METRIC_NAME_SOCKET_DROPPED = "SocketDropped";
+    private static final String METRIC_NAME_LOGGER_LATENCY = "LoggerLatency";
+    private static final String METRIC_NAME_LOGGER_DROPPED = "LoggerDropped";
+    private static final String METRIC_NAME_LOGGER_FAILED = "LoggerFailed";
+    private static final String METRIC_NAME_FILTER_CACHE_HITS = "FilterCacheHits";
+    private static final String METRIC_NAME_FILTER_CACHE_MISSES = "FilterCacheMisses";
+    private static final String METRIC_NAME_FILTER_CACHE_LOAD_TIME = "FilterCacheLoadTime";
+    private static final String METRIC_NAME_FILTER_CACHE_EVICTIONS = "FilterCacheEvictions";
     private static final String MBEAN_BASE = GROUP_NAME + ":type=" + METRIC_TYPE + ",name=";
 
     private final Timer auditFilterTimer;
     private final Timer auditTimer;
+    private final Histogram chronicleQueueDepthHistogram;
+    private final Histogram chronicleBatchSizeHistogram;
+    private final Timer chronicleOverflowBlockedTimer;
+    private final Counter chronicleOverflowTimeoutCounter;
+    private final Counter chronicleOverflowSpillCounter;
+    private final Timer chronicleSyncTimer;
+    private final Timer chronicleWriterWakeupTimer;
+    private final Histogram slf4jQueueDepthHistogram;
+    private final Counter slf4jDroppedCounter;
+    private final Counter slf4jFailedCounter;
+    private final Timer slf4jFormatTimer;
+    private final Timer fileSyncTimer;
+    private final Counter socketSpooledCounter;
+    private final Counter socketDroppedCounter;
+    private final Function<CassandraMetricsRegistry.MetricName, Timer> timerFunction;
+    private final Function<CassandraMetricsRegistry.MetricName, Counter> counterFunction;
+    private final BiConsumer<CassandraMetricsRegistry.MetricName, Gauge<Long>> gaugeFunction;
+    private final Consumer<CassandraMetricsRegistry.MetricName> removeFunction;
 
     public AuditMetrics()
     {
-        this(CassandraMetricsRegistry.Metrics::timer);
+        this(CassandraMetricsRegistry.Metrics::timer,
+             name -> CassandraMetricsRegistry.Metrics.histogram(name, false),
+             CassandraMetricsRegistry.Metrics::counter,
+             AuditMetrics::replaceGauge);
     }
 
-    AuditMetrics(Function<CassandraMetricsRegistry.MetricName, Timer> timerFunction)
+    AuditMetrics(Function<CassandraMetricsRegistry.MetricName, Timer> timerFunction,
+                 Function<CassandraMetricsRegistry.MetricName, Histogram> histogramFunction,
+                 Function<CassandraMetricsRegistry.MetricName, Counter> counterFunction,
+                 BiConsumer<CassandraMetricsRegistry.MetricName, Gauge<Long>> gaugeFunction)
+    {
+        this(timerFunction, histogramFunction, counterFunction, gaugeFunction, CassandraMetricsRegistry.Metrics::remove);
+    }
+
+    AuditMetrics(Function<CassandraMetricsRegistry.MetricName, Timer> timerFunction,
+                 Function<CassandraMetricsRegistry.MetricName, Histogram> histogramFunction,
+                 Function<CassandraMetricsRegistry.MetricName, Counter> counterFunction,
+                 BiConsumer<CassandraMetricsRegistry.MetricName, Gauge<Long>> gaugeFunction,
+                 Consumer<CassandraMetricsRegistry.MetricName> removeFunction)
     {
         auditFilterTimer = timerFunction.apply(createMetricName(METRIC_NAME_FILTER));
         auditTimer = timerFunction.apply(createMetricName(METRIC_NAME_LOG));
+        chronicleQueueDepthHistogram = histogramFunction.apply(createMetricName(METRIC_NAME_CHRONICLE_QUEUE_DEPTH));
+        chronicleBatchSizeHistogram = histogramFunction.apply(createMetricName(METRIC_NAME_CHRONICLE_BATCH_SIZE));
+        chronicleOverflowBlockedTimer = timerFunction.apply(createMetricName(METRIC_NAME_CHRONICLE_OVERFLOW_BLOCKED));
+        chronicleOverflowTimeoutCounter = counterFunction.apply(createMetricName(METRIC_NAME_CHRONICLE_OVERFLOW_TIMEOUT));
+        chronicleOverflowSpillCounter = counterFunction.apply(createMetricName(METRIC_NAME_CHRONICLE_OVERFLOW_SPILL));
+        chronicleSyncTimer = timerFunction.apply(createMetricName(METRIC_NAME_CHRONICLE_SYNC));
+        chronicleWriterWakeupTimer = timerFunction.apply(createMetricName(METRIC_NAME_CHRONICLE_WRITER_WAKEUP));
+        slf4jQueueDepthHistogram = histogramFunction.apply(createMetricName(METRIC_NAME_SLF4J_QUEUE_DEPTH));
+        slf4jDroppedCounter = counterFunction.apply(createMetricName(METRIC_NAME_SLF4J_DROPPED));
+        slf4jFailedCounter = counterFunction.apply(createMetricName(METRIC_NAME_SLF4J_FAILED));
+        slf4jFormatTimer = timerFunction.apply(createMetricName(METRIC_NAME_SLF4J_FORMAT));
+        fileSyncTimer = timerFunction.apply(createMetricName(METRIC_NAME_FILE_SYNC));
+        socketSpooledCounter = counterFunction.apply(createMetricName(METRIC_NAME_SOCKET_SPOOLED));
+        socketDroppedCounter = counterFunction.apply(createMetricName(METRIC_NAME_SOCKET_DROPPED));
+        this.timerFunction = timerFunction;
+        this.counterFunction = counterFunction;
+        this.gaugeFunction = gaugeFunction;
+        this.removeFunction = removeFunction;
     }
 
     /**
@@ -68,6 +147,190 @@ public class AuditMetrics
         auditTimer.update(time, timeUnit);
     }
 
+    /**
+     * Add a sample of the number of records waiting in the Chronicle writer queue.
+     *
+     * @param depth the number of records observed in the queue by the writer thread
+     */
+    public void chronicleQueueDepth(int depth)
+    {
+        chronicleQueueDepthHistogram.update(depth);
+    }
+
+    /**
+     * Add a sample of the number of records appended by the Chronicle writer in one batch.
+     *
+     * @param size the number of records in the batch
+     */
+    public void chronicleBatchSize(int size)
+    {
+        chronicleBatchSizeHistogram.update(size);
+    }
+
+    /**
+     * Add timing for a request thread blocked on a full Chronicle writer queue.
+     *
+     * @param time     the time spent blocked
+     * @param timeUnit the time unit of the provided time
+     */
+    public void chronicleOverflowBlocked(long time, TimeUnit timeUnit)
+    {
+        chronicleOverflowBlockedTimer.update(time, timeUnit);
+    }
+
+    /**
+     * Count a record that was rejected since the Chronicle writer queue stayed full until the overflow timeout.
+     */
+    public void chronicleOverflowTimeout()
+    {
+        chronicleOverflowTimeoutCounter.inc();
+    }
+
+    /**
+     * Count a record that was spilled to the overflow queue since the Chronicle writer queue was full.
+     */
+    public void chronicleOverflowSpill()
+    {
+        chronicleOverflowSpillCounter.inc();
+    }
+
+    /**
+     * Add timing for syncing appended Chronicle records to stable storage.
+     *
+     * @param time     the time spent syncing
+     * @param timeUnit the time unit of the provided time
+     */
+    public void chronicleSync(long time, TimeUnit timeUnit)
+    {
+        chronicleSyncTimer.update(time, timeUnit);
+    }
+
+    /**
+     * Add timing for the Chronicle writer thread to start running after a record was handed over to it while it was idle.
+     *
+     * @param time     the time from the hand-over until the writer thread was running
+     * @param timeUnit the time unit of the provided time
+     */
+    public void chronicleWriterWakeup(long time, TimeUnit timeUnit)
+    {
+        chronicleWriterWakeupTimer.update(time, timeUnit);
+    }
+
+    /**
+     * Add a sample of the number of entries waiting in the queue of the asynchronous SLF4J logger.
+     *
+     * @param depth the number of entries observed in the queue by the writer thread
+     */
+    public void slf4jQueueDepth(int depth)
+    {
+        slf4jQueueDepthHistogram.update(depth);
+    }
+
+    /**
+     * Count an entry that was dropped since the queue of the asynchronous SLF4J logger was full.
+     */
+    public void slf4jDropped()
+    {
+        slf4jDroppedCounter.inc();
+    }
+
+    /**
+     * Count an entry that the writer thread of the asynchronous SLF4J logger failed to log.
+     */
+    public void slf4jFailed()
+    {
+        slf4jFailedCounter.inc();
+    }
+
+    /**
+     * Add timing for formatting an audit entry into an SLF4J log message.
+     *
+     * @param time     the time spent formatting
+     * @param timeUnit the time unit of the provided time
+     */
+    public void slf4jFormat(long time, TimeUnit timeUnit)
+    {
+        slf4jFormatTimer.update(time, timeUnit);
+    }
+
+    /**
+     * Add timing for syncing the current log file of the file logger to stable storage.
+     *
+     * @param time     the time spent syncing
+     * @param timeUnit the time unit of the provided time
+     */
+    public void fileSync(long time, TimeUnit timeUnit)
+    {
+        fileSyncTimer.update(time, timeUnit);
+    }
+
+    /**
+     * Count records which the socket logger spooled to disk because the collector was unreachable.
+     *
+     * @param records the number of spooled records
+     */
+    public void socketSpooled(int records)
+    {
+        socketSpooledCounter.inc(records);
+    }
+
+    /**
+     * Count a record dropped by the socket logger because its queue was full.
+     */
+    public void socketDropped()
+    {
+        socketDroppedCounter.inc();
+    }
+
+    /**
+     * Register gauges for the hit, miss, load time and eviction statistics of the role audit filter cache.
+     * <p>
+     * A cache registered later replaces the gauges of an earlier one.
+     *
+     * @param stats supplier of the current statistics of the cache
+     */
+    public void registerFilterCacheStats(Supplier<CacheStats> stats)
+    {
+        gaugeFunction.accept(createMetricName(METRIC_NAME_FILTER_CACHE_HITS), () -> stats.get().hitCount());
+        gaugeFunction.accept(createMetricName(METRIC_NAME_FILTER_CACHE_MISSES), () -> stats.get().missCount());
+        gaugeFunction.accept(createMetricName(METRIC_NAME_FILTER_CACHE_LOAD_TIME),
+                             () -> TimeUnit.NANOSECONDS.toMicros((long) stats.get().averageLoadPenalty()));
+        gaugeFunction.accept(createMetricName(METRIC_NAME_FILTER_CACHE_EVICTIONS), () -> stats.get().evictionCount());
+    }
+
+    /**
+     * Create the metrics of one logger backend, scoped by the logger name.
+     * <p>
+     * Loggers with the same name share metrics.
+     *
+     * @param loggerName the name of the logger backend
+     * @return the metrics of the logger backend
+     */
+    public LoggerMetrics createLoggerMetrics(String loggerName)
+    {
+        return new LoggerMetrics(timerFunction.apply(createMetricName(METRIC_NAME_LOGGER_LATENCY, loggerName)),
+                                 counterFunction.apply(createMetricName(METRIC_NAME_LOGGER_DROPPED, loggerName)),
+                                 counterFunction.apply(createMetricName(METRIC_NAME_LOGGER_FAILED, loggerName)));
+    }
+
+    /**
+     * Remove the metrics of a logger backend created by {@link #createLoggerMetrics(String)}.
+     *
+     * @param loggerName the name of the logger backend
+     */
+    public void removeLoggerMetrics(String loggerName)
+    {
+        removeFunction.accept(createMetricName(METRIC_NAME_LOGGER_LATENCY, loggerName));
+        removeFunction.accept(createMetricName(METRIC_NAME_LOGGER_DROPPED, loggerName));
+        removeFunction.accept(createMetricName(METRIC_NAME_LOGGER_FAILED, loggerName));
+    }
+
+    private static void replaceGauge(CassandraMetricsRegistry.MetricName name, Gauge<Long> gauge)
+    {
+        CassandraMetricsRegistry.Metrics.remove(name);
+        CassandraMetricsRegistry.Metrics.register(name, gauge);
+    }
+
     /**
      * Copied from org.apache.cassandra.metrics.DefaultNameFactory but with tailored group name.
      *
@@ -78,6 +341,16 @@ public class AuditMetrics
         return new CassandraMetricsRegistry.MetricName(GROUP_NAME, METRIC_TYPE, metricName, null, createMBeanName(metricName));
     }
 
+    /**
+     * Copied from org.apache.cassandra.metrics.DefaultNameFactory but with tailored group name.
+     *
+     * @return a Cassandra metric name with a scope
+     */
+    static CassandraMetricsRegistry.MetricName createMetricName(String metricName, String scope)
+    {
+        return new CassandraMetricsRegistry.MetricName(GROUP_NAME, METRIC_TYPE, metricName, scope, createMBeanName(metricName) + ",scope=" + scope);
+    }
+
     /**
      * Copied from org.apache.cassandra.metrics.DefaultNameFactory but with tailored group name and slightly reduced.
      *
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+
+/**
+ * The metrics of one logger backend, created by {@link AuditMetrics#createLoggerMetrics(String)}.
+ */
+public class LoggerMetrics
+{
+    private final Timer latencyTimer;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    LoggerMetrics(Timer latencyTimer, Counter droppedCounter, Counter failedCounter)
+    {
+        this.latencyTimer = latencyTimer;
+        this.droppedCounter = droppedCounter;
+        this.failedCounter = failedCounter;
+    }
+
+    /**
+     * Add timing for the logger backend to log an entry.
+     *
+     * @param time     the time spent in the logger backend
+     * @param timeUnit the time unit of the provided time
+     */
+    public void logLatency(long time, TimeUnit timeUnit)
+    {
+        latencyTimer.update(time, timeUnit);
+    }
+
+    /**
+     * Count an entry that was dropped since the queue of the logger backend was full.
+     */
+    public void dropped()
+    {
+        droppedCounter.inc();
+    }
+
+    /**
+     * Count an entry that the logger backend failed to log on the consumer thread of its queue.
+     */
+    public void failed()
+    {
+        failedCounter.inc();
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.filter.role;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.google.common.collect.ImmutableSet;
+
+import com.ericsson.bss.cassandra.ecaudit.auth.GrantResource;
+import org.apache.cassandra.auth.DataResource;
+import org.apache.cassandra.auth.IResource;
+import org.apache.cassandra.auth.Permission;
+import org.apache.cassandra.auth.Resources;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compare matching an operation against the white-list of a role with a map lookup per level of the resource chain,
+ * direct and then through a chain of grant resources, as the role filter used to, and with one walk down the trie of
+ * the compiled {@link RoleWhitelist}.
+ * <p>
+ * The white-list holds 10, 1000 or 100000 tables spread over keyspaces of 100 tables each, and a grant on the data
+ * root for DESCRIBE. Each operation is matched on a table which is white-listed, on a table in a keyspace which is not
+ * in the white-list at all, and through the grant. The time to compile the white-list is measured as well.
+ *
+ * Run this directly in IntelliJ (if you have a working JMH plugin).
+ *
+ * Or, run in from the command line (with more accurate results)
+ * - mvn package -DskipTests
+ * - mvn dependency:unpack-dependencies
+ * - java -cp target/classes:target/test-classes:target/dependency com.ericsson.bss.cassandra.ecaudit.filter.role.BenchmarkRoleWhitelist
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class BenchmarkRoleWhitelist
+{
+    private static final int TABLES_PER_KEYSPACE = 100;
+
+    @Param({ "10", "1000", "100000" })
+    private int entries;
+
+    private Map<IResource, Set<Permission>> whitelist;
+    private RoleWhitelist roleWhitelist;
+    private List<? extends IResource> whitelistedChain;
+    private List<? extends IResource> otherChain;
+
+    public static void main(String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                      .include(BenchmarkRoleWhitelist.class.getSimpleName())
+                      .forks(1)
+                      .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        whitelist = new HashMap<>();
+        for (int i = 0; i < entries; i++)
+        {
+            whitelist.put(DataResource.table("ks" + i / TABLES_PER_KEYSPACE, "tbl" + i), ImmutableSet.of(Permission.SELECT, Permission.MODIFY));
+        }
+        whitelist.put(GrantResource.fromResource(DataResource.root()), ImmutableSet.of(Permission.DESCRIBE));
+
+        roleWhitelist = RoleWhitelist.compile(whitelist);
+        int lastTable = entries - 1;
+        whitelistedChain = Resources.chain(DataResource.table("ks" + lastTable / TABLES_PER_KEYSPACE, "tbl" + lastTable));
+        otherChain = Resources.chain(DataResource.table("other_ks", "tbl"));
+    }
+
+    @Benchmark
+    public boolean mapWhitelisted()
+    {
+        return mapMatch(Permission.SELECT, whitelistedChain);
+    }
+
+    @Benchmark
+    public boolean mapNotWhitelisted()
+    {
+        return mapMatch(Permission.SELECT, otherChain);
+    }
+
+    @Benchmark
+    public boolean mapGrantWhitelisted()
+    {
+        return mapMatch(Permission.DESCRIBE, otherChain);
+    }
+
+    @Benchmark
+    public RoleWhitelist.Match trieWhitelisted()
+    {
+        return roleWhitelist.match(Permission.SELECT, whitelistedChain);
+    }
+
+    @Benchmark
+    public RoleWhitelist.Match trieNotWhitelisted()
+    {
+        return roleWhitelist.match(Permission.SELECT, otherChain);
+    }
+
+    @Benchmark
+    public RoleWhitelist.Match trieGrantWhitelisted()
+    {
+        return roleWhitelist.match(Permission.DESCRIBE, otherChain);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public RoleWhitelist compile()
+    {
+        return RoleWhitelist.compile(whitelist);
+    }
+
+    private boolean mapMatch(Permission operation, List<? extends IResource> resourceChain)
+    {
+        if (anyResourceMatchOperation(operation, resourceChain))
+        {
+            return true;
+        }
+
+        List<GrantResource> grantResourceChain = resourceChain.stream()
+                                                              .map(GrantResource::fromResource)
+                                                              .collect(Collectors.toCollection(ArrayList::new));
+        grantResourceChain.add(GrantResource.root());
+        return anyResourceMatchOperation(operation, grantResourceChain);
+    }
+
+    private boolean anyResourceMatchOperation(Permission operation, List<? extends IResource> resourceChain)
+    {
+        return resourceChain.stream()
+                            .map(whitelist::get)
+                            .filter(Objects::nonNull)
+                            .anyMatch(whitelistedOperations -> whitelistedOperations.contains(operation));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.AuditRecordWriteMarshallable;
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.FieldSelector;
+import com.ericsson.bss.cassandra.ecaudit.common.record.SimpleAuditOperation;
+import com.ericsson.bss.cassandra.ecaudit.common.record.Status;
+import com.ericsson.bss.cassandra.ecaudit.entry.AuditEntry;
+import net.openhft.chronicle.bytes.Bytes;
+import net.openhft.chronicle.wire.Wire;
+import net.openhft.chronicle.wire.WireType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measure serialization of audit records into a pre-allocated wire.
+ * <p>
+ * Run with the GC profiler (-prof gc) to see the allocation rate. Reusing the marshallable should report close to
+ * zero bytes per operation, while creating one per record costs the marshallable itself.
+ *
+ * Run this directly in IntelliJ (if you have a working JMH plugin).
+ *
+ * Or, run in from the command line (with more accurate results)
+ * - mvn package -DskipTests
+ * - mvn dependency:unpack-dependencies
+ * - java -cp target/classes:target/test-classes:target/dependency com.ericsson.bss.cassandra.ecaudit.logger.BenchmarkAuditRecordWriteMarshallable -prof gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class BenchmarkAuditRecordWriteMarshallable
+{
+    @Param({ "true", "false" })
+    private boolean reuse;
+
+    private Bytes<?> bytes;
+    private Wire wire;
+    private AuditEntry auditEntry;
+    private AuditRecordWriteMarshallable marshallable;
+
+    public static void main(String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                      .include(BenchmarkAuditRecordWriteMarshallable.class.getSimpleName())
+                      .addProfiler("gc")
+                      .forks(1)
+                      .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception
+    {
+        bytes = Bytes.allocateElasticDirect(1024);
+        wire = WireType.BINARY_LIGHT.apply(bytes);
+        auditEntry = AuditEntry.newBuilder()
+                               .timestamp(System.currentTimeMillis())
+                               .client(new InetSocketAddress(InetAddress.getLocalHost(), 678))
+                               .coordinator(InetAddress.getLocalHost())
+                               .user("cassandra")
+                               .batch(UUID.randomUUID())
+                               .status(Status.ATTEMPT)
+                               .operation(new SimpleAuditOperation("SELECT * from dummy.table"))
+                               .build();
+        marshallable = new AuditRecordWriteMarshallable(FieldSelector.ALL_FIELDS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        bytes.releaseLast();
+    }
+
+    @Benchmark
+    public long write()
+    {
+        bytes.clear();
+        AuditRecordWriteMarshallable recordMarshallable = reuse
+                                                          ? marshallable.reset(auditEntry)
+                                                          : new AuditRecordWriteMarshallable(auditEntry, FieldSelector.ALL_FIELDS);
+        recordMarshallable.writeMarshallable(wire);
+        return bytes.writePosition();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Strings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compare escaping an operation with one {@link String#replaceAll(String, String)} per escape character, as the SLF4J
+ * logger used to, and with the single scan of the {@link CharacterEscaper}.
+ * <p>
+ * The operation is a batch statement of about 64 or 4096 characters, with or without characters to escape.
+ *
+ * Run this directly in IntelliJ (if you have a working JMH plugin).
+ *
+ * Or, run in from the command line (with more accurate results)
+ * - mvn package -DskipTests
+ * - mvn dependency:unpack-dependencies
+ * - java -cp target/classes:target/test-classes:target/dependency com.ericsson.bss.cassandra.ecaudit.logger.BenchmarkCharacterEscaper
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class BenchmarkCharacterEscaper
+{
+    private static final List<String> ESCAPE_CHARACTERS = Arrays.asList("\"", "'", "#");
+
+    @Param({ "64", "4096" })
+    private int length;
+
+    @Param({ "false", "true" })
+    private boolean quoted;
+
+    private CharacterEscaper escaper;
+    private String operation;
+
+    public static void main(String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                      .include(BenchmarkCharacterEscaper.class.getSimpleName())
+                      .forks(1)
+                      .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        escaper = CharacterEscaper.forCharacters(ESCAPE_CHARACTERS);
+        String statement = quoted ? "INSERT INTO ks.tbl (key, value) VALUES (42, 'value');" : "INSERT INTO ks.tbl (key, value) VALUES (42, 4711);";
+        operation = "BEGIN BATCH " + Strings.repeat(statement, Math.max(1, length / statement.length())) + " APPLY BATCH;";
+    }
+
+    @Benchmark
+    public String replaceAll()
+    {
+        String sanitized = operation;
+        for (String escapeCharacter : ESCAPE_CHARACTERS)
+        {
+            sanitized = sanitized.replaceAll(escapeCharacter, "\\\\" + escapeCharacter);
+        }
+        return sanitized;
+    }
+
+    @Benchmark
+    public String singleScan()
+    {
+        return escaper.escape(operation);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.io.File;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.Files;
+
+import com.ericsson.bss.cassandra.ecaudit.common.record.SimpleAuditOperation;
+import com.ericsson.bss.cassandra.ecaudit.common.record.Status;
+import com.ericsson.bss.cassandra.ecaudit.entry.AuditEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compare the latency distribution seen by request threads with the ASYNC and SYNC write modes of the Chronicle logger,
+ * and with each sync policy.
+ * <p>
+ * In ASYNC mode the measured latency is the hand-off to the writer thread, which includes time blocked on a full
+ * queue once the writer falls behind. In SYNC mode it is the time to serialize and append the record to the queue,
+ * and to sync it when the sync policy says so. The writer thread appends batches of up to 64 records.
+ * Look at the p99/p99.9 percentiles reported by the sample time mode, and note that the cost of a sync depends on the
+ * storage of the temporary directory.
+ *
+ * Run this directly in IntelliJ (if you have a working JMH plugin).
+ *
+ * Or, run in from the command line (with more accurate results)
+ * - mvn package -DskipTests
+ * - mvn dependency:unpack-dependencies
+ * - java -cp target/classes:target/test-classes:target/dependency com.ericsson.bss.cassandra.ecaudit.logger.BenchmarkChronicleWriteModeLatency
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class BenchmarkChronicleWriteModeLatency
+{
+    // The PERIODIC sync policy is not supported in SYNC mode
+    @Param({ "ASYNC:NONE", "ASYNC:PERIODIC", "ASYNC:PER_BATCH", "ASYNC:PER_RECORD", "SYNC:NONE", "SYNC:PER_BATCH", "SYNC:PER_RECORD" })
+    private String writeModeAndSyncPolicy;
+
+    private ChronicleAuditLogger logger;
+    private AuditEntry auditEntry;
+
+    public static void main(String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                      .include(BenchmarkChronicleWriteModeLatency.class.getSimpleName())
+                      .forks(1)
+                      .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception
+    {
+        File tempDir = Files.createTempDir();
+        tempDir.deleteOnExit();
+
+        String[] modes = writeModeAndSyncPolicy.split(":");
+        Map<String, String> config = ImmutableMap.of("log_dir", tempDir.getPath(),
+                                                     "write_mode", modes[0],
+                                                     "batch_size", "64",
+                                                     "sync_policy", modes[1],
+                                                     "sync_interval_ms", "100");
+
+        logger = new ChronicleAuditLogger(config);
+        auditEntry = AuditEntry.newBuilder()
+                               .timestamp(System.currentTimeMillis())
+                               .client(new InetSocketAddress(InetAddress.getLocalHost(), 678))
+                               .coordinator(InetAddress.getLocalHost())
+                               .user("cassandra")
+                               .batch(UUID.randomUUID())
+                               .status(Status.ATTEMPT)
+                               .operation(new SimpleAuditOperation("SELECT * from dummy.table"))
+                               .build();
+    }
+
+    @Benchmark
+    public void log()
+    {
+        logger.log(auditEntry);
+    }
+}
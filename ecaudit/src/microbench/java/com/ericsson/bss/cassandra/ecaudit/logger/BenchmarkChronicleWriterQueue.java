@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compare the hand-off from request threads to the Chronicle writer thread using the
+ * {@link ArrayBlockingQueue} versus the {@link MpscRingBuffer} with the different {@link WaitStrategy} options.
+ * <p>
+ * The consumer drains elements in a background thread, much like the Chronicle writer, but without appending them.
+ * The {@link #main(String[])} method runs the benchmark with 8, 32 and 64 producer threads.
+ *
+ * Run this directly in IntelliJ (if you have a working JMH plugin).
+ *
+ * Or, run in from the command line (with more accurate results)
+ * - mvn package -DskipTests
+ * - mvn dependency:unpack-dependencies
+ * - java -cp target/classes:target/test-classes:target/dependency com.ericsson.bss.cassandra.ecaudit.logger.BenchmarkChronicleWriterQueue
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class BenchmarkChronicleWriterQueue
+{
+    private static final int CAPACITY = 256;
+    private static final int BATCH_SIZE = 64;
+    private static final Object ELEMENT = new Object();
+
+    @Param({ "ArrayBlockingQueue", "BUSY_SPIN", "YIELD", "PARK_NANOS", "BLOCKING" })
+    private String queueType;
+
+    private BlockingQueue<Object> blockingQueue;
+    private MpscRingBuffer<Object> ringBuffer;
+    private Thread consumer;
+
+    public static void main(String[] args) throws RunnerException
+    {
+        for (int threads : new int[]{ 8, 32, 64 })
+        {
+            Options opt = new OptionsBuilder()
+                          .include(BenchmarkChronicleWriterQueue.class.getSimpleName())
+                          .threads(threads)
+                          .forks(1)
+                          .build();
+
+            new Runner(opt).run();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        if ("ArrayBlockingQueue".equals(queueType))
+        {
+            blockingQueue = new ArrayBlockingQueue<>(CAPACITY);
+            consumer = new Thread(this::drainBlockingQueue);
+        }
+        else
+        {
+            ringBuffer = new MpscRingBuffer<>(CAPACITY, WaitStrategy.valueOf(queueType));
+            consumer = new Thread(this::drainRingBuffer);
+        }
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException
+    {
+        consumer.interrupt();
+        consumer.join(1000);
+    }
+
+    @Benchmark
+    public void handOff() throws InterruptedException
+    {
+        if (ringBuffer != null)
+        {
+            ringBuffer.put(ELEMENT);
+        }
+        else
+        {
+            blockingQueue.put(ELEMENT);
+        }
+    }
+
+    private void drainBlockingQueue()
+    {
+        List<Object> batch = new ArrayList<>(BATCH_SIZE);
+        try
+        {
+            while (true)
+            {
+                batch.add(blockingQueue.take());
+                blockingQueue.drainTo(batch, BATCH_SIZE - 1);
+                batch.clear();
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drainRingBuffer()
+    {
+        List<Object> batch = new ArrayList<>(BATCH_SIZE);
+        try
+        {
+            while (true)
+            {
+                batch.add(ringBuffer.take());
+                ringBuffer.drainTo(batch, BATCH_SIZE - 1);
+                batch.clear();
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
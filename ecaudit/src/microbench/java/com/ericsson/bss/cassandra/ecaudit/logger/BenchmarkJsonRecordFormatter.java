@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.ImmutableMap;
+
+import com.ericsson.bss.cassandra.ecaudit.common.formatter.JsonRecordFormatter;
+import com.ericsson.bss.cassandra.ecaudit.common.formatter.LogMessageFormatter;
+import com.ericsson.bss.cassandra.ecaudit.common.record.SimpleAuditOperation;
+import com.ericsson.bss.cassandra.ecaudit.common.record.Status;
+import com.ericsson.bss.cassandra.ecaudit.entry.AuditEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compare rendering an audit entry with the default SLF4J log format, with a JSON-like SLF4J log format escaping
+ * double quotes, and with the JSON logger, all with the default fields.
+ * <p>
+ * The JSON-like log format is how JSON has been produced with the SLF4J logger, it is not valid JSON if a value holds
+ * a backslash or a control character.
+ *
+ * Run this directly in IntelliJ (if you have a working JMH plugin).
+ *
+ * Or, run in from the command line (with more accurate results)
+ * - mvn package -DskipTests
+ * - mvn dependency:unpack-dependencies
+ * - java -cp target/classes:target/test-classes:target/dependency com.ericsson.bss.cassandra.ecaudit.logger.BenchmarkJsonRecordFormatter
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class BenchmarkJsonRecordFormatter
+{
+    private static final String JSON_LIKE_FORMAT = "{\"client_ip\":\"${CLIENT_IP}\"{?,\"client_port\":${CLIENT_PORT}?},"
+                                                   + "\"coordinator_ip\":\"${COORDINATOR_IP}\",\"user\":\"${USER}\"{?,\"batch_id\":\"${BATCH_ID}\"?},"
+                                                   + "\"status\":\"${STATUS}\",\"operation\":\"${OPERATION}\",\"timestamp\":${TIMESTAMP}}";
+
+    private LogMessageFormatter<AuditEntry> textFormatter;
+    private LogMessageFormatter<AuditEntry> jsonLikeFormatter;
+    private JsonRecordFormatter<AuditEntry> jsonFormatter;
+    private AuditEntry auditEntry;
+
+    public static void main(String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                      .include(BenchmarkJsonRecordFormatter.class.getSimpleName())
+                      .forks(1)
+                      .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception
+    {
+        Slf4jAuditLoggerConfig textConfig = new Slf4jAuditLoggerConfig(ImmutableMap.of());
+        textFormatter = LogMessageFormatter.<AuditEntry>builder()
+                        .format(textConfig.getLogFormat())
+                        .availableFields(Slf4jAuditLogger.getAvailableFieldFunctionMap(textConfig))
+                        .build();
+
+        Map<String, String> jsonLikeParameters = ImmutableMap.of("log_format", JSON_LIKE_FORMAT, "escape_characters", "\"");
+        Slf4jAuditLoggerConfig jsonLikeConfig = new Slf4jAuditLoggerConfig(jsonLikeParameters);
+        jsonLikeFormatter = LogMessageFormatter.<AuditEntry>builder()
+                            .format(jsonLikeConfig.getLogFormat())
+                            .availableFields(Slf4jAuditLogger.getAvailableFieldFunctionMap(jsonLikeConfig))
+                            .build();
+
+        JsonAuditLoggerConfig jsonConfig = new JsonAuditLoggerConfig(ImmutableMap.of());
+        jsonFormatter = JsonRecordFormatter.create(jsonConfig.getFields(), Slf4jAuditLogger.getAvailableFieldFunctionMap(jsonConfig));
+
+        auditEntry = AuditEntry.newBuilder()
+                               .timestamp(System.currentTimeMillis())
+                               .client(new InetSocketAddress(InetAddress.getLocalHost(), 678))
+                               .coordinator(InetAddress.getLocalHost())
+                               .user("cassandra")
+                               .batch(UUID.randomUUID())
+                               .status(Status.ATTEMPT)
+                               .operation(new SimpleAuditOperation("SELECT * from dummy.table WHERE key = 'value'"))
+                               .build();
+    }
+
+    @Benchmark
+    public String text()
+    {
+        return textFormatter.format(auditEntry);
+    }
+
+    @Benchmark
+    public String jsonLikeText()
+    {
+        return jsonLikeFormatter.format(auditEntry);
+    }
+
+    @Benchmark
+    public String json()
+    {
+        return jsonFormatter.format(auditEntry);
+    }
+}
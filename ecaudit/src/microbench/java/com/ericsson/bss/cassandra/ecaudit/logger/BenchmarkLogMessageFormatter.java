@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.google.common.collect.ImmutableMap;
+import org.slf4j.helpers.MessageFormatter;
+
+import com.ericsson.bss.cassandra.ecaudit.common.formatter.LogMessageFormatter;
+import com.ericsson.bss.cassandra.ecaudit.common.record.SimpleAuditOperation;
+import com.ericsson.bss.cassandra.ecaudit.common.record.Status;
+import com.ericsson.bss.cassandra.ecaudit.entry.AuditEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compare rendering the log message of an audit entry with the default SLF4J log format,
+ * by substituting the arguments into the SLF4J template, by {@link String#format(String, Object...)} as eclog did,
+ * and by the compiled formatter.
+ *
+ * Run this directly in IntelliJ (if you have a working JMH plugin).
+ *
+ * Or, run in from the command line (with more accurate results)
+ * - mvn package -DskipTests
+ * - mvn dependency:unpack-dependencies
+ * - java -cp target/classes:target/test-classes:target/dependency com.ericsson.bss.cassandra.ecaudit.logger.BenchmarkLogMessageFormatter
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class BenchmarkLogMessageFormatter
+{
+    private LogMessageFormatter<AuditEntry> slf4jFormatter;
+    private LogMessageFormatter<AuditEntry> stringFormatter;
+    private LogMessageFormatter<AuditEntry> compiledFormatter;
+    private AuditEntry auditEntry;
+
+    public static void main(String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                      .include(BenchmarkLogMessageFormatter.class.getSimpleName())
+                      .forks(1)
+                      .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception
+    {
+        Slf4jAuditLoggerConfig config = new Slf4jAuditLoggerConfig(ImmutableMap.of());
+        Map<String, Function<AuditEntry, Object>> fields = Slf4jAuditLogger.getAvailableFieldFunctionMap(config);
+
+        slf4jFormatter = LogMessageFormatter.<AuditEntry>builder()
+                         .format(config.getLogFormat())
+                         .anchor("{}")
+                         .escape("\\{\\}", "\\\\{}")
+                         .availableFields(fields)
+                         .build();
+        stringFormatter = LogMessageFormatter.<AuditEntry>builder()
+                          .format(config.getLogFormat())
+                          .anchor("%s")
+                          .escape("%", "%%")
+                          .availableFields(fields)
+                          .build();
+        compiledFormatter = LogMessageFormatter.<AuditEntry>builder()
+                            .format(config.getLogFormat())
+                            .availableFields(fields)
+                            .build();
+
+        auditEntry = AuditEntry.newBuilder()
+                               .timestamp(System.currentTimeMillis())
+                               .client(new InetSocketAddress(InetAddress.getLocalHost(), 678))
+                               .coordinator(InetAddress.getLocalHost())
+                               .user("cassandra")
+                               .batch(UUID.randomUUID())
+                               .status(Status.ATTEMPT)
+                               .operation(new SimpleAuditOperation("SELECT * from dummy.table WHERE key = 42"))
+                               .build();
+    }
+
+    @Benchmark
+    public String slf4jTemplate()
+    {
+        return MessageFormatter.arrayFormat(slf4jFormatter.getLogTemplate(), slf4jFormatter.getArgumentsForEntry(auditEntry)).getMessage();
+    }
+
+    @Benchmark
+    public String stringFormat()
+    {
+        return String.format(stringFormatter.getLogTemplate(), stringFormatter.getArgumentsForEntry(auditEntry));
+    }
+
+    @Benchmark
+    public String compiled()
+    {
+        return compiledFormatter.format(auditEntry);
+    }
+}
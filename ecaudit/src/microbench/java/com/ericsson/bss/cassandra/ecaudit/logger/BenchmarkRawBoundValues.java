@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.AuditRecordWriteMarshallable;
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.FieldSelector;
+import com.ericsson.bss.cassandra.ecaudit.common.record.Status;
+import com.ericsson.bss.cassandra.ecaudit.entry.AuditEntry;
+import com.ericsson.bss.cassandra.ecaudit.entry.PreparedAuditOperation;
+import com.ericsson.bss.cassandra.ecaudit.entry.suppressor.SuppressNothing;
+import net.openhft.chronicle.bytes.Bytes;
+import net.openhft.chronicle.wire.Wire;
+import net.openhft.chronicle.wire.WireType;
+import org.apache.cassandra.cql3.ColumnIdentifier;
+import org.apache.cassandra.cql3.ColumnSpecification;
+import org.apache.cassandra.cql3.QueryOptions;
+import org.apache.cassandra.db.marshal.AbstractType;
+import org.apache.cassandra.db.marshal.DoubleType;
+import org.apache.cassandra.db.marshal.Int32Type;
+import org.apache.cassandra.db.marshal.LongType;
+import org.apache.cassandra.db.marshal.TimestampType;
+import org.apache.cassandra.db.marshal.UTF8Type;
+import org.apache.cassandra.db.marshal.UUIDType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measure serialization of a prepared statement record with bound values rendered as CQL literals or stored raw.
+ * <p>
+ * A new operation is created for each record, as the rendered operation string is cached by the operation.
+ * The size of the serialized record is returned by the benchmark.
+ *
+ * Run this directly in IntelliJ (if you have a working JMH plugin).
+ *
+ * Or, run in from the command line (with more accurate results)
+ * - mvn package -DskipTests
+ * - mvn dependency:unpack-dependencies
+ * - java -cp target/classes:target/test-classes:target/dependency com.ericsson.bss.cassandra.ecaudit.logger.BenchmarkRawBoundValues -prof gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class BenchmarkRawBoundValues
+{
+    private static final String STATEMENT = "INSERT INTO ks.tbl (id, ts, seq, amount, value, owner) VALUES (?, ?, ?, ?, ?, ?)";
+
+    @Param({ "false", "true" })
+    private boolean rawBoundValues;
+
+    private Bytes<?> bytes;
+    private Wire wire;
+    private QueryOptions options;
+    private AuditEntry.Builder auditEntryBuilder;
+    private AuditRecordWriteMarshallable marshallable;
+
+    public static void main(String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                      .include(BenchmarkRawBoundValues.class.getSimpleName())
+                      .addProfiler("gc")
+                      .forks(1)
+                      .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception
+    {
+        bytes = Bytes.allocateElasticDirect(1024);
+        wire = WireType.BINARY_LIGHT.apply(bytes);
+
+        List<ByteBuffer> values = Arrays.asList(UUIDType.instance.decompose(UUID.randomUUID()),
+                                                TimestampType.instance.fromTimeInMillis(System.currentTimeMillis()),
+                                                LongType.instance.decompose(1234567890123L),
+                                                DoubleType.instance.decompose(42.5),
+                                                Int32Type.instance.decompose(17),
+                                                UTF8Type.instance.decompose("cassandra"));
+        List<ColumnSpecification> columns = Arrays.asList(column("id", UUIDType.instance),
+                                                          column("ts", TimestampType.instance),
+                                                          column("seq", LongType.instance),
+                                                          column("amount", DoubleType.instance),
+                                                          column("value", Int32Type.instance),
+                                                          column("owner", UTF8Type.instance));
+        options = QueryOptions.addColumnSpecifications(QueryOptions.forInternalCalls(values), columns);
+
+        auditEntryBuilder = AuditEntry.newBuilder()
+                                      .timestamp(System.currentTimeMillis())
+                                      .client(new InetSocketAddress(InetAddress.getLocalHost(), 678))
+                                      .coordinator(InetAddress.getLocalHost())
+                                      .user("cassandra")
+                                      .status(Status.ATTEMPT);
+        marshallable = new AuditRecordWriteMarshallable(FieldSelector.DEFAULT_FIELDS, null, rawBoundValues);
+    }
+
+    private static ColumnSpecification column(String name, AbstractType<?> type)
+    {
+        return new ColumnSpecification("ks", "tbl", new ColumnIdentifier(name, true), type);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        bytes.releaseLast();
+    }
+
+    @Benchmark
+    public long write()
+    {
+        bytes.clear();
+        AuditEntry auditEntry = auditEntryBuilder.operation(new PreparedAuditOperation(STATEMENT, options, new SuppressNothing()))
+                                                 .build();
+        marshallable.reset(auditEntry).writeMarshallable(wire);
+        return bytes.writePosition();
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.AuditRecordBlockWriteMarshallable;
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.AuditRecordWriteMarshallable;
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.CompressionCodec;
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.FieldSelector;
+import com.ericsson.bss.cassandra.ecaudit.common.record.SimpleAuditOperation;
+import com.ericsson.bss.cassandra.ecaudit.common.record.Status;
+import com.ericsson.bss.cassandra.ecaudit.entry.AuditEntry;
+import net.openhft.chronicle.bytes.Bytes;
+import net.openhft.chronicle.wire.Wire;
+import net.openhft.chronicle.wire.WireType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measure the cost per record of writing blocks of compressed records, and the compression ratio achieved.
+ * <p>
+ * The records are drawn from a generated corpus resembling the audit log of an application cluster, with prepared
+ * statements and their bound values, a handful of users and many clients. Each invocation adds one record to the
+ * block, and writes the block once it is full, like the writer thread of the Chronicle logger does. The compression
+ * ratio is the size of the corpus written one record per document divided by its size written in blocks, and is
+ * printed when each trial starts.
+ *
+ * Run this directly in IntelliJ (if you have a working JMH plugin).
+ *
+ * Or, run in from the command line (with more accurate results)
+ * - mvn package -DskipTests
+ * - mvn dependency:unpack-dependencies
+ * - java -cp target/classes:target/test-classes:target/dependency com.ericsson.bss.cassandra.ecaudit.logger.BenchmarkRecordCompression
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class BenchmarkRecordCompression
+{
+    private static final int CORPUS_SIZE = 4096;
+    private static final String[] USERS = { "order_service", "billing_service", "inventory_service", "report_job", "cassandra" };
+    private static final String[] STATUSES = { "'PENDING'", "'SHIPPED'", "'DELIVERED'", "'CANCELLED'" };
+
+    @Param({ "NONE", "LZ4", "ZSTD" })
+    private CompressionCodec codec;
+
+    @Param({ "1", "16", "128" })
+    private int blockSize;
+
+    private List<AuditEntry> corpus;
+    private Bytes<?> bytes;
+    private Wire wire;
+    private AuditRecordWriteMarshallable marshallable;
+    private AuditRecordBlockWriteMarshallable block;
+    private int next;
+
+    public static void main(String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                      .include(BenchmarkRecordCompression.class.getSimpleName())
+                      .forks(1)
+                      .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception
+    {
+        corpus = generateCorpus(new Random(42));
+        bytes = Bytes.allocateElasticDirect(64 * 1024);
+        wire = WireType.BINARY_LIGHT.apply(bytes);
+        marshallable = new AuditRecordWriteMarshallable(FieldSelector.DEFAULT_FIELDS);
+        block = new AuditRecordBlockWriteMarshallable(codec);
+        System.out.printf("%n%s with block size %d: compression ratio %.2f%n", codec, blockSize, compressionRatio()); // NOPMD
+    }
+
+    private static List<AuditEntry> generateCorpus(Random random) throws Exception
+    {
+        InetAddress coordinator = InetAddress.getByName("10.0.0.1");
+        List<AuditEntry> entries = new ArrayList<>(CORPUS_SIZE);
+        long timestamp = System.currentTimeMillis();
+        for (int i = 0; i < CORPUS_SIZE; i++)
+        {
+            timestamp += random.nextInt(3);
+            InetAddress client = InetAddress.getByAddress(new byte[]{ 10, 1, (byte) random.nextInt(4), (byte) random.nextInt(256) });
+            entries.add(AuditEntry.newBuilder()
+                                  .timestamp(timestamp)
+                                  .client(new InetSocketAddress(client, 30000 + random.nextInt(30000)))
+                                  .coordinator(coordinator)
+                                  .user(USERS[random.nextInt(USERS.length)])
+                                  .status(Status.ATTEMPT)
+                                  .operation(new SimpleAuditOperation(generateOperation(random)))
+                                  .build());
+        }
+        return entries;
+    }
+
+    private static String generateOperation(Random random)
+    {
+        UUID customerId = new UUID(random.nextLong() & 0xffff, random.nextLong());
+        switch (random.nextInt(4))
+        {
+            case 0:
+                return "SELECT * FROM shop.orders WHERE customer_id = ? AND order_date > ?[" + customerId + ", " + (1700000000000L + random.nextInt()) + "]";
+            case 1:
+                return "INSERT INTO shop.orders (customer_id, order_id, amount, status) VALUES (?, ?, ?, ?)[" + customerId + ", " + UUID.randomUUID() + ", "
+                       + random.nextInt(100000) / 100.0 + ", " + STATUSES[random.nextInt(STATUSES.length)] + "]";
+            case 2:
+                return "UPDATE shop.customers SET email = ?, last_login = ? WHERE customer_id = ?['user" + random.nextInt(100000) + "@example.com', "
+                       + (1700000000000L + random.nextInt()) + ", " + customerId + "]";
+            default:
+                return "SELECT quantity FROM shop.inventory WHERE sku = ?['SKU-" + random.nextInt(10000) + "']";
+        }
+    }
+
+    /**
+     * Write the whole corpus once, one record per document and in blocks, to find the compression ratio.
+     */
+    private double compressionRatio()
+    {
+        long recordBytes = 0;
+        long blockBytes = 0;
+        for (AuditEntry entry : corpus)
+        {
+            bytes.clear();
+            marshallable.reset(entry).writeMarshallable(wire);
+            recordBytes += bytes.writePosition();
+
+            block.add(marshallable);
+            if (block.size() == blockSize)
+            {
+                blockBytes += writeBlock();
+            }
+        }
+        if (block.size() > 0)
+        {
+            blockBytes += writeBlock();
+        }
+        return (double) recordBytes / blockBytes;
+    }
+
+    private long writeBlock()
+    {
+        bytes.clear();
+        block.writeMarshallable(wire);
+        block.clear();
+        return bytes.writePosition();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown()
+    {
+        bytes.releaseLast();
+    }
+
+    @Benchmark
+    public long write()
+    {
+        block.add(marshallable.reset(corpus.get(next)));
+        next = (next + 1) % CORPUS_SIZE;
+        return block.size() == blockSize ? writeBlock() : block.size();
+    }
+}
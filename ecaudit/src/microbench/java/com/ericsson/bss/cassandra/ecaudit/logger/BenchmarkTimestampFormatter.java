@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import com.ericsson.bss.cassandra.ecaudit.common.formatter.CachingTimestampFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compare formatting the TIMESTAMP field with {@link DateTimeFormatter#format} for each record, as the SLF4J logger
+ * and eclog used to, and with the {@link CachingTimestampFormatter}.
+ * <p>
+ * Each invocation advances the timestamp by the given step in milliseconds, so a step of 1 renders a new second every
+ * 1000 records and a step of 1000 renders a new second for every record.
+ *
+ * Run this directly in IntelliJ (if you have a working JMH plugin).
+ *
+ * Or, run in from the command line (with more accurate results)
+ * - mvn package -DskipTests
+ * - mvn dependency:unpack-dependencies
+ * - java -cp target/classes:target/test-classes:target/dependency com.ericsson.bss.cassandra.ecaudit.logger.BenchmarkTimestampFormatter
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@State(Scope.Thread)
+public class BenchmarkTimestampFormatter
+{
+    @Param({ "yyyy-MM-dd HH:mm:ss.SSS", "yyyy-MM-dd'T'HH:mm:ssXXX" })
+    private String pattern;
+
+    @Param({ "1", "1000" })
+    private int step;
+
+    private DateTimeFormatter formatter;
+    private CachingTimestampFormatter cachingFormatter;
+    private long timestamp;
+
+    public static void main(String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                      .include(BenchmarkTimestampFormatter.class.getSimpleName())
+                      .forks(1)
+                      .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup()
+    {
+        formatter = DateTimeFormatter.ofPattern(pattern).withZone(ZoneId.of("Europe/Stockholm"));
+        cachingFormatter = new CachingTimestampFormatter(formatter);
+        timestamp = System.currentTimeMillis();
+    }
+
+    @Benchmark
+    public String dateTimeFormatter()
+    {
+        timestamp += step;
+        return formatter.format(Instant.ofEpochMilli(timestamp));
+    }
+
+    @Benchmark
+    public String cachingFormatter()
+    {
+        timestamp += step;
+        return cachingFormatter.format(timestamp);
+    }
+}
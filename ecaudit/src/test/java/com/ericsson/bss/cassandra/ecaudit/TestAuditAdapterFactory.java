@@ -20,7 +20,6 @@ import java.lang.reflect.Field;
 import java.net.URL;
 import java.nio.ByteBuffer;
 import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -239,6 +238,18 @@ public class TestAuditAdapterFactory
         assertThat(logTimingStrategyIn(adapterWithPostLogging)).isSameAs(LogTimingStrategy.POST_LOGGING_STRATEGY);
     }
 
+    @Test
+    public void testNegativeLoggerQueueCapacityThrows()
+    {
+        // Given
+        AuditConfig config = givenAuditConfig("com.ericsson.bss.cassandra.ecaudit.logger.Slf4jAuditLogger", Collections.emptyMap());
+        when(config.getLoggerQueueCapacity()).thenReturn(-1);
+        // Then throw
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> AuditAdapterFactory.createAuditAdapter(config))
+        .withMessage("Invalid logger queue capacity: -1");
+    }
+
     @Test
     public void testCreateBoundValueSuppressorThrows()
     {
@@ -294,9 +305,7 @@ public class TestAuditAdapterFactory
 
     private static AuditLogger loggerIn(DefaultAuditor auditor) throws Exception
     {
-        Field field = DefaultAuditor.class.getDeclaredField("loggers");
-        field.setAccessible(true);
-        return ((List<AuditLogger>) field.get(auditor)).get(0);
+        return TestDefaultAuditor.getLoggers(auditor).get(0);
     }
 
     private static AuditFilter filterIn(DefaultAuditor auditor) throws Exception
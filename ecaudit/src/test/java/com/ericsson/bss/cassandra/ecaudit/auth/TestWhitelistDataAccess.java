@@ -57,4 +57,18 @@ public class TestWhitelistDataAccess
         ByteBuffer resourceByteBuffer = values.get(2);
         assertThat(ByteBufferUtil.string(resourceByteBuffer)).isEqualTo("Resource1");
     }
+
+    @Test
+    public void testWithVersionBumpValues() throws Exception
+    {
+        // Given
+        List<ByteBuffer> values = WhitelistDataAccess.getSerializedUpdateValues("Role1", "Resource1", Sets.newHashSet(Permission.SELECT));
+        // When
+        List<ByteBuffer> batchValues = WhitelistDataAccess.withVersionBumpValues(values, "Role1");
+        // Then
+        assertThat(batchValues).hasSize(4);
+        assertThat(batchValues.subList(0, 3)).isEqualTo(values);
+        assertThat(ByteBufferUtil.string(batchValues.get(3))).isEqualTo("Role1");
+        assertThat(values).hasSize(3);
+    }
 }
@@ -97,7 +97,11 @@ public class TestAuditYamlConfigurationLoader
         assertThat(config.getWhitelistCacheValidity()).isEqualTo(DatabaseDescriptor.getRolesValidity());
         assertThat(config.getWhitelistCacheUpdateInterval()).isEqualTo(DatabaseDescriptor.getRolesUpdateInterval());
         assertThat(config.getWhitelistCacheMaxEntries()).isEqualTo(DatabaseDescriptor.getRolesCacheMaxEntries() * 10);
+        assertThat(config.isWhitelistCacheWarmUp()).isFalse();
+        assertThat(config.getWhitelistCacheChangePollInterval()).isZero();
         assertThat(config.isSuppressPrepareStatements()).isEqualTo(true);
+        assertThat(config.getLoggerQueueCapacity()).isZero();
+        assertThat(config.getLoggerOverflowPolicy()).isEqualTo(LoggerOverflowPolicy.block);
     }
 
     @Test
@@ -123,7 +127,11 @@ public class TestAuditYamlConfigurationLoader
         assertThat(config.getWhitelistCacheValidity()).isEqualTo(42);
         assertThat(config.getWhitelistCacheUpdateInterval()).isEqualTo(41);
         assertThat(config.getWhitelistCacheMaxEntries()).isEqualTo(40);
+        assertThat(config.isWhitelistCacheWarmUp()).isTrue();
+        assertThat(config.getWhitelistCacheChangePollInterval()).isEqualTo(39);
         assertThat(config.isSuppressPrepareStatements()).isEqualTo(false);
+        assertThat(config.getLoggerQueueCapacity()).isEqualTo(128);
+        assertThat(config.getLoggerOverflowPolicy()).isEqualTo(LoggerOverflowPolicy.drop);
     }
 
     @Test
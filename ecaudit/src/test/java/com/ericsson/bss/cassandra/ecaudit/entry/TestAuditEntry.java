@@ -74,4 +74,37 @@ public class TestAuditEntry
         assertThat(auditEntry.getStatus()).isSameAs(newEntry.getStatus()).isSameAs(STATUS);
         assertThat(auditEntry.getTimestamp()).isSameAs(newEntry.getTimestamp()).isSameAs(TIMESTAMP);
     }
+
+    @Test
+    public void testThatRenderedViewIsCreatedOnce() throws Exception
+    {
+        // Given
+        AuditEntry auditEntry = AuditEntry.newBuilder()
+                                          .client(new InetSocketAddress(InetAddress.getByName("127.0.0.1"), 678))
+                                          .coordinator(InetAddress.getByName("127.0.0.2"))
+                                          .build();
+        // When
+        RenderedAuditEntry rendered = auditEntry.getRendered();
+        // Then
+        assertThat(auditEntry.getRendered()).isSameAs(rendered);
+        assertThat(rendered.getClientIp()).isEqualTo("127.0.0.1");
+        assertThat(rendered.getClientPort()).isEqualTo(678);
+        assertThat(rendered.getCoordinatorIp()).isEqualTo("127.0.0.2");
+    }
+
+    @Test
+    public void testThatRenderedViewOfUnknownAddressesIsEmpty() throws Exception
+    {
+        // Given
+        AuditEntry withoutAddresses = AuditEntry.newBuilder().build();
+        AuditEntry withoutClientPort = AuditEntry.newBuilder()
+                                                 .client(new InetSocketAddress(InetAddress.getByName("127.0.0.1"), AuditEntry.UNKNOWN_PORT))
+                                                 .build();
+        // Then
+        assertThat(withoutAddresses.getRendered().getClientIp()).isNull();
+        assertThat(withoutAddresses.getRendered().getClientPort()).isNull();
+        assertThat(withoutAddresses.getRendered().getCoordinatorIp()).isNull();
+        assertThat(withoutClientPort.getRendered().getClientIp()).isEqualTo("127.0.0.1");
+        assertThat(withoutClientPort.getRendered().getClientPort()).isNull();
+    }
 }
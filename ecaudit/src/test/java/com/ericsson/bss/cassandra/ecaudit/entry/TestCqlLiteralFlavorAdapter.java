@@ -23,12 +23,30 @@ import org.junit.runner.RunWith;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
 import org.apache.cassandra.cql3.ColumnSpecification;
+import com.ericsson.bss.cassandra.ecaudit.common.record.CqlType;
 import org.apache.cassandra.db.marshal.AbstractType;
 import org.apache.cassandra.db.marshal.AsciiType;
 import org.apache.cassandra.db.marshal.BooleanType;
+import org.apache.cassandra.db.marshal.ByteType;
 import org.apache.cassandra.db.marshal.BytesType;
+import org.apache.cassandra.db.marshal.CounterColumnType;
+import org.apache.cassandra.db.marshal.DecimalType;
+import org.apache.cassandra.db.marshal.DoubleType;
+import org.apache.cassandra.db.marshal.DurationType;
+import org.apache.cassandra.db.marshal.FloatType;
+import org.apache.cassandra.db.marshal.InetAddressType;
+import org.apache.cassandra.db.marshal.Int32Type;
+import org.apache.cassandra.db.marshal.IntegerType;
+import org.apache.cassandra.db.marshal.ListType;
+import org.apache.cassandra.db.marshal.LongType;
+import org.apache.cassandra.db.marshal.ReversedType;
+import org.apache.cassandra.db.marshal.ShortType;
+import org.apache.cassandra.db.marshal.SimpleDateType;
+import org.apache.cassandra.db.marshal.TimeType;
+import org.apache.cassandra.db.marshal.TimeUUIDType;
 import org.apache.cassandra.db.marshal.TimestampType;
 import org.apache.cassandra.db.marshal.UTF8Type;
+import org.apache.cassandra.db.marshal.UUIDType;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -64,4 +82,65 @@ public class TestCqlLiteralFlavorAdapter
             { BytesType.instance, BytesType.instance.fromString("AABBCCDD"), "0xaabbccdd" },
         };
     }
+
+    @Test
+    @Parameters(method = "testCqlTypeRendersLikeCassandra_parameters")
+    public void testCqlTypeRendersLikeCassandra(AbstractType type, ByteBuffer value)
+    {
+        // Given
+        ColumnSpecification col = new ColumnSpecification("ks", "cf", null, type);
+        // When
+        CqlType cqlType = CqlLiteralFlavorAdapter.cqlTypeOf(col);
+        // Then
+        assertThat(cqlType).isNotNull();
+        assertThat(cqlType.hasValidSize(value)).isTrue();
+        assertThat(cqlType.toCQLLiteral(value)).isEqualTo(CqlLiteralFlavorAdapter.toCQLLiteral(value, col));
+    }
+
+    public Object[][] testCqlTypeRendersLikeCassandra_parameters()
+    {
+        return new Object[][]{
+            { AsciiType.instance, AsciiType.instance.fromString("it's") },
+            { AsciiType.instance, EMPTY_BUFFER },
+            { LongType.instance, LongType.instance.fromString("-9223372036854775808") },
+            { LongType.instance, EMPTY_BUFFER },
+            { BytesType.instance, BytesType.instance.fromString("01ab") },
+            { BytesType.instance, EMPTY_BUFFER },
+            { BooleanType.instance, BooleanType.instance.fromString("false") },
+            { CounterColumnType.instance, LongType.instance.fromString("42") },
+            { SimpleDateType.instance, SimpleDateType.instance.fromString("2019-04-14") },
+            { SimpleDateType.instance, SimpleDateType.instance.fromString("-5877641-06-23") },
+            { DecimalType.instance, DecimalType.instance.fromString("12.3400") },
+            { DecimalType.instance, DecimalType.instance.fromString("1E+3") },
+            { DecimalType.instance, DecimalType.instance.fromString("-0.00000001") },
+            { DoubleType.instance, DoubleType.instance.fromString("NaN") },
+            { DoubleType.instance, DoubleType.instance.fromString("-0.0") },
+            { DoubleType.instance, DoubleType.instance.fromString("1e20") },
+            { FloatType.instance, FloatType.instance.fromString("-Infinity") },
+            { FloatType.instance, FloatType.instance.fromString("1e10") },
+            { InetAddressType.instance, InetAddressType.instance.fromString("1.2.3.4") },
+            { InetAddressType.instance, InetAddressType.instance.fromString("::1") },
+            { Int32Type.instance, Int32Type.instance.fromString("-17") },
+            { ShortType.instance, ShortType.instance.fromString("32767") },
+            { UTF8Type.instance, UTF8Type.instance.fromString("K\u00e4lle's \u2603") },
+            { UTF8Type.instance, EMPTY_BUFFER },
+            { TimeType.instance, TimeType.instance.fromString("01:02:03.004005006") },
+            { TimeType.instance, TimeType.instance.fromString("00:00:00") },
+            { TimestampType.instance, TimestampType.instance.fromTimeInMillis(1554188832013L) },
+            { TimestampType.instance, TimestampType.instance.fromTimeInMillis(-1L) },
+            { TimestampType.instance, TimestampType.instance.fromTimeInMillis(253402300800000L) },
+            { TimeUUIDType.instance, TimeUUIDType.instance.fromString("e4f6a6a0-5528-11e9-8647-d663bd873d93") },
+            { ByteType.instance, ByteType.instance.fromString("-128") },
+            { UUIDType.instance, UUIDType.instance.fromString("6ba7b810-9dad-41d1-80b4-00c04fd430c8") },
+            { IntegerType.instance, IntegerType.instance.fromString("-123456789012345678901234567890") },
+            { ReversedType.getInstance(Int32Type.instance), Int32Type.instance.fromString("7") },
+        };
+    }
+
+    @Test
+    public void testCqlTypeOfTypesRenderedByCassandra()
+    {
+        assertThat(CqlLiteralFlavorAdapter.cqlTypeOf(new ColumnSpecification("ks", "cf", null, DurationType.instance))).isNull();
+        assertThat(CqlLiteralFlavorAdapter.cqlTypeOf(new ColumnSpecification("ks", "cf", null, ListType.getInstance(Int32Type.instance, true)))).isNull();
+    }
 }
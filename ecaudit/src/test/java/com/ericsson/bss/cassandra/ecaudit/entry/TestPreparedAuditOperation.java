@@ -19,24 +19,35 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import com.google.common.collect.ImmutableList;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import com.ericsson.bss.cassandra.ecaudit.common.record.BoundValueVisitor;
+import com.ericsson.bss.cassandra.ecaudit.common.record.CqlType;
 import com.ericsson.bss.cassandra.ecaudit.entry.suppressor.BoundValueSuppressor;
 import com.ericsson.bss.cassandra.ecaudit.entry.suppressor.SuppressNothing;
 import org.apache.cassandra.cql3.ColumnIdentifier;
 import org.apache.cassandra.cql3.ColumnSpecification;
 import org.apache.cassandra.cql3.QueryOptions;
+import org.apache.cassandra.db.marshal.AbstractType;
+import org.apache.cassandra.db.marshal.DurationType;
+import org.apache.cassandra.db.marshal.Int32Type;
 import org.apache.cassandra.db.marshal.UTF8Type;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.StrictStubs.class)
@@ -47,6 +58,8 @@ public class TestPreparedAuditOperation
     private QueryOptions mockOptions;
     @Mock
     private BoundValueSuppressor mockSuppressor;
+    @Mock
+    private BoundValueVisitor mockVisitor;
 
     @Test
     public void testThatValuesAreBound()
@@ -68,6 +81,42 @@ public class TestPreparedAuditOperation
         assertThat(auditOperation.getNakedOperationString()).isEqualTo(preparedStatement);
     }
 
+    @Test
+    public void testThatValuesAreBoundOnceWhenSharedByThreads() throws Exception
+    {
+        String preparedStatement = "select value1, value2 from ks.cf where pk = ? and ck = ?";
+
+        List<ByteBuffer> values = createValues("text1", "text2");
+        ImmutableList<ColumnSpecification> columns = createTextColumns("col1", "col2");
+
+        when(mockOptions.hasColumnSpecifications()).thenReturn(true);
+        when(mockOptions.getColumnSpecifications()).thenReturn(columns);
+        when(mockOptions.getValues()).thenReturn(values);
+
+        PreparedAuditOperation auditOperation = new PreparedAuditOperation(preparedStatement, mockOptions, SHOW_ALL_SUPPRESSOR);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++)
+            {
+                results.add(executor.submit(auditOperation::getOperationString));
+            }
+            String first = results.get(0).get();
+            for (Future<String> result : results)
+            {
+                assertThat(result.get()).isSameAs(first);
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+
+        verify(mockOptions, times(1)).hasColumnSpecifications();
+    }
+
     @Test
     public void testThatValuesAreBoundWithFixedValues()
     {
@@ -147,6 +196,70 @@ public class TestPreparedAuditOperation
         assertThat(auditOperation.getOperationString()).isEqualTo(expectedStatement);
     }
 
+    @Test
+    public void testThatBoundValuesAreVisited()
+    {
+        String preparedStatement = "insert into ks1.t1 (k1, k2, k3, k4) values (?, ?, ?, ?)";
+
+        ByteBuffer intValue = Int32Type.instance.decompose(42);
+        ByteBuffer durationValue = DurationType.instance.fromString("1mo2d");
+        ByteBuffer malformedIntValue = ByteBuffer.wrap(new byte[]{ 1, 2 });
+        List<ByteBuffer> values = ImmutableList.of(ByteBuffer.wrap("text1".getBytes()), intValue, durationValue, malformedIntValue);
+        ImmutableList<ColumnSpecification> columns = ImmutableList.of(createColumn("col1", UTF8Type.instance),
+                                                                      createColumn("col2", Int32Type.instance),
+                                                                      createColumn("col3", DurationType.instance),
+                                                                      createColumn("col4", Int32Type.instance));
+
+        when(mockOptions.hasColumnSpecifications()).thenReturn(true);
+        when(mockOptions.getColumnSpecifications()).thenReturn(columns);
+        when(mockOptions.getValues()).thenReturn(values);
+
+        PreparedAuditOperation auditOperation = new PreparedAuditOperation(preparedStatement, mockOptions, SHOW_ALL_SUPPRESSOR);
+        auditOperation.visitBoundValues(mockVisitor);
+
+        InOrder inOrder = inOrder(mockVisitor);
+        inOrder.verify(mockVisitor).visitValue(CqlType.TEXT, values.get(0));
+        inOrder.verify(mockVisitor).visitValue(CqlType.INT, intValue);
+        inOrder.verify(mockVisitor).visitLiteral("1mo2d");
+        inOrder.verify(mockVisitor).visitLiteral("null");
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void testThatSuppressedBoundValuesAreVisitedAsLiterals()
+    {
+        String preparedStatement = "insert into ks1.t1 (k1, k2) values (?, ?)";
+
+        List<ByteBuffer> values = createValues("text1", "text2");
+        ImmutableList<ColumnSpecification> columns = createTextColumns("col1", "col2");
+
+        when(mockOptions.hasColumnSpecifications()).thenReturn(true);
+        when(mockOptions.getColumnSpecifications()).thenReturn(columns);
+        when(mockOptions.getValues()).thenReturn(values);
+
+        when(mockSuppressor.suppress(eq(columns.get(0)), eq(values.get(0)))).thenReturn(Optional.of("<ob1>"));
+        when(mockSuppressor.suppress(eq(columns.get(1)), eq(values.get(1)))).thenReturn(Optional.empty());
+
+        PreparedAuditOperation auditOperation = new PreparedAuditOperation(preparedStatement, mockOptions, mockSuppressor);
+        auditOperation.visitBoundValues(mockVisitor);
+
+        InOrder inOrder = inOrder(mockVisitor);
+        inOrder.verify(mockVisitor).visitLiteral("<ob1>");
+        inOrder.verify(mockVisitor).visitValue(CqlType.TEXT, values.get(1));
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void testNoBoundValuesVisitedWhenColumnSpecIsMissing()
+    {
+        when(mockOptions.hasColumnSpecifications()).thenReturn(false);
+
+        PreparedAuditOperation auditOperation = new PreparedAuditOperation("select * from ks.cf", mockOptions, SHOW_ALL_SUPPRESSOR);
+        auditOperation.visitBoundValues(mockVisitor);
+
+        verifyNoInteractions(mockVisitor);
+    }
+
     private List<ByteBuffer> createValues(String... values)
     {
         List<ByteBuffer> rawValues = new ArrayList<>();
@@ -166,11 +279,15 @@ public class TestPreparedAuditOperation
 
         for (String column : columns)
         {
-            ColumnIdentifier id = new ColumnIdentifier(ByteBuffer.wrap(column.getBytes()), UTF8Type.instance);
-            ColumnSpecification columnSpecification = new ColumnSpecification("ks", "cf", id, UTF8Type.instance);
-            builder.add(columnSpecification);
+            builder.add(createColumn(column, UTF8Type.instance));
         }
 
         return builder.build();
     }
+
+    private ColumnSpecification createColumn(String column, AbstractType<?> type)
+    {
+        ColumnIdentifier id = new ColumnIdentifier(ByteBuffer.wrap(column.getBytes()), UTF8Type.instance);
+        return new ColumnSpecification("ks", "cf", id, type);
+    }
 }
@@ -16,7 +16,10 @@
 package com.ericsson.bss.cassandra.ecaudit.facade;
 
 import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.junit.After;
 import org.junit.Before;
@@ -25,10 +28,12 @@ import org.junit.runner.RunWith;
 
 import com.ericsson.bss.cassandra.ecaudit.LogTimingStrategy;
 import com.ericsson.bss.cassandra.ecaudit.common.record.Status;
+import com.ericsson.bss.cassandra.ecaudit.config.LoggerOverflowPolicy;
 import com.ericsson.bss.cassandra.ecaudit.entry.AuditEntry;
 import com.ericsson.bss.cassandra.ecaudit.filter.AuditFilter;
 import com.ericsson.bss.cassandra.ecaudit.logger.AuditLogger;
 import com.ericsson.bss.cassandra.ecaudit.metrics.AuditMetrics;
+import com.ericsson.bss.cassandra.ecaudit.metrics.LoggerMetrics;
 import com.ericsson.bss.cassandra.ecaudit.obfuscator.AuditObfuscator;
 import org.apache.cassandra.db.ConsistencyLevel;
 import org.apache.cassandra.exceptions.CassandraException;
@@ -41,9 +46,15 @@ import org.mockito.junit.MockitoJUnitRunner;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -64,6 +75,9 @@ public class TestDefaultAuditor
     @Mock
     private AuditMetrics mockAuditMetrics;
 
+    @Mock
+    private LoggerMetrics mockLoggerMetrics;
+
     @Mock
     private LogTimingStrategy mockLogTimingStrategy;
 
@@ -75,6 +89,7 @@ public class TestDefaultAuditor
     @Before
     public void before()
     {
+        when(mockAuditMetrics.createLoggerMetrics(anyString())).thenReturn(mockLoggerMetrics);
         auditor = new DefaultAuditor(mockLogger, mockFilter, mockObfuscator, mockAuditMetrics, mockLogTimingStrategy);
     }
 
@@ -101,6 +116,7 @@ public class TestDefaultAuditor
         long timeTaken = timedOperation(() -> auditor.audit(logEntry));
 
         verify(mockFilter).isWhitelisted(logEntry);
+        verify(mockAuditMetrics).createLoggerMetrics(anyString());
         verify(mockAuditMetrics).filterAuditRequest(timingCaptor.capture(), eq(TimeUnit.NANOSECONDS));
         verifyNoMoreInteractions(mockAuditMetrics);
         verifyNoInteractions(mockLogger, mockObfuscator);
@@ -139,6 +155,7 @@ public class TestDefaultAuditor
         verify(mockFilter).isWhitelisted(logEntry);
         verify(mockObfuscator).obfuscate(logEntry);
         verify(mockLogger).log(logEntry);
+        verify(mockLoggerMetrics).logLatency(anyLong(), eq(TimeUnit.NANOSECONDS));
         verify(mockAuditMetrics).filterAuditRequest(timingCaptor.capture(), eq(TimeUnit.NANOSECONDS));
         verify(mockAuditMetrics).logAuditRequest(timingCaptor.capture(), eq(TimeUnit.NANOSECONDS));
 
@@ -218,6 +235,164 @@ public class TestDefaultAuditor
         reset(mockFilter, mockObfuscator, mockAuditMetrics);
     }
 
+    @Test
+    public void testQueuedLoggerIsCalledOnConsumerThread()
+    {
+        // Given
+        AuditEntry logEntry = AuditEntry.newBuilder().build();
+        when(mockObfuscator.obfuscate(logEntry)).thenReturn(logEntry);
+        CountDownLatch logged = new CountDownLatch(1);
+        Thread requestThread = Thread.currentThread();
+        doAnswer(invocation -> {
+            assertThat(Thread.currentThread()).isNotSameAs(requestThread);
+            logged.countDown();
+            return null;
+        }).when(mockLogger).log(logEntry);
+        DefaultAuditor queuedAuditor = givenQueuedAuditor(16, LoggerOverflowPolicy.block);
+        // When
+        queuedAuditor.audit(logEntry);
+        // Then
+        verify(mockLogger, timeout(5000)).log(logEntry);
+        assertThat(logged.getCount()).isZero();
+        queuedAuditor.removeLogger(mockLogger);
+        reset(mockFilter, mockObfuscator);
+    }
+
+    @Test
+    public void testSlowQueuedLoggerDoesNotDelayOtherLogger() throws Exception
+    {
+        // Given
+        AuditEntry logEntry = AuditEntry.newBuilder().build();
+        when(mockObfuscator.obfuscate(logEntry)).thenReturn(logEntry);
+        CountDownLatch release = new CountDownLatch(1);
+        AuditLogger slowLogger = entry -> awaitUninterruptibly(release);
+        DefaultAuditor queuedAuditor = givenQueuedAuditor(16, LoggerOverflowPolicy.block);
+        queuedAuditor.addLogger(slowLogger);
+        // When
+        queuedAuditor.audit(logEntry);
+        // Then
+        verify(mockLogger, timeout(5000)).log(logEntry);
+        release.countDown();
+        queuedAuditor.removeLogger(slowLogger);
+        queuedAuditor.removeLogger(mockLogger);
+        assertThat(getLoggers(queuedAuditor)).isEmpty();
+        reset(mockFilter, mockObfuscator);
+    }
+
+    @Test
+    public void testEntriesAreDroppedWhenQueueIsFull() throws Exception
+    {
+        // Given
+        AuditEntry logEntry = AuditEntry.newBuilder().build();
+        when(mockObfuscator.obfuscate(logEntry)).thenReturn(logEntry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            awaitUninterruptibly(release);
+            return null;
+        }).when(mockLogger).log(logEntry);
+        DefaultAuditor queuedAuditor = givenQueuedAuditor(1, LoggerOverflowPolicy.drop);
+        // When
+        queuedAuditor.audit(logEntry);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        queuedAuditor.audit(logEntry);
+        queuedAuditor.audit(logEntry);
+        // Then
+        verify(mockLoggerMetrics).dropped();
+        release.countDown();
+        verify(mockLogger, timeout(5000).times(2)).log(logEntry);
+        queuedAuditor.removeLogger(mockLogger);
+        reset(mockFilter, mockObfuscator);
+    }
+
+    @Test
+    public void testMetricsAreScopedByLoggerClass()
+    {
+        // When
+        auditor.addLogger(new AuditLogger()
+        {
+            @Override
+            public void log(AuditEntry logEntry)
+            {
+                // Nothing to log
+            }
+        });
+        // Then
+        verify(mockAuditMetrics).createLoggerMetrics("TestDefaultAuditor_1");
+    }
+
+    @Test
+    public void testLoggersOfSameClassGetUniqueMetrics()
+    {
+        // Given
+        AuditLogger secondLogger = new NopAuditLogger();
+        AuditLogger thirdLogger = new NopAuditLogger();
+        // When
+        auditor.addLogger(secondLogger);
+        auditor.addLogger(thirdLogger);
+        // Then
+        verify(mockAuditMetrics).createLoggerMetrics("TestDefaultAuditor_NopAuditLogger");
+        verify(mockAuditMetrics).createLoggerMetrics("TestDefaultAuditor_NopAuditLogger-2");
+    }
+
+    @Test
+    public void testRemovedLoggerMetricsAreRemoved()
+    {
+        // Given
+        AuditLogger secondLogger = new NopAuditLogger();
+        auditor.addLogger(secondLogger);
+        // When
+        auditor.removeLogger(secondLogger);
+        auditor.addLogger(new NopAuditLogger());
+        // Then
+        verify(mockAuditMetrics).removeLoggerMetrics("TestDefaultAuditor_NopAuditLogger");
+        verify(mockAuditMetrics, times(2)).createLoggerMetrics("TestDefaultAuditor_NopAuditLogger");
+    }
+
+    @Test
+    public void testQueuedLoggerFailureIsCounted()
+    {
+        // Given
+        AuditEntry logEntry = AuditEntry.newBuilder().build();
+        when(mockObfuscator.obfuscate(logEntry)).thenReturn(logEntry);
+        doThrow(new CassandraAuditException("Audit queue full")).when(mockLogger).log(logEntry);
+        DefaultAuditor queuedAuditor = givenQueuedAuditor(16, LoggerOverflowPolicy.block);
+        // When
+        queuedAuditor.audit(logEntry);
+        // Then
+        verify(mockLoggerMetrics, timeout(5000)).failed();
+        verify(mockLogger).log(logEntry);
+        queuedAuditor.removeLogger(mockLogger);
+        reset(mockFilter, mockObfuscator);
+    }
+
+    private static class NopAuditLogger implements AuditLogger
+    {
+        @Override
+        public void log(AuditEntry logEntry)
+        {
+            // Nothing to log
+        }
+    }
+
+    private DefaultAuditor givenQueuedAuditor(int queueCapacity, LoggerOverflowPolicy overflowPolicy)
+    {
+        return new DefaultAuditor(mockLogger, mockFilter, mockObfuscator, mockAuditMetrics, mockLogTimingStrategy, queueCapacity, overflowPolicy);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch)
+    {
+        try
+        {
+            latch.await(5, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private long timedOperation(Runnable runnable)
     {
         return timedOperation(runnable, null);
@@ -245,4 +420,14 @@ public class TestDefaultAuditor
         field.setAccessible(true);
         return (LogTimingStrategy) field.get(auditor);
     }
+
+    @SuppressWarnings("unchecked")
+    public static List<AuditLogger> getLoggers(Auditor auditor) throws Exception
+    {
+        Field field = DefaultAuditor.class.getDeclaredField("pipelines");
+        field.setAccessible(true);
+        return ((List<LoggerPipeline>) field.get(auditor)).stream()
+                                                          .map(LoggerPipeline::getLogger)
+                                                          .collect(Collectors.toList());
+    }
 }
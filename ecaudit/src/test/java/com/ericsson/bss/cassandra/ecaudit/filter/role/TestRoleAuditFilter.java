@@ -19,6 +19,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -34,6 +35,7 @@ import org.junit.runner.RunWith;
 import com.ericsson.bss.cassandra.ecaudit.auth.ConnectionResource;
 import com.ericsson.bss.cassandra.ecaudit.auth.GrantResource;
 import com.ericsson.bss.cassandra.ecaudit.auth.WhitelistDataAccess;
+import com.ericsson.bss.cassandra.ecaudit.config.AuditConfig;
 import com.ericsson.bss.cassandra.ecaudit.entry.AuditEntry;
 import com.ericsson.bss.cassandra.ecaudit.test.mode.ClientInitializer;
 import org.apache.cassandra.auth.DataResource;
@@ -47,11 +49,15 @@ import org.apache.cassandra.exceptions.ReadTimeoutException;
 import org.apache.cassandra.exceptions.UnavailableException;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -88,22 +94,42 @@ public class TestRoleAuditFilter
     @Before
     public void before()
     {
-        filter = new RoleAuditFilter(getRolesFunctionMock, whitelistDataAccessMock, auditFilterAuthorizerMock);
+        filter = new RoleAuditFilter(givenConfig(), getRolesFunctionMock, whitelistDataAccessMock, auditFilterAuthorizerMock);
 
         whitelistMap = Maps.newHashMap();
-        when(whitelistDataAccessMock.getWhitelist(any(RoleResource.class)))
-        .thenAnswer((invocation) -> {
+        Answer<Map<IResource, Set<Permission>>> whitelistAnswer = (invocation) -> {
             RoleResource roleResource = invocation.getArgument(0);
             Map<IResource, Set<Permission>> whitelist = whitelistMap.get(roleResource);
             return whitelist != null ? whitelist : Collections.emptyMap();
-        });
+        };
+        when(whitelistDataAccessMock.getWhitelist(any(RoleResource.class))).thenAnswer(whitelistAnswer);
+        when(whitelistDataAccessMock.getChangedWhitelist(any(RoleResource.class))).thenAnswer(whitelistAnswer);
     }
 
     @Test
     public void testSetupDelegation()
     {
-        filter.setup();
+        RoleAuditFilter coldFilter = new RoleAuditFilter(givenConfig(false), getRolesFunctionMock, whitelistDataAccessMock, auditFilterAuthorizerMock);
+
+        coldFilter.setup();
+
         verify(whitelistDataAccessMock, times(1)).setup();
+        verify(whitelistDataAccessMock, never()).getAllWhitelists(anyInt());
+    }
+
+    @Test
+    public void whitelistCacheIsWarmedUpOnSetup()
+    {
+        givenRoleIsWhitelisted("primary", Permission.SELECT, DataResource.fromName("data/ks"));
+        givenRolesOfRequest("primary");
+        when(whitelistDataAccessMock.getAllWhitelists(anyInt())).thenReturn(whitelistMap);
+        RoleAuditFilter warmedUpFilter = new RoleAuditFilter(givenConfig(true), getRolesFunctionMock, whitelistDataAccessMock, auditFilterAuthorizerMock);
+
+        warmedUpFilter.setup();
+
+        assertThat(warmedUpFilter.isWhitelisted(givenAuditEntry(Collections.singleton(Permission.SELECT), DataResource.fromName("data/ks/tbl")))).isTrue();
+        verify(whitelistDataAccessMock, times(1)).getAllWhitelists(anyInt());
+        verify(whitelistDataAccessMock, never()).getWhitelist(any(RoleResource.class));
     }
 
     @Test
@@ -237,6 +263,88 @@ public class TestRoleAuditFilter
         assertThat(filter.isWhitelisted(auditEntry)).isFalse();
     }
 
+    @Test
+    public void whitelistIsLoadedOncePerRole()
+    {
+        givenRoleIsWhitelisted("primary", Permission.SELECT, DataResource.fromName("data/ks"));
+        givenRolesOfRequest("primary", "inherited");
+
+        assertThat(filter.isWhitelisted(givenAuditEntry(Collections.singleton(Permission.SELECT), DataResource.fromName("data/ks/tbl1")))).isTrue();
+        assertThat(filter.isWhitelisted(givenAuditEntry(Collections.singleton(Permission.SELECT), DataResource.fromName("data/ks/tbl2")))).isTrue();
+        assertThat(filter.isWhitelisted(givenAuditEntry(Collections.singleton(Permission.MODIFY), DataResource.fromName("data/ks/tbl1")))).isFalse();
+
+        verify(whitelistDataAccessMock, times(1)).getWhitelist(eq(RoleResource.role("primary")));
+        verify(whitelistDataAccessMock, times(1)).getWhitelist(eq(RoleResource.role("inherited")));
+    }
+
+    @Test
+    public void changedWhitelistIsReloadedForUsersOfRole()
+    {
+        givenRoleIsWhitelisted("primary", Permission.SELECT, DataResource.fromName("data/ks"));
+        givenRolesOfRequest("primary", "inherited");
+        AuditEntry auditEntry = givenAuditEntry(Collections.singleton(Permission.SELECT), DataResource.fromName("data/ks/tbl"));
+        assertThat(filter.isWhitelisted(auditEntry)).isTrue();
+
+        whitelistMap.clear();
+        assertThat(filter.isWhitelisted(auditEntry)).isTrue();
+
+        filter.invalidateRole(RoleResource.role("primary"));
+        assertThat(filter.isWhitelisted(auditEntry)).isFalse();
+        verify(whitelistDataAccessMock, times(1)).getWhitelist(eq(RoleResource.role("primary")));
+        verify(whitelistDataAccessMock, times(1)).getChangedWhitelist(eq(RoleResource.role("primary")));
+        verify(whitelistDataAccessMock, times(1)).getWhitelist(eq(RoleResource.role("inherited")));
+        verify(whitelistDataAccessMock, never()).getChangedWhitelist(eq(RoleResource.role("inherited")));
+    }
+
+    @Test
+    public void changedWhitelistIsReloadedAgainAfterFailure()
+    {
+        givenRolesOfRequest("primary");
+        AuditEntry auditEntry = givenAuditEntry(Collections.singleton(Permission.SELECT), DataResource.fromName("data/ks/tbl"));
+        assertThat(filter.isWhitelisted(auditEntry)).isFalse();
+
+        givenRoleIsWhitelisted("primary", Permission.SELECT, DataResource.fromName("data/ks"));
+        filter.invalidateRole(RoleResource.role("primary"));
+        when(whitelistDataAccessMock.getChangedWhitelist(eq(RoleResource.role("primary"))))
+        .thenThrow(new ReadTimeoutException(ConsistencyLevel.LOCAL_QUORUM, 1, 2, false))
+        .thenReturn(whitelistMap.get(RoleResource.role("primary")));
+
+        assertThatExceptionOfType(ReadTimeoutException.class)
+        .isThrownBy(() -> filter.isWhitelisted(auditEntry));
+        assertThat(filter.isWhitelisted(auditEntry)).isTrue();
+        verify(whitelistDataAccessMock, times(1)).getWhitelist(eq(RoleResource.role("primary")));
+        verify(whitelistDataAccessMock, times(2)).getChangedWhitelist(eq(RoleResource.role("primary")));
+    }
+
+    @Test
+    public void changedWhitelistOfOtherRoleKeepsCachedEntries()
+    {
+        givenRoleIsWhitelisted("primary", Permission.SELECT, DataResource.fromName("data/ks"));
+        givenRolesOfRequest("primary", "inherited");
+        AuditEntry auditEntry = givenAuditEntry(Collections.singleton(Permission.SELECT), DataResource.fromName("data/ks/tbl"));
+        assertThat(filter.isWhitelisted(auditEntry)).isTrue();
+
+        whitelistMap.clear();
+        filter.invalidateRole(RoleResource.role("unrelated"));
+
+        assertThat(filter.isWhitelisted(auditEntry)).isTrue();
+        verify(whitelistDataAccessMock, times(1)).getWhitelist(eq(RoleResource.role("primary")));
+    }
+
+    @Test
+    public void whitelistVersionsArePolledFromSetup()
+    {
+        AuditConfig auditConfig = givenConfig(false);
+        when(auditConfig.getWhitelistCacheChangePollInterval()).thenReturn(60_000);
+        when(whitelistDataAccessMock.getWhitelistVersions()).thenReturn(Collections.singletonMap(RoleResource.role("primary"), UUID.randomUUID()));
+        RoleAuditFilter pollingFilter = new RoleAuditFilter(auditConfig, getRolesFunctionMock, whitelistDataAccessMock, auditFilterAuthorizerMock);
+
+        pollingFilter.setup();
+
+        verify(whitelistDataAccessMock, times(1)).getWhitelistVersions();
+        verify(whitelistDataAccessMock, times(1)).enableChangeDetection();
+    }
+
     @Test
     public void uncheckedExceptionIsUnwrapped()
     {
@@ -258,6 +366,26 @@ public class TestRoleAuditFilter
         assertThat(filter.isWhitelisted(auditEntry)).isFalse();
     }
 
+    private AuditConfig givenConfig(boolean warmUp)
+    {
+        AuditConfig auditConfig = givenConfig();
+        when(auditConfig.isWhitelistCacheWarmUp()).thenReturn(warmUp);
+        return auditConfig;
+    }
+
+    /**
+     * The caches must not expire during a test, the shared {@link AuditConfig} instance may have been loaded with a
+     * short validity by other tests.
+     */
+    private AuditConfig givenConfig()
+    {
+        AuditConfig auditConfig = mock(AuditConfig.class);
+        when(auditConfig.getWhitelistCacheValidity()).thenReturn(60_000);
+        when(auditConfig.getWhitelistCacheUpdateInterval()).thenReturn(60_000);
+        when(auditConfig.getWhitelistCacheMaxEntries()).thenReturn(10);
+        return auditConfig;
+    }
+
     private void givenRolesOfRequest(String... roleNames)
     {
         Set<RoleResource> roles = Arrays.stream(roleNames)
@@ -15,18 +15,32 @@
  */
 package com.ericsson.bss.cassandra.ecaudit.filter.role;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import javax.management.ObjectName;
 
+import com.google.common.collect.ImmutableSet;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import com.ericsson.bss.cassandra.ecaudit.config.AuditConfig;
+import com.ericsson.bss.cassandra.ecaudit.metrics.AuditMetrics;
+import org.apache.cassandra.auth.DataResource;
+import org.apache.cassandra.auth.Permission;
 import org.awaitility.Awaitility;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -43,13 +57,18 @@ public class TestRoleAuditFilterCache
     @Mock
     Function<RoleAuditFilterCacheKey, Boolean> loadFunction;
 
+    @Mock
+    AuditMetrics auditMetrics;
+
+    private final List<Runnable> pendingRefreshes = new ArrayList<>();
+
     @Test
     public void testValueIsReadEveryTimeWhenCacheDisabled()
     {
         givenCacheValidity(0); // Disable cache
 
         when(loadFunction.apply(cacheKey)).thenReturn(true, false);
-        RoleAuditFilterCache cache = new RoleAuditFilterCache(loadFunction, auditConfig);
+        RoleAuditFilterCache cache = givenCache();
 
         assertThat(cache.isWhitelisted(cacheKey)).isTrue();
         assertThat(cache.isWhitelisted(cacheKey)).isFalse();
@@ -62,7 +81,7 @@ public class TestRoleAuditFilterCache
         givenCacheValidity(500);
 
         when(loadFunction.apply(cacheKey)).thenReturn(true, false);
-        RoleAuditFilterCache cache = new RoleAuditFilterCache(loadFunction, auditConfig);
+        RoleAuditFilterCache cache = givenCache();
 
         assertThat(cache.isWhitelisted(cacheKey)).isTrue();
         assertThat(cache.isWhitelisted(cacheKey)).isTrue();
@@ -75,7 +94,7 @@ public class TestRoleAuditFilterCache
         givenCacheValidity(500);
 
         when(loadFunction.apply(cacheKey)).thenReturn(true, false);
-        RoleAuditFilterCache cache = new RoleAuditFilterCache(loadFunction, auditConfig);
+        RoleAuditFilterCache cache = givenCache();
 
         assertThat(cache.isWhitelisted(cacheKey)).isTrue();
 
@@ -87,10 +106,228 @@ public class TestRoleAuditFilterCache
         verify(loadFunction, times(2)).apply(cacheKey);
     }
 
+    @Test
+    public void testStaleValueIsServedWhileRefreshing() throws InterruptedException
+    {
+        givenCacheValidity(10_000, 100, 10);
+
+        when(loadFunction.apply(cacheKey)).thenReturn(true, false);
+        RoleAuditFilterCache cache = givenCacheWithPendingRefreshes();
+
+        assertThat(cache.isWhitelisted(cacheKey)).isTrue();
+        Thread.sleep(200);
+
+        assertThat(cache.isWhitelisted(cacheKey)).isTrue();
+        assertThat(cache.isWhitelisted(cacheKey)).isTrue();
+        verify(loadFunction, times(1)).apply(cacheKey);
+
+        runPendingRefreshes();
+        assertThat(cache.isWhitelisted(cacheKey)).isFalse();
+        verify(loadFunction, times(2)).apply(cacheKey);
+    }
+
+    @Test
+    public void testConcurrentMissesLoadOnce() throws Exception
+    {
+        givenCacheValidity(10_000);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(loadFunction.apply(cacheKey)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return true;
+        });
+        RoleAuditFilterCache cache = givenCache();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++)
+            {
+                results.add(executor.submit(() -> cache.isWhitelisted(cacheKey)));
+            }
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<Boolean> result : results)
+            {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isTrue();
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        verify(loadFunction, times(1)).apply(cacheKey);
+    }
+
+    @Test
+    public void testEntriesAreEvictedByWeight()
+    {
+        givenCacheValidity(10_000, 10_000, 4);
+
+        when(loadFunction.apply(any(RoleAuditFilterCacheKey.class))).thenReturn(true);
+        RoleAuditFilterCache cache = givenCache();
+
+        for (int i = 0; i < 4; i++)
+        {
+            cache.isWhitelisted(new RoleAuditFilterCacheKey("user" + i,
+                                                            DataResource.table("ks", "tbl"),
+                                                            ImmutableSet.of(Permission.SELECT, Permission.MODIFY)));
+        }
+
+        Awaitility.await().atMost(1, TimeUnit.SECONDS)
+                  .until(() -> cache.getEstimatedSize() <= 2);
+        assertThat(cache.stats().evictionCount()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    public void testStatsAreRecordedAndRegistered()
+    {
+        givenCacheValidity(10_000);
+
+        when(loadFunction.apply(cacheKey)).thenReturn(true);
+        RoleAuditFilterCache cache = givenCache();
+
+        cache.isWhitelisted(cacheKey);
+        cache.isWhitelisted(cacheKey);
+        cache.isWhitelisted(cacheKey);
+
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(2);
+        assertThat(cache.stats().loadSuccessCount()).isEqualTo(1);
+        verify(auditMetrics).registerFilterCacheStats(any());
+    }
+
+    @Test
+    public void testDisabledCacheHasEmptyStats()
+    {
+        givenCacheValidity(0);
+
+        when(loadFunction.apply(cacheKey)).thenReturn(true);
+        RoleAuditFilterCache cache = givenCache();
+
+        cache.isWhitelisted(cacheKey);
+
+        assertThat(cache.stats().requestCount()).isZero();
+    }
+
+    @Test
+    public void testCacheIsRegisteredAsMBean() throws Exception
+    {
+        givenCacheValidity(10_000);
+
+        RoleAuditFilterCache cache = givenCache();
+
+        assertThat(ManagementFactory.getPlatformMBeanServer().isRegistered(new ObjectName(cache.getObjectName()))).isTrue();
+        assertThat(cache.getValidity()).isEqualTo(10_000);
+        assertThat(cache.getMaxEntries()).isEqualTo(10);
+    }
+
+    @Test
+    public void testInvalidateDiscardsAllEntries()
+    {
+        givenCacheValidity(10_000);
+
+        when(loadFunction.apply(cacheKey)).thenReturn(true, false);
+        RoleAuditFilterCache cache = givenCache();
+
+        assertThat(cache.isWhitelisted(cacheKey)).isTrue();
+        cache.invalidate();
+
+        assertThat(cache.isWhitelisted(cacheKey)).isFalse();
+        verify(loadFunction, times(2)).apply(cacheKey);
+    }
+
+    @Test
+    public void testChangedValidityRebuildsCache()
+    {
+        givenCacheValidity(10_000);
+
+        when(loadFunction.apply(cacheKey)).thenReturn(true, false);
+        RoleAuditFilterCache cache = givenCache();
+        assertThat(cache.isWhitelisted(cacheKey)).isTrue();
+
+        when(auditConfig.getWhitelistCacheValidity()).thenReturn(0);
+        cache.setValidity(0);
+
+        verify(auditConfig).setWhitelistCacheValidity(0);
+        assertThat(cache.isWhitelisted(cacheKey)).isFalse();
+        assertThat(cache.getEstimatedSize()).isZero();
+    }
+
+    @Test
+    public void testChangedMaxEntriesKeepsEntries()
+    {
+        givenCacheValidity(10_000);
+
+        when(loadFunction.apply(cacheKey)).thenReturn(true, false);
+        RoleAuditFilterCache cache = givenCache();
+        assertThat(cache.isWhitelisted(cacheKey)).isTrue();
+
+        when(auditConfig.getWhitelistCacheMaxEntries()).thenReturn(20);
+        cache.setMaxEntries(20);
+
+        verify(auditConfig).setWhitelistCacheMaxEntries(20);
+        assertThat(cache.isWhitelisted(cacheKey)).isTrue();
+        verify(loadFunction, times(1)).apply(cacheKey);
+    }
+
+    @Test
+    public void testDisabledActiveUpdateStopsReloads() throws InterruptedException
+    {
+        givenCacheValidity(10_000, 10, 10);
+        when(auditConfig.isWhitelistCacheActiveUpdate()).thenReturn(true);
+
+        AtomicInteger loads = new AtomicInteger();
+        when(loadFunction.apply(cacheKey)).thenAnswer(invocation -> loads.incrementAndGet() > 0);
+        RoleAuditFilterCache cache = givenCache();
+        cache.isWhitelisted(cacheKey);
+
+        Awaitility.await().atMost(5, TimeUnit.SECONDS)
+                  .until(() -> loads.get() >= 3);
+
+        when(auditConfig.isWhitelistCacheActiveUpdate()).thenReturn(false);
+        cache.setActiveUpdate(false);
+        verify(auditConfig).setWhitelistCacheActiveUpdate(false);
+        Thread.sleep(50);
+
+        int loadsAfterDisable = loads.get();
+        Thread.sleep(200);
+        assertThat(loads.get()).isEqualTo(loadsAfterDisable);
+    }
+
+    private void runPendingRefreshes()
+    {
+        while (!pendingRefreshes.isEmpty())
+        {
+            pendingRefreshes.remove(0).run();
+        }
+    }
+
+    private RoleAuditFilterCache givenCache()
+    {
+        return new RoleAuditFilterCache(loadFunction, auditConfig, auditMetrics, Runnable::run);
+    }
+
+    private RoleAuditFilterCache givenCacheWithPendingRefreshes()
+    {
+        return new RoleAuditFilterCache(loadFunction, auditConfig, auditMetrics, pendingRefreshes::add);
+    }
+
     private void givenCacheValidity(int validityTime)
+    {
+        givenCacheValidity(validityTime, validityTime, 10);
+    }
+
+    private void givenCacheValidity(int validityTime, int updateInterval, int maxEntries)
     {
         when(auditConfig.getWhitelistCacheValidity()).thenReturn(validityTime);
-        when(auditConfig.getWhitelistCacheUpdateInterval()).thenReturn(validityTime);
-        when(auditConfig.getWhitelistCacheMaxEntries()).thenReturn(10);
+        when(auditConfig.getWhitelistCacheUpdateInterval()).thenReturn(updateInterval);
+        when(auditConfig.getWhitelistCacheMaxEntries()).thenReturn(maxEntries);
     }
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2018 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.filter.role;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.ericsson.bss.cassandra.ecaudit.auth.ConnectionResource;
+import com.ericsson.bss.cassandra.ecaudit.auth.GrantResource;
+import com.ericsson.bss.cassandra.ecaudit.filter.role.RoleWhitelist.Match;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.apache.cassandra.auth.DataResource;
+import org.apache.cassandra.auth.FunctionResource;
+import org.apache.cassandra.auth.IResource;
+import org.apache.cassandra.auth.JMXResource;
+import org.apache.cassandra.auth.Permission;
+import org.apache.cassandra.auth.Resources;
+import org.apache.cassandra.auth.RoleResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(JUnitParamsRunner.class)
+public class TestRoleWhitelist
+{
+    private static final RoleWhitelist WHITELIST = RoleWhitelist.compile(ImmutableMap.<IResource, Set<Permission>>builder()
+        .put(DataResource.fromName("data/ks"), ImmutableSet.of(Permission.SELECT))
+        .put(DataResource.fromName("data/ks/tbl"), ImmutableSet.of(Permission.CREATE, Permission.MODIFY, Permission.DESCRIBE))
+        .put(GrantResource.fromResource(DataResource.fromName("data")), ImmutableSet.of(Permission.DESCRIBE))
+        .put(GrantResource.fromResource(RoleResource.fromName("roles/kalle")), ImmutableSet.of(Permission.ALTER))
+        .put(GrantResource.root(), ImmutableSet.of(Permission.DROP))
+        .put(DataResource.fromName("data/empty"), ImmutableSet.of())
+        .put(FunctionResource.keyspace("ks"), ImmutableSet.of(Permission.EXECUTE))
+        .put(JMXResource.root(), ImmutableSet.of(Permission.SELECT))
+        .put(ConnectionResource.root(), ImmutableSet.of(Permission.EXECUTE))
+        .build());
+
+    @SuppressWarnings("unused")
+    private Object[] parametersForTestWhitelist()
+    {
+        return new Object[]{
+            new Object[]{ Permission.SELECT, DataResource.fromName("data/ks"), Match.WHITELISTED },              // keyspace whitelisted
+            new Object[]{ Permission.SELECT, DataResource.fromName("data/ks/tbl"), Match.WHITELISTED },          // table (through keyspace) whitelisted
+            new Object[]{ Permission.CREATE, DataResource.fromName("data/ks/tbl"), Match.WHITELISTED },          // table whitelisted
+            new Object[]{ Permission.CREATE, DataResource.fromName("data/ks"), Match.NONE },                     // CREATE not whitelisted
+            new Object[]{ Permission.SELECT, DataResource.fromName("data/other/tbl"), Match.NONE },              // other keyspace not whitelisted
+            new Object[]{ Permission.DESCRIBE, DataResource.fromName("data/ks/tbl2"), Match.GRANT_WHITELISTED }, // table (through data) grant whitelisted
+            new Object[]{ Permission.DESCRIBE, DataResource.fromName("data/ks/tbl"), Match.WHITELISTED },        // table whitelisted and grant whitelisted
+            new Object[]{ Permission.ALTER, RoleResource.fromName("roles/kalle"), Match.GRANT_WHITELISTED },     // role (kalle) grant whitelisted
+            new Object[]{ Permission.ALTER, RoleResource.fromName("roles/olle"), Match.NONE },                   // role (olle) not grant whitelisted
+            new Object[]{ Permission.DROP, RoleResource.fromName("roles"), Match.GRANT_WHITELISTED },            // DROP grant whitelisted (through root-level grant)
+            new Object[]{ Permission.SELECT, DataResource.fromName("data/empty"), Match.NONE },                  // no operations whitelisted
+            new Object[]{ Permission.EXECUTE, FunctionResource.function("ks", "f", Collections.emptyList()), Match.WHITELISTED }, // function (through keyspace) whitelisted
+            new Object[]{ Permission.SELECT, JMXResource.mbean("org.apache.cassandra.db:type=Tables"), Match.WHITELISTED }, // mbean (through root) whitelisted
+            new Object[]{ Permission.EXECUTE, ConnectionResource.root(), Match.WHITELISTED },                          // connections whitelisted
+        };
+    }
+
+    @Test
+    @Parameters
+    public void testWhitelist(Permission operation, IResource resource, Match expectedMatch)
+    {
+        List<? extends IResource> resourceChain = Resources.chain(resource);
+
+        assertThat(WHITELIST.match(operation, resourceChain)).isEqualTo(expectedMatch);
+    }
+
+    @Test
+    public void testEmptyWhitelist()
+    {
+        List<? extends IResource> resourceChain = Resources.chain(DataResource.fromName("data/ks/tbl"));
+
+        assertThat(RoleWhitelist.compile(Collections.emptyMap())).isSameAs(RoleWhitelist.EMPTY);
+        assertThat(RoleWhitelist.EMPTY.match(Permission.SELECT, resourceChain)).isEqualTo(Match.NONE);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2020 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.filter.role;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.ericsson.bss.cassandra.ecaudit.config.AuditConfig;
+import org.apache.cassandra.auth.RoleResource;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TestRoleWhitelistCache
+{
+    private static final RoleResource ROLE = RoleResource.role("role1");
+    private static final RoleResource OTHER_ROLE = RoleResource.role("role2");
+
+    @Mock
+    AuditConfig auditConfig;
+
+    @Mock
+    Function<RoleResource, RoleWhitelist> loadFunction;
+
+    @Mock
+    Supplier<Map<RoleResource, RoleWhitelist>> bulkLoadFunction;
+
+    @Test
+    public void testWhitelistIsReadEveryTimeWhenCacheDisabled()
+    {
+        givenCacheValidity(0); // Disable cache
+        RoleWhitelist whitelist = mock(RoleWhitelist.class);
+
+        when(loadFunction.apply(ROLE)).thenReturn(whitelist);
+        RoleWhitelistCache cache = new RoleWhitelistCache(loadFunction, bulkLoadFunction, auditConfig);
+
+        assertThat(cache.getWhitelist(ROLE)).isSameAs(whitelist);
+        assertThat(cache.getWhitelist(ROLE)).isSameAs(whitelist);
+        verify(loadFunction, times(2)).apply(ROLE);
+    }
+
+    @Test
+    public void testWhitelistIsCachedPerRole()
+    {
+        givenCacheValidity(500);
+        RoleWhitelist whitelist = mock(RoleWhitelist.class);
+        RoleWhitelist otherWhitelist = mock(RoleWhitelist.class);
+
+        when(loadFunction.apply(ROLE)).thenReturn(whitelist);
+        when(loadFunction.apply(OTHER_ROLE)).thenReturn(otherWhitelist);
+        RoleWhitelistCache cache = new RoleWhitelistCache(loadFunction, bulkLoadFunction, auditConfig);
+
+        assertThat(cache.getWhitelist(ROLE)).isSameAs(whitelist);
+        assertThat(cache.getWhitelist(OTHER_ROLE)).isSameAs(otherWhitelist);
+        assertThat(cache.getWhitelist(ROLE)).isSameAs(whitelist);
+        verify(loadFunction, times(1)).apply(ROLE);
+        verify(loadFunction, times(1)).apply(OTHER_ROLE);
+    }
+
+    @Test
+    public void testWarmUpLoadsAllWhitelists()
+    {
+        givenCacheValidity(500);
+        RoleWhitelist whitelist = mock(RoleWhitelist.class);
+        RoleWhitelist otherWhitelist = mock(RoleWhitelist.class);
+
+        when(bulkLoadFunction.get()).thenReturn(ImmutableMap.of(ROLE, whitelist, OTHER_ROLE, otherWhitelist));
+        RoleWhitelistCache cache = new RoleWhitelistCache(loadFunction, bulkLoadFunction, auditConfig);
+        cache.warm();
+
+        assertThat(cache.getWhitelist(ROLE)).isSameAs(whitelist);
+        assertThat(cache.getWhitelist(OTHER_ROLE)).isSameAs(otherWhitelist);
+        verifyNoInteractions(loadFunction);
+    }
+
+    @Test
+    public void testValidityLeavesRoomForFilterCacheRebuild()
+    {
+        givenCacheValidity(2000);
+        assertThat(RoleWhitelistCache.validity(auditConfig)).isEqualTo(500);
+
+        when(auditConfig.getWhitelistCacheUpdateInterval()).thenReturn(1200);
+        assertThat(RoleWhitelistCache.validity(auditConfig)).isEqualTo(800);
+
+        when(auditConfig.isWhitelistCacheActiveUpdate()).thenReturn(true);
+        when(auditConfig.getWhitelistCacheUpdateInterval()).thenReturn(2000);
+        assertThat(RoleWhitelistCache.validity(auditConfig)).isEqualTo(0);
+    }
+
+    @Test
+    public void testWhitelistExpiresBeforeFilterCacheValidity() throws Exception
+    {
+        givenCacheValidity(400);
+        RoleWhitelist whitelist = mock(RoleWhitelist.class);
+
+        when(loadFunction.apply(ROLE)).thenReturn(whitelist);
+        RoleWhitelistCache cache = new RoleWhitelistCache(loadFunction, bulkLoadFunction, auditConfig);
+
+        assertThat(cache.getWhitelist(ROLE)).isSameAs(whitelist);
+        assertThat(cache.getWhitelist(ROLE)).isSameAs(whitelist);
+        verify(loadFunction, times(1)).apply(ROLE);
+
+        Thread.sleep(150);
+        assertThat(cache.getWhitelist(ROLE)).isSameAs(whitelist);
+        verify(loadFunction, times(2)).apply(ROLE);
+    }
+
+    private void givenCacheValidity(int validityTime)
+    {
+        when(auditConfig.getWhitelistCacheValidity()).thenReturn(validityTime);
+        when(auditConfig.getWhitelistCacheUpdateInterval()).thenReturn(validityTime);
+        when(auditConfig.getWhitelistCacheMaxEntries()).thenReturn(10);
+    }
+}
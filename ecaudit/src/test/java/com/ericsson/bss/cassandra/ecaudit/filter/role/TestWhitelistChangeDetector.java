@@ -0,0 +1,122 @@
+/*
+ * Copyright 2020 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.filter.role;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.apache.cassandra.auth.RoleResource;
+import org.apache.cassandra.db.ConsistencyLevel;
+import org.apache.cassandra.exceptions.UnavailableException;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.StrictStubs.class)
+public class TestWhitelistChangeDetector
+{
+    private static final RoleResource ROLE = RoleResource.role("role1");
+    private static final RoleResource OTHER_ROLE = RoleResource.role("role2");
+    private static final UUID VERSION_1 = UUID.randomUUID();
+    private static final UUID VERSION_2 = UUID.randomUUID();
+
+    @Mock
+    private Supplier<Map<RoleResource, UUID>> versionsFunction;
+
+    @Mock
+    private Consumer<RoleResource> changedRoleConsumer;
+
+    private WhitelistChangeDetector changeDetector;
+
+    @Before
+    public void before()
+    {
+        changeDetector = new WhitelistChangeDetector(versionsFunction, changedRoleConsumer);
+    }
+
+    @Test
+    public void testFirstPollRecordsVersions()
+    {
+        when(versionsFunction.get()).thenReturn(ImmutableMap.of(ROLE, VERSION_1, OTHER_ROLE, VERSION_1));
+
+        changeDetector.run();
+
+        verifyNoInteractions(changedRoleConsumer);
+    }
+
+    @Test
+    public void testUnchangedVersionsAreNotReported()
+    {
+        when(versionsFunction.get()).thenReturn(ImmutableMap.of(ROLE, VERSION_1));
+
+        changeDetector.run();
+        changeDetector.run();
+
+        verifyNoInteractions(changedRoleConsumer);
+    }
+
+    @Test
+    public void testOnlyChangedRoleIsReported()
+    {
+        when(versionsFunction.get()).thenReturn(ImmutableMap.of(ROLE, VERSION_1, OTHER_ROLE, VERSION_1),
+                                                ImmutableMap.of(ROLE, VERSION_2, OTHER_ROLE, VERSION_1));
+
+        changeDetector.run();
+        changeDetector.run();
+
+        verify(changedRoleConsumer).accept(ROLE);
+        verifyNoMoreInteractions(changedRoleConsumer);
+    }
+
+    @Test
+    public void testNewRoleIsReported()
+    {
+        when(versionsFunction.get()).thenReturn(ImmutableMap.of(ROLE, VERSION_1),
+                                                ImmutableMap.of(ROLE, VERSION_1, OTHER_ROLE, VERSION_1));
+
+        changeDetector.run();
+        changeDetector.run();
+
+        verify(changedRoleConsumer).accept(OTHER_ROLE);
+        verifyNoMoreInteractions(changedRoleConsumer);
+    }
+
+    @Test
+    public void testChangeIsReportedAfterFailedPoll()
+    {
+        when(versionsFunction.get()).thenReturn(ImmutableMap.of(ROLE, VERSION_1))
+                                    .thenThrow(UnavailableException.create(ConsistencyLevel.LOCAL_ONE, 1, 0))
+                                    .thenReturn(ImmutableMap.of(ROLE, VERSION_2));
+
+        changeDetector.run();
+        changeDetector.run();
+        verifyNoInteractions(changedRoleConsumer);
+
+        changeDetector.run();
+        verify(changedRoleConsumer).accept(ROLE);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class TestCharacterEscaper
+{
+    @Test
+    public void testNothingToEscape()
+    {
+        CharacterEscaper escaper = CharacterEscaper.forCharacters(Collections.emptySet());
+        String input = "select * from \"ks\".\"tbl\"";
+
+        assertThat(escaper.escape(input)).isSameAs(input);
+    }
+
+    @Test
+    public void testNoEscapedCharacterInInput()
+    {
+        CharacterEscaper escaper = CharacterEscaper.forCharacters(Arrays.asList("\"", "|"));
+        String input = "select * from ks.tbl";
+
+        assertThat(escaper.escape(input)).isSameAs(input);
+        assertThat(escaper.escape("")).isEmpty();
+    }
+
+    @Test
+    public void testEscapeCharacters()
+    {
+        CharacterEscaper escaper = CharacterEscaper.forCharacters(Arrays.asList("\"", "|"));
+
+        assertThat(escaper.escape("\"a\"|b|")).isEqualTo("\\\"a\\\"\\|b\\|");
+    }
+
+    @Test
+    public void testEscapeRegexCharactersLiterally()
+    {
+        CharacterEscaper escaper = CharacterEscaper.forCharacters(Arrays.asList(".", "$", "\\"));
+
+        assertThat(escaper.escape("a.b$c\\d")).isEqualTo("a\\.b\\$c\\\\d");
+    }
+
+    @Test
+    public void testEscapeNonAsciiCharacter()
+    {
+        CharacterEscaper escaper = CharacterEscaper.forCharacters(Collections.singleton("\u00e5"));
+
+        assertThat(escaper.escape("p\u00e5 \u20ac")).isEqualTo("p\\\u00e5 \u20ac");
+    }
+
+    @Test
+    public void testInvalidCharacter()
+    {
+        assertThatIllegalArgumentException()
+        .isThrownBy(() -> CharacterEscaper.forCharacters(Collections.singleton("ab")))
+        .withMessageContaining("ab");
+    }
+}
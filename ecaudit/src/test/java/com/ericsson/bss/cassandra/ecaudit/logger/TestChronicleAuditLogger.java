@@ -19,7 +19,10 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.UUID;
+import java.util.concurrent.TimeoutException;
 
 import org.junit.After;
 import org.junit.Before;
@@ -31,6 +34,7 @@ import com.ericsson.bss.cassandra.ecaudit.common.chronicle.FieldSelector.Field;
 import com.ericsson.bss.cassandra.ecaudit.common.record.SimpleAuditOperation;
 import com.ericsson.bss.cassandra.ecaudit.common.record.Status;
 import com.ericsson.bss.cassandra.ecaudit.entry.AuditEntry;
+import com.ericsson.bss.cassandra.ecaudit.facade.CassandraAuditException;
 import net.openhft.chronicle.wire.ValueOut;
 import net.openhft.chronicle.wire.WireOut;
 import net.openhft.chronicle.wire.WriteMarshallable;
@@ -39,10 +43,13 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -108,6 +115,62 @@ public class TestChronicleAuditLogger
         Thread.interrupted();
     }
 
+    @Test
+    public void timeoutOnPut() throws Exception
+    {
+        AuditEntry expectedAuditEntry = likeGenericRecord().build();
+        doThrow(new TimeoutException("Queue is full")).when(mockWriter).put(any());
+
+        assertThatExceptionOfType(CassandraAuditException.class)
+        .isThrownBy(() -> logger.log(expectedAuditEntry))
+        .withMessageContaining("Queue is full");
+    }
+
+    @Test
+    public void stripePerThread() throws Exception
+    {
+        ChronicleWriter mockWriter2 = mock(ChronicleWriter.class);
+        ChronicleAuditLogger stripedLogger = new ChronicleAuditLogger(Arrays.asList(mockWriter, mockWriter2), FieldSelector.DEFAULT_FIELDS, WriteMode.ASYNC, null, false);
+        AuditEntry expectedAuditEntry = likeGenericRecord().build();
+
+        Thread firstThread = new Thread(() -> {
+            stripedLogger.log(expectedAuditEntry);
+            stripedLogger.log(expectedAuditEntry);
+        });
+        firstThread.start();
+        firstThread.join();
+
+        Thread secondThread = new Thread(() -> stripedLogger.log(expectedAuditEntry));
+        secondThread.start();
+        secondThread.join();
+
+        verify(mockWriter, times(2)).put(any(WriteMarshallable.class));
+        verify(mockWriter2, times(1)).put(any(WriteMarshallable.class));
+    }
+
+    @Test
+    public void reuseMarshallableInSyncMode() throws Exception
+    {
+        ChronicleAuditLogger syncLogger = new ChronicleAuditLogger(Collections.singletonList(mockWriter), FieldSelector.DEFAULT_FIELDS, WriteMode.SYNC, null, false);
+        syncLogger.log(likeGenericRecord().build());
+        syncLogger.log(likeGenericRecord().build());
+
+        ArgumentCaptor<WriteMarshallable> captor = ArgumentCaptor.forClass(WriteMarshallable.class);
+        verify(mockWriter, times(2)).put(captor.capture());
+        assertThat(captor.getAllValues().get(0)).isSameAs(captor.getAllValues().get(1));
+    }
+
+    @Test
+    public void newMarshallableInAsyncMode() throws Exception
+    {
+        logger.log(likeGenericRecord().build());
+        logger.log(likeGenericRecord().build());
+
+        ArgumentCaptor<WriteMarshallable> captor = ArgumentCaptor.forClass(WriteMarshallable.class);
+        verify(mockWriter, times(2)).put(captor.capture());
+        assertThat(captor.getAllValues().get(0)).isNotSameAs(captor.getAllValues().get(1));
+    }
+
     private AuditEntry.Builder likeGenericRecord() throws UnknownHostException
     {
         return AuditEntry.newBuilder()
@@ -15,21 +15,27 @@
  */
 package com.ericsson.bss.cassandra.ecaudit.logger;
 
+import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.Map;
 
 import com.google.common.collect.ImmutableMap;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.junit.runner.RunWith;
 
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.CompressionCodec;
 import com.ericsson.bss.cassandra.ecaudit.common.chronicle.FieldSelector;
 import com.ericsson.bss.cassandra.ecaudit.common.chronicle.FieldSelector.Field;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
 import net.openhft.chronicle.queue.RollCycles;
 import org.apache.cassandra.exceptions.ConfigurationException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+@RunWith(JUnitParamsRunner.class)
 public class TestChronicleAuditLoggerConfig
 {
     @Test
@@ -175,4 +181,520 @@ public class TestChronicleAuditLoggerConfig
         .withMessageContaining("fields")
         .withMessageContaining("ErrorZ");
     }
+
+    @Test
+    public void testDefaultBatchConfig()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp");
+
+        ChronicleAuditLoggerConfig config = new ChronicleAuditLoggerConfig(options);
+
+        assertThat(config.getBatchSize()).isEqualTo(1);
+        assertThat(config.getBatchLingerMs()).isEqualTo(0L);
+    }
+
+    @Test
+    public void testValidBatchConfig()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "batch_size", "128",
+                                                      "batch_linger_ms", "5");
+
+        ChronicleAuditLoggerConfig config = new ChronicleAuditLoggerConfig(options);
+
+        assertThat(config.getBatchSize()).isEqualTo(128);
+        assertThat(config.getBatchLingerMs()).isEqualTo(5L);
+    }
+
+    @Test
+    public void testInvalidBatchSizeType()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "batch_size", "many");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new ChronicleAuditLoggerConfig(options))
+        .withMessageContaining("Invalid chronicle logger batch size")
+        .withMessageContaining("many");
+    }
+
+    @Test
+    public void testInvalidBatchSizeValue()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "batch_size", "0");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new ChronicleAuditLoggerConfig(options))
+        .withMessageContaining("Invalid chronicle logger batch size")
+        .withMessageContaining("0");
+    }
+
+    @Test
+    public void testInvalidBatchLingerValue()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "batch_linger_ms", "-1");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new ChronicleAuditLoggerConfig(options))
+        .withMessageContaining("Invalid chronicle logger batch linger")
+        .withMessageContaining("-1");
+    }
+
+    @Test
+    public void testDefaultQueueConfig()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp");
+
+        ChronicleAuditLoggerConfig config = new ChronicleAuditLoggerConfig(options);
+
+        assertThat(config.getQueueCapacity()).isEqualTo(256);
+        assertThat(config.getWaitStrategy()).isEqualTo(WaitStrategy.BLOCKING);
+    }
+
+    @Test
+    public void testValidQueueConfig()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "queue_capacity", "4096",
+                                                      "wait_strategy", "park_nanos");
+
+        ChronicleAuditLoggerConfig config = new ChronicleAuditLoggerConfig(options);
+
+        assertThat(config.getQueueCapacity()).isEqualTo(4096);
+        assertThat(config.getWaitStrategy()).isEqualTo(WaitStrategy.PARK_NANOS);
+    }
+
+    @Test
+    public void testInvalidQueueCapacityType()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "queue_capacity", "large");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new ChronicleAuditLoggerConfig(options))
+        .withMessageContaining("Invalid chronicle logger queue capacity")
+        .withMessageContaining("large");
+    }
+
+    @Test
+    public void testInvalidQueueCapacityValue()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "queue_capacity", "1000");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new ChronicleAuditLoggerConfig(options))
+        .withMessageContaining("power of two")
+        .withMessageContaining("1000");
+    }
+
+    @Test
+    public void testTooSmallQueueCapacity()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "queue_capacity", "1");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new ChronicleAuditLoggerConfig(options))
+        .withMessageContaining("Invalid chronicle logger queue capacity")
+        .withMessageContaining("1");
+    }
+
+    @Test
+    public void testInvalidWaitStrategy()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "wait_strategy", "SLEEPY");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new ChronicleAuditLoggerConfig(options))
+        .withMessageContaining("Invalid chronicle logger wait strategy")
+        .withMessageContaining("SLEEPY");
+    }
+
+    @Test
+    public void testDefaultOverflowConfig()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp");
+
+        ChronicleAuditLoggerConfig config = new ChronicleAuditLoggerConfig(options);
+
+        assertThat(config.getOverflowPolicy()).isEqualTo(OverflowPolicy.BLOCK);
+        assertThat(config.getOverflowTimeoutMs()).isEqualTo(1000L);
+        assertThat(config.getOverflowPath()).isEqualTo(Paths.get("/tmp-overflow"));
+    }
+
+    @Test
+    public void testValidOverflowConfig()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "overflow_policy", "block_with_timeout",
+                                                      "overflow_timeout_ms", "50",
+                                                      "overflow_dir", "/var/spill");
+
+        ChronicleAuditLoggerConfig config = new ChronicleAuditLoggerConfig(options);
+
+        assertThat(config.getOverflowPolicy()).isEqualTo(OverflowPolicy.BLOCK_WITH_TIMEOUT);
+        assertThat(config.getOverflowTimeoutMs()).isEqualTo(50L);
+        assertThat(config.getOverflowPath()).isEqualTo(Paths.get("/var/spill"));
+    }
+
+    @Test
+    public void testInvalidOverflowPolicy()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "overflow_policy", "DROP");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new ChronicleAuditLoggerConfig(options))
+        .withMessageContaining("Invalid chronicle logger overflow policy")
+        .withMessageContaining("DROP");
+    }
+
+    @Test
+    public void testInvalidOverflowTimeoutFormat()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "overflow_timeout_ms", "soon");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new ChronicleAuditLoggerConfig(options))
+        .withMessageContaining("Invalid chronicle logger overflow timeout")
+        .withMessageContaining("soon");
+    }
+
+    @Test
+    public void testInvalidOverflowTimeoutValue()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "overflow_timeout_ms", "0");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new ChronicleAuditLoggerConfig(options))
+        .withMessageContaining("Invalid chronicle logger overflow timeout")
+        .withMessageContaining("0");
+    }
+
+    @Test
+    public void testDefaultWriterStripes()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "max_log_size", "1000");
+
+        ChronicleAuditLoggerConfig config = new ChronicleAuditLoggerConfig(options);
+
+        assertThat(config.getWriterStripes()).isEqualTo(1);
+        assertThat(config.getLogPath(0)).isEqualTo(Paths.get("/tmp"));
+        assertThat(config.getOverflowPath(0)).isEqualTo(Paths.get("/tmp-overflow"));
+        assertThat(config.getStripeMaxLogSize()).isEqualTo(1000L);
+    }
+
+    @Test
+    public void testValidWriterStripes()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "max_log_size", "1000",
+                                                      "writer_stripes", "4");
+
+        ChronicleAuditLoggerConfig config = new ChronicleAuditLoggerConfig(options);
+
+        assertThat(config.getWriterStripes()).isEqualTo(4);
+        assertThat(config.getLogPath(0)).isEqualTo(Paths.get("/tmp/stripe-0"));
+        assertThat(config.getLogPath(3)).isEqualTo(Paths.get("/tmp/stripe-3"));
+        assertThat(config.getOverflowPath(3)).isEqualTo(Paths.get("/tmp-overflow/stripe-3"));
+        assertThat(config.getStripeMaxLogSize()).isEqualTo(250L);
+    }
+
+    @Test
+    public void testInvalidWriterStripes()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "writer_stripes", "0");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new ChronicleAuditLoggerConfig(options))
+        .withMessageContaining("Invalid chronicle logger writer stripes")
+        .withMessageContaining("0");
+    }
+
+    @Test
+    public void testDefaultWriteMode()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp");
+
+        ChronicleAuditLoggerConfig config = new ChronicleAuditLoggerConfig(options);
+
+        assertThat(config.getWriteMode()).isEqualTo(WriteMode.ASYNC);
+    }
+
+    @Test
+    public void testValidWriteMode()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "write_mode", "sync");
+
+        ChronicleAuditLoggerConfig config = new ChronicleAuditLoggerConfig(options);
+
+        assertThat(config.getWriteMode()).isEqualTo(WriteMode.SYNC);
+    }
+
+    @Test
+    public void testInvalidWriteMode()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "write_mode", "EVENTUALLY");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new ChronicleAuditLoggerConfig(options))
+        .withMessageContaining("Invalid chronicle logger write mode")
+        .withMessageContaining("EVENTUALLY");
+    }
+
+    @Test
+    public void testDefaultStatementDictionarySize()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp");
+
+        ChronicleAuditLoggerConfig config = new ChronicleAuditLoggerConfig(options);
+
+        assertThat(config.getStatementDictionarySize()).isEqualTo(0);
+    }
+
+    @Test
+    public void testValidStatementDictionarySize()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "statement_dictionary_size", "1000");
+
+        ChronicleAuditLoggerConfig config = new ChronicleAuditLoggerConfig(options);
+
+        assertThat(config.getStatementDictionarySize()).isEqualTo(1000);
+    }
+
+    @Test
+    public void testInvalidStatementDictionarySize()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "statement_dictionary_size", "-1");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new ChronicleAuditLoggerConfig(options))
+        .withMessageContaining("Invalid chronicle logger statement dictionary size")
+        .withMessageContaining("-1");
+    }
+
+    @Test
+    public void testNonNumericStatementDictionarySize()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "statement_dictionary_size", "many");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new ChronicleAuditLoggerConfig(options))
+        .withMessageContaining("Invalid chronicle logger statement dictionary size")
+        .withMessageContaining("many");
+    }
+
+    @Test
+    public void testDefaultRawBoundValues()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp");
+
+        ChronicleAuditLoggerConfig config = new ChronicleAuditLoggerConfig(options);
+
+        assertThat(config.isRawBoundValues()).isFalse();
+    }
+
+    @Test
+    public void testValidRawBoundValues()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "raw_bound_values", "True");
+
+        ChronicleAuditLoggerConfig config = new ChronicleAuditLoggerConfig(options);
+
+        assertThat(config.isRawBoundValues()).isTrue();
+    }
+
+    @Test
+    public void testInvalidRawBoundValues()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "raw_bound_values", "yes");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new ChronicleAuditLoggerConfig(options))
+        .withMessageContaining("Invalid chronicle logger raw bound values")
+        .withMessageContaining("yes");
+    }
+
+    @Test
+    public void testDefaultCompression()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp");
+
+        ChronicleAuditLoggerConfig config = new ChronicleAuditLoggerConfig(options);
+
+        assertThat(config.getCompression()).isEqualTo(CompressionCodec.NONE);
+    }
+
+    @Test
+    public void testValidCompression()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "compression", "lz4");
+
+        ChronicleAuditLoggerConfig config = new ChronicleAuditLoggerConfig(options);
+
+        assertThat(config.getCompression()).isEqualTo(CompressionCodec.LZ4);
+    }
+
+    @Test
+    public void testInvalidCompression()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "compression", "SNAPPY");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new ChronicleAuditLoggerConfig(options))
+        .withMessageContaining("Invalid chronicle logger compression")
+        .withMessageContaining("SNAPPY");
+    }
+
+    @Test
+    public void testDefaultSyncConfig()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp");
+
+        ChronicleAuditLoggerConfig config = new ChronicleAuditLoggerConfig(options);
+
+        assertThat(config.getSyncPolicy()).isEqualTo(SyncPolicy.NONE);
+        assertThat(config.getSyncIntervalMs()).isEqualTo(1000);
+    }
+
+    @Test
+    public void testValidSyncConfig()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "sync_policy", "periodic",
+                                                      "sync_interval_ms", "50");
+
+        ChronicleAuditLoggerConfig config = new ChronicleAuditLoggerConfig(options);
+
+        assertThat(config.getSyncPolicy()).isEqualTo(SyncPolicy.PERIODIC);
+        assertThat(config.getSyncIntervalMs()).isEqualTo(50);
+    }
+
+    @Test
+    public void testInvalidSyncPolicy()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "sync_policy", "ALWAYS");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new ChronicleAuditLoggerConfig(options))
+        .withMessageContaining("Invalid chronicle logger sync policy")
+        .withMessageContaining("ALWAYS");
+    }
+
+    @Test
+    public void testPeriodicSyncPolicyInSyncWriteMode()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "write_mode", "SYNC",
+                                                      "sync_policy", "PERIODIC");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new ChronicleAuditLoggerConfig(options))
+        .withMessageContaining("Invalid chronicle logger sync policy")
+        .withMessageContaining("PERIODIC");
+    }
+
+    @Test
+    public void testInvalidSyncInterval()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "sync_interval_ms", "0");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new ChronicleAuditLoggerConfig(options))
+        .withMessageContaining("Invalid chronicle logger sync interval")
+        .withMessageContaining("0");
+    }
+
+    @Test
+    public void testDefaultWriterAffinity()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp");
+
+        ChronicleAuditLoggerConfig config = new ChronicleAuditLoggerConfig(options);
+
+        assertThat(config.getWriterAffinity()).isSameAs(WriterAffinity.NONE);
+        assertThat(config.getWriterAffinity().isEnabled()).isFalse();
+    }
+
+    @Test
+    @Parameters({ "any", "CORE" })
+    public void testValidWriterAffinity(String affinity)
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "writer_affinity", affinity);
+
+        ChronicleAuditLoggerConfig config = new ChronicleAuditLoggerConfig(options);
+
+        assertThat(config.getWriterAffinity().isEnabled()).isTrue();
+        assertThat(config.getWriterAffinity().cpuCount()).isZero();
+    }
+
+    @Test
+    public void testValidWriterAffinityCpus()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "writer_stripes", "2",
+                                                      "writer_affinity", "2, 3");
+
+        ChronicleAuditLoggerConfig config = new ChronicleAuditLoggerConfig(options);
+
+        assertThat(config.getWriterAffinity().isEnabled()).isTrue();
+        assertThat(config.getWriterAffinity().cpuCount()).isEqualTo(2);
+    }
+
+    public Object[][] testInvalidWriterAffinity_parameters()
+    {
+        return new Object[][]{
+        { "all" },
+        { "1,x" },
+        { "-1" },
+        { "1,1" },
+        { "1," },
+        };
+    }
+
+    @Test
+    @Parameters(method = "testInvalidWriterAffinity_parameters")
+    public void testInvalidWriterAffinity(String affinity)
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "writer_affinity", affinity);
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new ChronicleAuditLoggerConfig(options))
+        .withMessageContaining("Invalid chronicle logger writer affinity")
+        .withMessageContaining(affinity);
+    }
+
+    @Test
+    public void testWriterAffinityCpuPerStripe()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/tmp",
+                                                      "writer_stripes", "3",
+                                                      "writer_affinity", "2,3");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new ChronicleAuditLoggerConfig(options))
+        .withMessageContaining("one CPU per writer stripe")
+        .withMessageContaining("2,3");
+    }
 }
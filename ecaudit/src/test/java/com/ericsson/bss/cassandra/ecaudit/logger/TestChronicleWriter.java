@@ -15,22 +15,38 @@
  */
 package com.ericsson.bss.cassandra.ecaudit.logger;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.google.common.collect.ImmutableMap;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.AuditRecordBlockWriteMarshallable;
+import com.ericsson.bss.cassandra.ecaudit.metrics.AuditMetrics;
 import net.openhft.chronicle.queue.ChronicleQueue;
 import net.openhft.chronicle.queue.ExcerptAppender;
+import net.openhft.chronicle.wire.WireOut;
 import net.openhft.chronicle.wire.WriteMarshallable;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -48,13 +64,18 @@ public class TestChronicleWriter
     @Mock
     private WriteMarshallable marshallable;
 
+    @Mock
+    private AuditMetrics mockAuditMetrics;
+
+    @Mock
+    private OverflowQueue mockOverflowQueue;
+
     private ChronicleWriter writer;
 
     @Before
     public void before()
     {
         when(mockChronicleQueue.acquireAppender()).thenReturn(mockAppender);
-        writer = new ChronicleWriter(mockChronicleQueue);
     }
 
     @After
@@ -67,8 +88,112 @@ public class TestChronicleWriter
     @Test
     public void putOneAndClose() throws Exception
     {
+        givenWriter(ImmutableMap.of("log_dir", "/tmp"));
+        writer.put(marshallable);
+
+        Thread.sleep(50);
+        writer.close();
+
+        verify(mockAppender).writeDocument(eq(marshallable));
+        verify(mockChronicleQueue).close();
+    }
+
+    @Test
+    public void putOneWithPinnedWriterAndClose() throws Exception
+    {
+        givenWriter(ImmutableMap.of("log_dir", "/tmp",
+                                    "writer_affinity", "any",
+                                    "wait_strategy", "BUSY_SPIN"));
+        writer.put(marshallable);
+
+        verify(mockAppender, timeout(5000)).writeDocument(eq(marshallable));
+        writer.close();
+
+        verify(mockChronicleQueue).close();
+    }
+
+    @Test
+    public void putManyAndDrainInBatch() throws Exception
+    {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            firstWriteStarted.countDown();
+            releaseFirstWrite.await(1, TimeUnit.SECONDS);
+            return null;
+        }).when(mockAppender).writeDocument(any(WriteMarshallable.class));
+        givenWriter(ImmutableMap.of("log_dir", "/tmp",
+                                    "batch_size", "16"));
+
+        writer.put(marshallable);
+        assertThat(firstWriteStarted.await(1, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 10; i++)
+        {
+            writer.put(marshallable);
+        }
+        releaseFirstWrite.countDown();
+
+        Thread.sleep(100);
+        writer.close();
+
+        verify(mockAppender, times(11)).writeDocument(eq(marshallable));
+        verify(mockAuditMetrics).chronicleQueueDepth(eq(10));
+        verify(mockAuditMetrics).chronicleBatchSize(eq(10));
+        verify(mockChronicleQueue).close();
+    }
+
+    @Test
+    public void lingerUntilBatchIsFull() throws Exception
+    {
+        givenWriter(ImmutableMap.of("log_dir", "/tmp",
+                                    "batch_size", "2",
+                                    "batch_linger_ms", "1000"));
+
+        writer.put(marshallable);
+        Thread.sleep(50);
+        verify(mockAppender, times(0)).writeDocument(any(WriteMarshallable.class));
+
+        writer.put(marshallable);
+        Thread.sleep(50);
+        writer.close();
+
+        verify(mockAppender, times(2)).writeDocument(eq(marshallable));
+        verify(mockAuditMetrics).chronicleBatchSize(eq(2));
+        verify(mockChronicleQueue).close();
+    }
+
+    @Test
+    public void compressBatchIntoOneBlock() throws Exception
+    {
+        List<Integer> blockSizes = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            blockSizes.add(invocation.<AuditRecordBlockWriteMarshallable>getArgument(0).size());
+            return null;
+        }).when(mockAppender).writeDocument(any(AuditRecordBlockWriteMarshallable.class));
+        givenWriter(ImmutableMap.of("log_dir", "/tmp",
+                                    "batch_size", "3",
+                                    "batch_linger_ms", "1000",
+                                    "compression", "LZ4"));
+
+        writer.put(marshallable);
         writer.put(marshallable);
+        writer.put(marshallable);
+        Thread.sleep(50);
+        writer.close();
+
+        verify(mockAppender).writeDocument(any(AuditRecordBlockWriteMarshallable.class));
+        verify(marshallable, times(3)).writeMarshallable(any(WireOut.class));
+        assertThat(blockSizes).containsExactly(3);
+        verify(mockChronicleQueue).close();
+    }
+
+    @Test
+    public void writeSingleRecordWithoutBlock() throws Exception
+    {
+        givenWriter(ImmutableMap.of("log_dir", "/tmp",
+                                    "compression", "ZSTD"));
 
+        writer.put(marshallable);
         Thread.sleep(50);
         writer.close();
 
@@ -76,9 +201,257 @@ public class TestChronicleWriter
         verify(mockChronicleQueue).close();
     }
 
+    @Test
+    public void blockOnFullQueue() throws Exception
+    {
+        CountDownLatch releaseWrite = givenBlockedAppender();
+        givenWriter(ImmutableMap.of("log_dir", "/tmp",
+                                    "queue_capacity", "2"));
+        fillQueue();
+
+        Thread producer = new Thread(() -> {
+            try
+            {
+                writer.put(marshallable);
+            }
+            catch (Exception e)
+            {
+                throw new AssertionError(e);
+            }
+        });
+        producer.start();
+        Thread.sleep(50);
+        assertThat(producer.isAlive()).isTrue();
+
+        releaseWrite.countDown();
+        producer.join(1000);
+        assertThat(producer.isAlive()).isFalse();
+        Thread.sleep(50);
+        writer.close();
+
+        verify(mockAppender, times(4)).writeDocument(eq(marshallable));
+        verify(mockAuditMetrics).chronicleOverflowBlocked(anyLong(), eq(TimeUnit.NANOSECONDS));
+        verify(mockChronicleQueue).close();
+        verify(mockOverflowQueue).close();
+    }
+
+    @Test
+    public void timeoutOnFullQueue() throws Exception
+    {
+        CountDownLatch releaseWrite = givenBlockedAppender();
+        givenWriter(ImmutableMap.of("log_dir", "/tmp",
+                                    "queue_capacity", "2",
+                                    "overflow_policy", "BLOCK_WITH_TIMEOUT",
+                                    "overflow_timeout_ms", "20"));
+        fillQueue();
+
+        assertThatExceptionOfType(TimeoutException.class)
+        .isThrownBy(() -> writer.put(marshallable))
+        .withMessageContaining("20 ms");
+
+        releaseWrite.countDown();
+        Thread.sleep(50);
+        writer.close();
+
+        verify(mockAppender, times(3)).writeDocument(eq(marshallable));
+        verify(mockAuditMetrics).chronicleOverflowBlocked(anyLong(), eq(TimeUnit.NANOSECONDS));
+        verify(mockAuditMetrics).chronicleOverflowTimeout();
+        verify(mockChronicleQueue).close();
+        verify(mockOverflowQueue).close();
+    }
+
+    @Test
+    public void spillAndDrainOnFullQueue() throws Exception
+    {
+        CountDownLatch releaseWrite = givenBlockedAppender();
+        when(mockOverflowQueue.hasPending()).thenReturn(true);
+        givenWriter(ImmutableMap.of("log_dir", "/tmp",
+                                    "queue_capacity", "2",
+                                    "overflow_policy", "SPILL"));
+        fillQueue();
+
+        writer.put(marshallable);
+
+        verify(mockOverflowQueue).spill(eq(marshallable));
+        verify(mockAuditMetrics).chronicleOverflowSpill();
+
+        releaseWrite.countDown();
+        Thread.sleep(50);
+        writer.close();
+
+        verify(mockAppender, times(3)).writeDocument(eq(marshallable));
+        verify(mockOverflowQueue, atLeastOnce()).drainTo(eq(mockAppender), eq(2));
+        verify(mockChronicleQueue).close();
+        verify(mockOverflowQueue).close();
+    }
+
+    @Test
+    public void putSynchronously() throws Exception
+    {
+        Thread testThread = Thread.currentThread();
+        doAnswer(invocation -> {
+            assertThat(Thread.currentThread()).isSameAs(testThread);
+            return null;
+        }).when(mockAppender).writeDocument(any(WriteMarshallable.class));
+        givenWriter(ImmutableMap.of("log_dir", "/tmp",
+                                    "write_mode", "SYNC"));
+
+        writer.put(marshallable);
+        verify(mockAppender).writeDocument(eq(marshallable));
+
+        writer.close();
+        verify(mockChronicleQueue).close();
+        assertThatIllegalStateException()
+        .isThrownBy(() -> writer.put(marshallable));
+    }
+
+    @Test
+    public void closeWaitsForInFlightSynchronousWrite() throws Exception
+    {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return null;
+        }).when(mockAppender).writeDocument(any(WriteMarshallable.class));
+        givenWriter(ImmutableMap.of("log_dir", "/tmp",
+                                    "write_mode", "SYNC"));
+
+        Thread putThread = new Thread(() -> {
+            try
+            {
+                writer.put(marshallable);
+            }
+            catch (Exception e)
+            {
+                throw new IllegalStateException(e);
+            }
+        });
+        putThread.start();
+        assertThat(writing.await(1, TimeUnit.SECONDS)).isTrue();
+        Thread closeThread = new Thread(writer::close);
+        closeThread.start();
+
+        Thread.sleep(50);
+        verify(mockChronicleQueue, never()).close();
+        assertThatIllegalStateException()
+        .isThrownBy(() -> writer.put(marshallable));
+
+        release.countDown();
+        putThread.join(1000);
+        closeThread.join(1000);
+        verify(mockAppender).writeDocument(eq(marshallable));
+        verify(mockChronicleQueue).close();
+    }
+
+    @Test
+    public void syncPerRecord() throws Exception
+    {
+        givenWriter(ImmutableMap.of("log_dir", "/tmp",
+                                    "batch_size", "2",
+                                    "batch_linger_ms", "1000",
+                                    "sync_policy", "PER_RECORD"));
+
+        writer.put(marshallable);
+        writer.put(marshallable);
+        Thread.sleep(50);
+        writer.close();
+
+        verify(mockAppender, times(2)).writeDocument(eq(marshallable));
+        verify(mockAppender, times(2)).sync();
+        verify(mockAuditMetrics, times(2)).chronicleSync(anyLong(), eq(TimeUnit.NANOSECONDS));
+        verify(mockChronicleQueue).close();
+    }
+
+    @Test
+    public void syncPerBatch() throws Exception
+    {
+        givenWriter(ImmutableMap.of("log_dir", "/tmp",
+                                    "batch_size", "2",
+                                    "batch_linger_ms", "1000",
+                                    "sync_policy", "PER_BATCH"));
+
+        writer.put(marshallable);
+        writer.put(marshallable);
+        Thread.sleep(50);
+        writer.close();
+
+        verify(mockAppender, times(2)).writeDocument(eq(marshallable));
+        verify(mockAppender).sync();
+        verify(mockAuditMetrics).chronicleSync(anyLong(), eq(TimeUnit.NANOSECONDS));
+        verify(mockChronicleQueue).close();
+    }
+
+    @Test
+    public void syncPeriodically() throws Exception
+    {
+        givenWriter(ImmutableMap.of("log_dir", "/tmp",
+                                    "sync_policy", "PERIODIC",
+                                    "sync_interval_ms", "100"));
+
+        writer.put(marshallable);
+        Thread.sleep(20);
+        verify(mockAppender).sync();
+
+        writer.put(marshallable);
+        writer.put(marshallable);
+        Thread.sleep(20);
+        verify(mockAppender).sync();
+
+        Thread.sleep(150);
+        verify(mockAppender, times(2)).sync();
+        writer.close();
+
+        verify(mockAppender, times(3)).writeDocument(eq(marshallable));
+        verify(mockChronicleQueue).close();
+    }
+
+    @Test
+    public void syncUnsyncedRecordsOnClose() throws Exception
+    {
+        givenWriter(ImmutableMap.of("log_dir", "/tmp",
+                                    "sync_policy", "PERIODIC",
+                                    "sync_interval_ms", "60000"));
+
+        writer.put(marshallable);
+        Thread.sleep(20);
+        writer.put(marshallable);
+        Thread.sleep(20);
+        verify(mockAppender).sync();
+
+        writer.close();
+
+        verify(mockAppender, times(2)).writeDocument(eq(marshallable));
+        verify(mockAppender, times(2)).sync();
+        verify(mockChronicleQueue).close();
+    }
+
+    @Test
+    public void syncSynchronously() throws Exception
+    {
+        Thread testThread = Thread.currentThread();
+        doAnswer(invocation -> {
+            assertThat(Thread.currentThread()).isSameAs(testThread);
+            return null;
+        }).when(mockAppender).sync();
+        givenWriter(ImmutableMap.of("log_dir", "/tmp",
+                                    "write_mode", "SYNC",
+                                    "sync_policy", "PER_BATCH"));
+
+        writer.put(marshallable);
+        writer.put(marshallable);
+
+        verify(mockAppender, times(2)).writeDocument(eq(marshallable));
+        verify(mockAppender, times(2)).sync();
+        writer.close();
+        verify(mockChronicleQueue).close();
+    }
+
     @Test
     public void closeAndPutOne() throws Exception
     {
+        givenWriter(ImmutableMap.of("log_dir", "/tmp"));
         new Thread(writer::close).start();
 
         Thread.sleep(100);
@@ -91,6 +464,7 @@ public class TestChronicleWriter
     @Test
     public void putOneAndInterruptOnClose() throws Exception
     {
+        givenWriter(ImmutableMap.of("log_dir", "/tmp"));
         Thread testThread = Thread.currentThread();
         doAnswer(invocation -> {
             try
@@ -122,9 +496,39 @@ public class TestChronicleWriter
     @Test
     public void closeQueueOnceOnly()
     {
+        givenWriter(ImmutableMap.of("log_dir", "/tmp"));
         writer.close();
         writer.close();
 
         verify(mockChronicleQueue, times(1)).close();
     }
+
+    /**
+     * Make the first write block until the returned latch is released, so that records pile up in the queue.
+     */
+    private CountDownLatch givenBlockedAppender()
+    {
+        CountDownLatch releaseWrite = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            releaseWrite.await(1, TimeUnit.SECONDS);
+            return null;
+        }).when(mockAppender).writeDocument(any(WriteMarshallable.class));
+        return releaseWrite;
+    }
+
+    /**
+     * Put one record that is taken by the blocked writer thread, and two records that fill the queue.
+     */
+    private void fillQueue() throws Exception
+    {
+        writer.put(marshallable);
+        Thread.sleep(50);
+        writer.put(marshallable);
+        writer.put(marshallable);
+    }
+
+    private void givenWriter(Map<String, String> parameters)
+    {
+        writer = new ChronicleWriter(mockChronicleQueue, mockOverflowQueue, new ChronicleAuditLoggerConfig(parameters), mockAuditMetrics, 0);
+    }
 }
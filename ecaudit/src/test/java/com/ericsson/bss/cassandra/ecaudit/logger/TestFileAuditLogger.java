@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import com.ericsson.bss.cassandra.ecaudit.common.record.SimpleAuditOperation;
+import com.ericsson.bss.cassandra.ecaudit.common.record.Status;
+import com.ericsson.bss.cassandra.ecaudit.entry.AuditEntry;
+import com.ericsson.bss.cassandra.ecaudit.metrics.AuditMetrics;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(MockitoJUnitRunner.StrictStubs.class)
+public class TestFileAuditLogger
+{
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Mock
+    private AuditMetrics mockAuditMetrics;
+
+    @Test
+    public void testLogFormat() throws Exception
+    {
+        Path logDir = temporaryFolder.getRoot().toPath();
+        Map<String, String> parameters = ImmutableMap.of("log_dir", logDir.toString(),
+                                                         "log_format", "${TIMESTAMP}|${USER}|${STATUS}|${OPERATION}",
+                                                         "time_format", "yyyy-MM-dd HH:mm:ss.SSS",
+                                                         "time_zone", "UTC");
+        FileAuditLogger logger = new FileAuditLogger(new FileAuditLoggerConfig(parameters), mockAuditMetrics);
+
+        logger.log(givenEntry("bob", "SELECT * FROM ks.tbl", 42L));
+        logger.log(givenEntry("\u00e5sa", "INSERT INTO ks.tbl (k) VALUES ('\u00e4')", 43L));
+        logger.close();
+
+        assertThat(readLogLines(logDir)).containsExactly("1970-01-01 00:00:00.042|bob|ATTEMPT|SELECT * FROM ks.tbl",
+                                                         "1970-01-01 00:00:00.043|\u00e5sa|ATTEMPT|INSERT INTO ks.tbl (k) VALUES ('\u00e4')");
+    }
+
+    private static AuditEntry givenEntry(String user, String operation, long timestamp) throws Exception
+    {
+        return AuditEntry.newBuilder()
+                         .user(user)
+                         .client(new InetSocketAddress(InetAddress.getByName("127.0.0.1"), 789))
+                         .coordinator(InetAddress.getByName("127.0.0.2"))
+                         .operation(new SimpleAuditOperation(operation))
+                         .status(Status.ATTEMPT)
+                         .timestamp(timestamp)
+                         .build();
+    }
+
+    private static List<String> readLogLines(Path logDir) throws IOException
+    {
+        try (Stream<Path> paths = Files.list(logDir))
+        {
+            List<Path> logFiles = paths.collect(Collectors.toList());
+            assertThat(logFiles).hasSize(1);
+            return Files.readAllLines(logFiles.get(0), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+import net.openhft.chronicle.queue.RollCycles;
+import org.apache.cassandra.exceptions.ConfigurationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class TestFileAuditLoggerConfig
+{
+    @Test
+    public void testDefaults()
+    {
+        FileAuditLoggerConfig config = new FileAuditLoggerConfig(ImmutableMap.of("log_dir", "/var/audit"));
+
+        assertThat(config.getLogPath()).isEqualTo(Paths.get("/var/audit"));
+        assertThat(config.getRollCycle()).isEqualTo(RollCycles.HOURLY);
+        assertThat(config.getMaxFileSize()).isEqualTo(64L * 1024L * 1024L);
+        assertThat(config.getMaxLogSize()).isEqualTo(16L * 1024L * 1024L * 1024L);
+        assertThat(config.getSyncPolicy()).isEqualTo(SyncPolicy.NONE);
+        assertThat(config.getSyncIntervalMs()).isEqualTo(1000);
+        assertThat(config.getTimeFormatter()).isEmpty();
+    }
+
+    @Test
+    public void testOptions()
+    {
+        Map<String, String> options = ImmutableMap.<String, String>builder()
+                                                  .put("log_dir", "/var/audit")
+                                                  .put("roll_cycle", "MINUTELY")
+                                                  .put("max_file_size", "4096")
+                                                  .put("max_log_size", "1048576")
+                                                  .put("sync_policy", "per_record")
+                                                  .put("sync_interval_ms", "50")
+                                                  .put("log_format", "${USER}")
+                                                  .put("write_mode", "SYNC")
+                                                  .build();
+
+        FileAuditLoggerConfig config = new FileAuditLoggerConfig(options);
+
+        assertThat(config.getRollCycle()).isEqualTo(RollCycles.MINUTELY);
+        assertThat(config.getMaxFileSize()).isEqualTo(4096L);
+        assertThat(config.getMaxLogSize()).isEqualTo(1048576L);
+        assertThat(config.getSyncPolicy()).isEqualTo(SyncPolicy.PER_RECORD);
+        assertThat(config.getSyncIntervalMs()).isEqualTo(50);
+        assertThat(config.getLogFormat()).isEqualTo("${USER}");
+    }
+
+    @Test
+    public void testMissingLogDir()
+    {
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new FileAuditLoggerConfig(Collections.emptyMap()))
+        .withMessageContaining("log_dir");
+    }
+
+    @Test
+    public void testInvalidRollCycle()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/var/audit", "roll_cycle", "WEEKLY");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new FileAuditLoggerConfig(options))
+        .withMessage("Invalid file logger roll cycle: WEEKLY");
+    }
+
+    @Test
+    public void testInvalidMaxFileSize()
+    {
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new FileAuditLoggerConfig(ImmutableMap.of("log_dir", "/var/audit", "max_file_size", "0")))
+        .withMessage("Invalid file logger max file size: 0");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new FileAuditLoggerConfig(ImmutableMap.of("log_dir", "/var/audit", "max_file_size", "4294967296")))
+        .withMessageContaining("Invalid file logger max file size, must be at most");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new FileAuditLoggerConfig(ImmutableMap.of("log_dir", "/var/audit", "max_file_size", "big")))
+        .withMessageContaining("Invalid file logger max file size: big");
+    }
+
+    @Test
+    public void testInvalidSyncPolicy()
+    {
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new FileAuditLoggerConfig(ImmutableMap.of("log_dir", "/var/audit", "sync_policy", "PER_BATCH")))
+        .withMessageContaining("Invalid file logger sync policy, must be NONE, PERIODIC or PER_RECORD");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new FileAuditLoggerConfig(ImmutableMap.of("log_dir", "/var/audit", "sync_policy", "ALWAYS")))
+        .withMessage("Invalid file logger sync policy: ALWAYS");
+    }
+
+    @Test
+    public void testAsyncWriteModeIsRejected()
+    {
+        Map<String, String> options = ImmutableMap.of("log_dir", "/var/audit", "write_mode", "ASYNC");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new FileAuditLoggerConfig(options))
+        .withMessage("Invalid file logger write mode, only SYNC is supported: ASYNC");
+    }
+}
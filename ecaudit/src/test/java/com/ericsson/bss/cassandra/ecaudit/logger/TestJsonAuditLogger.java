@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+
+import com.ericsson.bss.cassandra.ecaudit.common.record.SimpleAuditOperation;
+import com.ericsson.bss.cassandra.ecaudit.common.record.Status;
+import com.ericsson.bss.cassandra.ecaudit.entry.AuditEntry;
+import com.ericsson.bss.cassandra.ecaudit.metrics.AuditMetrics;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.StrictStubs.class)
+public class TestJsonAuditLogger
+{
+    private static AuditEntry logEntry;
+
+    @Mock
+    private Logger mockLogger;
+
+    @Mock
+    private AuditMetrics mockAuditMetrics;
+
+    @BeforeClass
+    public static void setup() throws Exception
+    {
+        logEntry = AuditEntry.newBuilder()
+                             .user("bob \"the\" user")
+                             .client(new InetSocketAddress(InetAddress.getByName("127.0.0.1"), 789))
+                             .coordinator(InetAddress.getByName("127.0.0.2"))
+                             .operation(new SimpleAuditOperation("SELECT * FROM ks.tbl WHERE k = 'a\\b'"))
+                             .status(Status.ATTEMPT)
+                             .timestamp(42L)
+                             .batch(UUID.fromString("12345678-aaaa-bbbb-cccc-123456789abc"))
+                             .build();
+    }
+
+    @Test
+    public void testDefaultFields()
+    {
+        when(mockLogger.isInfoEnabled()).thenReturn(true);
+        JsonAuditLogger logger = givenLogger(Collections.emptyMap());
+
+        logger.log(logEntry);
+
+        verify(mockLogger).info(eq("{\"client_ip\":\"127.0.0.1\",\"client_port\":789,\"coordinator_ip\":\"127.0.0.2\","
+                                   + "\"user\":\"bob \\\"the\\\" user\",\"batch_id\":\"12345678-aaaa-bbbb-cccc-123456789abc\","
+                                   + "\"status\":\"ATTEMPT\",\"operation\":\"SELECT * FROM ks.tbl WHERE k = 'a\\\\b'\",\"timestamp\":42}"));
+    }
+
+    @Test
+    public void testFieldsAndTimeFormat()
+    {
+        when(mockLogger.isInfoEnabled()).thenReturn(true);
+        JsonAuditLogger logger = givenLogger(ImmutableMap.of("fields", "TIMESTAMP, USER, SUBJECT",
+                                                             "time_format", "yyyy-MM-dd HH:mm:ss.SSS",
+                                                             "time_zone", "UTC"));
+
+        logger.log(logEntry);
+
+        verify(mockLogger).info(eq("{\"user\":\"bob \\\"the\\\" user\",\"timestamp\":\"1970-01-01 00:00:00.042\"}"));
+    }
+
+    @Test
+    public void testAsyncMode()
+    {
+        when(mockLogger.isInfoEnabled()).thenReturn(true);
+        JsonAuditLogger logger = givenLogger(ImmutableMap.of("fields", "STATUS", "write_mode", "ASYNC"));
+
+        logger.log(logEntry);
+
+        verify(mockLogger, timeout(5000)).info(eq("{\"status\":\"ATTEMPT\"}"));
+        logger.close();
+    }
+
+    private JsonAuditLogger givenLogger(Map<String, String> parameters)
+    {
+        return new JsonAuditLogger(new JsonAuditLoggerConfig(parameters), mockLogger, mockAuditMetrics);
+    }
+}
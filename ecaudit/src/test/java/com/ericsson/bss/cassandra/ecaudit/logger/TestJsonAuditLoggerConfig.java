@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.util.Collections;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.FieldSelector;
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.FieldSelector.Field;
+import org.apache.cassandra.exceptions.ConfigurationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class TestJsonAuditLoggerConfig
+{
+    @Test
+    public void testDefaultFields()
+    {
+        JsonAuditLoggerConfig config = new JsonAuditLoggerConfig(Collections.emptyMap());
+
+        assertThat(config.getFields()).isEqualTo(FieldSelector.DEFAULT_FIELDS);
+        assertThat(config.getWriteMode()).isEqualTo(WriteMode.SYNC);
+    }
+
+    @Test
+    public void testValidFields()
+    {
+        Map<String, String> options = ImmutableMap.of("fields", "timestamp, USER,SUBJECT");
+
+        JsonAuditLoggerConfig config = new JsonAuditLoggerConfig(options);
+
+        assertThat(config.getFields().isSelected(Field.TIMESTAMP)).isTrue();
+        assertThat(config.getFields().isSelected(Field.USER)).isTrue();
+        assertThat(config.getFields().isSelected(Field.SUBJECT)).isTrue();
+        assertThat(config.getFields().isSelected(Field.OPERATION)).isFalse();
+    }
+
+    @Test
+    public void testInvalidFields()
+    {
+        Map<String, String> options = ImmutableMap.of("fields", "USER, PASSWORD");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new JsonAuditLoggerConfig(options))
+        .withMessageContaining("Invalid JSON logger fields")
+        .withMessageContaining("PASSWORD");
+    }
+
+    @Test
+    public void testSlf4jOptions()
+    {
+        Map<String, String> options = ImmutableMap.of("time_format", "yyyy", "write_mode", "ASYNC");
+
+        JsonAuditLoggerConfig config = new JsonAuditLoggerConfig(options);
+
+        assertThat(config.getTimeFormatter()).isPresent();
+        assertThat(config.getWriteMode()).isEqualTo(WriteMode.ASYNC);
+    }
+}
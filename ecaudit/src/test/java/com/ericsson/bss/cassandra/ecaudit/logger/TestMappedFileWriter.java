@@ -0,0 +1,299 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import com.ericsson.bss.cassandra.ecaudit.metrics.AuditMetrics;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.StrictStubs.class)
+public class TestMappedFileWriter
+{
+    private static final long START_TIME = 1773306847000L; // 2026-03-12 09:14:07 UTC
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Mock
+    private AuditMetrics mockAuditMetrics;
+
+    private final AtomicLong clock = new AtomicLong(START_TIME);
+    private final List<MappedFileWriter> writers = new ArrayList<>();
+    private Path logDir;
+
+    @Before
+    public void before()
+    {
+        logDir = temporaryFolder.getRoot().toPath().resolve("audit");
+    }
+
+    @After
+    public void after()
+    {
+        writers.forEach(MappedFileWriter::close);
+    }
+
+    @Test
+    public void testLinesAreWrittenAndFileTruncatedOnClose() throws IOException
+    {
+        MappedFileWriter writer = givenWriter(ImmutableMap.of());
+
+        write(writer, "one", "two");
+        writer.close();
+
+        assertThat(logFileNames()).containsExactly("20260312-09-00000.log");
+        assertThat(readLogFile("20260312-09-00000.log")).isEqualTo("one\ntwo\n");
+    }
+
+    @Test
+    public void testRollOnFileSize() throws IOException
+    {
+        MappedFileWriter writer = givenWriter(ImmutableMap.of("max_file_size", "10"));
+
+        write(writer, "aaa", "bbb", "ccc", "ddd", "eee");
+        writer.close();
+
+        assertThat(logFileNames()).containsExactly("20260312-09-00000.log", "20260312-09-00001.log", "20260312-09-00002.log");
+        assertThat(readLogFile("20260312-09-00000.log")).isEqualTo("aaa\nbbb\n");
+        assertThat(readLogFile("20260312-09-00001.log")).isEqualTo("ccc\nddd\n");
+        assertThat(readLogFile("20260312-09-00002.log")).isEqualTo("eee\n");
+    }
+
+    @Test
+    public void testRollOnCycle() throws IOException
+    {
+        MappedFileWriter writer = givenWriter(ImmutableMap.of("roll_cycle", "MINUTELY"));
+
+        write(writer, "one");
+        clock.addAndGet(TimeUnit.SECONDS.toMillis(52));
+        write(writer, "two");
+        clock.addAndGet(TimeUnit.SECONDS.toMillis(1));
+        write(writer, "three");
+        writer.close();
+
+        assertThat(logFileNames()).containsExactly("20260312-0914-00000.log", "20260312-0915-00000.log");
+        assertThat(readLogFile("20260312-0914-00000.log")).isEqualTo("one\ntwo\n");
+        assertThat(readLogFile("20260312-0915-00000.log")).isEqualTo("three\n");
+    }
+
+    @Test
+    public void testLineLargerThanMaxFileSize() throws IOException
+    {
+        MappedFileWriter writer = givenWriter(ImmutableMap.of("max_file_size", "4"));
+
+        write(writer, "a", "longer line", "b");
+        writer.close();
+
+        assertThat(logFileNames()).containsExactly("20260312-09-00000.log", "20260312-09-00001.log", "20260312-09-00002.log");
+        assertThat(readLogFile("20260312-09-00001.log")).isEqualTo("longer line\n");
+    }
+
+    @Test
+    public void testOldestFilesAreDeleted() throws IOException
+    {
+        MappedFileWriter writer = givenWriter(ImmutableMap.of("max_file_size", "8", "max_log_size", "20"));
+
+        write(writer, "aaa", "aaa", "bbb", "bbb", "ccc", "ccc", "ddd", "ddd", "eee", "eee");
+        writer.close();
+
+        assertThat(logFileNames()).containsExactly("20260312-09-00003.log", "20260312-09-00004.log");
+        assertThat(readLogFile("20260312-09-00004.log")).isEqualTo("eee\neee\n");
+    }
+
+    @Test
+    public void testSequenceContinuesAfterRestart() throws IOException
+    {
+        MappedFileWriter writer = givenWriter(ImmutableMap.of());
+        write(writer, "one");
+        writer.close();
+
+        MappedFileWriter restartedWriter = givenWriter(ImmutableMap.of());
+        write(restartedWriter, "two");
+        restartedWriter.close();
+
+        assertThat(logFileNames()).containsExactly("20260312-09-00000.log", "20260312-09-00001.log");
+        assertThat(readLogFile("20260312-09-00001.log")).isEqualTo("two\n");
+    }
+
+    @Test
+    public void testPaddingOfCrashedFilesIsTruncated() throws IOException
+    {
+        Files.createDirectories(logDir);
+        byte[] lines = "one\ntwo\n".getBytes(StandardCharsets.UTF_8);
+        Files.write(logDir.resolve("20260312-09-00000.log"), Arrays.copyOf(lines, 200 * 1024));
+        Files.write(logDir.resolve("20260312-09-00001.log"), new byte[100]);
+        Files.write(logDir.resolve("20260312-09-00002.log"), lines);
+
+        MappedFileWriter writer = givenWriter(ImmutableMap.of());
+        write(writer, "three");
+        writer.close();
+
+        assertThat(readLogFile("20260312-09-00000.log")).isEqualTo("one\ntwo\n");
+        assertThat(readLogFile("20260312-09-00001.log")).isEmpty();
+        assertThat(readLogFile("20260312-09-00002.log")).isEqualTo("one\ntwo\n");
+        assertThat(readLogFile("20260312-09-00003.log")).isEqualTo("three\n");
+    }
+
+    @Test
+    public void testWriteAfterClose()
+    {
+        MappedFileWriter writer = givenWriter(ImmutableMap.of());
+        writer.close();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+        .isThrownBy(() -> write(writer, "one"));
+    }
+
+    @Test
+    public void testNoSync()
+    {
+        MappedFileWriter writer = givenWriter(ImmutableMap.of());
+
+        write(writer, "one", "two");
+
+        verify(mockAuditMetrics, never()).fileSync(anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void testSyncPerRecord()
+    {
+        MappedFileWriter writer = givenWriter(ImmutableMap.of("sync_policy", "PER_RECORD"));
+
+        write(writer, "one", "two", "three");
+
+        verify(mockAuditMetrics, times(3)).fileSync(anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void testPeriodicSync()
+    {
+        MappedFileWriter writer = givenWriter(ImmutableMap.of("sync_policy", "PERIODIC", "sync_interval_ms", "3600000"));
+
+        write(writer, "one", "two", "three");
+
+        verify(mockAuditMetrics, times(1)).fileSync(anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void testConcurrentWritersWithGroupCommit() throws Exception
+    {
+        int threads = 4;
+        int linesPerThread = 500;
+        MappedFileWriter writer = givenWriter(ImmutableMap.of("sync_policy", "PER_RECORD", "max_file_size", "4096"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try
+        {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++)
+            {
+                String prefix = "thread-" + thread + "-line-";
+                futures.add(executor.submit(() -> {
+                    for (int line = 0; line < linesPerThread; line++)
+                    {
+                        write(writer, prefix + line);
+                    }
+                }));
+            }
+            for (Future<?> future : futures)
+            {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        writer.close();
+
+        List<String> lines = new ArrayList<>();
+        for (String fileName : logFileNames())
+        {
+            lines.addAll(Files.readAllLines(logDir.resolve(fileName)));
+        }
+        assertThat(lines).hasSize(threads * linesPerThread);
+        assertThat(lines).allMatch(line -> line.matches("thread-\\d-line-\\d+"));
+        assertThat(lines.stream().distinct().count()).isEqualTo(threads * linesPerThread);
+        verify(mockAuditMetrics, atMost(threads * linesPerThread)).fileSync(anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
+    private MappedFileWriter givenWriter(Map<String, String> options)
+    {
+        Map<String, String> parameters = ImmutableMap.<String, String>builder()
+                                                     .put("log_dir", logDir.toString())
+                                                     .putAll(options)
+                                                     .build();
+        MappedFileWriter writer = new MappedFileWriter(new FileAuditLoggerConfig(parameters), mockAuditMetrics, clock::get);
+        writers.add(writer);
+        return writer;
+    }
+
+    private static void write(MappedFileWriter writer, String... lines)
+    {
+        for (String line : lines)
+        {
+            writer.write(line.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private List<String> logFileNames() throws IOException
+    {
+        try (Stream<Path> paths = Files.list(logDir))
+        {
+            return paths.map(path -> path.getFileName().toString())
+                        .sorted()
+                        .collect(Collectors.toList());
+        }
+    }
+
+    private String readLogFile(String fileName) throws IOException
+    {
+        return new String(Files.readAllBytes(logDir.resolve(fileName)), StandardCharsets.UTF_8);
+    }
+}
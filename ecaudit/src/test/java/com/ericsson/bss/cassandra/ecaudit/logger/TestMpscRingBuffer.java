@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+@RunWith(JUnitParamsRunner.class)
+public class TestMpscRingBuffer
+{
+    @Test
+    @Parameters({ "0", "1", "-4", "3", "100" })
+    public void testInvalidCapacity(int capacity)
+    {
+        assertThatIllegalArgumentException()
+        .isThrownBy(() -> new MpscRingBuffer<>(capacity, WaitStrategy.BLOCKING))
+        .withMessageContaining("power of two");
+    }
+
+    @Test
+    public void testOfferAndPollInOrder()
+    {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4, WaitStrategy.BLOCKING);
+
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.offer(1)).isTrue();
+        assertThat(buffer.offer(2)).isTrue();
+        assertThat(buffer.size()).isEqualTo(2);
+
+        assertThat(buffer.poll()).isEqualTo(1);
+        assertThat(buffer.poll()).isEqualTo(2);
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void testOfferWhenFull()
+    {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(2, WaitStrategy.BLOCKING);
+
+        assertThat(buffer.offer(1)).isTrue();
+        assertThat(buffer.offer(2)).isTrue();
+        assertThat(buffer.offer(3)).isFalse();
+        assertThat(buffer.size()).isEqualTo(2);
+        assertThat(buffer.capacity()).isEqualTo(2);
+
+        assertThat(buffer.poll()).isEqualTo(1);
+        assertThat(buffer.offer(3)).isTrue();
+        assertThat(buffer.poll()).isEqualTo(2);
+        assertThat(buffer.poll()).isEqualTo(3);
+    }
+
+    @Test
+    public void testDrainTo()
+    {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(8, WaitStrategy.BLOCKING);
+        for (int i = 0; i < 5; i++)
+        {
+            buffer.offer(i);
+        }
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drainTo(drained, 3)).isEqualTo(3);
+        assertThat(drained).containsExactly(0, 1, 2);
+
+        assertThat(buffer.drainTo(drained, 10)).isEqualTo(2);
+        assertThat(drained).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    @Parameters({ "BUSY_SPIN", "YIELD", "PARK_NANOS", "BLOCKING" })
+    public void testPollTimeoutWhenEmpty(WaitStrategy waitStrategy) throws Exception
+    {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(2, waitStrategy);
+
+        long start = System.nanoTime();
+        assertThat(buffer.poll(20, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    @Parameters({ "BUSY_SPIN", "YIELD", "PARK_NANOS", "BLOCKING" })
+    public void testTakeIsInterruptible(WaitStrategy waitStrategy) throws Exception
+    {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(2, waitStrategy);
+
+        Thread.currentThread().interrupt();
+        assertThatExceptionOfType(InterruptedException.class)
+        .isThrownBy(buffer::take);
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    @Parameters({ "BUSY_SPIN", "YIELD", "PARK_NANOS", "BLOCKING" })
+    public void testWakeupDelayReported(WaitStrategy waitStrategy) throws Exception
+    {
+        List<Long> delays = new ArrayList<>();
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(2, waitStrategy, delays::add);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> {
+            Thread.sleep(20);
+            return buffer.offer(1);
+        });
+
+        assertThat(buffer.take()).isEqualTo(1);
+        assertThat(delays).hasSize(1);
+        assertThat(delays.get(0)).isNotNegative().isLessThan(TimeUnit.MILLISECONDS.toNanos(20));
+
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void testWakeupDelayNotReportedWithoutWait() throws Exception
+    {
+        AtomicLong reports = new AtomicLong();
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(2, WaitStrategy.BLOCKING, nanos -> reports.incrementAndGet());
+
+        buffer.offer(1);
+        assertThat(buffer.take()).isEqualTo(1);
+        assertThat(buffer.poll(1, TimeUnit.MILLISECONDS)).isNull();
+
+        assertThat(reports.get()).isZero();
+    }
+
+    @Test
+    @Parameters({ "BUSY_SPIN", "YIELD", "PARK_NANOS", "BLOCKING" })
+    public void testManyProducersOneConsumer(WaitStrategy waitStrategy) throws Exception
+    {
+        int producers = 8;
+        int elementsPerProducer = 10_000;
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(16, waitStrategy);
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        for (int p = 0; p < producers; p++)
+        {
+            int producer = p;
+            executor.submit(() -> {
+                for (int i = 0; i < elementsPerProducer; i++)
+                {
+                    buffer.put(producer * elementsPerProducer + i);
+                }
+                return null;
+            });
+        }
+
+        int[] lastSeen = new int[producers];
+        Arrays.fill(lastSeen, -1);
+        for (int i = 0; i < producers * elementsPerProducer; i++)
+        {
+            int element = buffer.take();
+            int producer = element / elementsPerProducer;
+            int sequence = element % elementsPerProducer;
+            assertThat(sequence).isGreaterThan(lastSeen[producer]);
+            lastSeen[producer] = sequence;
+        }
+
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(buffer.poll()).isNull();
+        assertThat(lastSeen).containsOnly(elementsPerProducer - 1);
+    }
+}
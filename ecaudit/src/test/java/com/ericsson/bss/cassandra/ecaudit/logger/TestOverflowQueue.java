@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import net.openhft.chronicle.queue.ChronicleQueue;
+import net.openhft.chronicle.queue.ExcerptTailer;
+import net.openhft.chronicle.queue.impl.single.SingleChronicleQueueBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestOverflowQueue
+{
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File overflowDir;
+    private ChronicleQueue auditLog;
+
+    @Before
+    public void before()
+    {
+        overflowDir = temporaryFolder.getRoot().toPath().resolve("overflow").toFile();
+        auditLog = SingleChronicleQueueBuilder.single(temporaryFolder.getRoot().toPath().resolve("audit").toFile()).blockSize(1024).build();
+    }
+
+    @After
+    public void after()
+    {
+        auditLog.close();
+    }
+
+    @Test
+    public void spillAndDrain()
+    {
+        try (OverflowQueue overflowQueue = givenOverflowQueue())
+        {
+            overflowQueue.drainTo(auditLog.acquireAppender(), 10);
+            assertThat(overflowQueue.hasPending()).isFalse();
+
+            overflowQueue.spill(wire -> wire.write("record").text("one"));
+            overflowQueue.spill(wire -> wire.write("record").text("two"));
+            overflowQueue.spill(wire -> wire.write("record").text("three"));
+            assertThat(overflowQueue.hasPending()).isTrue();
+
+            assertThat(overflowQueue.drainTo(auditLog.acquireAppender(), 2)).isEqualTo(2);
+            assertThat(overflowQueue.hasPending()).isTrue();
+
+            assertThat(overflowQueue.drainTo(auditLog.acquireAppender(), 2)).isEqualTo(1);
+            assertThat(overflowQueue.hasPending()).isFalse();
+        }
+
+        assertThat(readAuditLog()).containsExactly("one", "two", "three");
+    }
+
+    @Test
+    public void drainBacklogAfterRestart()
+    {
+        try (OverflowQueue overflowQueue = givenOverflowQueue())
+        {
+            overflowQueue.spill(wire -> wire.write("record").text("one"));
+            overflowQueue.spill(wire -> wire.write("record").text("two"));
+            assertThat(overflowQueue.drainTo(auditLog.acquireAppender(), 1)).isEqualTo(1);
+        }
+
+        try (OverflowQueue overflowQueue = givenOverflowQueue())
+        {
+            assertThat(overflowQueue.hasPending()).isTrue();
+            assertThat(overflowQueue.drainTo(auditLog.acquireAppender(), 10)).isEqualTo(1);
+            assertThat(overflowQueue.hasPending()).isFalse();
+        }
+
+        assertThat(readAuditLog()).containsExactly("one", "two");
+    }
+
+    private OverflowQueue givenOverflowQueue()
+    {
+        return new OverflowQueue(SingleChronicleQueueBuilder.single(overflowDir).blockSize(1024).build());
+    }
+
+    private List<String> readAuditLog()
+    {
+        List<String> records = new ArrayList<>();
+        ExcerptTailer tailer = auditLog.createTailer();
+        while (tailer.readDocument(wire -> records.add(wire.read("record").text())))
+        {
+            // Read all records
+        }
+        return records;
+    }
+}
@@ -23,6 +23,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.junit.After;
@@ -33,12 +35,16 @@ import org.junit.runner.RunWith;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.ImmutableMap;
+
+import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.Appender;
 import com.ericsson.bss.cassandra.ecaudit.common.record.AuditOperation;
 import com.ericsson.bss.cassandra.ecaudit.common.record.Status;
 import com.ericsson.bss.cassandra.ecaudit.entry.AuditEntry;
+import com.ericsson.bss.cassandra.ecaudit.metrics.AuditMetrics;
 import org.apache.cassandra.exceptions.ConfigurationException;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
@@ -47,8 +53,17 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -77,6 +92,8 @@ public class TestSlf4jAuditLogger
 
     @Mock
     private Appender<ILoggingEvent> mockAuditAppender;
+    @Mock
+    private AuditMetrics mockAuditMetrics;
     @Captor
     private ArgumentCaptor<ILoggingEvent> loggingEventCaptor;
 
@@ -255,6 +272,86 @@ public class TestSlf4jAuditLogger
         assertThat(timestampFunction.apply(logEntryWithAll)).isEqualTo("1970-01-01T00:00:00.042Z"); // 42 millis after EPOCH
     }
 
+    @Test
+    public void testAsyncModeLogsOnWriterThread()
+    {
+        Slf4jAuditLogger logger = asyncLogger("BLOCK", "4");
+        logger.log(logEntryWithoutBatch);
+        logger.log(logEntryWithAll);
+        logger.log(logEntryWithoutBatch);
+        verify(mockAuditMetrics, timeout(5000).atLeast(1)).slf4jQueueDepth(anyInt());
+        logger.close();
+
+        verify(mockAuditAppender, times(3)).doAppend(loggingEventCaptor.capture());
+        assertThat(loggingEventCaptor.getAllValues())
+        .extracting(ILoggingEvent::getThreadName)
+        .allMatch(threadName -> threadName.startsWith("Audit SLF4J Writer"));
+        assertThat(loggingEventCaptor.getAllValues().get(1).getFormattedMessage())
+        .isEqualTo("client:'127.0.0.1'|user:'user'|batchId:'12345678-aaaa-bbbb-cccc-123456789abc'|status:'ATTEMPT'|operation:'insert into ks.tbl (key, val) values (?, ?)['kalle', 'anka']'");
+        verify(mockAuditMetrics, times(3)).slf4jFormat(anyLong(), eq(TimeUnit.NANOSECONDS));
+        verify(mockAuditMetrics, never()).slf4jDropped();
+    }
+
+    @Test
+    public void testAsyncModeDropsWhenQueueIsFull() throws Exception
+    {
+        CountDownLatch appending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            appending.countDown();
+            release.await();
+            return null;
+        }).when(mockAuditAppender).doAppend(any(ILoggingEvent.class));
+
+        Slf4jAuditLogger logger = asyncLogger("DROP", "2");
+        logger.log(logEntryWithAll);
+        assertThat(appending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        logger.log(logEntryWithAll);
+        logger.log(logEntryWithAll);
+        logger.log(logEntryWithAll);
+        verify(mockAuditMetrics).slf4jDropped();
+
+        release.countDown();
+        verify(mockAuditAppender, timeout(5000).times(3)).doAppend(any(ILoggingEvent.class));
+        logger.close();
+    }
+
+    @Test
+    public void testAsyncModeReportsFirstFailureOnly() throws Exception
+    {
+        @SuppressWarnings("unchecked")
+        Appender<ILoggingEvent> mockWriterAppender = mock(Appender.class);
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        loggerContext.getLogger(Slf4jAsyncWriter.class).addAppender(mockWriterAppender);
+        doThrow(new IllegalStateException("Appender failed"))
+        .doThrow(new IllegalStateException("Appender failed"))
+        .doNothing()
+        .doThrow(new IllegalStateException("Appender failed"))
+        .when(mockAuditAppender).doAppend(any(ILoggingEvent.class));
+
+        try
+        {
+            Slf4jAuditLogger logger = asyncLogger("BLOCK", "4");
+            for (int i = 0; i < 4; i++)
+            {
+                logger.log(logEntryWithAll);
+            }
+            verify(mockAuditAppender, timeout(5000).times(4)).doAppend(any(ILoggingEvent.class));
+            logger.close();
+
+            verify(mockAuditMetrics, times(3)).slf4jFailed();
+            verify(mockWriterAppender, times(3)).doAppend(loggingEventCaptor.capture());
+            assertThat(loggingEventCaptor.getAllValues())
+            .extracting(ILoggingEvent::getLevel)
+            .containsExactly(Level.ERROR, Level.INFO, Level.ERROR);
+        }
+        finally
+        {
+            loggerContext.getLogger(Slf4jAsyncWriter.class).detachAppender(mockWriterAppender);
+        }
+    }
+
     @Test
     public void testInvalidConfig()
     {
@@ -272,7 +369,15 @@ public class TestSlf4jAuditLogger
     {
         Slf4jAuditLoggerConfig mockConfig = mockAuditConfig(format);
         when(mockConfig.getEscapeCharacters()).thenReturn(escapeChars);
-        return new Slf4jAuditLogger(mockConfig, LOG);
+        return new Slf4jAuditLogger(mockConfig, LOG, mockAuditMetrics);
+    }
+
+    private Slf4jAuditLogger asyncLogger(String overflowPolicy, String queueCapacity)
+    {
+        Map<String, String> parameters = ImmutableMap.of("write_mode", "ASYNC",
+                                                         "overflow_policy", overflowPolicy,
+                                                         "queue_capacity", queueCapacity);
+        return new Slf4jAuditLogger(new Slf4jAuditLoggerConfig(parameters), LOG, mockAuditMetrics);
     }
 
     private Slf4jAuditLoggerConfig mockAuditConfig(String logFormat)
@@ -42,6 +42,9 @@ public class TestSlf4jAuditLoggerConfig
 
         assertThat(config.getLogFormat()).isEqualTo("client:'${CLIENT_IP}'|user:'${USER}'{?|batchId:'${BATCH_ID}'?}|status:'${STATUS}'|operation:'${OPERATION}'");
         assertThat(config.getTimeFormatter()).isEmpty();
+        assertThat(config.getWriteMode()).isEqualTo(WriteMode.SYNC);
+        assertThat(config.getQueueCapacity()).isEqualTo(1024);
+        assertThat(config.getOverflowPolicy()).isEqualTo(Slf4jOverflowPolicy.BLOCK);
     }
 
     @Test
@@ -104,4 +107,74 @@ public class TestSlf4jAuditLoggerConfig
         .withMessageContaining("Invalid SLF4J logger time zone parameter")
         .withMessageContaining("DoesNotExist");
     }
+
+    @Test
+    public void testEscapeCharacters()
+    {
+        Map<String, String> options = ImmutableMap.of("escape_characters", "\", |, ,.");
+
+        Slf4jAuditLoggerConfig auditConfig = new Slf4jAuditLoggerConfig(options);
+
+        assertThat(auditConfig.getEscapeCharacters()).containsOnly("\"", "|", ".");
+    }
+
+    @Test
+    public void testMultiCharacterEscapeCharactersAreIgnored()
+    {
+        Map<String, String> options = ImmutableMap.of("escape_characters", "\", ab, |");
+
+        Slf4jAuditLoggerConfig auditConfig = new Slf4jAuditLoggerConfig(options);
+
+        assertThat(auditConfig.getEscapeCharacters()).containsOnly("\"", "|");
+    }
+
+    @Test
+    public void testAsyncOptions()
+    {
+        Map<String, String> options = ImmutableMap.of("write_mode", "async",
+                                                      "queue_capacity", "256",
+                                                      "overflow_policy", "DROP");
+
+        Slf4jAuditLoggerConfig auditConfig = new Slf4jAuditLoggerConfig(options);
+
+        assertThat(auditConfig.getWriteMode()).isEqualTo(WriteMode.ASYNC);
+        assertThat(auditConfig.getQueueCapacity()).isEqualTo(256);
+        assertThat(auditConfig.getOverflowPolicy()).isEqualTo(Slf4jOverflowPolicy.DROP);
+    }
+
+    @Test
+    public void testInvalidWriteMode()
+    {
+        Map<String, String> options = ImmutableMap.of("write_mode", "LATER");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new Slf4jAuditLoggerConfig(options))
+        .withMessageContaining("Invalid SLF4J logger write mode parameter")
+        .withMessageContaining("LATER");
+    }
+
+    @Test
+    public void testInvalidQueueCapacity()
+    {
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new Slf4jAuditLoggerConfig(ImmutableMap.of("queue_capacity", "1000")))
+        .withMessageContaining("Invalid SLF4J logger queue capacity parameter, must be a power of two")
+        .withMessageContaining("1000");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new Slf4jAuditLoggerConfig(ImmutableMap.of("queue_capacity", "many")))
+        .withMessageContaining("Invalid SLF4J logger queue capacity parameter")
+        .withMessageContaining("many");
+    }
+
+    @Test
+    public void testInvalidOverflowPolicy()
+    {
+        Map<String, String> options = ImmutableMap.of("overflow_policy", "SPILL");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new Slf4jAuditLoggerConfig(options))
+        .withMessageContaining("Invalid SLF4J logger overflow policy parameter")
+        .withMessageContaining("SPILL");
+    }
 }
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import com.ericsson.bss.cassandra.ecaudit.common.record.SimpleAuditOperation;
+import com.ericsson.bss.cassandra.ecaudit.common.record.Status;
+import com.ericsson.bss.cassandra.ecaudit.entry.AuditEntry;
+import com.ericsson.bss.cassandra.ecaudit.metrics.AuditMetrics;
+import com.ericsson.bss.cassandra.ecaudit.test.syslog.LoopbackSyslogServer;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.StrictStubs.class)
+public class TestSocketAuditLogger
+{
+    private static final long TIMEOUT_MS = 10_000;
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Mock
+    private AuditMetrics mockAuditMetrics;
+
+    private LoopbackSyslogServer server;
+    private SocketAuditLogger logger;
+
+    @After
+    public void after() throws Exception
+    {
+        if (logger != null)
+        {
+            logger.close();
+        }
+        if (server != null)
+        {
+            server.close();
+        }
+    }
+
+    @Test
+    public void testTcpBatchesInOrder() throws Exception
+    {
+        server = LoopbackSyslogServer.tcp(0, true);
+        logger = givenLogger(SocketProtocol.TCP, server.getPort());
+
+        logEntries(0, 100);
+
+        assertThat(users(server.takeMessages(100, TIMEOUT_MS))).isEqualTo(expectedUsers(0, 100));
+    }
+
+    @Test
+    public void testMessageFormat() throws Exception
+    {
+        server = LoopbackSyslogServer.tcp(0, true);
+        logger = givenLogger(SocketProtocol.TCP, server.getPort());
+
+        logger.log(givenEntry("\u00e5sa"));
+
+        assertThat(server.takeMessages(1, TIMEOUT_MS)).containsExactly("<110>1 1970-01-01T00:00:00.042Z 127.0.0.2 ecaudit - - - user:\u00e5sa");
+    }
+
+    @Test
+    public void testUdp() throws Exception
+    {
+        server = LoopbackSyslogServer.udp(0, true);
+        logger = givenLogger(SocketProtocol.UDP, server.getPort());
+
+        logEntries(0, 10);
+
+        assertThat(users(server.takeMessages(10, TIMEOUT_MS))).isEqualTo(expectedUsers(0, 10));
+    }
+
+    @Test
+    public void testSpoolWhileCollectorIsDown() throws Exception
+    {
+        int port;
+        try (LoopbackSyslogServer stoppedServer = LoopbackSyslogServer.tcp(0, true))
+        {
+            port = stoppedServer.getPort();
+        }
+        logger = givenLogger(SocketProtocol.TCP, port);
+
+        logEntries(0, 10);
+        verify(mockAuditMetrics, timeout(TIMEOUT_MS).atLeastOnce()).socketSpooled(anyInt());
+
+        server = LoopbackSyslogServer.tcp(port, true);
+        logEntries(10, 20);
+
+        assertThat(users(server.takeMessages(20, TIMEOUT_MS))).isEqualTo(expectedUsers(0, 20));
+    }
+
+    @Test
+    public void testReconnectAfterCollectorDisconnect() throws Exception
+    {
+        server = LoopbackSyslogServer.tcp(0, true);
+        logger = givenLogger(SocketProtocol.TCP, server.getPort());
+
+        logEntries(0, 10);
+        assertThat(users(server.takeMessages(10, TIMEOUT_MS))).isEqualTo(expectedUsers(0, 10));
+
+        server.disconnectClients();
+        logEntries(10, 20);
+
+        assertThat(users(server.takeMessages(10, TIMEOUT_MS))).isEqualTo(expectedUsers(10, 20));
+    }
+
+    private SocketAuditLogger givenLogger(SocketProtocol protocol, int port)
+    {
+        Map<String, String> parameters = ImmutableMap.<String, String>builder()
+                                                     .put("host", "127.0.0.1")
+                                                     .put("port", Integer.toString(port))
+                                                     .put("protocol", protocol.name())
+                                                     .put("spool_dir", temporaryFolder.getRoot().toPath().resolve("spool").toString())
+                                                     .put("batch_size", "8")
+                                                     .put("min_reconnect_delay_ms", "10")
+                                                     .put("max_reconnect_delay_ms", "50")
+                                                     .put("log_format", "user:${USER}")
+                                                     .build();
+        return new SocketAuditLogger(new SocketAuditLoggerConfig(parameters), mockAuditMetrics);
+    }
+
+    private void logEntries(int from, int to) throws Exception
+    {
+        for (int i = from; i < to; i++)
+        {
+            logger.log(givenEntry("user" + i));
+        }
+    }
+
+    private static List<String> users(List<String> messages)
+    {
+        return messages.stream()
+                       .map(message -> message.substring(message.lastIndexOf("user:") + "user:".length()))
+                       .collect(Collectors.toList());
+    }
+
+    private static List<String> expectedUsers(int from, int to)
+    {
+        return IntStream.range(from, to).mapToObj(i -> "user" + i).collect(Collectors.toList());
+    }
+
+    private static AuditEntry givenEntry(String user) throws Exception
+    {
+        return AuditEntry.newBuilder()
+                         .user(user)
+                         .client(new InetSocketAddress(InetAddress.getByName("127.0.0.1"), 789))
+                         .coordinator(InetAddress.getByName("127.0.0.2"))
+                         .operation(new SimpleAuditOperation("SELECT * FROM ks.tbl"))
+                         .status(Status.ATTEMPT)
+                         .timestamp(42L)
+                         .build();
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.net.InetSocketAddress;
+import java.nio.file.Paths;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+import org.apache.cassandra.exceptions.ConfigurationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class TestSocketAuditLoggerConfig
+{
+    private static final Map<String, String> MANDATORY_OPTIONS = ImmutableMap.of("host", "collector.example.com",
+                                                                                 "port", "6514",
+                                                                                 "spool_dir", "/var/spool/audit");
+
+    @Test
+    public void testDefaults()
+    {
+        SocketAuditLoggerConfig config = new SocketAuditLoggerConfig(MANDATORY_OPTIONS);
+
+        assertThat(config.getAddress()).isEqualTo(InetSocketAddress.createUnresolved("collector.example.com", 6514));
+        assertThat(config.getAddress().isUnresolved()).isTrue();
+        assertThat(config.getProtocol()).isEqualTo(SocketProtocol.TCP);
+        assertThat(config.getBatchSize()).isEqualTo(64);
+        assertThat(config.getTimeoutMs()).isEqualTo(5000);
+        assertThat(config.getMinReconnectDelayMs()).isEqualTo(100);
+        assertThat(config.getMaxReconnectDelayMs()).isEqualTo(30000);
+        assertThat(config.getSpoolPath()).isEqualTo(Paths.get("/var/spool/audit"));
+        assertThat(config.getMaxSpoolSize()).isEqualTo(1024L * 1024L * 1024L);
+        assertThat(config.getAppName()).isEqualTo("ecaudit");
+        assertThat(config.getFacility()).isEqualTo(13);
+    }
+
+    @Test
+    public void testOptions()
+    {
+        Map<String, String> options = ImmutableMap.<String, String>builder()
+                                                  .putAll(MANDATORY_OPTIONS)
+                                                  .put("protocol", "udp")
+                                                  .put("batch_size", "16")
+                                                  .put("timeout_ms", "250")
+                                                  .put("min_reconnect_delay_ms", "10")
+                                                  .put("max_reconnect_delay_ms", "1000")
+                                                  .put("max_spool_size", "1048576")
+                                                  .put("app_name", "cassandra-audit")
+                                                  .put("facility", "4")
+                                                  .put("log_format", "${USER}")
+                                                  .put("write_mode", "ASYNC")
+                                                  .build();
+
+        SocketAuditLoggerConfig config = new SocketAuditLoggerConfig(options);
+
+        assertThat(config.getProtocol()).isEqualTo(SocketProtocol.UDP);
+        assertThat(config.getBatchSize()).isEqualTo(16);
+        assertThat(config.getTimeoutMs()).isEqualTo(250);
+        assertThat(config.getMinReconnectDelayMs()).isEqualTo(10);
+        assertThat(config.getMaxReconnectDelayMs()).isEqualTo(1000);
+        assertThat(config.getMaxSpoolSize()).isEqualTo(1048576L);
+        assertThat(config.getAppName()).isEqualTo("cassandra-audit");
+        assertThat(config.getFacility()).isEqualTo(4);
+        assertThat(config.getLogFormat()).isEqualTo("${USER}");
+    }
+
+    @Test
+    public void testMaxReconnectDelayFollowsLargeMinDelay()
+    {
+        SocketAuditLoggerConfig config = new SocketAuditLoggerConfig(withOption("min_reconnect_delay_ms", "60000"));
+
+        assertThat(config.getMaxReconnectDelayMs()).isEqualTo(60000);
+    }
+
+    @Test
+    public void testMissingMandatoryOptions()
+    {
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new SocketAuditLoggerConfig(ImmutableMap.of("port", "6514", "spool_dir", "/var/spool/audit")))
+        .withMessage("Socket logger backend require 'host' parameter option");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new SocketAuditLoggerConfig(ImmutableMap.of("host", "localhost", "spool_dir", "/var/spool/audit")))
+        .withMessage("Socket logger backend require 'port' parameter option");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new SocketAuditLoggerConfig(ImmutableMap.of("host", "localhost", "port", "6514")))
+        .withMessage("Socket logger backend require 'spool_dir' parameter option");
+    }
+
+    @Test
+    public void testInvalidPort()
+    {
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new SocketAuditLoggerConfig(withOption("port", "0")))
+        .withMessage("Invalid socket logger port: 0");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new SocketAuditLoggerConfig(withOption("port", "65536")))
+        .withMessage("Invalid socket logger port: 65536");
+    }
+
+    @Test
+    public void testInvalidProtocol()
+    {
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new SocketAuditLoggerConfig(withOption("protocol", "SCTP")))
+        .withMessage("Invalid socket logger protocol: SCTP");
+    }
+
+    @Test
+    public void testInvalidReconnectDelay()
+    {
+        Map<String, String> options = ImmutableMap.<String, String>builder()
+                                                  .putAll(MANDATORY_OPTIONS)
+                                                  .put("min_reconnect_delay_ms", "500")
+                                                  .put("max_reconnect_delay_ms", "100")
+                                                  .build();
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new SocketAuditLoggerConfig(options))
+        .withMessage("Invalid socket logger max reconnect delay, must be at least the min reconnect delay: 100");
+    }
+
+    @Test
+    public void testInvalidAppName()
+    {
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new SocketAuditLoggerConfig(withOption("app_name", "my app")))
+        .withMessage("Invalid socket logger app name, must be 1 to 48 printable US-ASCII characters: my app");
+    }
+
+    @Test
+    public void testInvalidFacility()
+    {
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new SocketAuditLoggerConfig(withOption("facility", "24")))
+        .withMessage("Invalid socket logger facility, must be at most 23: 24");
+
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new SocketAuditLoggerConfig(withOption("facility", "-1")))
+        .withMessage("Invalid socket logger facility: -1");
+    }
+
+    @Test
+    public void testSyncWriteModeIsRejected()
+    {
+        assertThatExceptionOfType(ConfigurationException.class)
+        .isThrownBy(() -> new SocketAuditLoggerConfig(withOption("write_mode", "SYNC")))
+        .withMessage("Invalid socket logger write mode, only ASYNC is supported: SYNC");
+    }
+
+    private static Map<String, String> withOption(String option, String value)
+    {
+        return ImmutableMap.<String, String>builder()
+                           .putAll(MANDATORY_OPTIONS)
+                           .put(option, value)
+                           .buildKeepingLast();
+    }
+}
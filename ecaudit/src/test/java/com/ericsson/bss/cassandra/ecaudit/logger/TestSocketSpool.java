@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import net.openhft.chronicle.queue.impl.single.SingleChronicleQueueBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestSocketSpool
+{
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File spoolDir;
+
+    @Before
+    public void before()
+    {
+        spoolDir = temporaryFolder.getRoot().toPath().resolve("spool").toFile();
+    }
+
+    @Test
+    public void spoolAndRead()
+    {
+        try (SocketSpool spool = givenSpool())
+        {
+            assertThat(read(spool, 10)).isEmpty();
+            assertThat(spool.hasPending()).isFalse();
+
+            spool.spool("one");
+            spool.spool("two");
+            spool.spool("three");
+            assertThat(spool.hasPending()).isTrue();
+
+            assertThat(read(spool, 2)).containsExactly("one", "two");
+            assertThat(spool.hasPending()).isTrue();
+
+            assertThat(read(spool, 2)).containsExactly("three");
+            assertThat(spool.hasPending()).isFalse();
+        }
+    }
+
+    @Test
+    public void rewindAfterFailedSend()
+    {
+        try (SocketSpool spool = givenSpool())
+        {
+            spool.spool("one");
+            spool.spool("two");
+            spool.spool("three");
+
+            assertThat(read(spool, 2)).containsExactly("one", "two");
+            spool.rewind();
+            assertThat(read(spool, 2)).containsExactly("one", "two");
+
+            assertThat(read(spool, 2)).containsExactly("three");
+            spool.rewind();
+            assertThat(spool.hasPending()).isTrue();
+            assertThat(read(spool, 2)).containsExactly("three");
+        }
+    }
+
+    @Test
+    public void resumeAfterRestart()
+    {
+        try (SocketSpool spool = givenSpool())
+        {
+            spool.spool("one");
+            spool.spool("two");
+            assertThat(read(spool, 1)).containsExactly("one");
+        }
+
+        try (SocketSpool spool = givenSpool())
+        {
+            assertThat(spool.hasPending()).isTrue();
+            assertThat(read(spool, 10)).containsExactly("two");
+            assertThat(spool.hasPending()).isFalse();
+        }
+    }
+
+    private SocketSpool givenSpool()
+    {
+        return new SocketSpool(SingleChronicleQueueBuilder.single(spoolDir).blockSize(1024).build());
+    }
+
+    private static List<String> read(SocketSpool spool, int maxMessages)
+    {
+        List<String> messages = new ArrayList<>();
+        spool.read(messages, maxMessages);
+        return messages;
+    }
+}
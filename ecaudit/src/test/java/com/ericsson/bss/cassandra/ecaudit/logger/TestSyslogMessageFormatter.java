@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.logger;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+
+import org.junit.Test;
+
+import com.ericsson.bss.cassandra.ecaudit.common.record.SimpleAuditOperation;
+import com.ericsson.bss.cassandra.ecaudit.common.record.Status;
+import com.ericsson.bss.cassandra.ecaudit.entry.AuditEntry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestSyslogMessageFormatter
+{
+    private final SyslogMessageFormatter formatter = new SyslogMessageFormatter(13, "ecaudit", entry -> "user:'" + entry.getUser() + "'");
+
+    @Test
+    public void testHeader() throws Exception
+    {
+        AuditEntry entry = AuditEntry.newBuilder()
+                                     .user("bob")
+                                     .client(new InetSocketAddress(InetAddress.getByName("127.0.0.1"), 789))
+                                     .coordinator(InetAddress.getByName("127.0.0.2"))
+                                     .operation(new SimpleAuditOperation("SELECT * FROM ks.tbl"))
+                                     .status(Status.ATTEMPT)
+                                     .timestamp(1551363494089L)
+                                     .build();
+
+        assertThat(formatter.apply(entry)).isEqualTo("<110>1 2019-02-28T14:18:14.089Z 127.0.0.2 ecaudit - - - user:'bob'");
+    }
+
+    @Test
+    public void testPriority() throws Exception
+    {
+        SyslogMessageFormatter localFormatter = new SyslogMessageFormatter(16, "ecaudit", entry -> "message");
+
+        assertThat(localFormatter.apply(givenEntryWithoutTimestamp())).startsWith("<134>1 ");
+    }
+
+    @Test
+    public void testNilValues() throws Exception
+    {
+        assertThat(formatter.apply(givenEntryWithoutTimestamp())).isEqualTo("<110>1 - - ecaudit - - - user:'bob'");
+    }
+
+    private static AuditEntry givenEntryWithoutTimestamp() throws Exception
+    {
+        return AuditEntry.newBuilder()
+                         .user("bob")
+                         .client(new InetSocketAddress(InetAddress.getByName("127.0.0.1"), 789))
+                         .operation(new SimpleAuditOperation("SELECT * FROM ks.tbl"))
+                         .status(Status.ATTEMPT)
+                         .build();
+    }
+}
@@ -16,14 +16,21 @@
 package com.ericsson.bss.cassandra.ecaudit.metrics;
 
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
 import com.codahale.metrics.Timer;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.apache.cassandra.metrics.CassandraMetricsRegistry;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -39,14 +46,49 @@ public class TestAuditMetrics
 {
     private static final String METRIC_NAME_FILTER = "Filter";
     private static final String METRIC_NAME_LOG = "Log";
+    private static final String METRIC_NAME_CHRONICLE_QUEUE_DEPTH = "ChronicleQueueDepth";
+    private static final String METRIC_NAME_CHRONICLE_BATCH_SIZE = "ChronicleBatchSize";
+    private static final String METRIC_NAME_CHRONICLE_OVERFLOW_BLOCKED = "ChronicleOverflowBlocked";
+    private static final String METRIC_NAME_CHRONICLE_OVERFLOW_TIMEOUT = "ChronicleOverflowTimeout";
+    private static final String METRIC_NAME_CHRONICLE_OVERFLOW_SPILL = "ChronicleOverflowSpill";
+    private static final String METRIC_NAME_CHRONICLE_SYNC = "ChronicleSync";
+    private static final String METRIC_NAME_CHRONICLE_WRITER_WAKEUP = "ChronicleWriterWakeup";
+    private static final String METRIC_NAME_SLF4J_QUEUE_DEPTH = "Slf4jQueueDepth";
+    private static final String METRIC_NAME_SLF4J_DROPPED = "Slf4jDropped";
+    private static final String METRIC_NAME_SLF4J_FAILED = "Slf4jFailed";
+    private static final String METRIC_NAME_SLF4J_FORMAT = "Slf4jFormat";
+    private static final String METRIC_NAME_FILE_SYNC = "FileSync";
+    private static final String METRIC_NAME_SOCKET_SPOOLED = "SocketSpooled";
+    private static final String METRIC_NAME_SOCKET_DROPPED = "SocketDropped";
+    private static final String METRIC_NAME_LOGGER_LATENCY = "LoggerLatency";
+    private static final String METRIC_NAME_LOGGER_DROPPED = "LoggerDropped";
+    private static final String METRIC_NAME_LOGGER_FAILED = "LoggerFailed";
+    private static final String METRIC_NAME_FILTER_CACHE_HITS = "FilterCacheHits";
+    private static final String METRIC_NAME_FILTER_CACHE_MISSES = "FilterCacheMisses";
+    private static final String METRIC_NAME_FILTER_CACHE_LOAD_TIME = "FilterCacheLoadTime";
+    private static final String METRIC_NAME_FILTER_CACHE_EVICTIONS = "FilterCacheEvictions";
 
     @Mock
     private Function<CassandraMetricsRegistry.MetricName, Timer> mockTimerFunction;
 
+    @Mock
+    private Function<CassandraMetricsRegistry.MetricName, Histogram> mockHistogramFunction;
+
+    @Mock
+    private Function<CassandraMetricsRegistry.MetricName, Counter> mockCounterFunction;
+
+    @Mock
+    private BiConsumer<CassandraMetricsRegistry.MetricName, Gauge<Long>> mockGaugeFunction;
+
+    @Mock
+    private Consumer<CassandraMetricsRegistry.MetricName> mockRemoveFunction;
+
     @Before
     public void init()
     {
         when(mockTimerFunction.apply(any())).thenReturn(mock(Timer.class));
+        when(mockHistogramFunction.apply(any())).thenReturn(mock(Histogram.class));
+        when(mockCounterFunction.apply(any())).thenReturn(mock(Counter.class));
     }
 
     @Test
@@ -57,7 +99,7 @@ public class TestAuditMetrics
 
         when(mockTimerFunction.apply(eq(metric))).thenReturn(mockTimer);
 
-        AuditMetrics auditMetrics = new AuditMetrics(mockTimerFunction);
+        AuditMetrics auditMetrics = new AuditMetrics(mockTimerFunction, mockHistogramFunction, mockCounterFunction, mockGaugeFunction);
         verify(mockTimerFunction).apply(eq(metric));
 
         auditMetrics.filterAuditRequest(999L, TimeUnit.NANOSECONDS);
@@ -72,13 +114,300 @@ public class TestAuditMetrics
 
         when(mockTimerFunction.apply(eq(metric))).thenReturn(mockTimer);
 
-        AuditMetrics auditMetrics = new AuditMetrics(mockTimerFunction);
+        AuditMetrics auditMetrics = new AuditMetrics(mockTimerFunction, mockHistogramFunction, mockCounterFunction, mockGaugeFunction);
         verify(mockTimerFunction).apply(eq(metric));
 
         auditMetrics.logAuditRequest(999L, TimeUnit.NANOSECONDS);
         verify(mockTimer).update(eq(999L), eq(TimeUnit.NANOSECONDS));
     }
 
+    @Test
+    public void testChronicleQueueDepth()
+    {
+        Histogram mockHistogram = mock(Histogram.class);
+        CassandraMetricsRegistry.MetricName metric = AuditMetrics.createMetricName(METRIC_NAME_CHRONICLE_QUEUE_DEPTH);
+
+        when(mockHistogramFunction.apply(eq(metric))).thenReturn(mockHistogram);
+
+        AuditMetrics auditMetrics = new AuditMetrics(mockTimerFunction, mockHistogramFunction, mockCounterFunction, mockGaugeFunction);
+        verify(mockHistogramFunction).apply(eq(metric));
+
+        auditMetrics.chronicleQueueDepth(42);
+        verify(mockHistogram).update(eq(42));
+    }
+
+    @Test
+    public void testChronicleBatchSize()
+    {
+        Histogram mockHistogram = mock(Histogram.class);
+        CassandraMetricsRegistry.MetricName metric = AuditMetrics.createMetricName(METRIC_NAME_CHRONICLE_BATCH_SIZE);
+
+        when(mockHistogramFunction.apply(eq(metric))).thenReturn(mockHistogram);
+
+        AuditMetrics auditMetrics = new AuditMetrics(mockTimerFunction, mockHistogramFunction, mockCounterFunction, mockGaugeFunction);
+        verify(mockHistogramFunction).apply(eq(metric));
+
+        auditMetrics.chronicleBatchSize(17);
+        verify(mockHistogram).update(eq(17));
+    }
+
+    @Test
+    public void testChronicleOverflowBlockedTiming()
+    {
+        Timer mockTimer = mock(Timer.class);
+        CassandraMetricsRegistry.MetricName metric = AuditMetrics.createMetricName(METRIC_NAME_CHRONICLE_OVERFLOW_BLOCKED);
+
+        when(mockTimerFunction.apply(eq(metric))).thenReturn(mockTimer);
+
+        AuditMetrics auditMetrics = new AuditMetrics(mockTimerFunction, mockHistogramFunction, mockCounterFunction, mockGaugeFunction);
+        verify(mockTimerFunction).apply(eq(metric));
+
+        auditMetrics.chronicleOverflowBlocked(999L, TimeUnit.NANOSECONDS);
+        verify(mockTimer).update(eq(999L), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void testChronicleOverflowTimeout()
+    {
+        Counter mockCounter = mock(Counter.class);
+        CassandraMetricsRegistry.MetricName metric = AuditMetrics.createMetricName(METRIC_NAME_CHRONICLE_OVERFLOW_TIMEOUT);
+
+        when(mockCounterFunction.apply(eq(metric))).thenReturn(mockCounter);
+
+        AuditMetrics auditMetrics = new AuditMetrics(mockTimerFunction, mockHistogramFunction, mockCounterFunction, mockGaugeFunction);
+        verify(mockCounterFunction).apply(eq(metric));
+
+        auditMetrics.chronicleOverflowTimeout();
+        verify(mockCounter).inc();
+    }
+
+    @Test
+    public void testChronicleOverflowSpill()
+    {
+        Counter mockCounter = mock(Counter.class);
+        CassandraMetricsRegistry.MetricName metric = AuditMetrics.createMetricName(METRIC_NAME_CHRONICLE_OVERFLOW_SPILL);
+
+        when(mockCounterFunction.apply(eq(metric))).thenReturn(mockCounter);
+
+        AuditMetrics auditMetrics = new AuditMetrics(mockTimerFunction, mockHistogramFunction, mockCounterFunction, mockGaugeFunction);
+        verify(mockCounterFunction).apply(eq(metric));
+
+        auditMetrics.chronicleOverflowSpill();
+        verify(mockCounter).inc();
+    }
+
+    @Test
+    public void testChronicleSyncTiming()
+    {
+        Timer mockTimer = mock(Timer.class);
+        CassandraMetricsRegistry.MetricName metric = AuditMetrics.createMetricName(METRIC_NAME_CHRONICLE_SYNC);
+
+        when(mockTimerFunction.apply(eq(metric))).thenReturn(mockTimer);
+
+        AuditMetrics auditMetrics = new AuditMetrics(mockTimerFunction, mockHistogramFunction, mockCounterFunction, mockGaugeFunction);
+        verify(mockTimerFunction).apply(eq(metric));
+
+        auditMetrics.chronicleSync(4711L, TimeUnit.NANOSECONDS);
+        verify(mockTimer).update(eq(4711L), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void testChronicleWriterWakeupTiming()
+    {
+        Timer mockTimer = mock(Timer.class);
+        CassandraMetricsRegistry.MetricName metric = AuditMetrics.createMetricName(METRIC_NAME_CHRONICLE_WRITER_WAKEUP);
+
+        when(mockTimerFunction.apply(eq(metric))).thenReturn(mockTimer);
+
+        AuditMetrics auditMetrics = new AuditMetrics(mockTimerFunction, mockHistogramFunction, mockCounterFunction, mockGaugeFunction);
+        verify(mockTimerFunction).apply(eq(metric));
+
+        auditMetrics.chronicleWriterWakeup(4711L, TimeUnit.NANOSECONDS);
+        verify(mockTimer).update(eq(4711L), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void testSlf4jQueueDepth()
+    {
+        Histogram mockHistogram = mock(Histogram.class);
+        CassandraMetricsRegistry.MetricName metric = AuditMetrics.createMetricName(METRIC_NAME_SLF4J_QUEUE_DEPTH);
+
+        when(mockHistogramFunction.apply(eq(metric))).thenReturn(mockHistogram);
+
+        AuditMetrics auditMetrics = new AuditMetrics(mockTimerFunction, mockHistogramFunction, mockCounterFunction, mockGaugeFunction);
+        verify(mockHistogramFunction).apply(eq(metric));
+
+        auditMetrics.slf4jQueueDepth(42);
+        verify(mockHistogram).update(eq(42));
+    }
+
+    @Test
+    public void testSlf4jDropped()
+    {
+        Counter mockCounter = mock(Counter.class);
+        CassandraMetricsRegistry.MetricName metric = AuditMetrics.createMetricName(METRIC_NAME_SLF4J_DROPPED);
+
+        when(mockCounterFunction.apply(eq(metric))).thenReturn(mockCounter);
+
+        AuditMetrics auditMetrics = new AuditMetrics(mockTimerFunction, mockHistogramFunction, mockCounterFunction, mockGaugeFunction);
+        verify(mockCounterFunction).apply(eq(metric));
+
+        auditMetrics.slf4jDropped();
+        verify(mockCounter).inc();
+    }
+
+    @Test
+    public void testSlf4jFailed()
+    {
+        Counter mockCounter = mock(Counter.class);
+        CassandraMetricsRegistry.MetricName metric = AuditMetrics.createMetricName(METRIC_NAME_SLF4J_FAILED);
+
+        when(mockCounterFunction.apply(eq(metric))).thenReturn(mockCounter);
+
+        AuditMetrics auditMetrics = new AuditMetrics(mockTimerFunction, mockHistogramFunction, mockCounterFunction, mockGaugeFunction);
+        verify(mockCounterFunction).apply(eq(metric));
+
+        auditMetrics.slf4jFailed();
+        verify(mockCounter).inc();
+    }
+
+    @Test
+    public void testSlf4jFormatTiming()
+    {
+        Timer mockTimer = mock(Timer.class);
+        CassandraMetricsRegistry.MetricName metric = AuditMetrics.createMetricName(METRIC_NAME_SLF4J_FORMAT);
+
+        when(mockTimerFunction.apply(eq(metric))).thenReturn(mockTimer);
+
+        AuditMetrics auditMetrics = new AuditMetrics(mockTimerFunction, mockHistogramFunction, mockCounterFunction, mockGaugeFunction);
+        verify(mockTimerFunction).apply(eq(metric));
+
+        auditMetrics.slf4jFormat(4711L, TimeUnit.NANOSECONDS);
+        verify(mockTimer).update(eq(4711L), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void testFileSyncTiming()
+    {
+        Timer mockTimer = mock(Timer.class);
+        CassandraMetricsRegistry.MetricName metric = AuditMetrics.createMetricName(METRIC_NAME_FILE_SYNC);
+
+        when(mockTimerFunction.apply(eq(metric))).thenReturn(mockTimer);
+
+        AuditMetrics auditMetrics = new AuditMetrics(mockTimerFunction, mockHistogramFunction, mockCounterFunction, mockGaugeFunction);
+        verify(mockTimerFunction).apply(eq(metric));
+
+        auditMetrics.fileSync(42L, TimeUnit.MICROSECONDS);
+        verify(mockTimer).update(eq(42L), eq(TimeUnit.MICROSECONDS));
+    }
+
+    @Test
+    public void testSocketSpooled()
+    {
+        Counter mockCounter = mock(Counter.class);
+        CassandraMetricsRegistry.MetricName metric = AuditMetrics.createMetricName(METRIC_NAME_SOCKET_SPOOLED);
+
+        when(mockCounterFunction.apply(eq(metric))).thenReturn(mockCounter);
+
+        AuditMetrics auditMetrics = new AuditMetrics(mockTimerFunction, mockHistogramFunction, mockCounterFunction, mockGaugeFunction);
+        verify(mockCounterFunction).apply(eq(metric));
+
+        auditMetrics.socketSpooled(8);
+        verify(mockCounter).inc(eq(8L));
+    }
+
+    @Test
+    public void testSocketDropped()
+    {
+        Counter mockCounter = mock(Counter.class);
+        CassandraMetricsRegistry.MetricName metric = AuditMetrics.createMetricName(METRIC_NAME_SOCKET_DROPPED);
+
+        when(mockCounterFunction.apply(eq(metric))).thenReturn(mockCounter);
+
+        AuditMetrics auditMetrics = new AuditMetrics(mockTimerFunction, mockHistogramFunction, mockCounterFunction, mockGaugeFunction);
+        verify(mockCounterFunction).apply(eq(metric));
+
+        auditMetrics.socketDropped();
+        verify(mockCounter).inc();
+    }
+
+    @Test
+    public void testLoggerMetrics()
+    {
+        Timer mockTimer = mock(Timer.class);
+        Counter mockCounter = mock(Counter.class);
+        Counter mockFailedCounter = mock(Counter.class);
+        CassandraMetricsRegistry.MetricName latencyMetric = AuditMetrics.createMetricName(METRIC_NAME_LOGGER_LATENCY, "Slf4jAuditLogger");
+        CassandraMetricsRegistry.MetricName droppedMetric = AuditMetrics.createMetricName(METRIC_NAME_LOGGER_DROPPED, "Slf4jAuditLogger");
+        CassandraMetricsRegistry.MetricName failedMetric = AuditMetrics.createMetricName(METRIC_NAME_LOGGER_FAILED, "Slf4jAuditLogger");
+
+        when(mockTimerFunction.apply(eq(latencyMetric))).thenReturn(mockTimer);
+        when(mockCounterFunction.apply(eq(droppedMetric))).thenReturn(mockCounter);
+        when(mockCounterFunction.apply(eq(failedMetric))).thenReturn(mockFailedCounter);
+
+        AuditMetrics auditMetrics = new AuditMetrics(mockTimerFunction, mockHistogramFunction, mockCounterFunction, mockGaugeFunction);
+        LoggerMetrics loggerMetrics = auditMetrics.createLoggerMetrics("Slf4jAuditLogger");
+        verify(mockTimerFunction).apply(eq(latencyMetric));
+        verify(mockCounterFunction).apply(eq(droppedMetric));
+
+        loggerMetrics.logLatency(42L, TimeUnit.MICROSECONDS);
+        verify(mockTimer).update(eq(42L), eq(TimeUnit.MICROSECONDS));
+
+        loggerMetrics.dropped();
+        verify(mockCounter).inc();
+
+        loggerMetrics.failed();
+        verify(mockFailedCounter).inc();
+    }
+
+    @Test
+    public void testRemoveLoggerMetrics()
+    {
+        AuditMetrics auditMetrics = new AuditMetrics(mockTimerFunction, mockHistogramFunction, mockCounterFunction, mockGaugeFunction, mockRemoveFunction);
+
+        auditMetrics.removeLoggerMetrics("Slf4jAuditLogger-2");
+
+        verify(mockRemoveFunction).accept(eq(AuditMetrics.createMetricName(METRIC_NAME_LOGGER_LATENCY, "Slf4jAuditLogger-2")));
+        verify(mockRemoveFunction).accept(eq(AuditMetrics.createMetricName(METRIC_NAME_LOGGER_DROPPED, "Slf4jAuditLogger-2")));
+        verify(mockRemoveFunction).accept(eq(AuditMetrics.createMetricName(METRIC_NAME_LOGGER_FAILED, "Slf4jAuditLogger-2")));
+    }
+
+    @Test
+    public void testFilterCacheStats()
+    {
+        CacheStats stats = CacheStats.of(7, 3, 2, 1, 4_000, 5, 6);
+        AuditMetrics auditMetrics = new AuditMetrics(mockTimerFunction, mockHistogramFunction, mockCounterFunction, mockGaugeFunction);
+
+        auditMetrics.registerFilterCacheStats(() -> stats);
+
+        assertThat(registeredGauge(METRIC_NAME_FILTER_CACHE_HITS).getValue()).isEqualTo(7L);
+        assertThat(registeredGauge(METRIC_NAME_FILTER_CACHE_MISSES).getValue()).isEqualTo(3L);
+        assertThat(registeredGauge(METRIC_NAME_FILTER_CACHE_LOAD_TIME).getValue()).isEqualTo(1L);
+        assertThat(registeredGauge(METRIC_NAME_FILTER_CACHE_EVICTIONS).getValue()).isEqualTo(5L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Gauge<Long> registeredGauge(String name)
+    {
+        ArgumentCaptor<Gauge<Long>> gaugeCaptor = ArgumentCaptor.forClass(Gauge.class);
+        verify(mockGaugeFunction).accept(eq(AuditMetrics.createMetricName(name)), gaugeCaptor.capture());
+        return gaugeCaptor.getValue();
+    }
+
+    @Test
+    public void testCreateScopedMetricName()
+    {
+        String mbeanName = "com.ericsson.bss.cassandra.ecaudit:type=Audit,name=LoggerLatency,scope=FileAuditLogger";
+        CassandraMetricsRegistry.MetricName expectedMetricName = new CassandraMetricsRegistry.MetricName("com.ericsson.bss.cassandra.ecaudit",
+                                                                                                         "Audit",
+                                                                                                         METRIC_NAME_LOGGER_LATENCY,
+                                                                                                         "FileAuditLogger",
+                                                                                                         mbeanName);
+
+        CassandraMetricsRegistry.MetricName actualMetricName = AuditMetrics.createMetricName(METRIC_NAME_LOGGER_LATENCY, "FileAuditLogger");
+        assertThat(actualMetricName).isEqualToComparingFieldByField(expectedMetricName);
+    }
+
     @Test
     public void testCreateMetricName()
     {
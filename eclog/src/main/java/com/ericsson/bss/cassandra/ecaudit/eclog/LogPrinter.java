@@ -17,12 +17,14 @@ package com.ericsson.bss.cassandra.ecaudit.eclog;
 
 import java.io.PrintStream;
 import java.net.InetAddress;
-import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
 
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.FieldSelector;
+import com.ericsson.bss.cassandra.ecaudit.common.formatter.CachingTimestampFormatter;
+import com.ericsson.bss.cassandra.ecaudit.common.formatter.JsonRecordFormatter;
 import com.ericsson.bss.cassandra.ecaudit.common.formatter.LogMessageFormatter;
 import com.ericsson.bss.cassandra.ecaudit.common.record.StoredAuditRecord;
 import com.ericsson.bss.cassandra.ecaudit.eclog.config.EcLogYamlConfig;
@@ -35,7 +37,7 @@ class LogPrinter
     private final ToolOptions toolOptions;
     private final PrintStream out;
     private final long pollIntervalMs;
-    private final LogMessageFormatter<StoredAuditRecord> messageFormatter;
+    private final Function<StoredAuditRecord, String> messageFormatter;
 
     LogPrinter(ToolOptions toolOptions)
     {
@@ -48,12 +50,23 @@ class LogPrinter
         this.toolOptions = toolOptions;
         this.out = out;
         this.pollIntervalMs = pollIntervalMs;
-        messageFormatter = LogMessageFormatter.<StoredAuditRecord>builder()
-                           .format(config.getLogFormat())
-                           .anchor("%s")
-                           .escape("%", "%%")
-                           .availableFields(getAvailableFieldFunctionMap(config))
-                           .build();
+        messageFormatter = createMessageFormatter(toolOptions, config);
+    }
+
+    /**
+     * In JSON mode all fields stored in the records are printed, the same way as by the JSON audit logger.
+     */
+    private static Function<StoredAuditRecord, String> createMessageFormatter(ToolOptions toolOptions, EcLogYamlConfig config)
+    {
+        if (toolOptions.json())
+        {
+            return JsonRecordFormatter.create(FieldSelector.ALL_FIELDS, getAvailableFieldFunctionMap(config))::format;
+        }
+
+        return LogMessageFormatter.<StoredAuditRecord>builder()
+                                  .format(config.getLogFormat())
+                                  .availableFields(getAvailableFieldFunctionMap(config))
+                                  .build()::format;
     }
 
     static Map<String, Function<StoredAuditRecord, Object>> getAvailableFieldFunctionMap(EcLogYamlConfig config)
@@ -67,15 +80,18 @@ class LogPrinter
         availableFields.put("STATUS", entry -> entry.getStatus().orElse(null));
         availableFields.put("OPERATION", entry -> entry.getOperation().orElse(null));
         availableFields.put("OPERATION_NAKED", entry -> entry.getNakedOperation().orElse(null));
-        availableFields.put("TIMESTAMP", entry -> entry.getTimestamp().map(formatTimestamp(config)).orElse(null));
+        Function<Long, Object> timestampFormatter = formatTimestamp(config);
+        availableFields.put("TIMESTAMP", entry -> entry.getTimestamp().map(timestampFormatter).orElse(null));
+        availableFields.put("SUBJECT", entry -> entry.getSubject().orElse(null));
         return Collections.unmodifiableMap(availableFields);
     }
 
-    private static Function<Long, String> formatTimestamp(EcLogYamlConfig config)
+    private static Function<Long, Object> formatTimestamp(EcLogYamlConfig config)
     {
-        return timestamp -> config.getTimeFormatter()
-                                  .map(formatter -> formatter.format(Instant.ofEpochMilli(timestamp)))
-                                  .orElse(String.valueOf(timestamp));
+        return config.getTimeFormatter()
+                     .map(CachingTimestampFormatter::new)
+                     .<Function<Long, Object>>map(formatter -> formatter::format)
+                     .orElse(timestamp -> timestamp);
     }
 
     void print(QueueReader queueReader)
@@ -86,8 +102,7 @@ class LogPrinter
             while (isEligibleForPrint(queueReader, printedRecords))
             {
                 StoredAuditRecord auditEntry = queueReader.nextRecord();
-                String logText = String.format(messageFormatter.getLogTemplate(), messageFormatter.getArgumentsForEntry(auditEntry));
-                out.println(logText);
+                out.println(messageFormatter.apply(auditEntry));
 
                 printedRecords++;
             }
@@ -40,6 +40,8 @@ class OptionParser
     private static final String TAIL_OPTION = "tail";
     private static final String FOLLOW_OPTION_SHORT = "f";
     private static final String FOLLOW_OPTION = "follow";
+    private static final String JSON_OPTION_SHORT = "j";
+    private static final String JSON_OPTION = "json";
     private static final String ROLL_CYCLE_OPTION_SHORT = "r";
     private static final String ROLL_CYCLE_OPTION = "roll-cycle";
     private static final String HELP_OPTION_SHORT = "h";
@@ -61,6 +63,7 @@ class OptionParser
         }
 
         parseFollowOption(cmd).ifPresent(optionsBuilder::withFollow);
+        optionsBuilder.withJson(cmd.hasOption(JSON_OPTION));
         parseLongOption(cmd, LIMIT_OPTION).ifPresent(optionsBuilder::withLimit);
         parseLongOption(cmd, TAIL_OPTION).ifPresent(optionsBuilder::withTail);
         parseRollCycleOption(cmd).ifPresent(optionsBuilder::withRollCycle);
@@ -168,6 +171,7 @@ class OptionParser
         options.addOption(new Option(LIMIT_OPTION_SHORT, LIMIT_OPTION, true, "Exit after printing <arg> records"));
         options.addOption(new Option(TAIL_OPTION_SHORT, TAIL_OPTION, true, "Skip to the <arg> last records and print them"));
         options.addOption(new Option(FOLLOW_OPTION_SHORT, FOLLOW_OPTION, false, "Upon reaching the end of the log continue indefinitely waiting for more records"));
+        options.addOption(new Option(JSON_OPTION_SHORT, JSON_OPTION, false, "Print each record as a JSON object on a single line, ignoring the log format"));
         options.addOption(new Option(ROLL_CYCLE_OPTION_SHORT, ROLL_CYCLE_OPTION, true, "How often the log file was rolled. May be necessary for Chronicle to correctly parse file names. (MINUTELY, HOURLY, DAILY)."));
         options.addOption(new Option(HELP_OPTION_SHORT, HELP_OPTION, false, "Display this help message"));
         options.addOption(new Option(CONFIG_OPTION_SHORT, CONFIG_OPTION, true, "Path to an optional configuration file"));
@@ -15,37 +15,76 @@
  */
 package com.ericsson.bss.cassandra.ecaudit.eclog;
 
-import com.ericsson.bss.cassandra.ecaudit.common.chronicle.AuditRecordReadMarshallable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.AuditRecordsReadMarshallable;
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.StatementDictionary;
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.StripedQueues;
 import com.ericsson.bss.cassandra.ecaudit.common.record.StoredAuditRecord;
 import net.openhft.chronicle.queue.ChronicleQueue;
 import net.openhft.chronicle.queue.ExcerptTailer;
 import net.openhft.chronicle.queue.impl.single.SingleChronicleQueueBuilder;
+import net.openhft.chronicle.wire.DocumentContext;
 
 /**
- * Read AuditRecord entries from a Chronicle queue.
- *
- * The Chronicle queue is opened and scanned as defined by the supplied ToolOptions.
+ * Read audit records from one Chronicle queue, or from all stripes of a striped audit log.
+ * <p>
+ * Records from different stripes are merged by timestamp. Each stripe is ordered by itself, so the record with the
+ * lowest timestamp among the next record of each stripe is the next record of the merged stream. Records without a
+ * timestamp are considered older than any other record.
+ * <p>
+ * Statement ids in the records are resolved by the statement dictionary of the log directory, if there is one.
+ * Compressed blocks of records are decoded one block at a time.
  */
 public class QueueReader
 {
-    private final ExcerptTailer tailer;
+    private final List<ExcerptTailer> tailers;
+    private final StatementDictionary dictionary;
+    private final StoredAuditRecord[] stripeRecords;
+    private final List<Iterator<StoredAuditRecord>> stripeBlocks;
 
     private StoredAuditRecord nextRecord;
 
     public QueueReader(ToolOptions toolOptions)
     {
-        this(toolOptions, getChronicleQueue(toolOptions));
+        this(toolOptions, getChronicleQueues(toolOptions), getStatementDictionary(toolOptions));
     }
 
     // Visible for testing
     QueueReader(ToolOptions toolOptions, ChronicleQueue chronicleQueue)
     {
-        tailer = getExcerptTailer(toolOptions, chronicleQueue);
+        this(toolOptions, Collections.singletonList(chronicleQueue), null);
+    }
+
+    private QueueReader(ToolOptions toolOptions, List<ChronicleQueue> chronicleQueues, StatementDictionary dictionary)
+    {
+        this.dictionary = dictionary;
+        tailers = chronicleQueues.stream()
+                                 .map(chronicleQueue -> getExcerptTailer(toolOptions, chronicleQueue))
+                                 .collect(Collectors.toList());
+        stripeRecords = new StoredAuditRecord[tailers.size()];
+        stripeBlocks = new ArrayList<>(Collections.nCopies(tailers.size(), Collections.emptyIterator()));
+
+        toolOptions.tail().ifPresent(this::skipToMergedTail);
     }
 
-    private static ChronicleQueue getChronicleQueue(ToolOptions toolOptions)
+    private static List<ChronicleQueue> getChronicleQueues(ToolOptions toolOptions)
     {
-        SingleChronicleQueueBuilder chronicleBuilder = SingleChronicleQueueBuilder.single(toolOptions.path().toFile())
+        return StripedQueues.queuePaths(toolOptions.path())
+                            .stream()
+                            .map(path -> getChronicleQueue(toolOptions, path))
+                            .collect(Collectors.toList());
+    }
+
+    private static ChronicleQueue getChronicleQueue(ToolOptions toolOptions, Path path)
+    {
+        SingleChronicleQueueBuilder chronicleBuilder = SingleChronicleQueueBuilder.single(path.toFile())
                                                                             .readOnly(true);
         toolOptions.rollCycle().ifPresent(chronicleBuilder::rollCycle);
 
@@ -61,6 +100,12 @@ public class QueueReader
         }
     }
 
+    private static StatementDictionary getStatementDictionary(ToolOptions toolOptions)
+    {
+        Path dictionaryPath = StatementDictionary.dictionaryPath(toolOptions.path());
+        return Files.isDirectory(dictionaryPath) ? StatementDictionary.openReadOnly(toolOptions.path()) : null;
+    }
+
     private static ExcerptTailer getExcerptTailer(ToolOptions toolOptions, ChronicleQueue chronicle)
     {
         ExcerptTailer tempTailer = chronicle.createTailer();
@@ -80,6 +125,40 @@ public class QueueReader
         return tempTailer;
     }
 
+    /**
+     * Each stripe is positioned at its own tail, which will give up to tail documents per stripe, and a document may
+     * be a block of several records. Skip the oldest records of the merged stream so that only the requested number
+     * of records remain.
+     */
+    private void skipToMergedTail(long tail)
+    {
+        long available = tailers.stream().mapToLong(QueueReader::countRecords).sum();
+
+        for (long skipped = 0; skipped < available - tail && hasRecordAvailable(); skipped++)
+        {
+            nextRecord();
+        }
+    }
+
+    private static long countRecords(ExcerptTailer tailer)
+    {
+        long startIndex = tailer.index();
+        long count = 0;
+        while (true)
+        {
+            try (DocumentContext context = tailer.readingDocument())
+            {
+                if (!context.isPresent())
+                {
+                    break;
+                }
+                count += AuditRecordsReadMarshallable.recordCount(context.wire());
+            }
+        }
+        tailer.moveToIndex(startIndex);
+        return count;
+    }
+
     public boolean hasRecordAvailable()
     {
         maybeReadNext();
@@ -96,11 +175,44 @@ public class QueueReader
 
     private void readNext()
     {
-        AuditRecordReadMarshallable recordMarshallable = new AuditRecordReadMarshallable();
-        if (tailer.readDocument(recordMarshallable))
+        int oldest = -1;
+        for (int stripe = 0; stripe < tailers.size(); stripe++)
+        {
+            if (stripeRecords[stripe] == null)
+            {
+                stripeRecords[stripe] = readRecord(stripe);
+            }
+
+            if (stripeRecords[stripe] != null && (oldest < 0 || timestampOf(stripeRecords[stripe]) < timestampOf(stripeRecords[oldest])))
+            {
+                oldest = stripe;
+            }
+        }
+
+        if (oldest >= 0)
+        {
+            nextRecord = stripeRecords[oldest];
+            stripeRecords[oldest] = null; // NOPMD
+        }
+    }
+
+    private StoredAuditRecord readRecord(int stripe)
+    {
+        while (!stripeBlocks.get(stripe).hasNext())
         {
-            nextRecord = recordMarshallable.getAuditRecord();
+            AuditRecordsReadMarshallable recordsMarshallable = new AuditRecordsReadMarshallable(dictionary);
+            if (!tailers.get(stripe).readDocument(recordsMarshallable))
+            {
+                return null;
+            }
+            stripeBlocks.set(stripe, recordsMarshallable.getAuditRecords().iterator());
         }
+        return stripeBlocks.get(stripe).next();
+    }
+
+    private static long timestampOf(StoredAuditRecord auditRecord)
+    {
+        return auditRecord.getTimestamp().orElse(Long.MIN_VALUE);
     }
 
     public StoredAuditRecord nextRecord()
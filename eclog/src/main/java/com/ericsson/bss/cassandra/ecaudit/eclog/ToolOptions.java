@@ -27,6 +27,7 @@ public class ToolOptions //NOPMD
     private final Long limit;
     private final Long tail;
     private final boolean follow;
+    private final boolean json;
     private final RollCycles rollCycle;
     private final boolean help;
 
@@ -37,6 +38,7 @@ public class ToolOptions //NOPMD
         this.limit = builder.limit;
         this.tail = builder.tail;
         this.follow = builder.follow;
+        this.json = builder.json;
         this.rollCycle = builder.rollCycle;
         this.help = builder.help;
     }
@@ -66,6 +68,11 @@ public class ToolOptions //NOPMD
         return follow;
     }
 
+    public boolean json()
+    {
+        return json;
+    }
+
     public Optional<RollCycles> rollCycle()
     {
         return Optional.ofNullable(rollCycle);
@@ -88,6 +95,7 @@ public class ToolOptions //NOPMD
         private Long limit;
         private Long tail;
         private boolean follow = false;
+        private boolean json = false;
         private RollCycles rollCycle;
         private boolean help = false;
 
@@ -121,6 +129,12 @@ public class ToolOptions //NOPMD
             return this;
         }
 
+        public Builder withJson(boolean json)
+        {
+            this.json = json;
+            return this;
+        }
+
         public Builder withRollCycle(RollCycles rollCycle)
         {
             this.rollCycle = rollCycle;
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.eclog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.AuditRecordBlockWriteMarshallable;
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.CompressionCodec;
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.FieldSelector;
+import com.ericsson.bss.cassandra.ecaudit.common.record.StoredAuditRecord;
+import net.openhft.chronicle.queue.ChronicleQueue;
+import net.openhft.chronicle.queue.impl.single.SingleChronicleQueueBuilder;
+import net.openhft.chronicle.wire.WriteMarshallable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestCompressedQueueReader
+{
+    private static final int FIELDS = FieldSelector.fromFields(Arrays.asList("TIMESTAMP", "OPERATION")).getBitmap();
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private ChronicleQueue chronicleQueue;
+
+    @Before
+    public void before()
+    {
+        chronicleQueue = SingleChronicleQueueBuilder.single(temporaryFolder.getRoot()).blockSize(1024).build();
+    }
+
+    @After
+    public void after()
+    {
+        chronicleQueue.close();
+    }
+
+    @Test
+    public void testReadBlocksAndRecords()
+    {
+        givenBlock(CompressionCodec.LZ4, 10, 20, 30);
+        givenRecord(40);
+        givenBlock(CompressionCodec.ZSTD, 50, 60);
+
+        QueueReader reader = new QueueReader(ToolOptions.builder().withPath(temporaryFolder.getRoot().toPath()).build(), chronicleQueue);
+
+        assertThat(readAll(reader)).containsExactly("10", "20", "30", "40", "50", "60");
+    }
+
+    @Test
+    public void testTailWithinBlock()
+    {
+        givenBlock(CompressionCodec.LZ4, 10, 20, 30);
+        givenBlock(CompressionCodec.LZ4, 40, 50);
+
+        QueueReader reader = new QueueReader(ToolOptions.builder().withPath(temporaryFolder.getRoot().toPath()).withTail(3).build(), chronicleQueue);
+
+        assertThat(readAll(reader)).containsExactly("30", "40", "50");
+    }
+
+    @Test
+    public void testRecordsArrivingAfterBlock()
+    {
+        givenBlock(CompressionCodec.ZSTD, 10, 20);
+
+        QueueReader reader = new QueueReader(ToolOptions.builder().withPath(temporaryFolder.getRoot().toPath()).build(), chronicleQueue);
+        assertThat(readAll(reader)).containsExactly("10", "20");
+
+        givenBlock(CompressionCodec.ZSTD, 30);
+        assertThat(readAll(reader)).containsExactly("30");
+    }
+
+    private void givenBlock(CompressionCodec codec, long... timestamps)
+    {
+        AuditRecordBlockWriteMarshallable block = new AuditRecordBlockWriteMarshallable(codec);
+        for (long timestamp : timestamps)
+        {
+            block.add(record(timestamp));
+        }
+        chronicleQueue.acquireAppender().writeDocument(block);
+    }
+
+    private void givenRecord(long timestamp)
+    {
+        chronicleQueue.acquireAppender().writeDocument(record(timestamp));
+    }
+
+    private static WriteMarshallable record(long timestamp)
+    {
+        return wire -> {
+            wire.write("version").int16((short) 2);
+            wire.write("type").text("ecaudit");
+            wire.write("fields").int32(FIELDS);
+            wire.write("timestamp").int64(timestamp);
+            wire.write("operation").text(String.valueOf(timestamp));
+        };
+    }
+
+    private static List<String> readAll(QueueReader reader)
+    {
+        List<String> operations = new ArrayList<>();
+        while (reader.hasRecordAvailable())
+        {
+            StoredAuditRecord auditRecord = reader.nextRecord();
+            operations.add(auditRecord.getOperation().orElse(null));
+        }
+        return operations;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.eclog;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.AuditRecordWriteMarshallable;
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.FieldSelector;
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.StatementDictionary;
+import com.ericsson.bss.cassandra.ecaudit.common.record.AuditRecord;
+import com.ericsson.bss.cassandra.ecaudit.common.record.BoundValueVisitor;
+import com.ericsson.bss.cassandra.ecaudit.common.record.BoundValuesAuditOperation;
+import com.ericsson.bss.cassandra.ecaudit.common.record.CqlType;
+import com.ericsson.bss.cassandra.ecaudit.common.record.StoredAuditRecord;
+import net.openhft.chronicle.queue.ChronicleQueue;
+import net.openhft.chronicle.queue.impl.single.SingleChronicleQueueBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TestDictionaryQueueReader
+{
+    private static final FieldSelector FIELDS = FieldSelector.fromFields(Arrays.asList("TIMESTAMP", "OPERATION", "OPERATION_NAKED"));
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path logDir;
+
+    @Before
+    public void before()
+    {
+        logDir = temporaryFolder.getRoot().toPath();
+    }
+
+    @Test
+    public void testResolveStatementIds()
+    {
+        try (StatementDictionary dictionary = StatementDictionary.open(logDir, 10);
+             ChronicleQueue queue = SingleChronicleQueueBuilder.single(logDir.toFile()).blockSize(1024).build())
+        {
+            queue.acquireAppender().writeDocument(new AuditRecordWriteMarshallable(givenRecord("SELECT a FROM ks.tbl"), FIELDS, dictionary));
+            queue.acquireAppender().writeDocument(new AuditRecordWriteMarshallable(givenRecord("SELECT b FROM ks.tbl"), FIELDS, dictionary));
+            queue.acquireAppender().writeDocument(new AuditRecordWriteMarshallable(givenRecord("SELECT a FROM ks.tbl"), FIELDS, dictionary));
+        }
+
+        QueueReader reader = new QueueReader(ToolOptions.builder().withPath(logDir).build());
+
+        assertThat(nextOperation(reader)).isEqualTo("SELECT a FROM ks.tbl");
+        assertThat(nextOperation(reader)).isEqualTo("SELECT b FROM ks.tbl");
+        assertThat(nextOperation(reader)).isEqualTo("SELECT a FROM ks.tbl");
+        assertThat(reader.hasRecordAvailable()).isFalse();
+    }
+
+    @Test
+    public void testRenderRawBoundValues()
+    {
+        try (StatementDictionary dictionary = StatementDictionary.open(logDir, 10);
+             ChronicleQueue queue = SingleChronicleQueueBuilder.single(logDir.toFile()).blockSize(1024).build())
+        {
+            queue.acquireAppender().writeDocument(new AuditRecordWriteMarshallable(givenPreparedRecord(1), FIELDS, dictionary, true));
+            queue.acquireAppender().writeDocument(new AuditRecordWriteMarshallable(givenPreparedRecord(2), FIELDS, dictionary, true));
+        }
+
+        QueueReader reader = new QueueReader(ToolOptions.builder().withPath(logDir).build());
+
+        assertThat(reader.nextRecord().getOperation()).contains("SELECT a FROM ks.tbl WHERE k = ?[1]");
+        StoredAuditRecord auditRecord = reader.nextRecord();
+        assertThat(auditRecord.getOperation()).contains("SELECT a FROM ks.tbl WHERE k = ?[2]");
+        assertThat(auditRecord.getNakedOperation()).contains("SELECT a FROM ks.tbl WHERE k = ?");
+        assertThat(reader.hasRecordAvailable()).isFalse();
+    }
+
+    private static AuditRecord givenPreparedRecord(int boundValue)
+    {
+        BoundValuesAuditOperation operation = mock(BoundValuesAuditOperation.class);
+        when(operation.getNakedOperationString()).thenReturn("SELECT a FROM ks.tbl WHERE k = ?");
+        doAnswer(invocation -> {
+            invocation.getArgument(0, BoundValueVisitor.class).visitValue(CqlType.INT, ByteBuffer.allocate(4).putInt(0, boundValue));
+            return null;
+        }).when(operation).visitBoundValues(any());
+
+        AuditRecord auditRecord = mock(AuditRecord.class);
+        when(auditRecord.getTimestamp()).thenReturn(42L);
+        when(auditRecord.getOperation()).thenReturn(operation);
+        return auditRecord;
+    }
+
+    private static AuditRecord givenRecord(String operation)
+    {
+        AuditRecord auditRecord = mock(AuditRecord.class);
+        when(auditRecord.getTimestamp()).thenReturn(42L);
+        BoundValuesAuditOperation preparedOperation = mock(BoundValuesAuditOperation.class);
+        when(preparedOperation.getOperationString()).thenReturn(operation);
+        when(preparedOperation.getNakedOperationString()).thenReturn(operation);
+        when(auditRecord.getOperation()).thenReturn(preparedOperation);
+        return auditRecord;
+    }
+
+    private static String nextOperation(QueueReader reader)
+    {
+        assertThat(reader.hasRecordAvailable()).isTrue();
+        StoredAuditRecord auditRecord = reader.nextRecord();
+        assertThat(auditRecord.getNakedOperation()).contains(auditRecord.getOperation().orElse(null));
+        return auditRecord.getOperation().orElse(null);
+    }
+}
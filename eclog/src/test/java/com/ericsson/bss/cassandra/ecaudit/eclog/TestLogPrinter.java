@@ -202,6 +202,37 @@ public class TestLogPrinter
         verify(stream).println(eq("|user:king"));
     }
 
+    @Test(timeout = 5000)
+    public void testJsonWithAllFields()
+    {
+        ToolOptions options = ToolOptions.builder().withPath(DEFAULT_PATH).withJson(true).build();
+        LogPrinter printer = new LogPrinter(options, stream, 10, new EcLogYamlConfig());
+        QueueReader reader = givenReaderWithSingleRecord(FULL_RECORD);
+
+        printer.print(reader);
+
+        verify(stream).println(eq("{\"client_ip\":\"1.2.3.4\",\"client_port\":42,\"coordinator_ip\":\"5.6.7.8\",\"user\":\"king\","
+                                  + "\"batch_id\":\"12345678-aaaa-bbbb-cccc-123456789abc\",\"status\":\"ATTEMPT\","
+                                  + "\"operation\":\"select something\",\"operation_naked\":\"select something - naked\",\"timestamp\":123}"));
+    }
+
+    @Test(timeout = 5000)
+    public void testJsonWithCustomTimeFormatAndMissingFields()
+    {
+        EcLogYamlConfig config = mock(EcLogYamlConfig.class);
+        when(config.getTimeFormatter()).thenReturn(Optional.of(DateTimeFormatter.ISO_LOCAL_DATE_TIME.withZone(ZoneOffset.UTC)));
+        ToolOptions options = ToolOptions.builder().withPath(DEFAULT_PATH).withJson(true).build();
+        LogPrinter printer = new LogPrinter(options, stream, 10, config);
+        StoredAuditRecord authRecord = mockRecord(0L, "1.2.3.4", null, "5.6.7.8", "king", Status.ATTEMPT, null, "Authentication \"operation\"");
+        QueueReader reader = givenReaderWithSingleRecord(authRecord);
+
+        printer.print(reader);
+
+        verify(stream).println(eq("{\"client_ip\":\"1.2.3.4\",\"coordinator_ip\":\"5.6.7.8\",\"user\":\"king\",\"status\":\"ATTEMPT\","
+                                  + "\"operation\":\"Authentication \\\"operation\\\"\",\"operation_naked\":\"Authentication \\\"operation\\\" - naked\","
+                                  + "\"timestamp\":\"1970-01-01T00:00:00\"}"));
+    }
+
     @Test
     public void testAvailableFieldFunctions()
     {
@@ -209,7 +240,7 @@ public class TestLogPrinter
         Map<String, Function<StoredAuditRecord, Object>> availableFieldFunctions = LogPrinter.getAvailableFieldFunctionMap(configMock);
         StoredAuditRecord emptyRecord = StoredAuditRecord.builder().build();
 
-        assertThat(availableFieldFunctions).containsOnlyKeys("CLIENT_IP", "CLIENT_PORT", "COORDINATOR_IP", "USER", "BATCH_ID", "STATUS", "OPERATION", "OPERATION_NAKED", "TIMESTAMP");
+        assertThat(availableFieldFunctions).containsOnlyKeys("CLIENT_IP", "CLIENT_PORT", "COORDINATOR_IP", "USER", "BATCH_ID", "STATUS", "OPERATION", "OPERATION_NAKED", "TIMESTAMP", "SUBJECT");
 
 
         assertThat(availableFieldFunctions.get("CLIENT_IP").apply(emptyRecord)).isNull();
@@ -237,7 +268,10 @@ public class TestLogPrinter
         assertThat(availableFieldFunctions.get("OPERATION_NAKED").apply(FULL_RECORD)).isEqualTo("select something - naked");
 
         assertThat(availableFieldFunctions.get("TIMESTAMP").apply(emptyRecord)).isNull();
-        assertThat(availableFieldFunctions.get("TIMESTAMP").apply(FULL_RECORD)).isEqualTo("123");
+        assertThat(availableFieldFunctions.get("TIMESTAMP").apply(FULL_RECORD)).isEqualTo(123L);
+
+        assertThat(availableFieldFunctions.get("SUBJECT").apply(emptyRecord)).isNull();
+        assertThat(availableFieldFunctions.get("SUBJECT").apply(StoredAuditRecord.builder().withSubject("bob").build())).isEqualTo("bob");
     }
 
     private QueueReader givenReaderWithSingleRecord(StoredAuditRecord authRecord)
@@ -66,6 +66,30 @@ public class TestOptionParser
                                     .withFollow(true));
     }
 
+    @Test
+    public void withJsonAndDirectory() throws ParseException
+    {
+        String[] argv = givenInputOptions("-j", "./dir");
+
+        ToolOptions options = parser.parse(argv);
+
+        assertEqualOptions(options, expected()
+                                    .withPath(Paths.get("./dir"))
+                                    .withJson(true));
+    }
+
+    @Test
+    public void withLongJsonAndDirectory() throws ParseException
+    {
+        String[] argv = givenInputOptions("--json", "./dir");
+
+        ToolOptions options = parser.parse(argv);
+
+        assertEqualOptions(options, expected()
+                                    .withPath(Paths.get("./dir"))
+                                    .withJson(true));
+    }
+
     @Test
     public void withLongFollowAndDirectory() throws ParseException
     {
@@ -393,6 +417,7 @@ public class TestOptionParser
 
         assertThat(actualOptions.path()).isEqualTo(expectedOptions.path());
         assertThat(actualOptions.follow()).isEqualTo(expectedOptions.follow());
+        assertThat(actualOptions.json()).isEqualTo(expectedOptions.json());
         assertThat(actualOptions.rollCycle()).isEqualTo(expectedOptions.rollCycle());
         assertThat(actualOptions.limit()).isEqualTo(expectedOptions.limit());
         assertThat(actualOptions.tail()).isEqualTo(expectedOptions.tail());
@@ -23,13 +23,13 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
-import com.ericsson.bss.cassandra.ecaudit.common.chronicle.AuditRecordReadMarshallable;
 import com.ericsson.bss.cassandra.ecaudit.common.chronicle.FieldSelector.Field;
 import com.ericsson.bss.cassandra.ecaudit.common.record.StoredAuditRecord;
 import com.ericsson.bss.cassandra.ecaudit.test.chronicle.RecordValues;
 import net.openhft.chronicle.core.io.IORuntimeException;
 import net.openhft.chronicle.queue.ChronicleQueue;
 import net.openhft.chronicle.queue.ExcerptTailer;
+import net.openhft.chronicle.wire.DocumentContext;
 import net.openhft.chronicle.wire.ReadMarshallable;
 import net.openhft.chronicle.wire.ValueIn;
 import net.openhft.chronicle.wire.WireIn;
@@ -100,6 +100,8 @@ public class TestQueueReader
     public void testValidSingleTailRecord() throws UnknownHostException
     {
         givenNextRecordIs(defaultValues);
+        DocumentContext endOfQueue = mock(DocumentContext.class);
+        when(tailer.readingDocument()).thenReturn(endOfQueue);
         QueueReader reader = givenReader(ToolOptions.builder().withTail(1).build());
 
         verify(tailer).moveToIndex(eq(999L));
@@ -194,7 +196,7 @@ public class TestQueueReader
 
         when(tailer.readDocument(any(ReadMarshallable.class)))
         .thenAnswer((Answer<Boolean>) invocation -> {
-                        AuditRecordReadMarshallable readMarshallable = invocation.getArgument(0);
+                        ReadMarshallable readMarshallable = invocation.getArgument(0);
                         readMarshallable.readMarshallable(wireMock);
                         return true;
                     }
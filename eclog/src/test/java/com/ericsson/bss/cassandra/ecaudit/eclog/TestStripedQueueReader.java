@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.eclog;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.FieldSelector;
+import com.ericsson.bss.cassandra.ecaudit.common.chronicle.StripedQueues;
+import com.ericsson.bss.cassandra.ecaudit.common.record.StoredAuditRecord;
+import net.openhft.chronicle.queue.ChronicleQueue;
+import net.openhft.chronicle.queue.impl.single.SingleChronicleQueueBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestStripedQueueReader
+{
+    private static final int FIELDS = FieldSelector.fromFields(Arrays.asList("TIMESTAMP", "OPERATION")).getBitmap();
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final List<ChronicleQueue> queues = new ArrayList<>();
+
+    private Path logDir;
+
+    @Before
+    public void before()
+    {
+        logDir = temporaryFolder.getRoot().toPath();
+    }
+
+    @After
+    public void after()
+    {
+        queues.forEach(ChronicleQueue::close);
+    }
+
+    @Test
+    public void testMergeByTimestamp()
+    {
+        givenStripe(0, 10, 40, 50);
+        givenStripe(1, 20, 30, 60);
+        givenStripe(2);
+
+        QueueReader reader = new QueueReader(ToolOptions.builder().withPath(logDir).build());
+
+        assertThat(readAll(reader)).containsExactly("10", "20", "30", "40", "50", "60");
+    }
+
+    @Test
+    public void testMergedTail()
+    {
+        givenStripe(0, 10, 40, 50);
+        givenStripe(1, 20, 30, 60);
+
+        QueueReader reader = new QueueReader(ToolOptions.builder().withPath(logDir).withTail(3).build());
+
+        assertThat(readAll(reader)).containsExactly("40", "50", "60");
+    }
+
+    @Test
+    public void testMergedTailLargerThanLog()
+    {
+        givenStripe(0, 10, 40);
+        givenStripe(1, 20);
+
+        QueueReader reader = new QueueReader(ToolOptions.builder().withPath(logDir).withTail(5).build());
+
+        assertThat(readAll(reader)).containsExactly("10", "20", "40");
+    }
+
+    @Test
+    public void testRecordsArrivingInExhaustedStripe()
+    {
+        givenStripe(0, 10);
+        givenStripe(1, 20);
+
+        QueueReader reader = new QueueReader(ToolOptions.builder().withPath(logDir).build());
+        assertThat(readAll(reader)).containsExactly("10", "20");
+
+        writeRecords(queues.get(0), 30);
+        assertThat(readAll(reader)).containsExactly("30");
+    }
+
+    private void givenStripe(int stripe, long... timestamps)
+    {
+        ChronicleQueue queue = SingleChronicleQueueBuilder.single(StripedQueues.stripePath(logDir, stripe).toFile())
+                                                          .blockSize(1024)
+                                                          .build();
+        queues.add(queue);
+        writeRecords(queue, timestamps);
+    }
+
+    private static void writeRecords(ChronicleQueue queue, long... timestamps)
+    {
+        for (long timestamp : timestamps)
+        {
+            queue.acquireAppender().writeDocument(wire -> {
+                wire.write("version").int16((short) 2);
+                wire.write("type").text("ecaudit");
+                wire.write("fields").int32(FIELDS);
+                wire.write("timestamp").int64(timestamp);
+                wire.write("operation").text(String.valueOf(timestamp));
+            });
+        }
+    }
+
+    private static List<String> readAll(QueueReader reader)
+    {
+        List<String> operations = new ArrayList<>();
+        while (reader.hasRecordAvailable())
+        {
+            StoredAuditRecord auditRecord = reader.nextRecord();
+            operations.add(auditRecord.getOperation().orElse(null));
+        }
+        return operations;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.integration.standard;
+
+import java.util.UUID;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.ericsson.bss.cassandra.ecaudit.auth.WhitelistDataAccess;
+import com.ericsson.bss.cassandra.ecaudit.test.daemon.CassandraDaemonForAuditTest;
+import net.jcip.annotations.NotThreadSafe;
+import org.apache.cassandra.auth.RoleResource;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verify that the version of a role's whitelist is stepped on every whitelist change, so that nodes polling the
+ * versions can invalidate the cached whitelist of that role only.
+ */
+@NotThreadSafe
+@RunWith(MockitoJUnitRunner.class)
+public class ITVerifyWhitelistChangeDetection
+{
+    private static CqlSession session;
+
+    @BeforeClass
+    public static void beforeClass() throws Exception
+    {
+        CassandraDaemonForAuditTest cdt = CassandraDaemonForAuditTest.getInstance();
+
+        session = cdt.createSession();
+
+        session.execute("CREATE ROLE version_role WITH LOGIN = false");
+        session.execute("CREATE ROLE unchanged_role WITH LOGIN = false");
+        session.execute("ALTER ROLE unchanged_role WITH OPTIONS = { 'grant_audit_whitelist_for_all' : 'data' }");
+    }
+
+    @AfterClass
+    public static void afterClass()
+    {
+        if (session != null)
+        {
+            session.execute("DROP ROLE IF EXISTS version_role");
+            session.execute("DROP ROLE IF EXISTS unchanged_role");
+            session.close();
+        }
+    }
+
+    @Test
+    public void testWhitelistChangesStepVersion()
+    {
+        UUID unchangedVersion = givenVersion("unchanged_role");
+        assertThat(unchangedVersion).isNotNull();
+
+        session.execute("ALTER ROLE version_role WITH OPTIONS = { 'grant_audit_whitelist_for_select' : 'data' }");
+        UUID grantVersion = givenVersion("version_role");
+        assertThat(grantVersion).isNotNull();
+
+        session.execute("ALTER ROLE version_role WITH OPTIONS = { 'revoke_audit_whitelist_for_select' : 'data' }");
+        UUID revokeVersion = givenVersion("version_role");
+        assertThat(revokeVersion).isNotNull().isNotEqualTo(grantVersion);
+        assertThat(givenVersion("unchanged_role")).isEqualTo(unchangedVersion);
+    }
+
+    @Test
+    public void testDroppedRoleStepsVersion()
+    {
+        session.execute("CREATE ROLE dropped_role WITH LOGIN = false");
+        session.execute("ALTER ROLE dropped_role WITH OPTIONS = { 'grant_audit_whitelist_for_all' : 'data' }");
+        UUID grantVersion = givenVersion("dropped_role");
+
+        session.execute("DROP ROLE dropped_role");
+
+        assertThat(givenVersion("dropped_role")).isNotNull().isNotEqualTo(grantVersion);
+    }
+
+    @Test
+    public void testVersionsAreReadByDataAccess()
+    {
+        session.execute("ALTER ROLE version_role WITH OPTIONS = { 'grant_audit_whitelist_for_execute' : 'connections' }");
+
+        assertThat(WhitelistDataAccess.getInstance().getWhitelistVersions())
+        .containsEntry(RoleResource.role("version_role"), givenVersion("version_role"))
+        .containsEntry(RoleResource.role("unchanged_role"), givenVersion("unchanged_role"));
+    }
+
+    private static UUID givenVersion(String role)
+    {
+        Row row = session.execute("SELECT version FROM system_auth.role_audit_whitelist_versions WHERE bucket = 0 AND role = '" + role + "'").one();
+        return row == null ? null : row.getUuid("version");
+    }
+}
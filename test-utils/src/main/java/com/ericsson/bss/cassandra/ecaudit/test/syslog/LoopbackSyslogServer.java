@@ -0,0 +1,297 @@
+/*
+ * Copyright 2026 Telefonaktiebolaget LM Ericsson
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ericsson.bss.cassandra.ecaudit.test.syslog;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A syslog collector stand-in listening on the loopback interface, for tests and benchmarks of the socket audit logger.
+ * <p>
+ * Over TCP the server accepts any number of connections and reads octet counted frames as in RFC 6587. Over UDP each
+ * datagram is one message as in RFC 5426. Received messages are counted, and retained for inspection if requested.
+ * Benchmarks should not retain messages, as the retained messages are never released until taken.
+ */
+@SuppressWarnings("PMD")
+public final class LoopbackSyslogServer implements AutoCloseable
+{
+    private static final int MAX_DATAGRAM_SIZE = 65_535;
+
+    private final ServerSocket serverSocket;
+    private final DatagramSocket datagramSocket;
+    private final boolean retainMessages;
+    private final AtomicLong receivedCount = new AtomicLong();
+    private final BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+    private final List<Socket> clients = new CopyOnWriteArrayList<>();
+    private final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+    private volatile boolean running = true;
+
+    private LoopbackSyslogServer(ServerSocket serverSocket, DatagramSocket datagramSocket, boolean retainMessages)
+    {
+        this.serverSocket = serverSocket;
+        this.datagramSocket = datagramSocket;
+        this.retainMessages = retainMessages;
+    }
+
+    /**
+     * Start a TCP server.
+     *
+     * @param port           the port to listen on, or 0 for any free port
+     * @param retainMessages true to retain the received messages so that they can be taken
+     * @return the started server
+     * @throws IOException if the port could not be bound
+     */
+    public static LoopbackSyslogServer tcp(int port, boolean retainMessages) throws IOException
+    {
+        ServerSocket serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+
+        LoopbackSyslogServer server = new LoopbackSyslogServer(serverSocket, null, retainMessages);
+        server.start("accept", server::acceptLoop);
+        return server;
+    }
+
+    /**
+     * Start a UDP server.
+     *
+     * @param port           the port to listen on, or 0 for any free port
+     * @param retainMessages true to retain the received messages so that they can be taken
+     * @return the started server
+     * @throws IOException if the port could not be bound
+     */
+    public static LoopbackSyslogServer udp(int port, boolean retainMessages) throws IOException
+    {
+        DatagramSocket datagramSocket = new DatagramSocket(null);
+        datagramSocket.setReuseAddress(true);
+        datagramSocket.setReceiveBufferSize(4 * 1024 * 1024);
+        datagramSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+
+        LoopbackSyslogServer server = new LoopbackSyslogServer(null, datagramSocket, retainMessages);
+        server.start("receive", server::receiveLoop);
+        return server;
+    }
+
+    public String getHost()
+    {
+        return InetAddress.getLoopbackAddress().getHostAddress();
+    }
+
+    public int getPort()
+    {
+        return serverSocket != null ? serverSocket.getLocalPort() : datagramSocket.getLocalPort();
+    }
+
+    public long getReceivedCount()
+    {
+        return receivedCount.get();
+    }
+
+    /**
+     * Wait until the given number of messages has been received in total.
+     *
+     * @param count         the number of messages to wait for
+     * @param timeoutMillis the max time to wait
+     * @return true if the messages were received in time
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitReceivedCount(long count, long timeoutMillis) throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (receivedCount.get() < count)
+        {
+            if (System.currentTimeMillis() >= deadline)
+            {
+                return false;
+            }
+            Thread.sleep(1);
+        }
+        return true;
+    }
+
+    /**
+     * Take retained messages in the order they were received.
+     *
+     * @param count         the number of messages to take
+     * @param timeoutMillis the max time to wait for the messages
+     * @return the messages taken, fewer than requested if the time ran out
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public List<String> takeMessages(int count, long timeoutMillis) throws InterruptedException
+    {
+        List<String> taken = new ArrayList<>(count);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (taken.size() < count)
+        {
+            String message = messages.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (message == null)
+            {
+                break;
+            }
+            taken.add(message);
+        }
+        return taken;
+    }
+
+    /**
+     * Close all accepted TCP connections, while still accepting new ones.
+     */
+    public void disconnectClients()
+    {
+        for (Socket client : clients)
+        {
+            closeQuietly(client);
+        }
+        clients.clear();
+    }
+
+    @Override
+    public void close() throws InterruptedException
+    {
+        running = false;
+        closeQuietly(serverSocket);
+        closeQuietly(datagramSocket);
+        disconnectClients();
+        for (Thread thread : threads)
+        {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    private void start(String name, Runnable task)
+    {
+        Thread thread = new Thread(task, "Loopback Syslog Server " + name);
+        thread.setDaemon(true);
+        threads.add(thread);
+        thread.start();
+    }
+
+    private void acceptLoop()
+    {
+        while (running)
+        {
+            try
+            {
+                Socket client = serverSocket.accept();
+                clients.add(client);
+                start("reader", () -> readFrames(client));
+            }
+            catch (IOException e)
+            {
+                // Closed
+            }
+        }
+    }
+
+    private void readFrames(Socket client)
+    {
+        try (InputStream input = client.getInputStream())
+        {
+            DataInputStream frames = new DataInputStream(new BufferedInputStream(input, 64 * 1024));
+            while (running)
+            {
+                byte[] message = new byte[readOctetCount(frames)];
+                frames.readFully(message);
+                received(new String(message, StandardCharsets.UTF_8));
+            }
+        }
+        catch (IOException e)
+        {
+            // Disconnected
+        }
+        finally
+        {
+            clients.remove(client);
+        }
+    }
+
+    private static int readOctetCount(DataInputStream frames) throws IOException
+    {
+        int count = 0;
+        int next = frames.read();
+        while (next != ' ')
+        {
+            if (next < '0' || next > '9')
+            {
+                throw new EOFException("Expected octet count, got " + next);
+            }
+            count = count * 10 + (next - '0');
+            next = frames.read();
+        }
+        return count;
+    }
+
+    private void receiveLoop()
+    {
+        DatagramPacket packet = new DatagramPacket(new byte[MAX_DATAGRAM_SIZE], MAX_DATAGRAM_SIZE);
+        while (running)
+        {
+            try
+            {
+                datagramSocket.receive(packet);
+                received(new String(packet.getData(), packet.getOffset(), packet.getLength(), StandardCharsets.UTF_8));
+            }
+            catch (IOException e)
+            {
+                // Closed
+            }
+        }
+    }
+
+    private void received(String message)
+    {
+        if (retainMessages)
+        {
+            messages.add(message);
+        }
+        receivedCount.incrementAndGet();
+    }
+
+    private static void closeQuietly(AutoCloseable closeable)
+    {
+        if (closeable == null)
+        {
+            return;
+        }
+
+        try
+        {
+            closeable.close();
+        }
+        catch (Exception e)
+        {
+            // Ignore
+        }
+    }
+}